@@ -0,0 +1,91 @@
+package kr.co.imguru.benchmark;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import kr.co.imguru.global.auth.JwtProvider;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급 / 검증 벤치마크
+ * - authenticate : JwtAuthenticationFilter 가 요청마다 호출하는 validateToken + getEmail
+ *   (getEmail 은 서명 검증을 두 번 하므로 요청당 세 번 파싱한다.)
+ * - parseOnce : 같은 토큰을 한 번만 파싱 (기준값)
+ *
+ * ./gradlew jmh -PjmhIncludes=JwtProviderBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class JwtProviderBenchmark {
+
+    private static final String SECRET = "imguru-benchmark-jwt-secret-key-imguru-benchmark";
+
+    private final String email = "guru@imguru.co.kr";
+
+    private JwtProvider jwtProvider;
+
+    private Key secretKey;
+
+    private String token;
+
+    private String bearerToken;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        // @Value 주입과 @PostConstruct 를 스프링 없이 수행 (회원 조회는 사용하지 않으므로 null)
+        jwtProvider = new JwtProvider(null);
+
+        Field salt = JwtProvider.class.getDeclaredField("salt");
+        salt.setAccessible(true);
+        salt.set(jwtProvider, SECRET);
+
+        Method init = JwtProvider.class.getDeclaredMethod("init");
+        init.setAccessible(true);
+        init.invoke(jwtProvider);
+
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = jwtProvider.createToken(email, "ROLE_USER");
+        bearerToken = "Bearer " + token;
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtProvider.createToken(email, "ROLE_USER");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(bearerToken);
+    }
+
+    @Benchmark
+    public String getEmail() {
+        return jwtProvider.getEmail(token);
+    }
+
+    @Benchmark
+    public void authenticate(Blackhole blackhole) {
+        if (jwtProvider.validateToken(bearerToken)) {
+            blackhole.consume(jwtProvider.getEmail(bearerToken.split(" ")[1].trim()));
+        }
+    }
+
+    @Benchmark
+    public String parseOnce() {
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+}
@@ -0,0 +1,145 @@
+package kr.co.imguru.benchmark;
+
+import kr.co.imguru.global.util.ChiperUtil;
+import kr.co.imguru.global.util.DateUtil;
+import kr.co.imguru.global.util.SignatureUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.MessageDigest;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * payReserv 서명 경로 벤치마크 (가격/전화번호/이메일 AES 암호화 + SHA-256 서명 + 거래 일시)
+ * legacy* 는 기존 구현(요청마다 Cipher/MessageDigest/Calendar 생성, String.format hex)을 그대로 옮긴 기준값
+ *
+ * ./gradlew jmh -PjmhIncludes=PaySigningBenchmark
+ * gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 할당량을 비교한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class PaySigningBenchmark {
+
+    private static final String ENCRYPT_KEY = "SETTLEBANKISGOODSETTLEBANKISGOOD";
+
+    private final String mercntId = "M2266041";
+
+    private final String ordNo = "M2266041-20231120123456-1024";
+
+    private final String trPrice = "35000";
+
+    private final String cphoneNo = "01012345678";
+
+    private final String email = "guru@imguru.co.kr";
+
+    private final String encryptedEmail = ChiperUtil.aesEncryptEcb(ENCRYPT_KEY, email);
+
+    @Benchmark
+    public void payReserv(Blackhole blackhole) {
+        String trDay = DateUtil.currentDateString();
+        String trTime = DateUtil.currentTimeString();
+
+        blackhole.consume(ChiperUtil.aesEncryptEcb(ENCRYPT_KEY, trPrice));
+        blackhole.consume(ChiperUtil.aesEncryptEcb(ENCRYPT_KEY, cphoneNo));
+        blackhole.consume(ChiperUtil.aesEncryptEcb(ENCRYPT_KEY, email));
+        blackhole.consume(SignatureUtil.sha256(mercntId + ordNo + trDay + trTime + trPrice + ENCRYPT_KEY));
+    }
+
+    @Benchmark
+    public void legacyPayReserv(Blackhole blackhole) throws Exception {
+        String trDay = Legacy.currentDateString();
+        String trTime = Legacy.currentTimeString();
+
+        blackhole.consume(Legacy.aesEncryptEcb(ENCRYPT_KEY, trPrice));
+        blackhole.consume(Legacy.aesEncryptEcb(ENCRYPT_KEY, cphoneNo));
+        blackhole.consume(Legacy.aesEncryptEcb(ENCRYPT_KEY, email));
+        blackhole.consume(Legacy.sha256(mercntId + ordNo + trDay + trTime + trPrice + ENCRYPT_KEY));
+    }
+
+    @Benchmark
+    public String sha256() {
+        return SignatureUtil.sha256(ordNo + ENCRYPT_KEY);
+    }
+
+    @Benchmark
+    public String legacySha256() throws Exception {
+        return Legacy.sha256(ordNo + ENCRYPT_KEY);
+    }
+
+    @Benchmark
+    public String aesEncryptEcb() {
+        return ChiperUtil.aesEncryptEcb(ENCRYPT_KEY, email);
+    }
+
+    @Benchmark
+    public String legacyAesEncryptEcb() throws Exception {
+        return Legacy.aesEncryptEcb(ENCRYPT_KEY, email);
+    }
+
+    @Benchmark
+    public String aesDecryptEcb() {
+        return ChiperUtil.aesDecryptEcb(ENCRYPT_KEY, encryptedEmail);
+    }
+
+    @Benchmark
+    public String dateTime() {
+        return DateUtil.getDateTimeMillisecond();
+    }
+
+    @Benchmark
+    public String legacyDateTime() {
+        return new SimpleDateFormat("yyyyMMddHHmmssSSS").format(new Date());
+    }
+
+    private static class Legacy {
+
+        static String sha256(String str) throws Exception {
+            StringBuffer sb = new StringBuffer();
+            byte[] toDigest = MessageDigest.getInstance("SHA-256").digest(str.getBytes());
+            for (byte b : toDigest) {
+                int c = b & 0xff;
+                if (c <= 15) {
+                    sb.append("0");
+                }
+                sb.append(Integer.toHexString(c));
+            }
+            return sb.toString();
+        }
+
+        static String aesEncryptEcb(String key, String plainText) throws Exception {
+            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key.getBytes("UTF-8"), "AES"));
+            byte[] encryptes = cipher.doFinal(plainText.getBytes("UTF-8"));
+
+            StringBuffer sb = new StringBuffer();
+            for (byte b : encryptes) {
+                sb.append(String.format("%02X", b));
+            }
+            return sb.toString();
+        }
+
+        static String currentDateString() {
+            Calendar cal = Calendar.getInstance();
+            int y = cal.get(Calendar.YEAR);
+            int m = cal.get(Calendar.MONTH) + 1;
+            int d = cal.get(Calendar.DAY_OF_MONTH);
+            return "" + y + (m < 10 ? "0" + m : String.valueOf(m)) + (d < 10 ? "0" + d : String.valueOf(d));
+        }
+
+        static String currentTimeString() {
+            Calendar cal = Calendar.getInstance();
+            int h = cal.get(Calendar.HOUR_OF_DAY);
+            int m = cal.get(Calendar.MINUTE);
+            int s = cal.get(Calendar.SECOND);
+            return (h < 10 ? "0" + h : String.valueOf(h)) + (m < 10 ? "0" + m : String.valueOf(m)) + (s < 10 ? "0" + s : String.valueOf(s));
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package kr.co.imguru.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import kr.co.imguru.domain.member.entity.Member;
+import kr.co.imguru.domain.post.dto.PostReadDto;
+import kr.co.imguru.domain.post.entity.Post;
+import kr.co.imguru.domain.post.repository.PostRepository;
+import kr.co.imguru.domain.post.service.PostServiceImpl;
+import kr.co.imguru.domain.skill.entity.Skill;
+import kr.co.imguru.global.common.PostCategory;
+import kr.co.imguru.global.common.Role;
+import kr.co.imguru.global.model.ResponseFormat;
+import kr.co.imguru.global.model.ResponseStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 응답 경로 벤치마크 (DB 제외)
+ * - mapPosts : PostServiceImpl.getAllPosts 의 Post -> PostReadDto 변환 (저장소는 메모리 stub, 댓글 수는 고정값)
+ * - serialize : ResponseFormat<List<PostReadDto>> Jackson 직렬화 (스프링 부트 기본 ObjectMapper 설정)
+ *
+ * ./gradlew jmh -PjmhIncludes=PostReadBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class PostReadBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private PostServiceImpl postService;
+
+    private ObjectMapper objectMapper;
+
+    private List<PostReadDto> dtos;
+
+    @Setup
+    public void setUp() {
+        List<Post> posts = createPosts();
+
+        PostRepository postRepository = (PostRepository) Proxy.newProxyInstance(PostRepository.class.getClassLoader(),
+                new Class<?>[]{PostRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllByIsDeleteFalse" -> posts;
+                    case "countRepliesByPostId" -> 3;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        postService = new PostServiceImpl(postRepository, null, null, null, null, null, null, null, null);
+
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        dtos = createDtos();
+    }
+
+    @Benchmark
+    public List<PostReadDto> mapPosts() {
+        return postService.getAllPosts();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, dtos));
+    }
+
+    private List<Post> createPosts() {
+        Skill skill = Skill.builder().name("Spring").build();
+        List<Member> members = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            members.add(Member.builder()
+                    .email("member" + i + "@imguru.co.kr")
+                    .nickname("도사" + i)
+                    .role(i % 2 == 0 ? Role.ROLE_GURU : Role.ROLE_USER)
+                    .skill(skill)
+                    .build());
+        }
+
+        PostCategory[] categories = PostCategory.values();
+        List<Post> posts = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            posts.add(Post.builder()
+                    .member(members.get(i % members.size()))
+                    .postCategory(categories[i % categories.length])
+                    .title("게시글 제목 " + i)
+                    .content(content(i))
+                    .isGuru(i % 2 == 0)
+                    .price("30000")
+                    .likeCnt((long) i)
+                    .viewCnt(i * 10L)
+                    .build());
+        }
+
+        return posts;
+    }
+
+    private List<PostReadDto> createDtos() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PostReadDto> result = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            result.add(PostReadDto.builder()
+                    .postId((long) i)
+                    .memberNickname("도사" + (i % 10))
+                    .postCategory(PostCategory.QNA.getDisplayValue())
+                    .title("게시글 제목 " + i)
+                    .content(content(i))
+                    .isGuru(i % 2 == 0)
+                    .skillName("Spring")
+                    .price("30000")
+                    .replyCnt(3)
+                    .likeCnt((long) i)
+                    .viewCnt(i * 10L)
+                    .regDate(now.minusMinutes(i))
+                    .build());
+        }
+
+        return result;
+    }
+
+    // 목록 본문은 수백 자 정도
+    private String content(int i) {
+        return ("스프링 JPA 질문입니다. 지연 로딩과 fetch join 의 차이가 궁금합니다. " + i + " ").repeat(8);
+    }
+
+}
@@ -0,0 +1,62 @@
+package kr.co.imguru.benchmark;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.HQLTemplates;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.impl.JPAQuery;
+import kr.co.imguru.domain.member.entity.QMember;
+import kr.co.imguru.domain.post.entity.Post;
+import kr.co.imguru.domain.post.entity.QPost;
+import kr.co.imguru.domain.post.repository.PostSearchRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 검색 QueryDSL 조건 생성 / JPQL 직렬화 벤치마크 (DB 제외)
+ * - conditions : PostSearchRepository.searchConditions (조건 모두 사용 / 모두 생략)
+ * - jpql : findWithPaging 과 같은 쿼리를 만들어 JPQL 문자열로 직렬화 (요청마다 Hibernate 에 넘기는 단계까지)
+ *
+ * ./gradlew jmh -PjmhIncludes=PostSearchQueryBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class PostSearchQueryBenchmark {
+
+    private final QPost post = QPost.post;
+
+    private final QMember member = QMember.member;
+
+    // 조건 생성에는 JPAQueryFactory 를 사용하지 않음
+    private final PostSearchRepository postSearchRepository = new PostSearchRepository(null);
+
+    @Benchmark
+    public Predicate[] allConditions() {
+        return postSearchRepository.searchConditions("QNA", "Spring", "GURU", "all", "JPA");
+    }
+
+    @Benchmark
+    public Predicate[] noConditions() {
+        return postSearchRepository.searchConditions(null, null, null, null, null);
+    }
+
+    @Benchmark
+    public String jpql() {
+        JPAQuery<Post> query = new JPAQuery<Post>()
+                .select(post)
+                .from(post)
+                .leftJoin(post.member, member)
+                .where(postSearchRepository.searchConditions("QNA", "Spring", "GURU", "all", "JPA"))
+                .orderBy(post.regDate.desc())
+                .offset(0)
+                .limit(10);
+
+        JPQLSerializer serializer = new JPQLSerializer(HQLTemplates.DEFAULT);
+        serializer.serialize(query.getMetadata(), false, null);
+
+        return serializer.toString();
+    }
+
+}
@@ -0,0 +1,133 @@
+package kr.co.imguru.benchmark;
+
+import kr.co.imguru.domain.skill.dto.SkillCreateDto;
+import kr.co.imguru.domain.skill.dto.SkillReadDto;
+import kr.co.imguru.domain.skill.dto.SkillUpdateDto;
+import kr.co.imguru.domain.skill.service.SkillService;
+import kr.co.imguru.global.aop.MethodLoggingAspect;
+import kr.co.imguru.global.aop.ServiceLatencyRecorder;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.util.StopWatch;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 응답 시간 측정 aspect 오버헤드 벤치마크
+ * - direct : 프록시 없이 호출 (기준값)
+ * - latencyAspect : MethodLoggingAspect (HdrHistogram 기록) 가 적용된 프록시 호출
+ * - legacyAspect : 기존 StopWatch 측정 aspect 프록시 호출
+ *   (기존 구현은 호출마다 INFO 로그도 남겼으나 appender 에 따라 비용이 달라 여기서는 제외 - 실제 비용은 이보다 크다)
+ * - record : 히스토그램 기록만 (4 스레드 동시 기록)
+ *
+ * ./gradlew jmh -PjmhIncludes=ServiceLatencyBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class ServiceLatencyBenchmark {
+
+    private final SkillService target = new StubSkillService();
+
+    private final ServiceLatencyRecorder recorder = new ServiceLatencyRecorder();
+
+    private SkillService latencyProxy;
+
+    private SkillService legacyProxy;
+
+    private Method method;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        AspectJProxyFactory latencyFactory = new AspectJProxyFactory(target);
+        latencyFactory.addAspect(new MethodLoggingAspect(recorder, Long.MAX_VALUE / 1_000_000));
+        latencyProxy = latencyFactory.getProxy();
+
+        AspectJProxyFactory legacyFactory = new AspectJProxyFactory(target);
+        legacyFactory.addAspect(new LegacyStopWatchAspect());
+        legacyProxy = legacyFactory.getProxy();
+
+        method = SkillService.class.getMethod("getSkill", Long.class);
+    }
+
+    @Benchmark
+    public SkillReadDto direct() {
+        return target.getSkill(1L);
+    }
+
+    @Benchmark
+    public SkillReadDto latencyAspect() {
+        return latencyProxy.getSkill(1L);
+    }
+
+    @Benchmark
+    public SkillReadDto legacyAspect() {
+        return legacyProxy.getSkill(1L);
+    }
+
+    @Benchmark
+    public void record() {
+        recorder.record(method, 1_234_567L);
+    }
+
+    @Aspect
+    public static class LegacyStopWatchAspect {
+
+        @Around("execution(* kr.co.imguru.domain.skill.service.SkillService.*(..))")
+        public Object logServiceTime(ProceedingJoinPoint joinPoint) throws Throwable {
+            String className = joinPoint.getTarget().getClass().getSimpleName();
+            String methodName = joinPoint.getSignature().getName();
+
+            StopWatch stopWatch = new StopWatch();
+            stopWatch.start();
+
+            Object result = joinPoint.proceed();
+            stopWatch.stop();
+
+            if (className.isEmpty() || methodName.isEmpty() || stopWatch.getTotalTimeMillis() < 0) {
+                throw new IllegalStateException();
+            }
+            return result;
+        }
+    }
+
+    private static class StubSkillService implements SkillService {
+
+        private final SkillReadDto skill = SkillReadDto.builder().SkillId(1L).name("benchmark").build();
+
+        @Override
+        public void createSkill(SkillCreateDto createDto) {
+        }
+
+        @Override
+        public SkillReadDto getSkill(Long skillId) {
+            return skill;
+        }
+
+        @Override
+        public List<SkillReadDto> getAllSkills() {
+            return List.of(skill);
+        }
+
+        @Override
+        public SkillReadDto updateSkill(Long skillId, SkillUpdateDto updateDto) {
+            return skill;
+        }
+
+        @Override
+        public void deleteSkill(Long skillId) {
+        }
+
+        @Override
+        public SkillReadDto checkGuruSkill(String email) {
+            return skill;
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package kr.co.imguru.global.local;
+
+/**
+ * Redis KEYS / SCAN MATCH / PSUBSCRIBE 패턴 (*, ?, [abc], [^a], [a-z], \ 이스케이프)
+ */
+final class GlobPattern {
+
+    private GlobPattern() {
+    }
+
+    static boolean matches(String pattern, String text) {
+        return matches(pattern, 0, text, 0);
+    }
+
+    private static boolean matches(String pattern, int p, String text, int t) {
+        while (p < pattern.length()) {
+            char c = pattern.charAt(p);
+
+            switch (c) {
+                case '*' -> {
+                    while (p + 1 < pattern.length() && pattern.charAt(p + 1) == '*') {
+                        p++;
+                    }
+
+                    if (p + 1 == pattern.length()) {
+                        return true;
+                    }
+
+                    for (int i = t; i <= text.length(); i++) {
+                        if (matches(pattern, p + 1, text, i)) {
+                            return true;
+                        }
+                    }
+
+                    return false;
+                }
+                case '?' -> {
+                    if (t >= text.length()) {
+                        return false;
+                    }
+                    t++;
+                }
+                case '[' -> {
+                    if (t >= text.length()) {
+                        return false;
+                    }
+
+                    int end = pattern.indexOf(']', p + 1);
+
+                    if (end < 0) {
+                        // 닫히지 않은 [ 는 문자 그대로
+                        if (text.charAt(t) != c) {
+                            return false;
+                        }
+                        t++;
+                    } else {
+                        if (!matchesClass(pattern.substring(p + 1, end), text.charAt(t))) {
+                            return false;
+                        }
+                        t++;
+                        p = end;
+                    }
+                }
+                default -> {
+                    if (c == '\\' && p + 1 < pattern.length()) {
+                        c = pattern.charAt(++p);
+                    }
+
+                    if (t >= text.length() || text.charAt(t) != c) {
+                        return false;
+                    }
+                    t++;
+                }
+            }
+
+            p++;
+        }
+
+        return t == text.length();
+    }
+
+    private static boolean matchesClass(String spec, char c) {
+        boolean negate = spec.startsWith("^");
+        boolean matched = false;
+
+        for (int i = negate ? 1 : 0; i < spec.length() && !matched; i++) {
+            char start = spec.charAt(i);
+
+            if (start == '\\' && i + 1 < spec.length()) {
+                matched = spec.charAt(++i) == c;
+            } else if (i + 2 < spec.length() && spec.charAt(i + 1) == '-') {
+                char end = spec.charAt(i + 2);
+                matched = Math.min(start, end) <= c && c <= Math.max(start, end);
+                i += 2;
+            } else {
+                matched = start == c;
+            }
+        }
+
+        return negate != matched;
+    }
+
+}
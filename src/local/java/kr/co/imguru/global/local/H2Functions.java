@@ -0,0 +1,53 @@
+package kr.co.imguru.global.local;
+
+import java.time.LocalDateTime;
+
+/**
+ * local 프로필 H2 에 없는 MariaDB 함수 (db/local/h2-functions.sql 에서 CREATE ALIAS 로 등록)
+ */
+public final class H2Functions {
+
+    private H2Functions() {
+    }
+
+    /**
+     * DATE_FORMAT(date, format) - %Y %y %m %c %d %e %H %k %i %s %S %f %T %% 지원, 그 외 문자는 그대로
+     */
+    public static String dateFormat(LocalDateTime date, String format) {
+        if (date == null || format == null) {
+            return null;
+        }
+
+        StringBuilder formatted = new StringBuilder();
+
+        for (int i = 0; i < format.length(); i++) {
+            char c = format.charAt(i);
+
+            if (c != '%' || i + 1 == format.length()) {
+                formatted.append(c);
+                continue;
+            }
+
+            char specifier = format.charAt(++i);
+
+            switch (specifier) {
+                case 'Y' -> formatted.append(String.format("%04d", date.getYear()));
+                case 'y' -> formatted.append(String.format("%02d", date.getYear() % 100));
+                case 'm' -> formatted.append(String.format("%02d", date.getMonthValue()));
+                case 'c' -> formatted.append(date.getMonthValue());
+                case 'd' -> formatted.append(String.format("%02d", date.getDayOfMonth()));
+                case 'e' -> formatted.append(date.getDayOfMonth());
+                case 'H' -> formatted.append(String.format("%02d", date.getHour()));
+                case 'k' -> formatted.append(date.getHour());
+                case 'i' -> formatted.append(String.format("%02d", date.getMinute()));
+                case 's', 'S' -> formatted.append(String.format("%02d", date.getSecond()));
+                case 'f' -> formatted.append(String.format("%06d", date.getNano() / 1000));
+                case 'T' -> formatted.append(String.format("%02d:%02d:%02d", date.getHour(), date.getMinute(), date.getSecond()));
+                default -> formatted.append(specifier);
+            }
+        }
+
+        return formatted.toString();
+    }
+
+}
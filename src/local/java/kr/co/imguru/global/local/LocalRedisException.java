@@ -0,0 +1,12 @@
+package kr.co.imguru.global.local;
+
+/**
+ * LocalRedisServer 오류 응답 (메시지가 그대로 "-" 오류 응답이 된다. 예: "ERR syntax error")
+ */
+class LocalRedisException extends RuntimeException {
+
+    LocalRedisException(String message) {
+        super(message);
+    }
+
+}
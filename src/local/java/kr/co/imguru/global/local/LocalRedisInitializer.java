@@ -0,0 +1,52 @@
+package kr.co.imguru.global.local;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.Profiles;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * local 프로필 - 외부 Redis 대신 같은 JVM 안의 LocalRedisServer 사용 (META-INF/spring.factories 로 등록)
+ * 빈 생성 전에 서버를 띄우고 spring.data.redis.host / port 를 이 서버로 바꾸므로 RedisConfig 는 그대로 사용한다.
+ * 기본은 빈 포트 (local.redis.port 로 고정 가능), 컨텍스트가 닫히면 서버도 종료
+ */
+public class LocalRedisInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    private static final String LOCAL_PROFILE = "local";
+
+    private static final String PROPERTY_SOURCE = "localRedisServer";
+
+    @Override
+    public void initialize(ConfigurableApplicationContext applicationContext) {
+        ConfigurableEnvironment environment = applicationContext.getEnvironment();
+
+        if (!environment.acceptsProfiles(Profiles.of(LOCAL_PROFILE)) || environment.getPropertySources().contains(PROPERTY_SOURCE)) {
+            return;
+        }
+
+        LocalRedisServer server = new LocalRedisServer(environment.getProperty("local.redis.port", Integer.class, 0));
+
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("LocalRedisServer 기동 실패", e);
+        }
+
+        environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE, Map.of(
+                "spring.data.redis.host", "localhost",
+                "spring.data.redis.port", server.getPort())));
+
+        applicationContext.addApplicationListener(event -> {
+            if (event instanceof ContextClosedEvent closed && closed.getApplicationContext() == applicationContext) {
+                server.stop();
+            }
+        });
+    }
+
+}
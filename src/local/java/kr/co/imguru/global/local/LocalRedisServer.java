@@ -0,0 +1,380 @@
+package kr.co.imguru.global.local;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * local 프로필용 Redis 대용 서버 (같은 JVM 안에서 RESP2 프로토콜로 동작, 외부 Redis 불필요)
+ * - 데이터 명령은 LocalRedisStore, 이 클래스는 연결 / 프로토콜 / pub-sub 담당
+ * - pub-sub : SUBSCRIBE / PSUBSCRIBE / UNSUBSCRIBE / PUNSUBSCRIBE / PUBLISH
+ *   만료된 키는 __keyevent@0__:expired 채널로 발행 (Spring Data Redis 만료 이벤트 수신용)
+ * - HELLO 는 미지원으로 응답해 클라이언트(Lettuce)가 RESP2 로 연결하도록 한다.
+ * - MULTI / EXEC, Lua 스크립트, 리스트 / 스트림 명령은 지원하지 않음
+ * - 루프백 주소에만 바인딩, port 0 이면 빈 포트 사용 (getPort())
+ */
+@Slf4j
+public class LocalRedisServer {
+
+    private static final String EXPIRED_CHANNEL = "__keyevent@0__:expired";
+
+    private static final long SWEEP_INTERVAL_MILLIS = 1000;
+
+    private final int port;
+
+    private final LocalRedisStore store = new LocalRedisStore(key -> publish(EXPIRED_CHANNEL, key));
+
+    // 채널 / 패턴별 구독 연결
+    private final Map<String, Set<Connection>> channels = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<Connection>> patterns = new ConcurrentHashMap<>();
+
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+
+    private ServerSocket serverSocket;
+
+    private ExecutorService executor;
+
+    private ScheduledExecutorService sweeper;
+
+    public LocalRedisServer(int port) {
+        this.port = port;
+    }
+
+    public synchronized void start() throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+
+        executor = Executors.newCachedThreadPool(daemonThreads("local-redis"));
+        executor.execute(this::acceptLoop);
+
+        sweeper = Executors.newSingleThreadScheduledExecutor(daemonThreads("local-redis-expire"));
+        sweeper.scheduleWithFixedDelay(store::sweep, SWEEP_INTERVAL_MILLIS, SWEEP_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+        log.info("[LocalRedisServer] started on {}:{}", serverSocket.getInetAddress().getHostAddress(), getPort());
+    }
+
+    public synchronized void stop() {
+        if (serverSocket == null) {
+            return;
+        }
+
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            log.warn("[LocalRedisServer] close failed", e);
+        }
+
+        connections.forEach(Connection::close);
+        sweeper.shutdownNow();
+        executor.shutdownNow();
+        serverSocket = null;
+    }
+
+    public int getPort() {
+        return serverSocket == null ? port : serverSocket.getLocalPort();
+    }
+
+    /**
+     * 채널 구독자 + 패턴 구독자에게 메시지 전달, 받은 연결 수 반환
+     */
+    public int publish(String channel, String message) {
+        int receivers = 0;
+
+        for (Connection connection : channels.getOrDefault(channel, Set.of())) {
+            connection.write(List.of("message", channel, message));
+            receivers++;
+        }
+
+        for (Map.Entry<String, Set<Connection>> entry : patterns.entrySet()) {
+            if (GlobPattern.matches(entry.getKey(), channel)) {
+                for (Connection connection : entry.getValue()) {
+                    connection.write(List.of("pmessage", entry.getKey(), channel, message));
+                    receivers++;
+                }
+            }
+        }
+
+        return receivers;
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+
+                Connection connection = new Connection(socket);
+                connections.add(connection);
+                executor.execute(connection::serve);
+            } catch (SocketException e) {
+                // stop() 으로 닫힘
+                return;
+            } catch (IOException | RejectedExecutionException e) {
+                log.warn("[LocalRedisServer] accept failed", e);
+            }
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 클라이언트 연결 하나 (명령은 순서대로 처리, 응답 / 발행 메시지 쓰기는 연결 단위로 직렬화)
+     */
+    private class Connection {
+
+        private final Socket socket;
+
+        private final InputStream in;
+
+        private final OutputStream out;
+
+        private final Set<String> subscribedChannels = ConcurrentHashMap.newKeySet();
+
+        private final Set<String> subscribedPatterns = ConcurrentHashMap.newKeySet();
+
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.in = new BufferedInputStream(socket.getInputStream());
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        void serve() {
+            try {
+                List<String> request;
+
+                while ((request = Resp.read(in)) != null) {
+                    if (request.isEmpty()) {
+                        continue;
+                    }
+
+                    String command = request.get(0).toUpperCase(Locale.ROOT);
+                    List<String> args = request.subList(1, request.size());
+
+                    if (command.equals("QUIT")) {
+                        write(LocalRedisStore.OK);
+                        break;
+                    }
+
+                    handle(command, args);
+                }
+            } catch (IOException e) {
+                // 클라이언트 연결 종료
+            } catch (RuntimeException e) {
+                log.warn("[LocalRedisServer] connection closed by error", e);
+            } finally {
+                close();
+            }
+        }
+
+        private void handle(String command, List<String> args) {
+            try {
+                switch (command) {
+                    case "HELLO" -> throw new LocalRedisException("ERR unknown command 'hello'");
+                    case "SUBSCRIBE" -> subscribe("subscribe", args, channels, subscribedChannels);
+                    case "PSUBSCRIBE" -> subscribe("psubscribe", args, patterns, subscribedPatterns);
+                    case "UNSUBSCRIBE" -> unsubscribe("unsubscribe", args, channels, subscribedChannels);
+                    case "PUNSUBSCRIBE" -> unsubscribe("punsubscribe", args, patterns, subscribedPatterns);
+                    case "PUBLISH" -> write((long) publish(argument(args, 0), argument(args, 1)));
+                    case "PING" -> write(subscribed() ? List.of("pong", args.isEmpty() ? "" : args.get(0))
+                            : store.execute(command, args));
+                    default -> {
+                        if (subscribed()) {
+                            throw new LocalRedisException("ERR only (P)SUBSCRIBE / (P)UNSUBSCRIBE / PING / QUIT are allowed in this context");
+                        }
+
+                        write(store.execute(command, args));
+                    }
+                }
+            } catch (LocalRedisException e) {
+                write(e);
+            }
+        }
+
+        private void subscribe(String kind, List<String> names, Map<String, Set<Connection>> registry, Set<String> mine) {
+            if (names.isEmpty()) {
+                throw new LocalRedisException("ERR wrong number of arguments for '" + kind + "' command");
+            }
+
+            for (String name : names) {
+                registry.computeIfAbsent(name, key -> ConcurrentHashMap.newKeySet()).add(this);
+                mine.add(name);
+                write(List.of(kind, name, (long) subscriptionCount()));
+            }
+        }
+
+        private void unsubscribe(String kind, List<String> names, Map<String, Set<Connection>> registry, Set<String> mine) {
+            List<String> targets = names.isEmpty() ? new ArrayList<>(mine) : names;
+
+            if (targets.isEmpty()) {
+                write(Arrays.asList(kind, null, (long) subscriptionCount()));
+                return;
+            }
+
+            for (String name : targets) {
+                mine.remove(name);
+                registry.computeIfPresent(name, (key, subscribers) -> {
+                    subscribers.remove(this);
+                    return subscribers.isEmpty() ? null : subscribers;
+                });
+                write(List.of(kind, name, (long) subscriptionCount()));
+            }
+        }
+
+        private boolean subscribed() {
+            return subscriptionCount() > 0;
+        }
+
+        private int subscriptionCount() {
+            return subscribedChannels.size() + subscribedPatterns.size();
+        }
+
+        synchronized void write(Object reply) {
+            try {
+                Resp.write(out, reply);
+                out.flush();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        void close() {
+            if (connections.remove(this)) {
+                subscribedChannels.forEach(name -> channels.computeIfPresent(name, (key, set) -> {
+                    set.remove(this);
+                    return set.isEmpty() ? null : set;
+                }));
+                subscribedPatterns.forEach(name -> patterns.computeIfPresent(name, (key, set) -> {
+                    set.remove(this);
+                    return set.isEmpty() ? null : set;
+                }));
+
+                try {
+                    socket.close();
+                } catch (IOException ignored) {
+                    // 이미 닫힘
+                }
+            }
+        }
+
+        private String argument(List<String> args, int index) {
+            if (index >= args.size()) {
+                throw new LocalRedisException("ERR wrong number of arguments");
+            }
+
+            return args.get(index);
+        }
+    }
+
+    /**
+     * RESP2 읽기 / 쓰기 (문자열은 ISO-8859-1 로 바이트 그대로 변환)
+     */
+    static final class Resp {
+
+        private Resp() {
+        }
+
+        // 요청 하나 (배열 또는 inline 명령), 연결이 끝났으면 null
+        static List<String> read(InputStream in) throws IOException {
+            int first = in.read();
+
+            if (first == -1) {
+                return null;
+            }
+
+            if (first != '*') {
+                String line = (char) first + readLine(in);
+                return line.isBlank() ? List.of() : List.of(line.trim().split("\\s+"));
+            }
+
+            int count = Integer.parseInt(readLine(in));
+            List<String> args = new ArrayList<>(Math.max(count, 0));
+
+            for (int i = 0; i < count; i++) {
+                if (in.read() != '$') {
+                    throw new IOException("protocol error : bulk string expected");
+                }
+
+                int length = Integer.parseInt(readLine(in));
+                byte[] bytes = in.readNBytes(length);
+
+                if (bytes.length != length) {
+                    throw new EOFException();
+                }
+
+                readLine(in);
+                args.add(new String(bytes, StandardCharsets.ISO_8859_1));
+            }
+
+            return args;
+        }
+
+        static void write(OutputStream out, Object reply) throws IOException {
+            if (reply == null) {
+                out.write("$-1\r\n".getBytes(StandardCharsets.US_ASCII));
+            } else if (reply instanceof LocalRedisStore.Status status) {
+                out.write(("+" + status.value() + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            } else if (reply instanceof LocalRedisException error) {
+                out.write(("-" + error.getMessage() + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+            } else if (reply instanceof Number number) {
+                out.write((":" + number.longValue() + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            } else if (reply instanceof String value) {
+                byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+                out.write(("$" + bytes.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                out.write(bytes);
+                out.write('\r');
+                out.write('\n');
+            } else if (reply instanceof List<?> values) {
+                out.write(("*" + values.size() + "\r\n").getBytes(StandardCharsets.US_ASCII));
+
+                for (Object value : values) {
+                    write(out, value);
+                }
+            } else {
+                throw new IllegalArgumentException("unsupported reply : " + reply.getClass());
+            }
+        }
+
+        private static String readLine(InputStream in) throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+
+            while ((b = in.read()) != -1) {
+                if (b == '\r') {
+                    int next = in.read();
+
+                    if (next == '\n' || next == -1) {
+                        return line.toString(StandardCharsets.ISO_8859_1);
+                    }
+
+                    line.write(b);
+                    b = next;
+                }
+
+                if (b == '\n') {
+                    return line.toString(StandardCharsets.ISO_8859_1);
+                }
+
+                line.write(b);
+            }
+
+            throw new EOFException();
+        }
+    }
+
+}
@@ -0,0 +1,962 @@
+package kr.co.imguru.global.local;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * LocalRedisServer 의 데이터 / 명령 처리
+ * - Redis 처럼 명령은 한 번에 하나씩 실행 (메서드 단위 synchronized)
+ * - 키 / 값은 받은 바이트를 ISO-8859-1 문자열로 그대로 옮겨 저장 (직렬화 형식과 무관)
+ * - 만료는 조회 시점 확인 + sweep() 주기 정리, 만료된 키는 expiredListener 로 알림
+ * - 지원 명령 : 문자열(GET/SET/INCR..), 해시(H*), 셋(S*), 정렬 셋(Z*), 키(DEL/EXISTS/KEYS/SCAN/EXPIRE/TTL..), 서버(PING/INFO/CONFIG..)
+ */
+class LocalRedisStore {
+
+    static final Status OK = new Status("OK");
+
+    private static final Status PONG = new Status("PONG");
+
+    private static final String WRONG_TYPE = "WRONGTYPE Operation against a key holding the wrong kind of value";
+
+    private static final String NOT_INTEGER = "ERR value is not an integer or out of range";
+
+    private static final String NOT_FLOAT = "ERR value is not a valid float";
+
+    private static final String SYNTAX = "ERR syntax error";
+
+    private final Map<String, Object> data = new HashMap<>();
+
+    // 키별 만료 시각 (epoch ms)
+    private final Map<String, Long> expireAt = new HashMap<>();
+
+    private final Map<String, String> config = new HashMap<>();
+
+    private final Consumer<String> expiredListener;
+
+    LocalRedisStore(Consumer<String> expiredListener) {
+        this.expiredListener = expiredListener;
+    }
+
+    synchronized Object execute(String command, List<String> args) {
+        return switch (command) {
+            // 서버
+            case "PING" -> args.isEmpty() ? PONG : args.get(0);
+            case "ECHO" -> arg(command, args, 0);
+            case "SELECT", "CLIENT", "READONLY", "READWRITE" -> OK;
+            case "COMMAND" -> List.of();
+            case "INFO" -> "# Server\r\nredis_version:7.0.0\r\nredis_mode:standalone\r\n# Keyspace\r\ndb0:keys=" + data.size() + "\r\n";
+            case "CONFIG" -> config(args);
+            case "DBSIZE" -> (long) data.size();
+            case "FLUSHDB", "FLUSHALL" -> flush();
+            case "TIME" -> time();
+
+            // 키
+            case "DEL", "UNLINK" -> del(command, args);
+            case "EXISTS" -> exists(command, args);
+            case "TYPE" -> new Status(type(lookup(arg(command, args, 0))));
+            case "KEYS" -> keys(arg(command, args, 0));
+            case "SCAN" -> scan(command, args);
+            case "RENAME" -> rename(command, args);
+            case "EXPIRE" -> expire(arg(command, args, 0), parseLong(arg(command, args, 1)) * 1000);
+            case "PEXPIRE" -> expire(arg(command, args, 0), parseLong(arg(command, args, 1)));
+            case "EXPIREAT" -> expire(arg(command, args, 0), parseLong(arg(command, args, 1)) * 1000 - System.currentTimeMillis());
+            case "PEXPIREAT" -> expire(arg(command, args, 0), parseLong(arg(command, args, 1)) - System.currentTimeMillis());
+            case "TTL" -> ttl(arg(command, args, 0), true);
+            case "PTTL" -> ttl(arg(command, args, 0), false);
+            case "PERSIST" -> persist(arg(command, args, 0));
+
+            // 문자열
+            case "GET" -> lookup(arg(command, args, 0), String.class);
+            case "SET" -> set(command, args);
+            case "SETEX" -> setWithExpire(command, args, 1000);
+            case "PSETEX" -> setWithExpire(command, args, 1);
+            case "SETNX" -> setNx(command, args);
+            case "GETSET" -> getSet(command, args);
+            case "MGET" -> mget(command, args);
+            case "MSET" -> mset(command, args);
+            case "INCR" -> incrBy(arg(command, args, 0), 1);
+            case "DECR" -> incrBy(arg(command, args, 0), -1);
+            case "INCRBY" -> incrBy(arg(command, args, 0), parseLong(arg(command, args, 1)));
+            case "DECRBY" -> incrBy(arg(command, args, 0), -parseLong(arg(command, args, 1)));
+            case "INCRBYFLOAT" -> incrByFloat(arg(command, args, 0), parseDouble(arg(command, args, 1)));
+
+            // 해시
+            case "HGET" -> hget(command, args);
+            case "HSET", "HMSET" -> hset(command, args);
+            case "HSETNX" -> hsetNx(command, args);
+            case "HMGET" -> hmget(command, args);
+            case "HGETALL" -> hgetAll(arg(command, args, 0));
+            case "HDEL" -> hdel(command, args);
+            case "HEXISTS" -> hexists(command, args);
+            case "HLEN" -> (long) hash(arg(command, args, 0)).size();
+            case "HKEYS" -> new ArrayList<>(hash(arg(command, args, 0)).keySet());
+            case "HVALS" -> new ArrayList<>(hash(arg(command, args, 0)).values());
+            case "HINCRBY" -> hincrBy(command, args);
+            case "HINCRBYFLOAT" -> hincrByFloat(command, args);
+            case "HSCAN" -> List.of("0", hgetAll(arg(command, args, 0)));
+
+            // 셋
+            case "SADD" -> sadd(command, args);
+            case "SREM" -> srem(command, args);
+            case "SMEMBERS" -> new ArrayList<>(set(arg(command, args, 0)));
+            case "SISMEMBER" -> set(arg(command, args, 0)).contains(arg(command, args, 1)) ? 1L : 0L;
+            case "SCARD" -> (long) set(arg(command, args, 0)).size();
+            case "SSCAN" -> List.of("0", new ArrayList<>(set(arg(command, args, 0))));
+
+            // 정렬 셋
+            case "ZADD" -> zadd(command, args);
+            case "ZINCRBY" -> zincrBy(command, args);
+            case "ZSCORE" -> zscore(command, args);
+            case "ZREM" -> zrem(command, args);
+            case "ZCARD" -> (long) zset(arg(command, args, 0)).size();
+            case "ZCOUNT" -> zcount(command, args);
+            case "ZRANK" -> zrank(command, args, false);
+            case "ZREVRANK" -> zrank(command, args, true);
+            case "ZRANGE" -> zrange(command, args, false);
+            case "ZREVRANGE" -> zrange(command, args, true);
+            case "ZRANGEBYSCORE" -> zrangeByScore(command, args, false);
+            case "ZREVRANGEBYSCORE" -> zrangeByScore(command, args, true);
+            case "ZREMRANGEBYRANK" -> zremRangeByRank(command, args);
+            case "ZREMRANGEBYSCORE" -> zremRangeByScore(command, args);
+            case "ZSCAN" -> List.of("0", withScores(zset(arg(command, args, 0)).entries(), true));
+
+            default -> throw new LocalRedisException("ERR unknown command '" + command.toLowerCase(Locale.ROOT) + "'");
+        };
+    }
+
+    /**
+     * 만료 시각이 지난 키 정리
+     */
+    synchronized void sweep() {
+        long now = System.currentTimeMillis();
+        List<String> expired = expireAt.entrySet().stream()
+                .filter(entry -> entry.getValue() <= now)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        expired.forEach(this::expireNow);
+    }
+
+    // ---------------------------------------------------------------- 서버
+
+    private Object config(List<String> args) {
+        String sub = arg("config", args, 0).toUpperCase(Locale.ROOT);
+
+        if (sub.equals("GET")) {
+            String name = arg("config", args, 1);
+            return List.of(name, config.getOrDefault(name, ""));
+        }
+
+        if (sub.equals("SET")) {
+            config.put(arg("config", args, 1), arg("config", args, 2));
+        }
+
+        return OK;
+    }
+
+    private Object flush() {
+        data.clear();
+        expireAt.clear();
+
+        return OK;
+    }
+
+    private Object time() {
+        long micros = System.currentTimeMillis() * 1000;
+
+        return List.of(Long.toString(micros / 1_000_000), Long.toString(micros % 1_000_000));
+    }
+
+    // ---------------------------------------------------------------- 키
+
+    private Object del(String command, List<String> args) {
+        arg(command, args, 0);
+        long removed = 0;
+
+        for (String key : args) {
+            if (lookup(key) != null) {
+                remove(key);
+                removed++;
+            }
+        }
+
+        return removed;
+    }
+
+    private Object exists(String command, List<String> args) {
+        arg(command, args, 0);
+
+        return args.stream().filter(key -> lookup(key) != null).count();
+    }
+
+    private Object keys(String pattern) {
+        List<String> keys = new ArrayList<>();
+
+        for (String key : new ArrayList<>(data.keySet())) {
+            if (lookup(key) != null && GlobPattern.matches(pattern, key)) {
+                keys.add(key);
+            }
+        }
+
+        return keys;
+    }
+
+    /*
+     * SCAN cursor [MATCH pattern] [COUNT count] [TYPE type]
+     * 키를 hashCode 순으로 훑고 cursor 는 다음에 볼 hash 값 + 1 (0 이면 처음 / 끝)
+     * 순서가 키 추가 / 삭제와 무관하므로 SCAN 도중 키를 지워도 남아 있는 키를 빠뜨리지 않는다. (Redis 보장과 동일)
+     */
+    private Object scan(String command, List<String> args) {
+        long cursor = parseLong(arg(command, args, 0));
+        String pattern = "*";
+        String type = null;
+        long count = 10;
+
+        for (int i = 1; i < args.size(); i += 2) {
+            String option = args.get(i).toUpperCase(Locale.ROOT);
+            String value = arg(command, args, i + 1);
+
+            switch (option) {
+                case "MATCH" -> pattern = value;
+                case "COUNT" -> count = Math.max(1, parseLong(value));
+                case "TYPE" -> type = value.toLowerCase(Locale.ROOT);
+                default -> throw new LocalRedisException(SYNTAX);
+            }
+        }
+
+        long from = cursor == 0 ? 0 : cursor - 1;
+        TreeMap<Integer, List<String>> slots = new TreeMap<>();
+
+        for (String key : data.keySet()) {
+            int slot = slot(key);
+
+            if (slot >= from) {
+                slots.computeIfAbsent(slot, s -> new ArrayList<>()).add(key);
+            }
+        }
+
+        List<String> keys = new ArrayList<>();
+        long visited = 0;
+        long next = 0;
+
+        for (Map.Entry<Integer, List<String>> entry : slots.entrySet()) {
+            if (visited >= count) {
+                next = entry.getKey() + 1L;
+                break;
+            }
+
+            for (String key : entry.getValue()) {
+                visited++;
+                Object value = lookup(key);
+
+                if (value != null && GlobPattern.matches(pattern, key) && (type == null || type.equals(type(value)))) {
+                    keys.add(key);
+                }
+            }
+        }
+
+        return List.of(Long.toString(next), keys);
+    }
+
+    private Object rename(String command, List<String> args) {
+        String key = arg(command, args, 0);
+        String newKey = arg(command, args, 1);
+        Object value = lookup(key);
+
+        if (value == null) {
+            throw new LocalRedisException("ERR no such key");
+        }
+
+        Long at = expireAt.get(key);
+        remove(key);
+        remove(newKey);
+        data.put(newKey, value);
+
+        if (at != null) {
+            expireAt.put(newKey, at);
+        }
+
+        return OK;
+    }
+
+    private Object expire(String key, long millis) {
+        if (lookup(key) == null) {
+            return 0L;
+        }
+
+        // 0 이하면 바로 삭제 (Redis 와 동일하게 만료 알림 없음)
+        if (millis <= 0) {
+            remove(key);
+        } else {
+            expireAt.put(key, System.currentTimeMillis() + millis);
+        }
+
+        return 1L;
+    }
+
+    private Object ttl(String key, boolean seconds) {
+        if (lookup(key) == null) {
+            return -2L;
+        }
+
+        Long at = expireAt.get(key);
+
+        if (at == null) {
+            return -1L;
+        }
+
+        long remaining = Math.max(0, at - System.currentTimeMillis());
+
+        return seconds ? (remaining + 500) / 1000 : remaining;
+    }
+
+    private Object persist(String key) {
+        return lookup(key) != null && expireAt.remove(key) != null ? 1L : 0L;
+    }
+
+    // ---------------------------------------------------------------- 문자열
+
+    /*
+     * SET key value [NX | XX] [GET] [EX seconds | PX milliseconds | KEEPTTL]
+     */
+    private Object set(String command, List<String> args) {
+        String key = arg(command, args, 0);
+        String value = arg(command, args, 1);
+        boolean nx = false, xx = false, get = false, keepTtl = false;
+        long ttlMillis = -1;
+
+        for (int i = 2; i < args.size(); i++) {
+            switch (args.get(i).toUpperCase(Locale.ROOT)) {
+                case "NX" -> nx = true;
+                case "XX" -> xx = true;
+                case "GET" -> get = true;
+                case "KEEPTTL" -> keepTtl = true;
+                case "EX" -> ttlMillis = parseLong(arg(command, args, ++i)) * 1000;
+                case "PX" -> ttlMillis = parseLong(arg(command, args, ++i));
+                default -> throw new LocalRedisException(SYNTAX);
+            }
+        }
+
+        Object previous = lookup(key);
+
+        if (get && previous != null && !(previous instanceof String)) {
+            throw new LocalRedisException(WRONG_TYPE);
+        }
+
+        if ((nx && previous != null) || (xx && previous == null)) {
+            return get ? previous : null;
+        }
+
+        Long at = keepTtl ? expireAt.get(key) : null;
+        remove(key);
+        data.put(key, value);
+
+        if (ttlMillis > 0) {
+            expireAt.put(key, System.currentTimeMillis() + ttlMillis);
+        } else if (at != null) {
+            expireAt.put(key, at);
+        }
+
+        return get ? previous : OK;
+    }
+
+    private Object setWithExpire(String command, List<String> args, long unitMillis) {
+        String key = arg(command, args, 0);
+        long ttlMillis = parseLong(arg(command, args, 1)) * unitMillis;
+
+        if (ttlMillis <= 0) {
+            throw new LocalRedisException("ERR invalid expire time in '" + command.toLowerCase(Locale.ROOT) + "' command");
+        }
+
+        remove(key);
+        data.put(key, arg(command, args, 2));
+        expireAt.put(key, System.currentTimeMillis() + ttlMillis);
+
+        return OK;
+    }
+
+    private Object setNx(String command, List<String> args) {
+        String key = arg(command, args, 0);
+
+        if (lookup(key) != null) {
+            return 0L;
+        }
+
+        data.put(key, arg(command, args, 1));
+
+        return 1L;
+    }
+
+    private Object getSet(String command, List<String> args) {
+        String key = arg(command, args, 0);
+        String previous = lookup(key, String.class);
+
+        remove(key);
+        data.put(key, arg(command, args, 1));
+
+        return previous;
+    }
+
+    private Object mget(String command, List<String> args) {
+        arg(command, args, 0);
+        List<Object> values = new ArrayList<>();
+
+        for (String key : args) {
+            Object value = lookup(key);
+            values.add(value instanceof String ? value : null);
+        }
+
+        return values;
+    }
+
+    private Object mset(String command, List<String> args) {
+        if (args.isEmpty() || args.size() % 2 != 0) {
+            throw wrongArgs(command);
+        }
+
+        for (int i = 0; i < args.size(); i += 2) {
+            remove(args.get(i));
+            data.put(args.get(i), args.get(i + 1));
+        }
+
+        return OK;
+    }
+
+    private Object incrBy(String key, long delta) {
+        String current = lookup(key, String.class);
+        long value;
+
+        try {
+            value = Math.addExact(current == null ? 0 : parseLong(current), delta);
+        } catch (ArithmeticException e) {
+            throw new LocalRedisException("ERR increment or decrement would overflow");
+        }
+
+        data.put(key, Long.toString(value));
+
+        return value;
+    }
+
+    private Object incrByFloat(String key, double delta) {
+        String current = lookup(key, String.class);
+        String value = formatDouble((current == null ? 0 : parseDouble(current)) + delta);
+
+        data.put(key, value);
+
+        return value;
+    }
+
+    // ---------------------------------------------------------------- 해시
+
+    private Object hget(String command, List<String> args) {
+        return hash(arg(command, args, 0)).get(arg(command, args, 1));
+    }
+
+    private Object hset(String command, List<String> args) {
+        if (args.size() < 3 || args.size() % 2 != 1) {
+            throw wrongArgs(command);
+        }
+
+        Map<String, String> hash = hashForWrite(args.get(0));
+        long added = 0;
+
+        for (int i = 1; i < args.size(); i += 2) {
+            if (hash.put(args.get(i), args.get(i + 1)) == null) {
+                added++;
+            }
+        }
+
+        return command.equals("HMSET") ? OK : added;
+    }
+
+    private Object hsetNx(String command, List<String> args) {
+        Map<String, String> hash = hashForWrite(arg(command, args, 0));
+
+        return hash.putIfAbsent(arg(command, args, 1), arg(command, args, 2)) == null ? 1L : 0L;
+    }
+
+    private Object hmget(String command, List<String> args) {
+        Map<String, String> hash = hash(arg(command, args, 0));
+        arg(command, args, 1);
+
+        return args.subList(1, args.size()).stream().map(hash::get).toList();
+    }
+
+    private List<String> hgetAll(String key) {
+        List<String> fields = new ArrayList<>();
+
+        hash(key).forEach((field, value) -> {
+            fields.add(field);
+            fields.add(value);
+        });
+
+        return fields;
+    }
+
+    private Object hdel(String command, List<String> args) {
+        String key = arg(command, args, 0);
+        arg(command, args, 1);
+        Map<String, String> hash = hash(key);
+        long removed = args.subList(1, args.size()).stream().filter(field -> hash.remove(field) != null).count();
+
+        removeIfEmpty(key, hash.isEmpty());
+
+        return removed;
+    }
+
+    private Object hexists(String command, List<String> args) {
+        return hash(arg(command, args, 0)).containsKey(arg(command, args, 1)) ? 1L : 0L;
+    }
+
+    private Object hincrBy(String command, List<String> args) {
+        Map<String, String> hash = hashForWrite(arg(command, args, 0));
+        String field = arg(command, args, 1);
+        long delta = parseLong(arg(command, args, 2));
+        String current = hash.get(field);
+        long value;
+
+        try {
+            value = Math.addExact(current == null ? 0 : parseLong(current), delta);
+        } catch (ArithmeticException e) {
+            throw new LocalRedisException("ERR increment or decrement would overflow");
+        }
+
+        hash.put(field, Long.toString(value));
+
+        return value;
+    }
+
+    private Object hincrByFloat(String command, List<String> args) {
+        Map<String, String> hash = hashForWrite(arg(command, args, 0));
+        String field = arg(command, args, 1);
+        String current = hash.get(field);
+        String value = formatDouble((current == null ? 0 : parseDouble(current)) + parseDouble(arg(command, args, 2)));
+
+        hash.put(field, value);
+
+        return value;
+    }
+
+    // ---------------------------------------------------------------- 셋
+
+    private Object sadd(String command, List<String> args) {
+        Set<String> set = lookupOrCreate(arg(command, args, 0), Set.class, LinkedHashSet::new);
+        arg(command, args, 1);
+
+        return args.subList(1, args.size()).stream().filter(set::add).count();
+    }
+
+    private Object srem(String command, List<String> args) {
+        String key = arg(command, args, 0);
+        arg(command, args, 1);
+        Set<String> set = set(key);
+        long removed = args.subList(1, args.size()).stream().filter(set::remove).count();
+
+        removeIfEmpty(key, set.isEmpty());
+
+        return removed;
+    }
+
+    // ---------------------------------------------------------------- 정렬 셋
+
+    /*
+     * ZADD key [NX | XX] [CH] [INCR] score member [score member ...]
+     */
+    private Object zadd(String command, List<String> args) {
+        String key = arg(command, args, 0);
+        boolean nx = false, xx = false, ch = false, incr = false;
+        int i = 1;
+
+        // 옵션 다음부터 score member 쌍 (GT / LT 는 미지원)
+        for (; i < args.size() && isZaddOption(args.get(i)); i++) {
+            switch (args.get(i).toUpperCase(Locale.ROOT)) {
+                case "NX" -> nx = true;
+                case "XX" -> xx = true;
+                case "CH" -> ch = true;
+                default -> incr = true;
+            }
+        }
+
+        int pairs = args.size() - i;
+
+        if (pairs <= 0 || pairs % 2 != 0 || (incr && pairs != 2) || (nx && xx)) {
+            throw new LocalRedisException(SYNTAX);
+        }
+
+        ZSet zset = lookupOrCreate(key, ZSet.class, ZSet::new);
+        long changed = 0;
+        Double incremented = null;
+
+        for (; i < args.size(); i += 2) {
+            double score = parseDouble(args.get(i));
+            String member = args.get(i + 1);
+            Double previous = zset.score(member);
+
+            if ((nx && previous != null) || (xx && previous == null)) {
+                continue;
+            }
+
+            double next = incr && previous != null ? previous + score : score;
+            zset.put(member, next);
+            incremented = next;
+
+            if (previous == null || (ch && previous != next)) {
+                changed++;
+            }
+        }
+
+        removeIfEmpty(key, zset.size() == 0);
+
+        if (incr) {
+            return incremented == null ? null : formatDouble(incremented);
+        }
+
+        return changed;
+    }
+
+    private static boolean isZaddOption(String arg) {
+        return switch (arg.toUpperCase(Locale.ROOT)) {
+            case "NX", "XX", "CH", "INCR" -> true;
+            default -> false;
+        };
+    }
+
+    private Object zincrBy(String command, List<String> args) {
+        ZSet zset = lookupOrCreate(arg(command, args, 0), ZSet.class, ZSet::new);
+        String member = arg(command, args, 2);
+        Double previous = zset.score(member);
+        double next = (previous == null ? 0 : previous) + parseDouble(arg(command, args, 1));
+
+        zset.put(member, next);
+
+        return formatDouble(next);
+    }
+
+    private Object zscore(String command, List<String> args) {
+        Double score = zset(arg(command, args, 0)).score(arg(command, args, 1));
+
+        return score == null ? null : formatDouble(score);
+    }
+
+    private Object zrem(String command, List<String> args) {
+        String key = arg(command, args, 0);
+        arg(command, args, 1);
+        ZSet zset = zset(key);
+        long removed = args.subList(1, args.size()).stream().filter(zset::remove).count();
+
+        removeIfEmpty(key, zset.size() == 0);
+
+        return removed;
+    }
+
+    private Object zcount(String command, List<String> args) {
+        ScoreBound min = ScoreBound.parse(arg(command, args, 1));
+        ScoreBound max = ScoreBound.parse(arg(command, args, 2));
+
+        return zset(arg(command, args, 0)).entries().stream()
+                .filter(entry -> min.belowOrAt(entry.score()) && max.aboveOrAt(entry.score()))
+                .count();
+    }
+
+    private Object zrank(String command, List<String> args, boolean reverse) {
+        ZSet zset = zset(arg(command, args, 0));
+        int rank = zset.rank(arg(command, args, 1));
+
+        if (rank < 0) {
+            return null;
+        }
+
+        return (long) (reverse ? zset.size() - 1 - rank : rank);
+    }
+
+    /*
+     * ZRANGE key start stop [REV] [WITHSCORES] / ZREVRANGE key start stop [WITHSCORES]
+     */
+    private Object zrange(String command, List<String> args, boolean reverse) {
+        List<ZSet.Entry> entries = zset(arg(command, args, 0)).entries();
+        long start = parseLong(arg(command, args, 1));
+        long stop = parseLong(arg(command, args, 2));
+        boolean withScores = false;
+
+        for (String option : args.subList(3, args.size())) {
+            switch (option.toUpperCase(Locale.ROOT)) {
+                case "WITHSCORES" -> withScores = true;
+                case "REV" -> reverse = true;
+                default -> throw new LocalRedisException(SYNTAX);
+            }
+        }
+
+        if (reverse) {
+            Collections.reverse(entries);
+        }
+
+        return withScores(slice(entries, start, stop), withScores);
+    }
+
+    /*
+     * ZRANGEBYSCORE key min max [WITHSCORES] [LIMIT offset count]
+     * ZREVRANGEBYSCORE key max min [WITHSCORES] [LIMIT offset count]
+     */
+    private Object zrangeByScore(String command, List<String> args, boolean reverse) {
+        List<ZSet.Entry> entries = zset(arg(command, args, 0)).entries();
+        ScoreBound min = ScoreBound.parse(arg(command, args, reverse ? 2 : 1));
+        ScoreBound max = ScoreBound.parse(arg(command, args, reverse ? 1 : 2));
+        boolean withScores = false;
+        long offset = 0;
+        long limit = -1;
+
+        for (int i = 3; i < args.size(); i++) {
+            switch (args.get(i).toUpperCase(Locale.ROOT)) {
+                case "WITHSCORES" -> withScores = true;
+                case "LIMIT" -> {
+                    offset = parseLong(arg(command, args, ++i));
+                    limit = parseLong(arg(command, args, ++i));
+                }
+                default -> throw new LocalRedisException(SYNTAX);
+            }
+        }
+
+        if (reverse) {
+            Collections.reverse(entries);
+        }
+
+        List<ZSet.Entry> matched = entries.stream()
+                .filter(entry -> min.belowOrAt(entry.score()) && max.aboveOrAt(entry.score()))
+                .skip(Math.max(0, offset))
+                .limit(limit < 0 ? Long.MAX_VALUE : limit)
+                .toList();
+
+        return withScores(matched, withScores);
+    }
+
+    private Object zremRangeByRank(String command, List<String> args) {
+        String key = arg(command, args, 0);
+        ZSet zset = zset(key);
+        List<ZSet.Entry> removed = slice(zset.entries(), parseLong(arg(command, args, 1)), parseLong(arg(command, args, 2)));
+
+        removed.forEach(entry -> zset.remove(entry.member()));
+        removeIfEmpty(key, zset.size() == 0);
+
+        return (long) removed.size();
+    }
+
+    private Object zremRangeByScore(String command, List<String> args) {
+        String key = arg(command, args, 0);
+        ZSet zset = zset(key);
+        ScoreBound min = ScoreBound.parse(arg(command, args, 1));
+        ScoreBound max = ScoreBound.parse(arg(command, args, 2));
+        List<ZSet.Entry> removed = zset.entries().stream()
+                .filter(entry -> min.belowOrAt(entry.score()) && max.aboveOrAt(entry.score()))
+                .toList();
+
+        removed.forEach(entry -> zset.remove(entry.member()));
+        removeIfEmpty(key, zset.size() == 0);
+
+        return (long) removed.size();
+    }
+
+    private static List<ZSet.Entry> slice(List<ZSet.Entry> entries, long start, long stop) {
+        int size = entries.size();
+        long from = start < 0 ? Math.max(0, size + start) : start;
+        long to = stop < 0 ? size + stop : Math.min(stop, size - 1L);
+
+        if (from > to || from >= size) {
+            return List.of();
+        }
+
+        return entries.subList((int) from, (int) to + 1);
+    }
+
+    private static List<String> withScores(List<ZSet.Entry> entries, boolean withScores) {
+        List<String> reply = new ArrayList<>();
+
+        for (ZSet.Entry entry : entries) {
+            reply.add(entry.member());
+
+            if (withScores) {
+                reply.add(formatDouble(entry.score()));
+            }
+        }
+
+        return reply;
+    }
+
+    // ---------------------------------------------------------------- 공통
+
+    private Object lookup(String key) {
+        Long at = expireAt.get(key);
+
+        if (at != null && at <= System.currentTimeMillis()) {
+            expireNow(key);
+            return null;
+        }
+
+        return data.get(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T lookup(String key, Class<? super T> type) {
+        Object value = lookup(key);
+
+        if (value != null && !type.isInstance(value)) {
+            throw new LocalRedisException(WRONG_TYPE);
+        }
+
+        return (T) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T lookupOrCreate(String key, Class<? super T> type, Supplier<T> factory) {
+        T value = lookup(key, type);
+
+        if (value == null) {
+            value = factory.get();
+            data.put(key, value);
+        }
+
+        return value;
+    }
+
+    private Map<String, String> hash(String key) {
+        Map<String, String> hash = lookup(key, Map.class);
+
+        return hash == null ? Map.of() : hash;
+    }
+
+    private Map<String, String> hashForWrite(String key) {
+        return lookupOrCreate(key, Map.class, LinkedHashMap::new);
+    }
+
+    private Set<String> set(String key) {
+        Set<String> set = lookup(key, Set.class);
+
+        return set == null ? new LinkedHashSet<>() : set;
+    }
+
+    private ZSet zset(String key) {
+        ZSet zset = lookup(key, ZSet.class);
+
+        return zset == null ? new ZSet() : zset;
+    }
+
+    private void removeIfEmpty(String key, boolean empty) {
+        if (empty) {
+            remove(key);
+        }
+    }
+
+    private void remove(String key) {
+        data.remove(key);
+        expireAt.remove(key);
+    }
+
+    private void expireNow(String key) {
+        remove(key);
+        expiredListener.accept(key);
+    }
+
+    private static String type(Object value) {
+        if (value == null) {
+            return "none";
+        }
+
+        if (value instanceof String) {
+            return "string";
+        }
+
+        if (value instanceof Map) {
+            return "hash";
+        }
+
+        return value instanceof Set ? "set" : "zset";
+    }
+
+    private static int slot(String key) {
+        return key.hashCode() & Integer.MAX_VALUE;
+    }
+
+    private static String arg(String command, List<String> args, int index) {
+        if (index >= args.size()) {
+            throw wrongArgs(command);
+        }
+
+        return args.get(index);
+    }
+
+    private static LocalRedisException wrongArgs(String command) {
+        return new LocalRedisException("ERR wrong number of arguments for '" + command.toLowerCase(Locale.ROOT) + "' command");
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new LocalRedisException(NOT_INTEGER);
+        }
+    }
+
+    static double parseDouble(String value) {
+        switch (value.toLowerCase(Locale.ROOT)) {
+            case "inf", "+inf" -> {
+                return Double.POSITIVE_INFINITY;
+            }
+            case "-inf" -> {
+                return Double.NEGATIVE_INFINITY;
+            }
+            default -> {
+                try {
+                    double parsed = Double.parseDouble(value);
+
+                    if (Double.isNaN(parsed)) {
+                        throw new LocalRedisException(NOT_FLOAT);
+                    }
+
+                    return parsed;
+                } catch (NumberFormatException e) {
+                    throw new LocalRedisException(NOT_FLOAT);
+                }
+            }
+        }
+    }
+
+    static String formatDouble(double value) {
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "inf" : "-inf";
+        }
+
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * 단순 문자열 응답 (+OK)
+     */
+    record Status(String value) {
+    }
+
+    /**
+     * ZRANGEBYSCORE 범위 (-inf, +inf, "(" 는 미포함)
+     */
+    private record ScoreBound(double value, boolean exclusive) {
+
+        static ScoreBound parse(String bound) {
+            boolean exclusive = bound.startsWith("(");
+
+            return new ScoreBound(parseDouble(exclusive ? bound.substring(1) : bound), exclusive);
+        }
+
+        boolean belowOrAt(double score) {
+            return exclusive ? value < score : value <= score;
+        }
+
+        boolean aboveOrAt(double score) {
+            return exclusive ? score < value : score <= value;
+        }
+    }
+
+}
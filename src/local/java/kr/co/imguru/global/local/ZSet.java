@@ -0,0 +1,70 @@
+package kr.co.imguru.global.local;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * LocalRedisServer 정렬 셋 (score, member 순 정렬 + member 별 score)
+ */
+class ZSet {
+
+    private final Map<String, Double> scores = new HashMap<>();
+
+    private final TreeSet<Entry> ordered = new TreeSet<>();
+
+    Double score(String member) {
+        return scores.get(member);
+    }
+
+    void put(String member, double score) {
+        Double previous = scores.put(member, score);
+
+        if (previous != null) {
+            ordered.remove(new Entry(previous, member));
+        }
+
+        ordered.add(new Entry(score, member));
+    }
+
+    boolean remove(String member) {
+        Double previous = scores.remove(member);
+
+        if (previous == null) {
+            return false;
+        }
+
+        ordered.remove(new Entry(previous, member));
+
+        return true;
+    }
+
+    // 오름차순 순위, 없으면 -1
+    int rank(String member) {
+        Double score = scores.get(member);
+
+        return score == null ? -1 : ordered.headSet(new Entry(score, member)).size();
+    }
+
+    int size() {
+        return scores.size();
+    }
+
+    // 오름차순 복사본
+    List<Entry> entries() {
+        return new ArrayList<>(ordered);
+    }
+
+    record Entry(double score, String member) implements Comparable<Entry> {
+
+        @Override
+        public int compareTo(Entry other) {
+            int compared = Double.compare(score, other.score);
+
+            return compared != 0 ? compared : member.compareTo(other.member);
+        }
+    }
+
+}
@@ -0,0 +1,4 @@
+-- local 프로필 (H2, MariaDB 호환 모드) 에 없는 MariaDB 함수
+CREATE ALIAS IF NOT EXISTS DATE_FORMAT DETERMINISTIC FOR 'kr.co.imguru.global.local.H2Functions.dateFormat';
+-- CAST(... AS UNSIGNED) (pay 백필) 용 타입
+CREATE DOMAIN IF NOT EXISTS UNSIGNED AS BIGINT;
@@ -1,13 +1,27 @@
 package kr.co.imguru.domain.admin.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import kr.co.imguru.domain.admin.dto.*;
 import kr.co.imguru.domain.admin.service.AdminService;
+import kr.co.imguru.domain.file.service.FileDownloadHandler;
+import kr.co.imguru.domain.pay.dto.PayReconcileRunDto;
+import kr.co.imguru.domain.pay.dto.PayRollupDto;
+import kr.co.imguru.domain.pay.dto.PayRollupRebuildDto;
+import kr.co.imguru.global.common.AdminBulkTarget;
+import kr.co.imguru.global.common.ReportTarget;
+import kr.co.imguru.global.common.RollupDimension;
 import kr.co.imguru.global.model.ResponseFormat;
 import kr.co.imguru.global.model.ResponseStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -17,12 +31,141 @@ public class AdminRestController {
 
     private final AdminService adminService;
 
+    private final FileDownloadHandler fileDownloadHandler;
+
+    // Dashboard (메모리 지표 조회, 목록 조회 없음)
+    @GetMapping("/dashboard")
+    public ResponseFormat<AdminDashboardDto> readDashboard() {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getDashboard());
+    }
+
+    @PostMapping("/dashboard/recompute")
+    public ResponseFormat<AdminDashboardDto> recomputeDashboard() {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.recomputeDashboard());
+    }
+
+    // Latency (서비스 메서드별 p50/p95/p99/max, 초기화 시 직전 값 반환)
+    @GetMapping("/latency")
+    public ResponseFormat<AdminServiceLatencyDto> readServiceLatency() {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getServiceLatency());
+    }
+
+    @PostMapping("/latency/reset")
+    public ResponseFormat<AdminServiceLatencyDto> resetServiceLatency() {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.resetServiceLatency());
+    }
+
+    // Query Stats (API 별 요청당 SQL 통계, 초기화 시 직전 값 반환)
+    @GetMapping("/query-stats")
+    public ResponseFormat<AdminQueryStatsDto> readQueryStats() {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getQueryStats());
+    }
+
+    @PostMapping("/query-stats/reset")
+    public ResponseFormat<AdminQueryStatsDto> resetQueryStats() {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.resetQueryStats());
+    }
+
+    // Moderation (신고 처리 대기열 : 우선순위가 가장 높은 항목 / cursor 페이지 / 대상 신고 일괄 처리)
+    @GetMapping("/moderation/next")
+    public ResponseFormat<AdminModerationItemDto> readNextModerationItem() {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getNextModerationItem());
+    }
+
+    @GetMapping("/moderation/queue")
+    public ResponseFormat<AdminSliceDto<AdminModerationItemDto>> readModerationQueue(@RequestParam(required = false) String cursor,
+                                                                                    @RequestParam(required = false) Integer size) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getModerationQueue(cursor, size));
+    }
+
+    @PostMapping("/moderation/{target}/{targetId}/resolve")
+    public ResponseFormat<Integer> resolveReports(@PathVariable ReportTarget target, @PathVariable Long targetId) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.resolveReports(target, targetId));
+    }
+
+    // Bulk (id 목록 또는 검색 조건으로 일괄 처리, 실행 id 로 진행 상황 조회)
+    @PostMapping("/bulk/{target}")
+    public ResponseFormat<AdminBulkRunDto> startBulk(@PathVariable AdminBulkTarget target,
+                                                     @RequestBody @Valid AdminBulkDto dto) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.startBulk(target, dto));
+    }
+
+    @GetMapping("/bulk/runs/{runId}")
+    public ResponseFormat<AdminBulkRunDto> readBulkRun(@PathVariable Long runId) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getBulkRun(runId));
+    }
+
+    // Revenue (고수 / 스킬 / 게시글별 일별 매출 집계, 기간 재계산)
+    @GetMapping("/revenue/{dimension}/{targetId}")
+    public ResponseFormat<List<PayRollupDto>> readDailyRollups(@PathVariable RollupDimension dimension,
+                                                               @PathVariable Long targetId,
+                                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getDailyRollups(dimension, targetId, from, to));
+    }
+
+    @PostMapping("/revenue/rebuild")
+    public ResponseFormat<PayRollupRebuildDto> rebuildRollups(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.rebuildRollups(from, to));
+    }
+
+    // Pay Reconcile (결제 대사 실행, 실행 id 로 진행 상황 조회)
+    @PostMapping("/pay/reconcile")
+    public ResponseFormat<PayReconcileRunDto> startPayReconcile(@RequestParam(defaultValue = "true") boolean resume) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.startPayReconcile(resume));
+    }
+
+    @GetMapping("/pay/reconcile/{runId}")
+    public ResponseFormat<PayReconcileRunDto> readPayReconcileRun(@PathVariable Long runId) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getPayReconcileRun(runId));
+    }
+
+    // JFR (기록 시작/종료, 목록, 요약 : 할당 위치 / CPU 메서드 / 락 경합, .jfr 파일 다운로드)
+    @PostMapping("/jfr/start")
+    public ResponseFormat<AdminJfrRecordingDto> startJfr(@RequestBody @Valid AdminJfrStartDto dto) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.startJfr(dto));
+    }
+
+    @PostMapping("/jfr/stop")
+    public ResponseFormat<AdminJfrRecordingDto> stopJfr() {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.stopJfr());
+    }
+
+    @GetMapping("/jfr/recordings")
+    public ResponseFormat<List<AdminJfrRecordingDto>> readJfrRecordings() {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getJfrRecordings());
+    }
+
+    @GetMapping("/jfr/recordings/{recordingId}/summary")
+    public ResponseFormat<AdminJfrSummaryDto> readJfrSummary(@PathVariable Long recordingId,
+                                                             @RequestParam(defaultValue = "10") int top) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getJfrSummary(recordingId, top));
+    }
+
+    @GetMapping("/jfr/recordings/{recordingId}/file")
+    public void downloadJfrFile(@PathVariable Long recordingId,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        Path path = adminService.getJfrFile(recordingId);
+
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + path.getFileName() + "\"");
+        // 운영 JVM 프로파일 정보이므로 브라우저 / 프록시에 캐시하지 않음
+        fileDownloadHandler.handle(path, FileDownloadHandler.CACHE_CONTROL_NO_STORE, request, response);
+    }
+
     // Member
     @GetMapping("/member/all")
     public ResponseFormat<List<AdminMemberDto>> readAllMembers() {
         return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getAllMembers());
     }
 
+    // 검색 조건은 쿼리 파라미터로 전달 (keyword, includeDeleted, sort, cursor, size 및 목록별 필터)
+    @GetMapping("/member/search")
+    public ResponseFormat<AdminSliceDto<AdminMemberSummaryDto>> searchMembers(AdminSearchDto condition) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.searchMembers(condition));
+    }
+
     @GetMapping("/member/guru")
     public ResponseFormat<List<AdminMemberDto>> readGuruMembers() {
         return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getAllMembersByGuru());
@@ -62,6 +205,11 @@ public class AdminRestController {
         return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getAllGuruInfos());
     }
 
+    @GetMapping("/guruInfo/search")
+    public ResponseFormat<AdminSliceDto<AdminGuruInfoSummaryDto>> searchGuruInfos(AdminSearchDto condition) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.searchGuruInfos(condition));
+    }
+
     @GetMapping("/guruInfo/guru/{memberId}")
     public ResponseFormat<AdminGuruInfoDto> readGuruInfoByMember(@PathVariable Long memberId) {
         return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getGuruInfoByMember(memberId));
@@ -90,6 +238,11 @@ public class AdminRestController {
         return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getAllSkills());
     }
 
+    @GetMapping("/skill/search")
+    public ResponseFormat<AdminSliceDto<AdminSkillSummaryDto>> searchSkills(AdminSearchDto condition) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.searchSkills(condition));
+    }
+
     @GetMapping("/skill/{skillId}")
     public ResponseFormat<AdminSkillDto> readSkillDetail(@PathVariable Long skillId) {
         return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getSkillDetail(skillId));
@@ -114,6 +267,11 @@ public class AdminRestController {
         return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getAllPosts());
     }
 
+    @GetMapping("/post/search")
+    public ResponseFormat<AdminSliceDto<AdminPostSummaryDto>> searchPosts(AdminSearchDto condition) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.searchPosts(condition));
+    }
+
     @GetMapping("/post/guru")
     public ResponseFormat<List<AdminPostDto>> readGuruPosts() {
         return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getAllPostsByGuru());
@@ -157,6 +315,11 @@ public class AdminRestController {
         return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getAllReplies());
     }
 
+    @GetMapping("/reply/search")
+    public ResponseFormat<AdminSliceDto<AdminReplySummaryDto>> searchReplies(AdminSearchDto condition) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.searchReplies(condition));
+    }
+
     @GetMapping("/reply/post/{postId}")
     public ResponseFormat<List<AdminReplyDto>> readPostReplies(@PathVariable Long postId) {
         return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getAllRepliesByPost(postId));
@@ -190,6 +353,11 @@ public class AdminRestController {
         return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getAllReportPosts());
     }
 
+    @GetMapping("/reportPost/search")
+    public ResponseFormat<AdminSliceDto<AdminReportPostSummaryDto>> searchReportPosts(AdminSearchDto condition) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.searchReportPosts(condition));
+    }
+
     @GetMapping("/reportPost/post/{postId}")
     public ResponseFormat<List<AdminReportPostDto>> readPostReportPosts(@PathVariable Long postId) {
         return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, adminService.getAllReportPostsByPost(postId));
@@ -0,0 +1,73 @@
+package kr.co.imguru.domain.admin.dto;
+
+import jakarta.validation.constraints.NotNull;
+import kr.co.imguru.global.common.AdminBulkAction;
+import kr.co.imguru.global.common.PostCategory;
+import kr.co.imguru.global.common.ReportCategory;
+import kr.co.imguru.global.common.Role;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * 관리자 일괄 처리 요청
+ * ids 가 있으면 해당 id 만 처리하고, 없으면 조건(keyword ~ accepted)에 맞는 항목 전체를 처리한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminBulkDto {
+
+    @NotNull
+    private AdminBulkAction action;
+
+    private PostCategory changeCategory;    // CHANGE_CATEGORY 일 때 변경할 카테고리
+
+    private List<Long> ids;
+
+    private String keyword;
+
+    private Long memberId;
+
+    private Long postId;
+
+    private Long skillId;
+
+    private Role role;
+
+    private PostCategory postCategory;
+
+    private ReportCategory reportCategory;
+
+    private Boolean accepted;
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasCondition() {
+        return StringUtils.hasText(keyword) || memberId != null || postId != null || skillId != null
+                || role != null || postCategory != null || reportCategory != null || accepted != null;
+    }
+
+    // 조건 처리 시 검색 조건으로 변환 (복구는 삭제된 항목이 대상)
+    public AdminSearchDto toCondition() {
+        return AdminSearchDto.builder()
+                .keyword(keyword)
+                .memberId(memberId)
+                .postId(postId)
+                .skillId(skillId)
+                .role(role)
+                .postCategory(postCategory)
+                .reportCategory(reportCategory)
+                .accepted(accepted)
+                .includeDeleted(action == AdminBulkAction.RESTORE)
+                .build();
+    }
+
+}
@@ -0,0 +1,35 @@
+package kr.co.imguru.domain.admin.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminBulkRunDto {
+
+    private Long runId;
+
+    private String target;
+
+    private String action;
+
+    private String status;
+
+    private Long totalCount;
+
+    private Long lastId;
+
+    private long processedCount;
+
+    private long affectedCount;
+
+    private String message;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+}
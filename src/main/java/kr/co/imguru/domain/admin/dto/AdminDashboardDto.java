@@ -0,0 +1,24 @@
+package kr.co.imguru.domain.admin.dto;
+
+import kr.co.imguru.global.common.AdminMetric;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminDashboardDto {
+
+    private Map<AdminMetric, Map<String, Long>> metrics;    // 지표 -> (구분 값 또는 날짜 yyyyMMdd -> 값)
+
+    private LocalDateTime flushedAt;        // 마지막으로 증감분을 DB 에 누적한 시각
+
+    private LocalDateTime recomputedAt;     // 마지막 정확 재계산 시각
+
+}
@@ -0,0 +1,34 @@
+package kr.co.imguru.domain.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 고수 정보 목록 항목 (목록 조회용 프로젝션)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminGuruInfoSummaryDto {
+
+    private Long guruInfoId;
+
+    private Long memberId;
+
+    private String memberNickname;
+
+    private String companyName;
+
+    private String position;
+
+    private String workArea;
+
+    private boolean isDelete;
+
+    private LocalDateTime regDate;
+}
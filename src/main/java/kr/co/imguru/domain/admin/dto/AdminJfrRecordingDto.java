@@ -0,0 +1,30 @@
+package kr.co.imguru.domain.admin.dto;
+
+import kr.co.imguru.global.common.JfrSettings;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminJfrRecordingDto {
+
+    private Long recordingId;
+
+    private String name;
+
+    private JfrSettings settings;
+
+    private long durationSeconds;           // 요청한 기록 시간 (자동 종료 기준)
+
+    private boolean running;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime stoppedAt;
+
+    private long fileSize;                  // .jfr 파일 크기 (byte, 종료 후)
+
+}
@@ -0,0 +1,24 @@
+package kr.co.imguru.domain.admin.dto;
+
+import jakarta.validation.constraints.NotNull;
+import kr.co.imguru.global.common.JfrSettings;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * JFR 기록 시작 요청
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminJfrStartDto {
+
+    private JfrSettings settings;           // 없으면 DEFAULT
+
+    @NotNull
+    private Long durationSeconds;           // 1 ~ monitoring.jfr.max-duration-seconds, 지나면 자동 종료
+
+}
@@ -0,0 +1,75 @@
+package kr.co.imguru.domain.admin.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminJfrSummaryDto {
+
+    private Long recordingId;
+
+    private long eventCount;
+
+    private long durationMillis;                    // 첫 이벤트 ~ 마지막 이벤트
+
+    private List<AllocationSite> allocationSites;   // 추정 할당량 내림차순
+
+    private List<HotMethod> hotMethods;             // CPU 샘플 수 내림차순
+
+    private List<LockSite> lockContention;          // 총 대기 시간 내림차순
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class AllocationSite {
+
+        private String site;                        // 할당한 메서드 (클래스.메서드:라인)
+
+        private String objectClass;
+
+        private long bytes;                         // 샘플 가중치 합계 (추정 할당량)
+
+        private double percent;
+
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class HotMethod {
+
+        private String method;                      // 실행 중이던 메서드 (클래스.메서드:라인)
+
+        private long samples;
+
+        private double percent;
+
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class LockSite {
+
+        private String site;                        // 대기한 위치 (LockSupport 등 JDK 내부 프레임 제외)
+
+        private String lockClass;                   // synchronized 대상 / park 대상 클래스
+
+        private String kind;                        // MONITOR (synchronized), PARK (java.util.concurrent 락)
+
+        private long count;
+
+        private double totalMillis;
+
+        private double maxMillis;
+
+    }
+
+}
@@ -0,0 +1,40 @@
+package kr.co.imguru.domain.admin.dto;
+
+import kr.co.imguru.global.common.Gender;
+import kr.co.imguru.global.common.Role;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 회원 목록 항목 (목록 조회용 프로젝션)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminMemberSummaryDto {
+
+    private Long memberId;
+
+    private String email;
+
+    private String name;
+
+    private String nickname;
+
+    private String telephone;
+
+    private Gender gender;
+
+    private Role role;
+
+    private String skillName;
+
+    private boolean isDelete;
+
+    private LocalDateTime regDate;
+}
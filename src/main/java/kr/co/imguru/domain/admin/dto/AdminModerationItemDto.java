@@ -0,0 +1,33 @@
+package kr.co.imguru.domain.admin.dto;
+
+import kr.co.imguru.global.common.ReportCategory;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminModerationItemDto {
+
+    private String target;          // POST / REPLY
+
+    private Long targetId;
+
+    private long score;              // 우선순위 점수 (미처리 신고의 분류 가중치 합)
+
+    private int reportCount;        // 미처리 신고 수
+
+    private int reporterCount;      // 신고한 회원 수 (중복 제외)
+
+    private Map<ReportCategory, Integer> categories;
+
+    private boolean hidden;         // 신고 누적으로 자동 숨김 처리된 상태
+
+    private LocalDateTime firstReportedAt;
+
+    private LocalDateTime lastReportedAt;
+
+}
@@ -0,0 +1,41 @@
+package kr.co.imguru.domain.admin.dto;
+
+import kr.co.imguru.global.common.PostCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 게시글 목록 항목 (본문/첨부파일 제외, 목록 조회용 프로젝션)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminPostSummaryDto {
+
+    private Long postId;
+
+    private Long memberId;
+
+    private String memberNickname;
+
+    private PostCategory postCategory;
+
+    private String title;
+
+    private boolean isGuru;
+
+    private String price;
+
+    private Long likeCnt;
+
+    private Long viewCnt;
+
+    private boolean isDelete;
+
+    private LocalDateTime regDate;
+}
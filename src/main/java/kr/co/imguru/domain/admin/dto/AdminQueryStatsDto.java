@@ -0,0 +1,44 @@
+package kr.co.imguru.domain.admin.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminQueryStatsDto {
+
+    private LocalDateTime since;                // 마지막 초기화 시각
+
+    private List<EndpointQueryStats> endpoints; // 전체 실행 SQL 수 내림차순
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class EndpointQueryStats {
+
+        private String endpoint;                // HTTP 메서드 + URL 패턴
+
+        private long requests;
+
+        private long totalStatements;
+
+        private double avgStatements;           // 이하 요청당 평균
+
+        private long maxStatements;
+
+        private double avgRows;
+
+        private double avgDbMillis;
+
+        private long nPlusOneCount;             // N+1 의심 요청 수
+
+        private String repeatedSql;             // 마지막으로 N+1 의심된 SQL
+
+    }
+
+}
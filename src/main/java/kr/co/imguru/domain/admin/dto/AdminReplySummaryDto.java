@@ -0,0 +1,36 @@
+package kr.co.imguru.domain.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 댓글 목록 항목 (목록 조회용 프로젝션)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminReplySummaryDto {
+
+    private Long replyId;
+
+    private Long postId;
+
+    private String postTitle;
+
+    private Long memberId;
+
+    private String memberNickname;
+
+    private String content;
+
+    private Long likeCnt;
+
+    private boolean isDelete;
+
+    private LocalDateTime regDate;
+}
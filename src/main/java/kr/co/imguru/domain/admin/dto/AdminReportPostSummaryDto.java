@@ -0,0 +1,39 @@
+package kr.co.imguru.domain.admin.dto;
+
+import kr.co.imguru.global.common.ReportCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 게시글 신고 목록 항목 (목록 조회용 프로젝션)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminReportPostSummaryDto {
+
+    private Long reportPostId;
+
+    private Long postId;
+
+    private String postTitle;
+
+    private Long memberId;
+
+    private String memberNickname;      // 신고자
+
+    private ReportCategory reportCategory;
+
+    private String description;
+
+    private boolean isAccept;
+
+    private boolean isDelete;
+
+    private LocalDateTime regDate;
+}
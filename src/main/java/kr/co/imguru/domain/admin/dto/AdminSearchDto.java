@@ -0,0 +1,58 @@
+package kr.co.imguru.domain.admin.dto;
+
+import kr.co.imguru.global.common.AdminSort;
+import kr.co.imguru.global.common.PostCategory;
+import kr.co.imguru.global.common.ReportCategory;
+import kr.co.imguru.global.common.Role;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 관리자 목록 검색 조건 (쿼리 파라미터 바인딩)
+ * 목록마다 해당하는 조건만 적용되고 나머지는 무시된다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AdminSearchDto {
+
+    private static final int DEFAULT_SIZE = 20;
+
+    private String keyword;             // 목록별 검색 컬럼에 대한 부분 일치 검색
+
+    private Boolean includeDeleted;     // true 면 삭제(soft delete)된 항목도 포함
+
+    private Role role;
+
+    private PostCategory postCategory;
+
+    private ReportCategory reportCategory;
+
+    private Boolean accepted;           // 신고 처리 여부
+
+    private Long skillId;
+
+    private Long memberId;
+
+    private Long postId;
+
+    private AdminSort sort;
+
+    private String cursor;              // 이전 응답의 nextCursor (첫 페이지면 생략)
+
+    private Integer size;
+
+    public boolean isIncludeDeleted() {
+        return Boolean.TRUE.equals(includeDeleted);
+    }
+
+    public AdminSort getSort() {
+        return sort == null ? AdminSort.LATEST : sort;
+    }
+
+    public int getSize() {
+        return size == null ? DEFAULT_SIZE : size;
+    }
+
+}
@@ -0,0 +1,40 @@
+package kr.co.imguru.domain.admin.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminServiceLatencyDto {
+
+    private LocalDateTime since;            // 마지막 초기화 시각
+
+    private List<MethodLatency> methods;    // 호출 수 내림차순
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class MethodLatency {
+
+        private String name;                // 서비스 인터페이스.메서드
+
+        private long count;
+
+        private double mean;                // 이하 단위 ms
+
+        private double p50;
+
+        private double p95;
+
+        private double p99;
+
+        private double max;
+
+    }
+
+}
@@ -0,0 +1,26 @@
+package kr.co.imguru.domain.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 스킬 목록 항목 (목록 조회용 프로젝션)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminSkillSummaryDto {
+
+    private Long skillId;
+
+    private String name;
+
+    private boolean isDelete;
+
+    private LocalDateTime regDate;
+}
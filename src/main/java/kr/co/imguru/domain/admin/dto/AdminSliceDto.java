@@ -0,0 +1,19 @@
+package kr.co.imguru.domain.admin.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminSliceDto<T> {
+
+    private List<T> content;
+
+    private String nextCursor;      // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+
+    private boolean hasNext;
+
+}
@@ -0,0 +1,85 @@
+package kr.co.imguru.domain.admin.entity;
+
+import jakarta.persistence.*;
+import kr.co.imguru.global.common.AdminBulkAction;
+import kr.co.imguru.global.common.AdminBulkTarget;
+import kr.co.imguru.global.common.BaseEntity;
+import kr.co.imguru.global.common.ReconcileRunStatus;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 일괄 처리 실행 이력 + 진행 상황
+ * 청크 처리가 끝날 때마다 마지막 id 와 누적 건수를 저장한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "admin_bulk_run")
+public class AdminBulkRun extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "admin_bulk_run_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "bulk_target", nullable = false)
+    private AdminBulkTarget target;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "bulk_action", nullable = false)
+    private AdminBulkAction action;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "run_status", nullable = false)
+    private ReconcileRunStatus status;
+
+    @Column(name = "total_count")
+    private Long totalCount;            // id 목록으로 요청한 경우 id 개수 (조건으로 요청하면 null)
+
+    @Column(name = "last_id")
+    private Long lastId;                // 마지막으로 처리한 청크의 마지막 id
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;        // 처리한 id 수
+
+    @Column(name = "affected_count", nullable = false)
+    private long affectedCount;         // 실제로 변경된 행 수 (이미 같은 상태인 행 제외)
+
+    @Column(name = "message")
+    private String message;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public AdminBulkRun(AdminBulkTarget target, AdminBulkAction action, Long totalCount) {
+        this.target = target;
+        this.action = action;
+        this.totalCount = totalCount;
+        this.status = ReconcileRunStatus.RUNNING;
+    }
+
+    public void checkpoint(Long lastId, int processed, int affected) {
+        this.lastId = lastId;
+        this.processedCount += processed;
+        this.affectedCount += affected;
+    }
+
+    public void complete() {
+        this.status = ReconcileRunStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String message) {
+        this.status = ReconcileRunStatus.FAILED;
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+}
@@ -0,0 +1,36 @@
+package kr.co.imguru.domain.admin.entity;
+
+import jakarta.persistence.*;
+import kr.co.imguru.global.common.AdminMetric;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 관리자 대시보드 지표 값
+ * 메모리 카운터(AdminMetricStore)의 증감분을 주기적으로 INSERT ... ON DUPLICATE KEY UPDATE 로 누적하고,
+ * 매일 원본 테이블에서 정확한 값으로 재계산한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "admin_stat",
+        uniqueConstraints = @UniqueConstraint(name = "uk_admin_stat", columnNames = {"stat_metric", "stat_key"}))
+public class AdminStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "admin_stat_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stat_metric", nullable = false, length = 30)
+    private AdminMetric metric;
+
+    @Column(name = "stat_key", nullable = false, length = 30)
+    private String statKey;         // 구분 값 (역할, 스킬 id, 카테고리, 날짜 yyyyMMdd, ALL)
+
+    @Column(name = "stat_value", nullable = false)
+    private long statValue;
+
+}
@@ -0,0 +1,9 @@
+package kr.co.imguru.domain.admin.repository;
+
+import kr.co.imguru.domain.admin.entity.AdminBulkRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AdminBulkRunRepository extends JpaRepository<AdminBulkRun, Long> {
+}
@@ -0,0 +1,442 @@
+package kr.co.imguru.domain.admin.repository;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.BooleanPath;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.co.imguru.domain.admin.dto.*;
+import kr.co.imguru.domain.guru.entity.QGuruInfo;
+import kr.co.imguru.domain.member.entity.QMember;
+import kr.co.imguru.domain.post.entity.QPost;
+import kr.co.imguru.domain.reply.entity.QReply;
+import kr.co.imguru.domain.report.entity.QReportPost;
+import kr.co.imguru.domain.report.entity.QReportReply;
+import kr.co.imguru.domain.review.entity.QReview;
+import kr.co.imguru.domain.skill.entity.QSkill;
+import kr.co.imguru.global.common.AdminBulkTarget;
+import kr.co.imguru.global.common.AdminSort;
+import kr.co.imguru.global.common.PostCategory;
+import kr.co.imguru.global.common.ReportCategory;
+import kr.co.imguru.global.common.Role;
+import kr.co.imguru.global.exception.IllegalArgumentException;
+import kr.co.imguru.global.model.ResponseStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * 관리자 목록 조회
+ * - 엔티티 대신 목록에 필요한 컬럼만 DTO 로 조회 (연관 엔티티 지연 로딩 없음)
+ * - 삭제된 항목은 includeDeleted 가 true 일 때만 포함
+ * - cursor 이후 size + 1 건을 조회 (마지막 1건은 다음 페이지 존재 여부 판단용)
+ *   cursor 는 id 정렬이면 "id", 집계 컬럼 정렬이면 "값_id" 형식
+ */
+@Repository
+@RequiredArgsConstructor
+public class AdminSearchRepository {
+
+    private static final String CURSOR_DELIMITER = "_";
+
+    private final JPAQueryFactory queryFactory;
+
+    private final QMember member = QMember.member;
+
+    private final QSkill skill = QSkill.skill;
+
+    private final QPost post = QPost.post;
+
+    private final QReply reply = QReply.reply;
+
+    private final QReportPost reportPost = QReportPost.reportPost;
+
+    private final QGuruInfo guruInfo = QGuruInfo.guruInfo;
+
+    private final QReview review = QReview.review;
+
+    private final QReportReply reportReply = QReportReply.reportReply;
+
+    /**
+     * 회원 목록 (검색 : 이메일, 이름, 닉네임, 전화번호)
+     */
+    public List<AdminMemberSummaryDto> searchMembers(AdminSearchDto condition, int size) {
+        AdminSort sort = condition.getSort();
+
+        return queryFactory
+                .select(Projections.fields(AdminMemberSummaryDto.class,
+                        member.id.as("memberId"),
+                        member.email,
+                        member.name,
+                        member.nickname,
+                        member.telephone,
+                        member.gender,
+                        member.role,
+                        skill.name.as("skillName"),
+                        member.isDelete,
+                        member.regDate))
+                .from(member)
+                .leftJoin(member.skill, skill)
+                .where(
+                        memberFilter(condition),
+                        cursorCondition(sort, condition.getCursor(), member.id, countPath(sort, null, null))
+                )
+                .orderBy(orderBy(sort, member.id, null))
+                .limit(size + 1)
+                .fetch();
+    }
+
+    /**
+     * 게시글 목록 (검색 : 제목, 작성자 닉네임)
+     */
+    public List<AdminPostSummaryDto> searchPosts(AdminSearchDto condition, int size) {
+        AdminSort sort = condition.getSort();
+        NumberPath<Long> countPath = countPath(sort, post.viewCnt, post.likeCnt);
+
+        return queryFactory
+                .select(Projections.fields(AdminPostSummaryDto.class,
+                        post.id.as("postId"),
+                        member.id.as("memberId"),
+                        member.nickname.as("memberNickname"),
+                        post.postCategory,
+                        post.title,
+                        post.isGuru,
+                        post.price,
+                        post.likeCnt,
+                        post.viewCnt,
+                        post.isDelete,
+                        post.regDate))
+                .from(post)
+                .join(post.member, member)
+                .where(
+                        postFilter(condition),
+                        cursorCondition(sort, condition.getCursor(), post.id, countPath)
+                )
+                .orderBy(orderBy(sort, post.id, countPath))
+                .limit(size + 1)
+                .fetch();
+    }
+
+    /**
+     * 댓글 목록 (검색 : 내용, 작성자 닉네임)
+     */
+    public List<AdminReplySummaryDto> searchReplies(AdminSearchDto condition, int size) {
+        AdminSort sort = condition.getSort();
+        NumberPath<Long> countPath = countPath(sort, null, reply.likeCnt);
+
+        return queryFactory
+                .select(Projections.fields(AdminReplySummaryDto.class,
+                        reply.id.as("replyId"),
+                        post.id.as("postId"),
+                        post.title.as("postTitle"),
+                        member.id.as("memberId"),
+                        member.nickname.as("memberNickname"),
+                        reply.content,
+                        reply.likeCnt,
+                        reply.isDelete,
+                        reply.regDate))
+                .from(reply)
+                .join(reply.member, member)
+                .join(reply.post, post)
+                .where(
+                        replyFilter(condition),
+                        cursorCondition(sort, condition.getCursor(), reply.id, countPath)
+                )
+                .orderBy(orderBy(sort, reply.id, countPath))
+                .limit(size + 1)
+                .fetch();
+    }
+
+    /**
+     * 게시글 신고 목록 (검색 : 신고 내용, 게시글 제목, 신고자 닉네임)
+     */
+    public List<AdminReportPostSummaryDto> searchReportPosts(AdminSearchDto condition, int size) {
+        AdminSort sort = condition.getSort();
+
+        return queryFactory
+                .select(Projections.fields(AdminReportPostSummaryDto.class,
+                        reportPost.id.as("reportPostId"),
+                        post.id.as("postId"),
+                        post.title.as("postTitle"),
+                        member.id.as("memberId"),
+                        member.nickname.as("memberNickname"),
+                        reportPost.reportCategory,
+                        reportPost.description,
+                        reportPost.isAccept,
+                        reportPost.isDelete,
+                        reportPost.regDate))
+                .from(reportPost)
+                .join(reportPost.member, member)
+                .join(reportPost.post, post)
+                .where(
+                        reportPostFilter(condition),
+                        cursorCondition(sort, condition.getCursor(), reportPost.id, countPath(sort, null, null))
+                )
+                .orderBy(orderBy(sort, reportPost.id, null))
+                .limit(size + 1)
+                .fetch();
+    }
+
+    /**
+     * 고수 정보 목록 (검색 : 닉네임, 회사명, 활동 지역)
+     */
+    public List<AdminGuruInfoSummaryDto> searchGuruInfos(AdminSearchDto condition, int size) {
+        AdminSort sort = condition.getSort();
+
+        return queryFactory
+                .select(Projections.fields(AdminGuruInfoSummaryDto.class,
+                        guruInfo.id.as("guruInfoId"),
+                        member.id.as("memberId"),
+                        member.nickname.as("memberNickname"),
+                        guruInfo.companyName,
+                        guruInfo.position,
+                        guruInfo.workArea,
+                        guruInfo.isDelete,
+                        guruInfo.regDate))
+                .from(guruInfo)
+                .join(guruInfo.member, member)
+                .where(
+                        notDeleted(guruInfo.isDelete, condition),
+                        keywordContains(condition.getKeyword(), member.nickname, guruInfo.companyName, guruInfo.workArea),
+                        idEq(member.id, condition.getMemberId()),
+                        idEq(member.skill.id, condition.getSkillId()),
+                        cursorCondition(sort, condition.getCursor(), guruInfo.id, countPath(sort, null, null))
+                )
+                .orderBy(orderBy(sort, guruInfo.id, null))
+                .limit(size + 1)
+                .fetch();
+    }
+
+    /**
+     * 스킬 목록 (검색 : 이름)
+     */
+    public List<AdminSkillSummaryDto> searchSkills(AdminSearchDto condition, int size) {
+        AdminSort sort = condition.getSort();
+
+        return queryFactory
+                .select(Projections.fields(AdminSkillSummaryDto.class,
+                        skill.id.as("skillId"),
+                        skill.name,
+                        skill.isDelete,
+                        skill.regDate))
+                .from(skill)
+                .where(
+                        notDeleted(skill.isDelete, condition),
+                        keywordContains(condition.getKeyword(), skill.name),
+                        cursorCondition(sort, condition.getCursor(), skill.id, countPath(sort, null, null))
+                )
+                .orderBy(orderBy(sort, skill.id, null))
+                .limit(size + 1)
+                .fetch();
+    }
+
+    /**
+     * 일괄 처리 대상 id 를 id 오름차순으로 size 건씩 조회 (목록 조회와 같은 조건 사용)
+     * 이전 청크의 마지막 id 이후부터 조회하므로 처리 중 상태가 바뀌어도 같은 행을 다시 읽지 않는다.
+     */
+    public List<Long> findBulkTargetIds(AdminBulkTarget target, AdminSearchDto condition, Long lastId, int size) {
+        JPAQuery<Long> query = switch (target) {
+            case MEMBER -> queryFactory
+                    .select(member.id)
+                    .from(member)
+                    .where(memberFilter(condition), gtLastId(member.id, lastId))
+                    .orderBy(member.id.asc());
+            case POST -> queryFactory
+                    .select(post.id)
+                    .from(post)
+                    .join(post.member, member)
+                    .where(postFilter(condition), gtLastId(post.id, lastId))
+                    .orderBy(post.id.asc());
+            case REPLY -> queryFactory
+                    .select(reply.id)
+                    .from(reply)
+                    .join(reply.member, member)
+                    .join(reply.post, post)
+                    .where(replyFilter(condition), gtLastId(reply.id, lastId))
+                    .orderBy(reply.id.asc());
+            case REVIEW -> queryFactory
+                    .select(review.id)
+                    .from(review)
+                    .where(
+                            notDeleted(review.isDelete, condition),
+                            keywordContains(condition.getKeyword(), review.content),
+                            idEq(review.user.id, condition.getMemberId()),
+                            gtLastId(review.id, lastId)
+                    )
+                    .orderBy(review.id.asc());
+            case REPORT_POST -> queryFactory
+                    .select(reportPost.id)
+                    .from(reportPost)
+                    .join(reportPost.member, member)
+                    .join(reportPost.post, post)
+                    .where(reportPostFilter(condition), gtLastId(reportPost.id, lastId))
+                    .orderBy(reportPost.id.asc());
+            case REPORT_REPLY -> queryFactory
+                    .select(reportReply.id)
+                    .from(reportReply)
+                    .join(reportReply.member, member)
+                    .where(
+                            notDeleted(reportReply.isDelete, condition),
+                            keywordContains(condition.getKeyword(), reportReply.description, member.nickname),
+                            condition.getReportCategory() == null ? null : reportReply.reportCategory.eq(condition.getReportCategory()),
+                            condition.getAccepted() == null ? null : reportReply.isAccept.eq(condition.getAccepted()),
+                            idEq(member.id, condition.getMemberId()),
+                            gtLastId(reportReply.id, lastId)
+                    )
+                    .orderBy(reportReply.id.asc());
+        };
+
+        return query.limit(size).fetch();
+    }
+
+    /**
+     * 목록 마지막 항목으로 다음 페이지 cursor 생성
+     * count 는 집계 컬럼 정렬일 때 해당 컬럼 값 (id 정렬이면 무시)
+     */
+    public static String toCursor(AdminSort sort, Long count, Long id) {
+        return sort.isCountSort() ? count + CURSOR_DELIMITER + id : String.valueOf(id);
+    }
+
+    // 정렬 기준에 해당하는 집계 컬럼 (목록에 없는 컬럼으로 정렬을 요청하면 예외)
+    private NumberPath<Long> countPath(AdminSort sort, NumberPath<Long> viewCnt, NumberPath<Long> likeCnt) {
+        NumberPath<Long> countPath = switch (sort) {
+            case MOST_VIEWED -> viewCnt;
+            case MOST_LIKED -> likeCnt;
+            default -> null;
+        };
+
+        if (sort.isCountSort() && countPath == null) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_ADMIN_SORT_NOT_SUPPORTED);
+        }
+
+        return countPath;
+    }
+
+    private OrderSpecifier<?>[] orderBy(AdminSort sort, NumberPath<Long> id, NumberPath<Long> countPath) {
+        if (countPath != null) {
+            return new OrderSpecifier<?>[]{countPath.desc(), id.desc()};
+        }
+
+        return new OrderSpecifier<?>[]{sort == AdminSort.OLDEST ? id.asc() : id.desc()};
+    }
+
+    /**
+     * cursor 이후 항목 조건
+     * 집계 컬럼 정렬은 (값, id) 내림차순이므로 값이 작거나, 값이 같고 id 가 작은 항목
+     */
+    private BooleanExpression cursorCondition(AdminSort sort, String cursor, NumberPath<Long> id, NumberPath<Long> countPath) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+
+        try {
+            if (countPath == null) {
+                long cursorId = Long.parseLong(cursor);
+
+                return sort == AdminSort.OLDEST ? id.gt(cursorId) : id.lt(cursorId);
+            }
+
+            int index = cursor.indexOf(CURSOR_DELIMITER);
+
+            if (index < 0) {
+                throw new IllegalArgumentException(ResponseStatus.FAIL_ADMIN_CURSOR_INVALID);
+            }
+
+            long cursorCount = Long.parseLong(cursor.substring(0, index));
+            long cursorId = Long.parseLong(cursor.substring(index + 1));
+
+            return countPath.lt(cursorCount)
+                    .or(countPath.eq(cursorCount).and(id.lt(cursorId)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_ADMIN_CURSOR_INVALID);
+        }
+    }
+
+    private BooleanExpression memberFilter(AdminSearchDto condition) {
+        return Expressions.allOf(
+                notDeleted(member.isDelete, condition),
+                keywordContains(condition.getKeyword(), member.email, member.name, member.nickname, member.telephone),
+                roleEq(condition.getRole()),
+                idEq(member.skill.id, condition.getSkillId())
+        );
+    }
+
+    private BooleanExpression postFilter(AdminSearchDto condition) {
+        return Expressions.allOf(
+                notDeleted(post.isDelete, condition),
+                keywordContains(condition.getKeyword(), post.title, member.nickname),
+                postCategoryEq(condition.getPostCategory()),
+                idEq(member.id, condition.getMemberId()),
+                idEq(member.skill.id, condition.getSkillId())
+        );
+    }
+
+    private BooleanExpression replyFilter(AdminSearchDto condition) {
+        return Expressions.allOf(
+                notDeleted(reply.isDelete, condition),
+                keywordContains(condition.getKeyword(), reply.content, member.nickname),
+                idEq(member.id, condition.getMemberId()),
+                idEq(post.id, condition.getPostId())
+        );
+    }
+
+    private BooleanExpression reportPostFilter(AdminSearchDto condition) {
+        return Expressions.allOf(
+                notDeleted(reportPost.isDelete, condition),
+                keywordContains(condition.getKeyword(), reportPost.description, post.title, member.nickname),
+                reportCategoryEq(condition.getReportCategory()),
+                acceptedEq(condition.getAccepted()),
+                idEq(member.id, condition.getMemberId()),
+                idEq(post.id, condition.getPostId())
+        );
+    }
+
+    private BooleanExpression gtLastId(NumberPath<Long> id, Long lastId) {
+        return lastId == null ? null : id.gt(lastId);
+    }
+
+    private BooleanExpression notDeleted(BooleanPath isDelete, AdminSearchDto condition) {
+        return condition.isIncludeDeleted() ? null : isDelete.isFalse();
+    }
+
+    private BooleanExpression keywordContains(String keyword, StringPath... columns) {
+        if (!StringUtils.hasText(keyword)) {
+            return null;
+        }
+
+        String text = keyword.trim();
+        BooleanExpression expression = null;
+
+        for (StringPath column : columns) {
+            expression = expression == null ? column.contains(text) : expression.or(column.contains(text));
+        }
+
+        return expression;
+    }
+
+    private BooleanExpression idEq(NumberPath<Long> path, Long id) {
+        return id == null ? null : path.eq(id);
+    }
+
+    private BooleanExpression roleEq(Role role) {
+        return role == null ? null : member.role.eq(role);
+    }
+
+    private BooleanExpression postCategoryEq(PostCategory postCategory) {
+        return postCategory == null ? null : post.postCategory.eq(postCategory);
+    }
+
+    private BooleanExpression reportCategoryEq(ReportCategory reportCategory) {
+        return reportCategory == null ? null : reportPost.reportCategory.eq(reportCategory);
+    }
+
+    private BooleanExpression acceptedEq(Boolean accepted) {
+        return accepted == null ? null : reportPost.isAccept.eq(accepted);
+    }
+
+}
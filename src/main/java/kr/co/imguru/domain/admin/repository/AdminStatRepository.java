@@ -0,0 +1,109 @@
+package kr.co.imguru.domain.admin.repository;
+
+import kr.co.imguru.domain.admin.entity.AdminStat;
+import kr.co.imguru.global.common.AdminMetric;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface AdminStatRepository extends JpaRepository<AdminStat, Long> {
+
+    // 지표 행이 없으면 생성, 있으면 증감분만 누적 (행 단위 원자적 갱신)
+    @Modifying
+    @Query(value = "INSERT INTO admin_stat (stat_metric, stat_key, stat_value) " +
+            "VALUES (:metric, :statKey, :delta) " +
+            "ON DUPLICATE KEY UPDATE stat_value = stat_value + VALUES(stat_value)", nativeQuery = true)
+    int accumulate(String metric, String statKey, long delta);
+
+    @Modifying
+    @Query("DELETE FROM AdminStat s " +
+            "WHERE s.metric = :metric")
+    int deleteByMetric(AdminMetric metric);
+
+    // 일별 지표는 재계산 기간(fromKey 이후)만 삭제
+    @Modifying
+    @Query("DELETE FROM AdminStat s " +
+            "WHERE s.metric = :metric " +
+            "AND s.statKey >= :fromKey")
+    int deleteByMetricFrom(AdminMetric metric, String fromKey);
+
+    /*
+     * 정확한 값 재계산 (삭제되지 않은 행 기준)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO admin_stat (stat_metric, stat_key, stat_value) " +
+            "SELECT 'MEMBER_ROLE', m.member_role, COUNT(*) FROM member m " +
+            "WHERE m.is_delete = 0 " +
+            "GROUP BY m.member_role", nativeQuery = true)
+    int recomputeMemberRole();
+
+    @Modifying
+    @Query(value = "INSERT INTO admin_stat (stat_metric, stat_key, stat_value) " +
+            "SELECT 'MEMBER_SKILL', CAST(m.skill_id AS CHAR), COUNT(*) FROM member m " +
+            "WHERE m.is_delete = 0 AND m.skill_id IS NOT NULL " +
+            "GROUP BY m.skill_id", nativeQuery = true)
+    int recomputeMemberSkill();
+
+    // 가입 수는 탈퇴 여부와 관계없이 가입일 기준
+    @Modifying
+    @Query(value = "INSERT INTO admin_stat (stat_metric, stat_key, stat_value) " +
+            "SELECT 'MEMBER_SIGNUP', DATE_FORMAT(m.reg_date, '%Y%m%d'), COUNT(*) FROM member m " +
+            "WHERE m.reg_date >= :from " +
+            "GROUP BY DATE_FORMAT(m.reg_date, '%Y%m%d')", nativeQuery = true)
+    int recomputeMemberSignup(LocalDateTime from);
+
+    @Modifying
+    @Query(value = "INSERT INTO admin_stat (stat_metric, stat_key, stat_value) " +
+            "SELECT 'POST_CATEGORY', p.post_category, COUNT(*) FROM post p " +
+            "WHERE p.is_delete = 0 " +
+            "GROUP BY p.post_category", nativeQuery = true)
+    int recomputePostCategory();
+
+    @Modifying
+    @Query(value = "INSERT INTO admin_stat (stat_metric, stat_key, stat_value) " +
+            "SELECT 'REPLY', 'ALL', COUNT(*) FROM reply r " +
+            "WHERE r.is_delete = 0", nativeQuery = true)
+    int recomputeReply();
+
+    @Modifying
+    @Query(value = "INSERT INTO admin_stat (stat_metric, stat_key, stat_value) " +
+            "SELECT 'REVIEW', 'ALL', COUNT(*) FROM review r " +
+            "WHERE r.is_delete = 0", nativeQuery = true)
+    int recomputeReview();
+
+    @Modifying
+    @Query(value = "INSERT INTO admin_stat (stat_metric, stat_key, stat_value) " +
+            "SELECT 'REPORT_OPEN', 'POST', COUNT(*) FROM report_post r " +
+            "WHERE r.is_accept = 0 AND r.is_delete = 0 " +
+            "UNION ALL " +
+            "SELECT 'REPORT_OPEN', 'REPLY', COUNT(*) FROM report_reply r " +
+            "WHERE r.is_accept = 0 AND r.is_delete = 0", nativeQuery = true)
+    int recomputeReportOpen();
+
+    /*
+     * 결제 완료(P), 취소 요청(R), 취소(C) 건을 결제로, 취소(C) 건을 취소로 집계 (pay_daily_rollup 과 같은 기준)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO admin_stat (stat_metric, stat_key, stat_value) " +
+            "SELECT 'PAY_APPROVED', p.tr_day, COUNT(*) FROM pay p " +
+            "WHERE p.tr_day >= :fromKey AND p.pay_status IN ('P', 'R', 'C') " +
+            "GROUP BY p.tr_day " +
+            "UNION ALL " +
+            "SELECT 'PAY_APPROVED_AMOUNT', p.tr_day, SUM(p.tr_price) FROM pay p " +
+            "WHERE p.tr_day >= :fromKey AND p.pay_status IN ('P', 'R', 'C') " +
+            "GROUP BY p.tr_day " +
+            "UNION ALL " +
+            "SELECT 'PAY_CANCELED', p.tr_day, COUNT(*) FROM pay p " +
+            "WHERE p.tr_day >= :fromKey AND p.pay_status = 'C' " +
+            "GROUP BY p.tr_day " +
+            "UNION ALL " +
+            "SELECT 'PAY_CANCELED_AMOUNT', p.tr_day, SUM(p.tr_price) FROM pay p " +
+            "WHERE p.tr_day >= :fromKey AND p.pay_status = 'C' " +
+            "GROUP BY p.tr_day", nativeQuery = true)
+    int recomputePay(String fromKey);
+
+}
@@ -0,0 +1,310 @@
+package kr.co.imguru.domain.admin.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.imguru.domain.admin.dto.AdminBulkDto;
+import kr.co.imguru.domain.admin.dto.AdminBulkRunDto;
+import kr.co.imguru.domain.admin.dto.AdminSearchDto;
+import kr.co.imguru.domain.admin.entity.AdminBulkRun;
+import kr.co.imguru.domain.admin.repository.AdminBulkRunRepository;
+import kr.co.imguru.domain.admin.repository.AdminSearchRepository;
+import kr.co.imguru.domain.guru.service.GuruRegionIndex;
+import kr.co.imguru.domain.member.repository.MemberRepository;
+import kr.co.imguru.domain.post.repository.PostRepository;
+import kr.co.imguru.domain.reply.repository.ReplyRepository;
+import kr.co.imguru.domain.report.repository.ReportPostRepository;
+import kr.co.imguru.domain.report.repository.ReportReplyRepository;
+import kr.co.imguru.domain.report.service.ReportMembershipFilter;
+import kr.co.imguru.domain.review.repository.ReviewRepository;
+import kr.co.imguru.global.common.AdminBulkAction;
+import kr.co.imguru.global.common.AdminBulkTarget;
+import kr.co.imguru.global.common.PostCategory;
+import kr.co.imguru.global.exception.IllegalArgumentException;
+import kr.co.imguru.global.exception.NotFoundException;
+import kr.co.imguru.global.model.ResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 관리자 일괄 처리 작업 (삭제/복구/신고 처리/카테고리 변경)
+ * - 대상 id 를 chunk-size 단위로 나누어 청크마다 한 번의 set-based UPDATE/DELETE 를 별도 트랜잭션으로 실행
+ *   (엔티티를 읽어 한 건씩 변경하지 않으므로 청크당 쿼리 수가 일정하고, 잠금도 청크 단위로만 잡힌다.)
+ * - 조건으로 요청하면 처리할 id 를 id 오름차순 keyset 으로 청크마다 조회
+ * - 청크가 끝날 때마다 진행 상황을 admin_bulk_run 에 저장
+ * - 벌크 UPDATE 는 이벤트를 발행하지 않으므로 작업이 끝나면 대시보드 지표를 재계산하고,
+ *   회원 변경 시 고수 지역 색인을, 신고/게시글/댓글 변경 시 신고 처리 대기열을 다시 만든다.
+ */
+@Slf4j
+@Component
+public class AdminBulkJob {
+
+    private final AdminSearchRepository adminSearchRepository;
+
+    private final AdminBulkRunRepository adminBulkRunRepository;
+
+    private final MemberRepository memberRepository;
+
+    private final PostRepository postRepository;
+
+    private final ReplyRepository replyRepository;
+
+    private final ReviewRepository reviewRepository;
+
+    private final ReportPostRepository reportPostRepository;
+
+    private final ReportReplyRepository reportReplyRepository;
+
+    private final AdminMetricStore adminMetricStore;
+
+    private final GuruRegionIndex guruRegionIndex;
+
+    private final ReportModerationQueue reportModerationQueue;
+
+    private final ReportMembershipFilter reportMembershipFilter;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "admin-bulk"));
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final int chunkSize;
+
+    private final int maxIds;
+
+    public AdminBulkJob(AdminSearchRepository adminSearchRepository,
+                        AdminBulkRunRepository adminBulkRunRepository,
+                        MemberRepository memberRepository,
+                        PostRepository postRepository,
+                        ReplyRepository replyRepository,
+                        ReviewRepository reviewRepository,
+                        ReportPostRepository reportPostRepository,
+                        ReportReplyRepository reportReplyRepository,
+                        AdminMetricStore adminMetricStore,
+                        GuruRegionIndex guruRegionIndex,
+                        ReportModerationQueue reportModerationQueue,
+                        ReportMembershipFilter reportMembershipFilter,
+                        RedisTemplate<String, Object> redisTemplate,
+                        TransactionTemplate transactionTemplate,
+                        @Value("${admin.bulk.chunk-size:500}") int chunkSize,
+                        @Value("${admin.bulk.max-ids:10000}") int maxIds) {
+        this.adminSearchRepository = adminSearchRepository;
+        this.adminBulkRunRepository = adminBulkRunRepository;
+        this.memberRepository = memberRepository;
+        this.postRepository = postRepository;
+        this.replyRepository = replyRepository;
+        this.reviewRepository = reviewRepository;
+        this.reportPostRepository = reportPostRepository;
+        this.reportReplyRepository = reportReplyRepository;
+        this.adminMetricStore = adminMetricStore;
+        this.guruRegionIndex = guruRegionIndex;
+        this.reportModerationQueue = reportModerationQueue;
+        this.reportMembershipFilter = reportMembershipFilter;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * 일괄 처리 시작 (한 번에 하나의 작업만 실행)
+     * 요청을 검증하고 실행 이력을 저장한 뒤 바로 반환하며, 진행 상황은 getRun 으로 조회한다.
+     */
+    public AdminBulkRunDto start(AdminBulkTarget target, AdminBulkDto dto) {
+        isValidRequest(target, dto);
+
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_ADMIN_BULK_RUNNING);
+        }
+
+        try {
+            List<Long> ids = dto.hasIds() ? dto.getIds().stream().distinct().sorted().toList() : null;
+
+            AdminBulkRun saved = adminBulkRunRepository.save(AdminBulkRun.builder()
+                    .target(target)
+                    .action(dto.getAction())
+                    .totalCount(ids == null ? null : (long) ids.size())
+                    .build());
+
+            AdminSearchDto condition = ids == null ? dto.toCondition() : null;
+
+            runner.execute(() -> execute(saved, ids, condition, dto.getChangeCategory()));
+
+            return toRunDto(saved);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    public AdminBulkRunDto getRun(Long runId) {
+        return adminBulkRunRepository.findById(runId)
+                .map(this::toRunDto)
+                .orElseThrow(() -> new NotFoundException(ResponseStatus.FAIL_ADMIN_BULK_RUN_NOT_FOUND));
+    }
+
+    private void execute(AdminBulkRun run, List<Long> ids, AdminSearchDto condition, PostCategory changeCategory) {
+        AdminBulkTarget target = run.getTarget();
+        AdminBulkAction action = run.getAction();
+        int offset = 0;
+
+        try {
+            while (true) {
+                List<Long> chunk;
+
+                if (ids != null) {
+                    chunk = ids.subList(offset, Math.min(offset + chunkSize, ids.size()));
+                    offset += chunk.size();
+                } else {
+                    chunk = adminSearchRepository.findBulkTargetIds(target, condition, run.getLastId(), chunkSize);
+                }
+
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                Integer affected = transactionTemplate.execute(status ->
+                        apply(target, action, chunk, changeCategory, LocalDateTime.now()));
+
+                evictCache(target, action, chunk);
+
+                run.checkpoint(chunk.get(chunk.size() - 1), chunk.size(), affected == null ? 0 : affected);
+                run = adminBulkRunRepository.save(run);
+            }
+
+            run.complete();
+            run = adminBulkRunRepository.save(run);
+
+            log.info("[AdminBulk] run {} completed : {} {} processed={}, affected={}",
+                    run.getId(), run.getTarget(), run.getAction(), run.getProcessedCount(), run.getAffectedCount());
+        } catch (RuntimeException e) {
+            stop(run, e.getMessage());
+        } finally {
+            refresh(run);
+            running.set(false);
+        }
+    }
+
+    // 청크 하나를 한 번의 UPDATE/DELETE 로 처리 (변경된 행 수 반환)
+    private int apply(AdminBulkTarget target, AdminBulkAction action, List<Long> ids, PostCategory changeCategory, LocalDateTime now) {
+        return switch (target) {
+            case MEMBER -> action == AdminBulkAction.SOFT_DELETE
+                    ? memberRepository.softDeleteAllByIdIn(ids, now)
+                    : memberRepository.restoreAllByIdIn(ids, now);
+            case POST -> switch (action) {
+                case SOFT_DELETE -> postRepository.softDeleteAllByIdIn(ids, now);
+                case RESTORE -> postRepository.restoreAllByIdIn(ids, now);
+                default -> postRepository.changeCategoryAllByIdIn(ids, changeCategory, now);
+            };
+            case REPLY -> action == AdminBulkAction.SOFT_DELETE
+                    ? replyRepository.softDeleteAllByIdIn(ids, now)
+                    : replyRepository.restoreAllByIdIn(ids, now);
+            case REVIEW -> action == AdminBulkAction.SOFT_DELETE
+                    ? reviewRepository.softDeleteAllByIdIn(ids, now)
+                    : reviewRepository.restoreAllByIdIn(ids, now);
+            case REPORT_POST -> action == AdminBulkAction.ACCEPT
+                    ? reportPostRepository.acceptAllByIdIn(ids, now)
+                    : reportPostRepository.deleteAllByIdIn(ids);
+            case REPORT_REPLY -> action == AdminBulkAction.ACCEPT
+                    ? reportReplyRepository.acceptAllByIdIn(ids, now)
+                    : reportReplyRepository.deleteAllByIdIn(ids);
+        };
+    }
+
+    // 삭제된 게시글의 조회수 캐시 제거 (Redis 장애 시 만료에 맡김)
+    private void evictCache(AdminBulkTarget target, AdminBulkAction action, List<Long> ids) {
+        if (target != AdminBulkTarget.POST || action != AdminBulkAction.SOFT_DELETE) {
+            return;
+        }
+
+        try {
+            redisTemplate.delete(ids.stream().map(id -> "postId::" + id).toList());
+        } catch (RedisConnectionFailureException e) {
+            log.warn("[AdminBulk] view cache eviction skipped : {}", e.getMessage());
+        }
+    }
+
+    // 처리 중 실패해도 이미 커밋된 청크가 있으므로 지표/색인은 항상 갱신
+    private void refresh(AdminBulkRun run) {
+        if (run.getAffectedCount() == 0) {
+            return;
+        }
+
+        try {
+            adminMetricStore.recompute();
+
+            if (run.getTarget() == AdminBulkTarget.MEMBER) {
+                guruRegionIndex.rebuild();
+            } else if (run.getTarget() != AdminBulkTarget.REVIEW) {
+                // 신고 처리/삭제, 게시글/댓글 숨김 상태 변경
+                reportModerationQueue.rebuild();
+            }
+
+            // 영구 삭제된 신고는 다시 신고할 수 있음
+            if (run.getAction() == AdminBulkAction.HARD_DELETE) {
+                reportMembershipFilter.clear();
+            }
+        } catch (RuntimeException e) {
+            log.error("[AdminBulk] run {} refresh failed", run.getId(), e);
+        }
+    }
+
+    private void stop(AdminBulkRun run, String message) {
+        log.warn("[AdminBulk] run {} stopped at id {} : {}", run.getId(), run.getLastId(), message);
+
+        run.fail(message);
+        adminBulkRunRepository.save(run);
+    }
+
+    private void isValidRequest(AdminBulkTarget target, AdminBulkDto dto) {
+        if (!target.supports(dto.getAction())) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_ADMIN_BULK_ACTION_NOT_SUPPORTED);
+        }
+
+        if (dto.getAction() == AdminBulkAction.CHANGE_CATEGORY && dto.getChangeCategory() == null) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_ADMIN_BULK_ACTION_NOT_SUPPORTED);
+        }
+
+        // 조건 없이 전체를 대상으로 하는 요청은 허용하지 않음
+        if (!dto.hasIds() && !dto.hasCondition()) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_ADMIN_BULK_TARGET_EMPTY);
+        }
+
+        if (dto.hasIds() && dto.getIds().size() > maxIds) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_ADMIN_BULK_TOO_MANY_IDS);
+        }
+    }
+
+    private AdminBulkRunDto toRunDto(AdminBulkRun run) {
+        return AdminBulkRunDto.builder()
+                .runId(run.getId())
+                .target(String.valueOf(run.getTarget()))
+                .action(String.valueOf(run.getAction()))
+                .status(String.valueOf(run.getStatus()))
+                .totalCount(run.getTotalCount())
+                .lastId(run.getLastId())
+                .processedCount(run.getProcessedCount())
+                .affectedCount(run.getAffectedCount())
+                .message(run.getMessage())
+                .startedAt(run.getRegDate())
+                .finishedAt(run.getFinishedAt())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+}
@@ -0,0 +1,176 @@
+package kr.co.imguru.domain.admin.service;
+
+import jdk.jfr.consumer.*;
+import kr.co.imguru.domain.admin.dto.AdminJfrSummaryDto;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * JFR 기록 파일 요약 (파일을 한 번 읽으며 집계)
+ * - 할당 : jdk.ObjectAllocationSample 의 weight(추정 할당 byte)를 할당 위치 + 클래스별로 합산
+ * - CPU : jdk.ExecutionSample 을 실행 중이던 메서드(최상위 프레임)별로 계수
+ * - 락 경합 : jdk.JavaMonitorEnter (synchronized 진입 대기), jdk.ThreadPark (java.util.concurrent 락 대기)
+ *   ThreadPark 의 최상위 프레임은 항상 LockSupport / Unsafe 이므로 JDK 락 내부 프레임은 건너뛴 위치로 묶는다.
+ */
+final class AdminJfrAnalyzer {
+
+    private static final List<String> PARK_INTERNAL_PREFIXES =
+            List.of("jdk.internal.", "java.util.concurrent.locks.", "java.util.concurrent.CompletableFuture$Signaller");
+
+    private AdminJfrAnalyzer() {
+    }
+
+    static AdminJfrSummaryDto summarize(long recordingId, Path path, int top) throws IOException {
+        Map<Key, Stat> allocations = new HashMap<>();
+        Map<Key, Stat> executions = new HashMap<>();
+        Map<Key, Stat> locks = new HashMap<>();
+
+        long eventCount = 0;
+        Instant first = null;
+        Instant last = null;
+
+        try (RecordingFile file = new RecordingFile(path)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                eventCount++;
+
+                if (first == null || event.getStartTime().isBefore(first)) {
+                    first = event.getStartTime();
+                }
+
+                if (last == null || event.getEndTime().isAfter(last)) {
+                    last = event.getEndTime();
+                }
+
+                switch (event.getEventType().getName()) {
+                    case "jdk.ObjectAllocationSample" -> add(allocations,
+                            new Key(site(event.getStackTrace(), List.of()), className(event.getClass("objectClass")), null),
+                            event.getLong("weight"));
+                    case "jdk.ExecutionSample" -> add(executions,
+                            new Key(site(event.getStackTrace(), List.of()), null, null), 1);
+                    case "jdk.JavaMonitorEnter" -> add(locks,
+                            new Key(site(event.getStackTrace(), List.of()), className(event.getClass("monitorClass")), "MONITOR"),
+                            event.getDuration().toNanos());
+                    case "jdk.ThreadPark" -> add(locks,
+                            new Key(site(event.getStackTrace(), PARK_INTERNAL_PREFIXES), className(event.getClass("parkedClass")), "PARK"),
+                            event.getDuration().toNanos());
+                    default -> {
+                        // 요약 대상 아님
+                    }
+                }
+            }
+        }
+
+        return AdminJfrSummaryDto.builder()
+                .recordingId(recordingId)
+                .eventCount(eventCount)
+                .durationMillis(first == null ? 0 : Duration.between(first, last).toMillis())
+                .allocationSites(allocationSites(allocations, top))
+                .hotMethods(hotMethods(executions, top))
+                .lockContention(lockSites(locks, top))
+                .build();
+    }
+
+    private static List<AdminJfrSummaryDto.AllocationSite> allocationSites(Map<Key, Stat> allocations, int top) {
+        long total = allocations.values().stream().mapToLong(stat -> stat.total).sum();
+
+        return topByTotal(allocations, top).stream()
+                .map(entry -> AdminJfrSummaryDto.AllocationSite.builder()
+                        .site(entry.getKey().site())
+                        .objectClass(entry.getKey().detail())
+                        .bytes(entry.getValue().total)
+                        .percent(percent(entry.getValue().total, total))
+                        .build())
+                .toList();
+    }
+
+    private static List<AdminJfrSummaryDto.HotMethod> hotMethods(Map<Key, Stat> executions, int top) {
+        long total = executions.values().stream().mapToLong(stat -> stat.total).sum();
+
+        return topByTotal(executions, top).stream()
+                .map(entry -> AdminJfrSummaryDto.HotMethod.builder()
+                        .method(entry.getKey().site())
+                        .samples(entry.getValue().total)
+                        .percent(percent(entry.getValue().total, total))
+                        .build())
+                .toList();
+    }
+
+    private static List<AdminJfrSummaryDto.LockSite> lockSites(Map<Key, Stat> locks, int top) {
+        return topByTotal(locks, top).stream()
+                .map(entry -> AdminJfrSummaryDto.LockSite.builder()
+                        .site(entry.getKey().site())
+                        .lockClass(entry.getKey().detail())
+                        .kind(entry.getKey().kind())
+                        .count(entry.getValue().count)
+                        .totalMillis(entry.getValue().total / 1_000_000.0)
+                        .maxMillis(entry.getValue().max / 1_000_000.0)
+                        .build())
+                .toList();
+    }
+
+    private static List<Map.Entry<Key, Stat>> topByTotal(Map<Key, Stat> stats, int top) {
+        return stats.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Key, Stat> entry) -> entry.getValue().total).reversed())
+                .limit(top)
+                .toList();
+    }
+
+    private static void add(Map<Key, Stat> stats, Key key, long value) {
+        Stat stat = stats.computeIfAbsent(key, ignored -> new Stat());
+        stat.count++;
+        stat.total += value;
+        stat.max = Math.max(stat.max, value);
+    }
+
+    // 건너뛸 패키지를 제외한 첫 프레임 (클래스.메서드:라인), 모두 건너뛰면 최상위 프레임
+    private static String site(RecordedStackTrace stackTrace, List<String> skipPrefixes) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "(unknown)";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+
+            if (skipPrefixes.stream().noneMatch(type::startsWith)) {
+                return format(frame);
+            }
+        }
+
+        return format(frames.get(0));
+    }
+
+    private static String format(RecordedFrame frame) {
+        RecordedMethod method = frame.getMethod();
+        String name = method.getType().getName() + "." + method.getName();
+
+        return frame.getLineNumber() > 0 ? name + ":" + frame.getLineNumber() : name;
+    }
+
+    private static String className(RecordedClass recordedClass) {
+        return recordedClass == null ? null : recordedClass.getName();
+    }
+
+    private static double percent(long value, long total) {
+        return total == 0 ? 0 : Math.round(value * 1000.0 / total) / 10.0;
+    }
+
+    private record Key(String site, String detail, String kind) {
+    }
+
+    private static final class Stat {
+
+        private long count;
+
+        private long total;
+
+        private long max;
+    }
+
+}
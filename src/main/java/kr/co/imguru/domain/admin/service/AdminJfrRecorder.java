@@ -0,0 +1,311 @@
+package kr.co.imguru.domain.admin.service;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import kr.co.imguru.domain.admin.dto.AdminJfrRecordingDto;
+import kr.co.imguru.domain.admin.dto.AdminJfrStartDto;
+import kr.co.imguru.domain.admin.dto.AdminJfrSummaryDto;
+import kr.co.imguru.global.common.JfrSettings;
+import kr.co.imguru.global.exception.IllegalArgumentException;
+import kr.co.imguru.global.exception.NotFoundException;
+import kr.co.imguru.global.model.ResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 관리자 JFR(Java Flight Recorder) 기록
+ * - 동시에 하나만 기록, 기록 시간은 max-duration-seconds 이하로만 허용하고 지정 시간이 지나면 JVM 이 스스로 종료
+ *   (운영 중 켜 둔 채 잊어도 부하가 계속되지 않도록), 파일 크기는 max-size-mb 로 제한
+ * - 종료된 기록은 monitoring.jfr.directory 에 .jfr 로 남고 최근 keep 개만 보관 (요약 분석 중인 파일은 분석이 끝난 뒤 삭제)
+ * - 자동 종료는 다음 조회 / 시작 요청 때 반영 (JFR 리스너 콜백에서 잠금을 잡지 않기 위해)
+ */
+@Slf4j
+@Component
+public class AdminJfrRecorder {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private static final int MAX_TOP = 50;
+
+    private final Path directory;
+
+    private final long maxDurationSeconds;
+
+    private final long maxSizeBytes;
+
+    private final int keep;
+
+    // 기록 id -> 기록 (시작 순)
+    private final Map<Long, Entry> recordings = new LinkedHashMap<>();
+
+    private Entry active;
+
+    public AdminJfrRecorder(@Value("${monitoring.jfr.directory:./jfr}") String directory,
+                            @Value("${monitoring.jfr.max-duration-seconds:300}") long maxDurationSeconds,
+                            @Value("${monitoring.jfr.max-size-mb:256}") long maxSizeMb,
+                            @Value("${monitoring.jfr.keep:5}") int keep) {
+        this.directory = Paths.get(directory).toAbsolutePath();
+        this.maxDurationSeconds = maxDurationSeconds;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.keep = Math.max(keep, 1);
+    }
+
+    public synchronized AdminJfrRecordingDto start(AdminJfrStartDto startDto) {
+        refreshActive();
+
+        if (active != null) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_ADMIN_JFR_RUNNING);
+        }
+
+        long durationSeconds = startDto.getDurationSeconds();
+
+        if (durationSeconds < 1 || durationSeconds > maxDurationSeconds) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_ADMIN_JFR_DURATION_INVALID);
+        }
+
+        JfrSettings settings = startDto.getSettings() == null ? JfrSettings.DEFAULT : startDto.getSettings();
+
+        Recording recording;
+
+        try {
+            Files.createDirectories(directory);
+            recording = new Recording(Configuration.getConfiguration(settings.getConfigName()));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR 설정을 불러올 수 없습니다. : " + settings.getConfigName(), e);
+        }
+
+        String name = "imguru-" + LocalDateTime.now().format(FILE_TIME) + "-" + recording.getId();
+        Path path = directory.resolve(name + ".jfr");
+
+        try {
+            recording.setName(name);
+            recording.setToDisk(true);
+            recording.setMaxSize(maxSizeBytes);
+            recording.setDuration(Duration.ofSeconds(durationSeconds));
+            recording.setDestination(path);
+            recording.setDumpOnExit(true);  // 기록 중 종료되어도 파일은 남김
+            recording.start();
+        } catch (IOException | RuntimeException e) {
+            recording.close();
+            throw new IllegalStateException("JFR 기록을 시작할 수 없습니다.", e);
+        }
+
+        Entry entry = new Entry(recording, name, settings, durationSeconds, path);
+        recordings.put(entry.id, entry);
+        active = entry;
+
+        log.info("[JFR] started {} ({}, {}s)", name, settings.getConfigName(), durationSeconds);
+
+        return toDto(entry);
+    }
+
+    public synchronized AdminJfrRecordingDto stop() {
+        refreshActive();
+
+        if (active == null) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_ADMIN_JFR_NOT_RUNNING);
+        }
+
+        Entry entry = active;
+        entry.recording.stop();     // destination 에 파일 기록
+        finish(entry);
+
+        return toDto(entry);
+    }
+
+    public synchronized List<AdminJfrRecordingDto> getRecordings() {
+        refreshActive();
+
+        List<AdminJfrRecordingDto> result = new ArrayList<>();
+        recordings.values().forEach(entry -> result.add(toDto(entry)));
+        Collections.reverse(result);
+
+        return result;
+    }
+
+    /**
+     * 종료된 기록 파일 경로
+     */
+    public synchronized Path getFile(Long recordingId) {
+        return finishedEntry(recordingId).path;
+    }
+
+    /**
+     * 기록 요약 (파일 분석은 잠금 밖에서, 같은 top 이면 이전 결과 재사용)
+     * 분석하는 동안은 readers 로 표시해 prune() 이 파일을 지우지 않도록 한다.
+     */
+    public AdminJfrSummaryDto getSummary(Long recordingId, int top) {
+        int limit = Math.max(1, Math.min(top, MAX_TOP));
+        Entry entry;
+
+        synchronized (this) {
+            entry = finishedEntry(recordingId);
+
+            if (entry.summary != null && entry.summaryTop == limit) {
+                return entry.summary;
+            }
+
+            entry.readers++;
+        }
+
+        AdminJfrSummaryDto summary = null;
+
+        try {
+            summary = AdminJfrAnalyzer.summarize(entry.id, entry.path, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            synchronized (this) {
+                entry.readers--;
+
+                if (summary != null) {
+                    entry.summary = summary;
+                    entry.summaryTop = limit;
+                }
+
+                // 분석 중이라 남겨 둔 기록 정리
+                prune();
+            }
+        }
+
+        return summary;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (active != null && active.recording.getState() == RecordingState.RUNNING) {
+            active.recording.stop();
+            finish(active);
+        }
+    }
+
+    private Entry finishedEntry(Long recordingId) {
+        refreshActive();
+
+        Entry entry = recordings.get(recordingId);
+
+        if (entry == null || !Files.exists(entry.path) && entry != active) {
+            throw new NotFoundException(ResponseStatus.FAIL_ADMIN_JFR_RECORDING_NOT_FOUND);
+        }
+
+        if (entry == active) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_ADMIN_JFR_NOT_FINISHED);
+        }
+
+        return entry;
+    }
+
+    // 지정 시간이 지나 JVM 이 종료한 기록 정리
+    private void refreshActive() {
+        if (active != null) {
+            RecordingState state = active.recording.getState();
+
+            if (state == RecordingState.STOPPED || state == RecordingState.CLOSED) {
+                finish(active);
+            }
+        }
+    }
+
+    private void finish(Entry entry) {
+        entry.stoppedAt = LocalDateTime.now();
+
+        try {
+            entry.fileSize = Files.exists(entry.path) ? Files.size(entry.path) : 0;
+        } catch (IOException e) {
+            log.warn("[JFR] size check failed : {}", entry.path, e);
+        }
+
+        entry.recording.close();
+        active = null;
+
+        log.info("[JFR] finished {} ({} bytes)", entry.name, entry.fileSize);
+
+        prune();
+    }
+
+    // 오래된 기록부터 파일과 함께 삭제 (기록 중 / 요약 분석 중인 기록은 건너뜀)
+    private void prune() {
+        Iterator<Entry> iterator = recordings.values().iterator();
+
+        while (recordings.size() > keep && iterator.hasNext()) {
+            Entry entry = iterator.next();
+
+            if (entry == active || entry.readers > 0) {
+                continue;
+            }
+
+            iterator.remove();
+
+            try {
+                Files.deleteIfExists(entry.path);
+            } catch (IOException e) {
+                log.warn("[JFR] delete failed : {}", entry.path, e);
+            }
+        }
+    }
+
+    private AdminJfrRecordingDto toDto(Entry entry) {
+        return AdminJfrRecordingDto.builder()
+                .recordingId(entry.id)
+                .name(entry.name)
+                .settings(entry.settings)
+                .durationSeconds(entry.durationSeconds)
+                .running(entry == active)
+                .startedAt(entry.startedAt)
+                .stoppedAt(entry.stoppedAt)
+                .fileSize(entry.fileSize)
+                .build();
+    }
+
+    private static final class Entry {
+
+        private final Recording recording;
+
+        private final long id;
+
+        private final String name;
+
+        private final JfrSettings settings;
+
+        private final long durationSeconds;
+
+        private final Path path;
+
+        private final LocalDateTime startedAt = LocalDateTime.now();
+
+        private LocalDateTime stoppedAt;
+
+        private long fileSize;
+
+        private AdminJfrSummaryDto summary;
+
+        private int summaryTop;
+
+        // 요약 분석 중인 요청 수 (잠금 안에서만 변경)
+        private int readers;
+
+        Entry(Recording recording, String name, JfrSettings settings, long durationSeconds, Path path) {
+            this.recording = recording;
+            this.id = recording.getId();
+            this.name = name;
+            this.settings = settings;
+            this.durationSeconds = durationSeconds;
+            this.path = path;
+        }
+    }
+
+}
@@ -0,0 +1,9 @@
+package kr.co.imguru.domain.admin.service;
+
+import kr.co.imguru.global.common.AdminMetric;
+
+/**
+ * 대시보드 지표 증감 이벤트 (트랜잭션 커밋 후 AdminMetricStore 에 반영)
+ */
+public record AdminMetricEvent(AdminMetric metric, String statKey, long delta) {
+}
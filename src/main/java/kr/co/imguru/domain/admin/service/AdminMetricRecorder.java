@@ -0,0 +1,139 @@
+package kr.co.imguru.domain.admin.service;
+
+import kr.co.imguru.domain.member.entity.Member;
+import kr.co.imguru.domain.pay.entity.Pay;
+import kr.co.imguru.domain.post.entity.Post;
+import kr.co.imguru.domain.skill.entity.Skill;
+import kr.co.imguru.global.common.AdminMetric;
+import kr.co.imguru.global.common.PostCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+/**
+ * 도메인 쓰기 경로에서 대시보드 지표 증감을 기록
+ * 이벤트로 발행하므로 롤백된 트랜잭션의 변경은 반영되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminMetricRecorder {
+
+    public static final String REPORT_POST = "POST";
+
+    public static final String REPORT_REPLY = "REPLY";
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void memberJoined(Member member) {
+        changeMember(member, 1);
+        publish(AdminMetric.MEMBER_SIGNUP, LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE), 1);
+    }
+
+    public void memberLeft(Member member) {
+        changeMember(member, -1);
+    }
+
+    public void memberSkillChanged(Skill before, Skill after) {
+        Long beforeId = before == null ? null : before.getId();
+        Long afterId = after == null ? null : after.getId();
+
+        if (Objects.equals(beforeId, afterId)) {
+            return;
+        }
+
+        if (beforeId != null) {
+            publish(AdminMetric.MEMBER_SKILL, String.valueOf(beforeId), -1);
+        }
+        if (afterId != null) {
+            publish(AdminMetric.MEMBER_SKILL, String.valueOf(afterId), 1);
+        }
+    }
+
+    public void postCreated(Post post) {
+        publish(AdminMetric.POST_CATEGORY, post.getPostCategory().name(), 1);
+    }
+
+    public void postRemoved(Post post) {
+        publish(AdminMetric.POST_CATEGORY, post.getPostCategory().name(), -1);
+    }
+
+    public void postCategoryChanged(PostCategory before, PostCategory after) {
+        if (before == after) {
+            return;
+        }
+
+        publish(AdminMetric.POST_CATEGORY, before.name(), -1);
+        publish(AdminMetric.POST_CATEGORY, after.name(), 1);
+    }
+
+    public void replyCreated() {
+        publish(AdminMetric.REPLY, AdminMetric.ALL, 1);
+    }
+
+    public void replyRemoved() {
+        publish(AdminMetric.REPLY, AdminMetric.ALL, -1);
+    }
+
+    public void reviewCreated() {
+        publish(AdminMetric.REVIEW, AdminMetric.ALL, 1);
+    }
+
+    public void reviewRemoved() {
+        publish(AdminMetric.REVIEW, AdminMetric.ALL, -1);
+    }
+
+    // reportType : REPORT_POST / REPORT_REPLY
+    public void reportOpened(String reportType) {
+        publish(AdminMetric.REPORT_OPEN, reportType, 1);
+    }
+
+    public void reportClosed(String reportType) {
+        reportClosed(reportType, 1);
+    }
+
+    public void reportClosed(String reportType, int count) {
+        if (count > 0) {
+            publish(AdminMetric.REPORT_OPEN, reportType, -count);
+        }
+    }
+
+    // 승인(A -> P) / 취소(R -> C) 전이, 거래일(tr_day) 기준
+    public void payApproved(Pay pay) {
+        String trDay = toTrDay(pay);
+
+        publish(AdminMetric.PAY_APPROVED, trDay, 1);
+        publish(AdminMetric.PAY_APPROVED_AMOUNT, trDay, toAmount(pay));
+    }
+
+    public void payCanceled(Pay pay) {
+        String trDay = toTrDay(pay);
+
+        publish(AdminMetric.PAY_CANCELED, trDay, 1);
+        publish(AdminMetric.PAY_CANCELED_AMOUNT, trDay, toAmount(pay));
+    }
+
+    private void changeMember(Member member, long delta) {
+        publish(AdminMetric.MEMBER_ROLE, member.getRole().name(), delta);
+
+        if (member.getSkill() != null) {
+            publish(AdminMetric.MEMBER_SKILL, String.valueOf(member.getSkill().getId()), delta);
+        }
+    }
+
+    private String toTrDay(Pay pay) {
+        return pay.getTrDay() == null ? LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) : pay.getTrDay();
+    }
+
+    private long toAmount(Pay pay) {
+        return pay.getTrPrice() == null ? 0 : pay.getTrPrice();
+    }
+
+    private void publish(AdminMetric metric, String statKey, long delta) {
+        eventPublisher.publishEvent(new AdminMetricEvent(metric, statKey, delta));
+    }
+
+}
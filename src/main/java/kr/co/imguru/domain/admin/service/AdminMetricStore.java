@@ -0,0 +1,199 @@
+package kr.co.imguru.domain.admin.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.imguru.domain.admin.dto.AdminDashboardDto;
+import kr.co.imguru.domain.admin.entity.AdminStat;
+import kr.co.imguru.domain.admin.repository.AdminStatRepository;
+import kr.co.imguru.global.common.AdminMetric;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 관리자 대시보드 지표 저장소
+ * - 쓰기 경로의 증감은 LongAdder 카운터에만 더하고 (lock 없음), 대시보드는 메모리 값만 읽는다.
+ * - 증감분은 flush-interval 마다 admin_stat 에 누적하고, 매일 원본 테이블에서 정확한 값으로 재계산한다.
+ * - 재적재 순간에 들어온 증감이 메모리 값에서 빠질 수 있으나 DB 에는 누적되므로 다음 재적재 때 보정된다.
+ */
+@Slf4j
+@Component
+public class AdminMetricStore {
+
+    private final AdminStatRepository adminStatRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int recomputeDays;
+
+    private final int dashboardDays;
+
+    // 현재 값 (DB 값 + 이후 증감)
+    private volatile Map<MetricKey, LongAdder> values = new ConcurrentHashMap<>();
+
+    // 아직 DB 에 누적하지 않은 증감분
+    private final Map<MetricKey, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime flushedAt;
+
+    private volatile LocalDateTime recomputedAt;
+
+    public AdminMetricStore(AdminStatRepository adminStatRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${admin.metric.recompute-days:3}") int recomputeDays,
+                            @Value("${admin.metric.dashboard-days:30}") int dashboardDays) {
+        this.adminStatRepository = adminStatRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.recomputeDays = recomputeDays;
+        this.dashboardDays = dashboardDays;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMetric(AdminMetricEvent event) {
+        MetricKey key = new MetricKey(event.metric(), event.statKey());
+
+        values.computeIfAbsent(key, k -> new LongAdder()).add(event.delta());
+        pending.computeIfAbsent(key, k -> new LongAdder()).add(event.delta());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        // 처음 배포되어 지표가 없으면 원본 테이블에서 계산
+        if (adminStatRepository.count() == 0) {
+            recompute();
+            return;
+        }
+
+        reload();
+
+        log.info("[AdminMetricStore] loaded {} metrics", values.size());
+    }
+
+    @Scheduled(fixedDelayString = "${admin.metric.flush-interval:10000}", initialDelayString = "${admin.metric.flush-interval:10000}")
+    public synchronized void flush() {
+        Map<MetricKey, Long> deltas = new HashMap<>();
+
+        pending.forEach((key, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(key, delta);
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    deltas.forEach((key, delta) -> adminStatRepository.accumulate(key.metric().name(), key.statKey(), delta)));
+
+            flushedAt = LocalDateTime.now();
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 누적
+            deltas.forEach((key, delta) -> pending.computeIfAbsent(key, k -> new LongAdder()).add(delta));
+            log.error("[AdminMetricStore] flush failed, {} metrics kept", deltas.size(), e);
+        }
+    }
+
+    /**
+     * 정확한 값으로 재계산 후 메모리 값 재적재
+     * 일별 지표는 최근 recompute-days 일만 재계산한다.
+     */
+    @Scheduled(cron = "${admin.metric.recompute-cron:0 0 4 * * *}")
+    public synchronized void recompute() {
+        flush();
+
+        long startedAt = System.currentTimeMillis();
+        LocalDate from = LocalDate.now().minusDays(recomputeDays - 1L);
+        String fromKey = from.format(DateTimeFormatter.BASIC_ISO_DATE);
+
+        Integer rows = transactionTemplate.execute(status -> {
+            for (AdminMetric metric : AdminMetric.values()) {
+                if (metric.isDaily()) {
+                    adminStatRepository.deleteByMetricFrom(metric, fromKey);
+                } else {
+                    adminStatRepository.deleteByMetric(metric);
+                }
+            }
+
+            return adminStatRepository.recomputeMemberRole()
+                    + adminStatRepository.recomputeMemberSkill()
+                    + adminStatRepository.recomputeMemberSignup(from.atStartOfDay())
+                    + adminStatRepository.recomputePostCategory()
+                    + adminStatRepository.recomputeReply()
+                    + adminStatRepository.recomputeReview()
+                    + adminStatRepository.recomputeReportOpen()
+                    + adminStatRepository.recomputePay(fromKey);
+        });
+
+        reload();
+        recomputedAt = LocalDateTime.now();
+
+        log.info("[AdminMetricStore] recomputed {} rows in {} ms", rows, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 대시보드 조회 (DB 조회 없이 메모리 값만 사용)
+     * 일별 지표는 최근 dashboard-days 일만 반환
+     */
+    public AdminDashboardDto snapshot() {
+        String fromKey = LocalDate.now().minusDays(dashboardDays - 1L).format(DateTimeFormatter.BASIC_ISO_DATE);
+        Map<AdminMetric, Map<String, Long>> metrics = new EnumMap<>(AdminMetric.class);
+
+        for (AdminMetric metric : AdminMetric.values()) {
+            metrics.put(metric, new TreeMap<>());
+        }
+
+        values.forEach((key, adder) -> {
+            if (!key.metric().isDaily() || key.statKey().compareTo(fromKey) >= 0) {
+                metrics.get(key.metric()).put(key.statKey(), adder.sum());
+            }
+        });
+
+        return AdminDashboardDto.builder()
+                .metrics(metrics)
+                .flushedAt(flushedAt)
+                .recomputedAt(recomputedAt)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // DB 값 + 아직 누적하지 않은 증감분으로 메모리 값 교체 (flush 이후 호출)
+    private void reload() {
+        String fromKey = LocalDate.now().minusDays(dashboardDays - 1L).format(DateTimeFormatter.BASIC_ISO_DATE);
+        Map<MetricKey, LongAdder> reloaded = new ConcurrentHashMap<>();
+
+        for (AdminStat stat : adminStatRepository.findAll()) {
+            if (stat.getMetric().isDaily() && stat.getStatKey().compareTo(fromKey) < 0) {
+                continue;
+            }
+
+            reloaded.computeIfAbsent(new MetricKey(stat.getMetric(), stat.getStatKey()), k -> new LongAdder()).add(stat.getStatValue());
+        }
+
+        pending.forEach((key, adder) -> reloaded.computeIfAbsent(key, k -> new LongAdder()).add(adder.sum()));
+
+        values = reloaded;
+    }
+
+    private record MetricKey(AdminMetric metric, String statKey) {
+    }
+
+}
@@ -1,7 +1,15 @@
 package kr.co.imguru.domain.admin.service;
 
 import kr.co.imguru.domain.admin.dto.*;
-
+import kr.co.imguru.domain.pay.dto.PayReconcileRunDto;
+import kr.co.imguru.domain.pay.dto.PayRollupDto;
+import kr.co.imguru.domain.pay.dto.PayRollupRebuildDto;
+import kr.co.imguru.global.common.AdminBulkTarget;
+import kr.co.imguru.global.common.ReportTarget;
+import kr.co.imguru.global.common.RollupDimension;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.List;
 
 public interface AdminService {
@@ -111,5 +119,75 @@ public interface AdminService {
     // Message - CRUD
 
 
+    // Dashboard
+    AdminDashboardDto getDashboard();
+
+    AdminDashboardDto recomputeDashboard();
+
+
+    // Latency - 서비스 메서드 응답 시간 히스토그램
+    AdminServiceLatencyDto getServiceLatency();
+
+    AdminServiceLatencyDto resetServiceLatency();
+
+
+    // Query Stats - API 별 요청당 SQL 수 / 행 수 / DB 시간, N+1 의심 요청
+    AdminQueryStatsDto getQueryStats();
+
+    AdminQueryStatsDto resetQueryStats();
+
+
+    // Moderation - 신고 처리 대기열 (대상별 신고 묶음, 우선순위 순)
+    AdminModerationItemDto getNextModerationItem();
+
+    AdminSliceDto<AdminModerationItemDto> getModerationQueue(String cursor, Integer size);
+
+    int resolveReports(ReportTarget target, Long targetId);
+
+
+    // Bulk - 일괄 처리 (비동기 실행, 진행 상황 조회)
+    AdminBulkRunDto startBulk(AdminBulkTarget target, AdminBulkDto dto);
+
+    AdminBulkRunDto getBulkRun(Long runId);
+
+
+    // JFR - 기록 시작/종료 (시간 상한, 동시에 하나), 기록 파일 / 요약 조회
+    AdminJfrRecordingDto startJfr(AdminJfrStartDto dto);
+
+    AdminJfrRecordingDto stopJfr();
+
+    List<AdminJfrRecordingDto> getJfrRecordings();
+
+    Path getJfrFile(Long recordingId);
+
+    AdminJfrSummaryDto getJfrSummary(Long recordingId, int top);
+
+
+    // Revenue - 고수 / 스킬 / 게시글별 일별 매출 집계 조회, 기간 재계산
+    List<PayRollupDto> getDailyRollups(RollupDimension dimension, Long targetId, LocalDate from, LocalDate to);
+
+    PayRollupRebuildDto rebuildRollups(LocalDate from, LocalDate to);
+
+
+    // Pay Reconcile - 결제 대사 실행 (이어서 실행 가능), 진행 상황 조회
+    PayReconcileRunDto startPayReconcile(boolean resume);
+
+    PayReconcileRunDto getPayReconcileRun(Long runId);
+
+
+    // Search - cursor 페이징 목록 (검색/필터/정렬)
+    AdminSliceDto<AdminMemberSummaryDto> searchMembers(AdminSearchDto condition);
+
+    AdminSliceDto<AdminPostSummaryDto> searchPosts(AdminSearchDto condition);
+
+    AdminSliceDto<AdminReplySummaryDto> searchReplies(AdminSearchDto condition);
+
+    AdminSliceDto<AdminReportPostSummaryDto> searchReportPosts(AdminSearchDto condition);
+
+    AdminSliceDto<AdminGuruInfoSummaryDto> searchGuruInfos(AdminSearchDto condition);
+
+    AdminSliceDto<AdminSkillSummaryDto> searchSkills(AdminSearchDto condition);
+
+
 
 }
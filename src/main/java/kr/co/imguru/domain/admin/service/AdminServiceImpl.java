@@ -2,11 +2,18 @@ package kr.co.imguru.domain.admin.service;
 
 import jakarta.transaction.Transactional;
 import kr.co.imguru.domain.admin.dto.*;
+import kr.co.imguru.domain.admin.repository.AdminSearchRepository;
 import kr.co.imguru.domain.guru.entity.GuruInfo;
 import kr.co.imguru.domain.guru.repository.GuruInfoRepository;
 import kr.co.imguru.domain.guru.repository.GuruInfoSearchRepository;
+import kr.co.imguru.domain.guru.service.GuruInfoChangedEvent;
 import kr.co.imguru.domain.member.entity.Member;
 import kr.co.imguru.domain.member.repository.MemberRepository;
+import kr.co.imguru.domain.pay.dto.PayReconcileRunDto;
+import kr.co.imguru.domain.pay.dto.PayRollupDto;
+import kr.co.imguru.domain.pay.dto.PayRollupRebuildDto;
+import kr.co.imguru.domain.pay.service.PayReconcileJob;
+import kr.co.imguru.domain.pay.service.PayRollupService;
 import kr.co.imguru.domain.post.entity.Post;
 import kr.co.imguru.domain.post.repository.PostRepository;
 import kr.co.imguru.domain.post.repository.PostSearchRepository;
@@ -19,26 +26,42 @@ import kr.co.imguru.domain.report.repository.ReportPostRepository;
 import kr.co.imguru.domain.report.repository.ReportPostSearchRepository;
 import kr.co.imguru.domain.report.repository.ReportReplyRepository;
 import kr.co.imguru.domain.report.repository.ReportReplySearchRepository;
+import kr.co.imguru.domain.report.service.ReportClosedEvent;
 import kr.co.imguru.domain.review.entity.Review;
 import kr.co.imguru.domain.review.repository.ReviewRepository;
 import kr.co.imguru.domain.review.repository.ReviewSearchRepository;
 import kr.co.imguru.domain.skill.entity.Skill;
 import kr.co.imguru.domain.skill.repository.SkillRepository;
+import kr.co.imguru.global.aop.ServiceLatencyRecorder;
+import kr.co.imguru.global.common.AdminBulkTarget;
+import kr.co.imguru.global.common.AdminSort;
+import kr.co.imguru.global.common.ReportTarget;
+import kr.co.imguru.global.common.PostCategory;
 import kr.co.imguru.global.common.Role;
+import kr.co.imguru.global.common.RollupDimension;
 import kr.co.imguru.global.exception.DuplicatedException;
 import kr.co.imguru.global.exception.NotFoundException;
 import kr.co.imguru.global.model.ResponseStatus;
+import kr.co.imguru.global.query.QueryStatsRecorder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 public class AdminServiceImpl implements AdminService {
 
+    private static final int MAX_SLICE_SIZE = 100;
+
     private final PasswordEncoder passwordEncoder;
 
     private final MemberRepository memberRepository;
@@ -69,6 +92,28 @@ public class AdminServiceImpl implements AdminService {
 
     private final ReviewSearchRepository reviewSearchRepository;
 
+    private final AdminSearchRepository adminSearchRepository;
+
+    private final AdminMetricStore adminMetricStore;
+
+    private final AdminMetricRecorder adminMetricRecorder;
+
+    private final AdminBulkJob adminBulkJob;
+
+    private final AdminJfrRecorder adminJfrRecorder;
+
+    private final PayRollupService payRollupService;
+
+    private final PayReconcileJob payReconcileJob;
+
+    private final ReportModerationQueue reportModerationQueue;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ServiceLatencyRecorder serviceLatencyRecorder;
+
+    private final QueryStatsRecorder queryStatsRecorder;
+
 
     @Override
     @Transactional
@@ -122,11 +167,23 @@ public class AdminServiceImpl implements AdminService {
         Optional<Member> member = memberRepository.findById(memberId);
         isMember(member);
 
+        Skill beforeSkill = member.get().getSkill();
+
         member.get().changeMemberByAdmin(dto, passwordEncoder.encode(dto.getPassword()),
                 skillRepository.findByNameAndIsDeleteFalse(dto.getSkillName()).get());
 
+        if (!member.get().isDelete()) {
+            adminMetricRecorder.memberSkillChanged(beforeSkill, member.get().getSkill());
+        }
+
         memberRepository.save(member.get());
 
+        // 스킬이 바뀌면 고수 지역 인덱스 갱신 (커밋 후)
+        if (isSkillChanged(beforeSkill, member.get().getSkill())) {
+            guruInfoSearchRepository.findGuruInfoByMemberId(memberId)
+                    .ifPresent(guruInfo -> eventPublisher.publishEvent(new GuruInfoChangedEvent(guruInfo.getId())));
+        }
+
         return memberId;
     }
 
@@ -137,7 +194,14 @@ public class AdminServiceImpl implements AdminService {
 
         isMember(member);
 
+        guruInfoSearchRepository.findGuruInfoByMemberId(memberId)
+                .ifPresent(guruInfo -> eventPublisher.publishEvent(new GuruInfoChangedEvent(guruInfo.getId())));
+
         memberRepository.delete(member.get());
+
+        if (!member.get().isDelete()) {
+            adminMetricRecorder.memberLeft(member.get());
+        }
     }
 
     @Override
@@ -166,6 +230,8 @@ public class AdminServiceImpl implements AdminService {
 
         guruInfoRepository.save(guruInfo.get());
 
+        eventPublisher.publishEvent(new GuruInfoChangedEvent(guruInfoId));
+
         return guruInfoId;
     }
 
@@ -176,6 +242,8 @@ public class AdminServiceImpl implements AdminService {
         isGuruInfo(guruInfo);
 
         guruInfoRepository.delete(guruInfo.get());
+
+        eventPublisher.publishEvent(new GuruInfoChangedEvent(guruInfoId));
     }
 
     @Override
@@ -294,8 +362,14 @@ public class AdminServiceImpl implements AdminService {
 
         isPost(post);
 
+        PostCategory beforeCategory = post.get().getPostCategory();
+
         post.get().changePost(dto);
 
+        if (!post.get().isDelete()) {
+            adminMetricRecorder.postCategoryChanged(beforeCategory, post.get().getPostCategory());
+        }
+
         postRepository.save(post.get());
 
         return postId;
@@ -309,6 +383,10 @@ public class AdminServiceImpl implements AdminService {
         isPost(post);
 
         postRepository.delete(post.get());
+
+        if (!post.get().isDelete()) {
+            adminMetricRecorder.postRemoved(post.get());
+        }
     }
 
     @Override
@@ -370,6 +448,10 @@ public class AdminServiceImpl implements AdminService {
         isReply(reply);
 
         replyRepository.delete(reply.get());
+
+        if (!reply.get().isDelete()) {
+            adminMetricRecorder.replyRemoved();
+        }
     }
 
     @Override
@@ -408,6 +490,12 @@ public class AdminServiceImpl implements AdminService {
         isReportPost(reportPost);
 
         reportPostRepository.delete(reportPost.get());
+
+        if (!reportPost.get().isAccept() && !reportPost.get().isDelete()) {
+            adminMetricRecorder.reportClosed(AdminMetricRecorder.REPORT_POST);
+            eventPublisher.publishEvent(new ReportClosedEvent(ReportTarget.POST, reportPost.get().getPost().getId(),
+                    reportPost.get().getMember().getId(), reportPost.get().getReportCategory()));
+        }
     }
 
     @Override
@@ -446,6 +534,12 @@ public class AdminServiceImpl implements AdminService {
         isReportReply(reportReply);
 
         reportReplyRepository.delete(reportReply.get());
+
+        if (!reportReply.get().isAccept() && !reportReply.get().isDelete()) {
+            adminMetricRecorder.reportClosed(AdminMetricRecorder.REPORT_REPLY);
+            eventPublisher.publishEvent(new ReportClosedEvent(ReportTarget.REPLY, reportReply.get().getReply().getId(),
+                    reportReply.get().getMember().getId(), reportReply.get().getReportCategory()));
+        }
     }
 
     @Override
@@ -497,12 +591,250 @@ public class AdminServiceImpl implements AdminService {
         isReview(review);
 
         reviewRepository.delete(review.get());
+
+        if (!review.get().isDelete()) {
+            adminMetricRecorder.reviewRemoved();
+        }
+    }
+
+    @Override
+    public AdminDashboardDto getDashboard() {
+        return adminMetricStore.snapshot();
+    }
+
+    @Override
+    public AdminDashboardDto recomputeDashboard() {
+        adminMetricStore.recompute();
+
+        return adminMetricStore.snapshot();
+    }
+
+    @Override
+    public AdminServiceLatencyDto getServiceLatency() {
+        return AdminServiceLatencyDto.builder()
+                .since(serviceLatencyRecorder.getResetAt())
+                .methods(serviceLatencyRecorder.snapshot()
+                        .stream()
+                        .map(snapshot -> AdminServiceLatencyDto.MethodLatency.builder()
+                                .name(snapshot.name())
+                                .count(snapshot.count())
+                                .mean(snapshot.meanMillis())
+                                .p50(snapshot.p50Millis())
+                                .p95(snapshot.p95Millis())
+                                .p99(snapshot.p99Millis())
+                                .max(snapshot.maxMillis())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    // 초기화 직전 값을 반환
+    @Override
+    public AdminServiceLatencyDto resetServiceLatency() {
+        AdminServiceLatencyDto latency = getServiceLatency();
+
+        serviceLatencyRecorder.reset();
+
+        return latency;
+    }
+
+    @Override
+    public AdminQueryStatsDto getQueryStats() {
+        return AdminQueryStatsDto.builder()
+                .since(queryStatsRecorder.getResetAt())
+                .endpoints(queryStatsRecorder.snapshot()
+                        .stream()
+                        .map(snapshot -> AdminQueryStatsDto.EndpointQueryStats.builder()
+                                .endpoint(snapshot.endpoint())
+                                .requests(snapshot.requests())
+                                .totalStatements(snapshot.totalStatements())
+                                .avgStatements(snapshot.avgStatements())
+                                .maxStatements(snapshot.maxStatements())
+                                .avgRows(snapshot.avgRows())
+                                .avgDbMillis(snapshot.avgDbMillis())
+                                .nPlusOneCount(snapshot.nPlusOneCount())
+                                .repeatedSql(snapshot.repeatedSql())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    @Override
+    public AdminQueryStatsDto resetQueryStats() {
+        AdminQueryStatsDto queryStats = getQueryStats();
+
+        queryStatsRecorder.reset();
+
+        return queryStats;
+    }
+
+    @Override
+    public AdminModerationItemDto getNextModerationItem() {
+        return reportModerationQueue.peek();
+    }
+
+    @Override
+    public AdminSliceDto<AdminModerationItemDto> getModerationQueue(String cursor, Integer size) {
+        int sliceSize = toSliceSize(size == null ? 20 : size);
+
+        return toSliceDto(reportModerationQueue.page(cursor, sliceSize), sliceSize, ReportModerationQueue::toCursor);
+    }
+
+    /**
+     * 대상의 미처리 신고를 모두 처리 완료로 변경하고 대기열에서 제외 (처리한 신고 수 반환)
+     */
+    @Override
+    @Transactional
+    public int resolveReports(ReportTarget target, Long targetId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        int resolved = target == ReportTarget.POST
+                ? reportPostRepository.acceptAllByPostId(targetId, now)
+                : reportReplyRepository.acceptAllByReplyId(targetId, now);
+
+        adminMetricRecorder.reportClosed(target == ReportTarget.POST ? AdminMetricRecorder.REPORT_POST : AdminMetricRecorder.REPORT_REPLY, resolved);
+        eventPublisher.publishEvent(new ReportClosedEvent(target, targetId, null, null));
+
+        return resolved;
     }
 
+    @Override
+    public AdminBulkRunDto startBulk(AdminBulkTarget target, AdminBulkDto dto) {
+        return adminBulkJob.start(target, dto);
+    }
 
+    @Override
+    public AdminBulkRunDto getBulkRun(Long runId) {
+        return adminBulkJob.getRun(runId);
+    }
 
+    @Override
+    public AdminJfrRecordingDto startJfr(AdminJfrStartDto dto) {
+        return adminJfrRecorder.start(dto);
+    }
 
+    @Override
+    public AdminJfrRecordingDto stopJfr() {
+        return adminJfrRecorder.stop();
+    }
 
+    @Override
+    public List<AdminJfrRecordingDto> getJfrRecordings() {
+        return adminJfrRecorder.getRecordings();
+    }
+
+    @Override
+    public Path getJfrFile(Long recordingId) {
+        return adminJfrRecorder.getFile(recordingId);
+    }
+
+    @Override
+    public AdminJfrSummaryDto getJfrSummary(Long recordingId, int top) {
+        return adminJfrRecorder.getSummary(recordingId, top);
+    }
+
+    @Override
+    public List<PayRollupDto> getDailyRollups(RollupDimension dimension, Long targetId, LocalDate from, LocalDate to) {
+        return payRollupService.getDailyRollups(dimension, targetId, from, to);
+    }
+
+    @Override
+    public PayRollupRebuildDto rebuildRollups(LocalDate from, LocalDate to) {
+        return payRollupService.rebuild(from, to);
+    }
+
+    @Override
+    public PayReconcileRunDto startPayReconcile(boolean resume) {
+        return payReconcileJob.start(resume);
+    }
+
+    @Override
+    public PayReconcileRunDto getPayReconcileRun(Long runId) {
+        return payReconcileJob.getRun(runId);
+    }
+
+    @Override
+    @Transactional
+    public AdminSliceDto<AdminMemberSummaryDto> searchMembers(AdminSearchDto condition) {
+        int sliceSize = toSliceSize(condition.getSize());
+
+        return toSliceDto(adminSearchRepository.searchMembers(condition, sliceSize), sliceSize,
+                dto -> AdminSearchRepository.toCursor(condition.getSort(), null, dto.getMemberId()));
+    }
+
+    @Override
+    @Transactional
+    public AdminSliceDto<AdminPostSummaryDto> searchPosts(AdminSearchDto condition) {
+        int sliceSize = toSliceSize(condition.getSize());
+        AdminSort sort = condition.getSort();
+
+        return toSliceDto(adminSearchRepository.searchPosts(condition, sliceSize), sliceSize,
+                dto -> AdminSearchRepository.toCursor(sort, sort == AdminSort.MOST_VIEWED ? dto.getViewCnt() : dto.getLikeCnt(), dto.getPostId()));
+    }
+
+    @Override
+    @Transactional
+    public AdminSliceDto<AdminReplySummaryDto> searchReplies(AdminSearchDto condition) {
+        int sliceSize = toSliceSize(condition.getSize());
+
+        return toSliceDto(adminSearchRepository.searchReplies(condition, sliceSize), sliceSize,
+                dto -> AdminSearchRepository.toCursor(condition.getSort(), dto.getLikeCnt(), dto.getReplyId()));
+    }
+
+    @Override
+    @Transactional
+    public AdminSliceDto<AdminReportPostSummaryDto> searchReportPosts(AdminSearchDto condition) {
+        int sliceSize = toSliceSize(condition.getSize());
+
+        return toSliceDto(adminSearchRepository.searchReportPosts(condition, sliceSize), sliceSize,
+                dto -> AdminSearchRepository.toCursor(condition.getSort(), null, dto.getReportPostId()));
+    }
+
+    @Override
+    @Transactional
+    public AdminSliceDto<AdminGuruInfoSummaryDto> searchGuruInfos(AdminSearchDto condition) {
+        int sliceSize = toSliceSize(condition.getSize());
+
+        return toSliceDto(adminSearchRepository.searchGuruInfos(condition, sliceSize), sliceSize,
+                dto -> AdminSearchRepository.toCursor(condition.getSort(), null, dto.getGuruInfoId()));
+    }
+
+    @Override
+    @Transactional
+    public AdminSliceDto<AdminSkillSummaryDto> searchSkills(AdminSearchDto condition) {
+        int sliceSize = toSliceSize(condition.getSize());
+
+        return toSliceDto(adminSearchRepository.searchSkills(condition, sliceSize), sliceSize,
+                dto -> AdminSearchRepository.toCursor(condition.getSort(), null, dto.getSkillId()));
+    }
+
+    private int toSliceSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+    }
+
+    // size + 1 건을 조회했으므로 초과분이 있으면 다음 페이지가 존재
+    private <T> AdminSliceDto<T> toSliceDto(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+
+        return AdminSliceDto.<T>builder()
+                .content(content)
+                .nextCursor(hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+
+
+
+
+
+    private boolean isSkillChanged(Skill before, Skill after) {
+        Long beforeId = before == null ? null : before.getId();
+        Long afterId = after == null ? null : after.getId();
+
+        return !Objects.equals(beforeId, afterId);
+    }
 
     private void isMember(Optional<Member> member) {
         if (member.isEmpty()) {
@@ -0,0 +1,265 @@
+package kr.co.imguru.domain.admin.service;
+
+import kr.co.imguru.domain.admin.dto.AdminModerationItemDto;
+import kr.co.imguru.domain.report.dto.ReportOpenRowDto;
+import kr.co.imguru.domain.report.repository.ReportPostSearchRepository;
+import kr.co.imguru.domain.report.repository.ReportReplySearchRepository;
+import kr.co.imguru.domain.report.service.ReportAutoHiddenEvent;
+import kr.co.imguru.domain.report.service.ReportClosedEvent;
+import kr.co.imguru.domain.report.service.ReportOpenedEvent;
+import kr.co.imguru.global.common.ReportCategory;
+import kr.co.imguru.global.common.ReportTarget;
+import kr.co.imguru.global.exception.IllegalArgumentException;
+import kr.co.imguru.global.model.ResponseStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 신고 처리 대기열 (게시글/댓글 단위로 미처리 신고를 묶어 우선순위 순으로 정렬한 인메모리 인덱스)
+ * - 우선순위 : 점수(신고 분류 가중치 합) 내림차순 -> 최초 신고 시각 오름차순 -> 대상 -> id
+ * - 신고 접수/처리 이벤트로 해당 항목만 갱신하므로 다음 항목 / 페이지 조회에 GROUP BY 조회가 없다.
+ * - 시작 시와 매일 rebuild-cron 에 미처리 신고로 다시 구성한다. (이벤트 없이 바뀐 데이터 보정)
+ *   재구성 조회와 교체 사이에 들어온 이벤트는 누락/중복될 수 있으나 다음 재구성 때 맞춰진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportModerationQueue {
+
+    private static final String CURSOR_DELIMITER = "_";
+
+    private final ReportPostSearchRepository reportPostSearchRepository;
+
+    private final ReportReplySearchRepository reportReplySearchRepository;
+
+    // 우선순위 순 정렬 (Item 의 정렬 값이 바뀔 때는 제거 후 다시 추가)
+    private final NavigableSet<Key> queue = new TreeSet<>();
+
+    private final Map<ItemId, Item> items = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${report.queue.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        List<ReportOpenRowDto> postRows = reportPostSearchRepository.findOpenReportRows();
+        List<ReportOpenRowDto> replyRows = reportReplySearchRepository.findOpenReportRows();
+
+        synchronized (this) {
+            queue.clear();
+            items.clear();
+
+            postRows.forEach(row -> load(ReportTarget.POST, row));
+            replyRows.forEach(row -> load(ReportTarget.REPLY, row));
+
+            items.values().forEach(item -> queue.add(item.key()));
+        }
+
+        log.info("[ReportModerationQueue] queued {} targets from {} reports", items.size(), postRows.size() + replyRows.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onOpened(ReportOpenedEvent event) {
+        ItemId itemId = new ItemId(event.target(), event.targetId());
+        Item item = items.get(itemId);
+
+        if (item == null) {
+            item = new Item(itemId, event.reportedAt());
+            items.put(itemId, item);
+        } else {
+            queue.remove(item.key());
+        }
+
+        item.add(event.memberId(), event.reportCategory(), event.reportedAt());
+        queue.add(item.key());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onClosed(ReportClosedEvent event) {
+        ItemId itemId = new ItemId(event.target(), event.targetId());
+        Item item = items.get(itemId);
+
+        if (item == null) {
+            return;
+        }
+
+        queue.remove(item.key());
+
+        if (event.memberId() != null) {
+            item.remove(event.memberId(), event.reportCategory());
+        }
+
+        if (event.memberId() == null || item.reportCount == 0) {
+            items.remove(itemId);
+            return;
+        }
+
+        queue.add(item.key());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onHidden(ReportAutoHiddenEvent event) {
+        ItemId itemId = event.postId() != null
+                ? new ItemId(ReportTarget.POST, event.postId())
+                : new ItemId(ReportTarget.REPLY, event.replyId());
+
+        Item item = items.get(itemId);
+        if (item != null) {
+            item.hidden = true;
+        }
+    }
+
+    /**
+     * 가장 먼저 처리할 항목 (없으면 null)
+     */
+    public synchronized AdminModerationItemDto peek() {
+        return queue.isEmpty() ? null : toDto(items.get(queue.first().itemId()));
+    }
+
+    /**
+     * cursor 이후 size + 1 건 (AdminServiceImpl.toSliceDto 로 다음 페이지 여부 판단)
+     */
+    public synchronized List<AdminModerationItemDto> page(String cursor, int size) {
+        NavigableSet<Key> view = cursor == null ? queue : queue.tailSet(parseCursor(cursor), false);
+        List<AdminModerationItemDto> content = new ArrayList<>(Math.min(size + 1, view.size()));
+
+        for (Key key : view) {
+            if (content.size() > size) {
+                break;
+            }
+            content.add(toDto(items.get(key.itemId())));
+        }
+
+        return content;
+    }
+
+    public synchronized int size() {
+        return items.size();
+    }
+
+    // score_최초신고시각(ms)_대상_id
+    public static String toCursor(AdminModerationItemDto dto) {
+        return dto.getScore() + CURSOR_DELIMITER + toMillis(dto.getFirstReportedAt())
+                + CURSOR_DELIMITER + dto.getTarget() + CURSOR_DELIMITER + dto.getTargetId();
+    }
+
+    private Key parseCursor(String cursor) {
+        String[] parts = cursor.split(CURSOR_DELIMITER);
+
+        try {
+            return new Key(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                    new ItemId(ReportTarget.valueOf(parts[2]), Long.parseLong(parts[3])));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_ADMIN_CURSOR_INVALID);
+        }
+    }
+
+    private void load(ReportTarget target, ReportOpenRowDto row) {
+        ItemId itemId = new ItemId(target, row.targetId());
+        Item item = items.computeIfAbsent(itemId, id -> new Item(id, row.regDate()));
+
+        item.add(row.memberId(), row.reportCategory(), row.regDate());
+        item.hidden = row.targetDeleted();
+    }
+
+    private AdminModerationItemDto toDto(Item item) {
+        Map<ReportCategory, Integer> categories = new EnumMap<>(ReportCategory.class);
+        for (ReportCategory category : ReportCategory.values()) {
+            if (item.categoryCounts[category.ordinal()] > 0) {
+                categories.put(category, item.categoryCounts[category.ordinal()]);
+            }
+        }
+
+        return AdminModerationItemDto.builder()
+                .target(item.itemId.target().name())
+                .targetId(item.itemId.targetId())
+                .score(item.score)
+                .reportCount(item.reportCount)
+                .reporterCount(item.reporterIds.size())
+                .categories(categories)
+                .hidden(item.hidden)
+                .firstReportedAt(item.firstReportedAt)
+                .lastReportedAt(item.lastReportedAt)
+                .build();
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record ItemId(ReportTarget target, Long targetId) {
+    }
+
+    private record Key(long score, long firstReportedAt, ItemId itemId) implements Comparable<Key> {
+
+        private static final Comparator<Key> ORDER = Comparator.comparingLong(Key::score).reversed()
+                .thenComparingLong(Key::firstReportedAt)
+                .thenComparing(key -> key.itemId().target())
+                .thenComparing(key -> key.itemId().targetId());
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    // 대상 1건의 미처리 신고 집계 (ReportModerationQueue 잠금 안에서만 변경)
+    private static class Item {
+
+        private final ItemId itemId;
+
+        private LocalDateTime firstReportedAt;
+
+        private final int[] categoryCounts = new int[ReportCategory.values().length];
+
+        private final Set<Long> reporterIds = new HashSet<>();
+
+        private LocalDateTime lastReportedAt;
+
+        private int reportCount;
+
+        private long score;
+
+        private boolean hidden;
+
+        private Item(ItemId itemId, LocalDateTime firstReportedAt) {
+            this.itemId = itemId;
+            this.firstReportedAt = firstReportedAt;
+            this.lastReportedAt = firstReportedAt;
+        }
+
+        private void add(Long memberId, ReportCategory category, LocalDateTime reportedAt) {
+            reporterIds.add(memberId);
+            categoryCounts[category.ordinal()]++;
+            reportCount++;
+            score += category.getWeight();
+
+            if (reportedAt.isBefore(firstReportedAt)) {
+                firstReportedAt = reportedAt;
+            }
+            if (reportedAt.isAfter(lastReportedAt)) {
+                lastReportedAt = reportedAt;
+            }
+        }
+
+        private void remove(Long memberId, ReportCategory category) {
+            reporterIds.remove(memberId);
+            categoryCounts[category.ordinal()]--;
+            reportCount--;
+            score -= category.getWeight();
+        }
+
+        private Key key() {
+            return new Key(score, toMillis(firstReportedAt), itemId);
+        }
+    }
+
+}
@@ -1,15 +1,34 @@
 package kr.co.imguru.domain.file.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import kr.co.imguru.domain.file.dto.FileUploadCreateDto;
+import kr.co.imguru.domain.file.dto.FileUploadSessionDto;
 import kr.co.imguru.domain.file.entity.File;
 import kr.co.imguru.domain.file.repository.FileRepository;
+import kr.co.imguru.domain.file.service.FileDownloadHandler;
+import kr.co.imguru.domain.file.service.FileService;
+import kr.co.imguru.domain.file.service.FileUploadService;
+import kr.co.imguru.domain.file.service.LocalFileStore;
+import kr.co.imguru.global.auth.CustomUserDetails;
 import kr.co.imguru.global.model.ResponseFormat;
 import kr.co.imguru.global.model.ResponseStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Optional;
 
 @RestController
@@ -19,15 +38,20 @@ public class FileRestController {
 
     private final FileRepository fileRepository;
 
+    private final FileService fileService;
+
+    private final FileUploadService fileUploadService;
+
+    private final FileDownloadHandler fileDownloadHandler;
+
     @PostMapping("/file/{fileCategory}/{fileKey}/{fileName}")
     public ResponseFormat<File> createFile(@PathVariable String fileCategory,
                                            @PathVariable Long fileKey,
                                            @PathVariable String fileName) {
 
-        //FileCategory 가 member 라면, 있는지 확인해보고 있으면 삭제하고 저장.
+        //FileCategory 가 member 라면, 있는지 확인해보고 있으면 삭제하고 저장. (원본 참조 해제)
         if (fileCategory.equals("member")) {
-            Optional<File> memberFile = fileRepository.findOneFileByFileKey(fileCategory, fileKey);
-            memberFile.ifPresent(fileRepository::delete);
+            fileService.deleteFilesByFileKey(fileCategory, fileKey);
         }
 
         String fileUrl = "http://211.62.99.58:9081/" + fileCategory + "_" + fileKey + "_" + fileName;
@@ -39,4 +63,70 @@ public class FileRestController {
         return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, file);
     }
 
+    // 로컬 저장 파일 조회 (GET/HEAD, Range, 조건부 요청 지원)
+    @GetMapping("/file/view/{fileCategory}/{storedName}")
+    public void viewFile(@PathVariable String fileCategory,
+                         @PathVariable String storedName,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        fileDownloadHandler.handle(fileService.getStoredFilePath(fileCategory, storedName), cacheControl(fileCategory), request, response);
+    }
+
+    // 이미지 파생본 조회 (thumb, preview). 아직 생성 전이면 원본으로 임시 이동
+    @GetMapping("/file/view/{fileCategory}/{storedName}/{variant}")
+    public void viewFileVariant(@PathVariable String fileCategory,
+                                @PathVariable String storedName,
+                                @PathVariable String variant,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        Optional<Path> variantPath = fileService.getVariantPath(fileCategory, storedName, variant);
+
+        if (variantPath.isPresent()) {
+            fileDownloadHandler.handle(variantPath.get(), cacheControl(fileCategory), request, response);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.sendRedirect(request.getContextPath() + "/api/v1/file/view/" + fileCategory + "/" + storedName);
+    }
+
+    // 분할 업로드 시작 (파일명, 전체 크기, SHA-256 등록)
+    @PostMapping("/file/uploads")
+    public ResponseFormat<FileUploadSessionDto> createUpload(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                             @RequestBody @Valid FileUploadCreateDto createDto) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, fileUploadService.createUpload(userDetails.getUsername(), createDto));
+    }
+
+    // 분할 업로드 진행 위치 조회 (재개 시 Upload-Offset 확인용)
+    @GetMapping("/file/uploads/{uploadId}")
+    public ResponseFormat<FileUploadSessionDto> getUpload(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                          @PathVariable String uploadId) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, fileUploadService.getUpload(userDetails.getUsername(), uploadId));
+    }
+
+    // 분할 업로드 (요청 본문 = application/octet-stream 원본 바이트)
+    @PutMapping("/file/uploads/{uploadId}")
+    public ResponseFormat<FileUploadSessionDto> appendChunk(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                            @PathVariable String uploadId,
+                                                            @RequestHeader("Upload-Offset") long offset,
+                                                            HttpServletRequest request) throws IOException {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK,
+                fileUploadService.appendChunk(userDetails.getUsername(), uploadId, offset, request.getInputStream()));
+    }
+
+    @DeleteMapping("/file/uploads/{uploadId}")
+    public ResponseFormat<Void> abortUpload(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                            @PathVariable String uploadId) {
+        fileUploadService.abortUpload(userDetails.getUsername(), uploadId);
+
+        return ResponseFormat.success(ResponseStatus.SUCCESS_OK);
+    }
+
+    // 내용 주소(blob/{sha256}.{확장자}) 파일과 그 파생본만 장기 캐시, 그 외 분류는 같은 이름으로 내용이 바뀔 수 있으므로 재검증
+    private String cacheControl(String fileCategory) {
+        return LocalFileStore.BLOB_CATEGORY.equals(fileCategory)
+                ? FileDownloadHandler.CACHE_CONTROL_IMMUTABLE
+                : FileDownloadHandler.CACHE_CONTROL_REVALIDATE;
+    }
+
 }
@@ -0,0 +1,34 @@
+package kr.co.imguru.domain.file.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FileUploadCreateDto {
+
+    @NotBlank
+    private String fileCategory;
+
+    @NotNull
+    private Long fileKey;
+
+    @NotBlank
+    private String fileName;
+
+    @Positive
+    private long totalSize;
+
+    @NotBlank
+    @Pattern(regexp = "[0-9a-fA-F]{64}")
+    private String sha256;
+
+}
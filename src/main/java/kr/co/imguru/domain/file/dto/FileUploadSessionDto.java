@@ -0,0 +1,26 @@
+package kr.co.imguru.domain.file.dto;
+
+import kr.co.imguru.domain.file.entity.FileFormat;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FileUploadSessionDto {
+
+    private String uploadId;
+
+    private String status;
+
+    private long offset;            // 다음 분할 요청의 시작 위치 (Upload-Offset)
+
+    private long totalSize;
+
+    private LocalDateTime expiresAt;
+
+    private FileFormat file;        // 완료 시 등록된 파일
+
+}
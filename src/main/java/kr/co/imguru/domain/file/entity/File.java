@@ -12,6 +12,7 @@ import org.springframework.web.multipart.MultipartFile;
 @Getter
 @Entity
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_file_sha256", columnList = "sha256"))
 public class File {
 
     @Id
@@ -33,6 +34,18 @@ public class File {
     @Column(name = "file_key")
     private Long fileKey;           // Category에 해당하는 Id 값
 
+    @Column(name = "stored_name")
+    private String storedName;      // 로컬 저장소 파일명 (외부 URL 파일이면 null)
+
+    @Column(name = "sha256", length = 64)
+    private String sha256;          // 참조하는 원본(FileBlob) 내용 해시
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;    // 썸네일 파생본 URL (이미지가 아니면 null)
+
     // 필요한 것 fileUrl, fileCategory, fileKey
     public File(String fileUrl, String fileCategory, Long fileKey, String fileName) {
         this.fileUrl = fileUrl;
@@ -41,4 +54,18 @@ public class File {
         this.fileName = fileName;
     }
 
+    @Builder
+    public File(String fileUrl, String fileCategory, Long fileKey, String fileName,
+                String fileExtension, String storedName, Long fileSize, String sha256, String thumbnailUrl) {
+        this.fileUrl = fileUrl;
+        this.fileCategory = fileCategory;
+        this.fileKey = fileKey;
+        this.fileName = fileName;
+        this.fileExtension = fileExtension;
+        this.storedName = storedName;
+        this.fileSize = fileSize;
+        this.sha256 = sha256;
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
 }
@@ -0,0 +1,46 @@
+package kr.co.imguru.domain.file.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소(SHA-256) 기반 파일 원본
+ * 같은 내용은 한 번만 저장하고, 이를 참조하는 File 행 수를 refCount 로 관리한다.
+ * refCount 가 0 이 된 뒤 유예 시간이 지나면 FileBlobService 가 원본/파생본을 삭제한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_blob",
+        uniqueConstraints = @UniqueConstraint(name = "uk_file_blob_sha256", columnNames = "sha256"),
+        indexes = @Index(name = "idx_file_blob_ref_orphaned", columnList = "ref_count, orphaned_at"))
+public class FileBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "file_blob_id")
+    private Long id;
+
+    @Column(name = "sha256", nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "stored_name", nullable = false)
+    private String storedName;      // {sha256}.{확장자}
+
+    @Column(name = "file_extension")
+    private String fileExtension;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    @Column(name = "orphaned_at")
+    private LocalDateTime orphanedAt;   // refCount 가 0 이 된 시각
+
+}
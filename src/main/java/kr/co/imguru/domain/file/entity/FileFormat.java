@@ -9,6 +9,8 @@ public class FileFormat {
 
     private String fileUrl;
 
+    private String thumbnailUrl;    // 목록/프로필 표시용 (썸네일이 없으면 원본 URL)
+
     private String fileExtension;
 
     private String fileCategory;
@@ -18,6 +20,7 @@ public class FileFormat {
     public FileFormat(File file) {
         this.fileName = file.getFileName();
         this.fileUrl = file.getFileUrl();
+        this.thumbnailUrl = file.getThumbnailUrl() != null ? file.getThumbnailUrl() : file.getFileUrl();
         this.fileExtension = file.getFileExtension();
         this.fileCategory = file.getFileCategory();
         this.fileKey = file.getFileKey();
@@ -0,0 +1,100 @@
+package kr.co.imguru.domain.file.entity;
+
+import jakarta.persistence.*;
+import kr.co.imguru.global.common.BaseEntity;
+import kr.co.imguru.global.common.UploadStatus;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분할(재개 가능) 업로드 세션
+ * 수신한 바이트 수(receivedSize)는 조건부 UPDATE 로만 증가시키며, 모두 수신하고 해시가 일치하면 File 로 등록한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_upload_session",
+        uniqueConstraints = @UniqueConstraint(name = "uk_file_upload_session_upload_id", columnNames = "upload_id"),
+        indexes = @Index(name = "idx_file_upload_session_status_expires", columnList = "upload_status, expires_at"))
+public class FileUploadSession extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "file_upload_session_id")
+    private Long id;
+
+    @Column(name = "upload_id", nullable = false, length = 32)
+    private String uploadId;
+
+    @Column(name = "file_category", nullable = false)
+    private String fileCategory;
+
+    @Column(name = "file_key", nullable = false)
+    private Long fileKey;
+
+    @Column(name = "owner_member_id")
+    private Long ownerMemberId;     // 업로드를 시작한 회원 id (이어 보내기 / 조회 / 취소는 본인 또는 관리자만)
+
+    @Column(name = "file_name")
+    private String fileName;        // 원본 파일명 (표시용)
+
+    @Column(name = "file_extension", nullable = false)
+    private String fileExtension;
+
+    @Column(name = "total_size", nullable = false)
+    private long totalSize;
+
+    @Column(name = "received_size", nullable = false)
+    private long receivedSize;
+
+    @Column(name = "sha256", nullable = false, length = 64)
+    private String sha256;          // 클라이언트가 알려준 전체 내용 SHA-256 (hex)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "upload_status", nullable = false)
+    private UploadStatus status;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "file_id")
+    private Long fileId;            // 완료 후 등록된 File id
+
+    @Builder
+    public FileUploadSession(String uploadId, String fileCategory, Long fileKey, Long ownerMemberId, String fileName,
+                             String fileExtension, long totalSize, String sha256, LocalDateTime expiresAt) {
+        this.uploadId = uploadId;
+        this.fileCategory = fileCategory;
+        this.fileKey = fileKey;
+        this.ownerMemberId = ownerMemberId;
+        this.fileName = fileName;
+        this.fileExtension = fileExtension;
+        this.totalSize = totalSize;
+        this.receivedSize = 0;
+        this.sha256 = sha256;
+        this.status = UploadStatus.UPLOADING;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    public void complete(Long fileId) {
+        this.status = UploadStatus.COMPLETED;
+        this.fileId = fileId;
+    }
+
+    public void abort() {
+        this.status = UploadStatus.ABORTED;
+    }
+
+    public void fail() {
+        this.status = UploadStatus.FAILED;
+    }
+
+}
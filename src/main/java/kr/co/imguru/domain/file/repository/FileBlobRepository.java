@@ -0,0 +1,59 @@
+package kr.co.imguru.domain.file.repository;
+
+import jakarta.persistence.LockModeType;
+import kr.co.imguru.domain.file.entity.FileBlob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, Long> {
+
+    Optional<FileBlob> findBySha256(String sha256);
+
+    // 행 잠금 조회 (같은 원본을 등록 중인 다른 트랜잭션이 있으면 끝날 때까지 대기)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM FileBlob b WHERE b.sha256 = :sha256")
+    Optional<FileBlob> findForUpdateBySha256(String sha256);
+
+    // 원본 행이 없으면 생성(refCount = 1), 있으면 참조 1 증가 (행 단위 원자적 갱신)
+    @Modifying
+    @Query(value = "INSERT INTO file_blob " +
+            "(sha256, stored_name, file_extension, file_size, ref_count) " +
+            "VALUES (:sha256, :storedName, :fileExtension, :fileSize, 1) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "ref_count = ref_count + 1, " +
+            "orphaned_at = NULL", nativeQuery = true)
+    int acquire(String sha256, String storedName, String fileExtension, long fileSize);
+
+    // 참조 1 감소, 0 이 되면 orphanedAt 기록 (orphanedAt 을 먼저 계산해 DB 별 SET 평가 순서 차이에 영향받지 않도록)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE FileBlob b " +
+            "SET b.orphanedAt = CASE WHEN b.refCount = 1 THEN :now ELSE b.orphanedAt END, " +
+            "b.refCount = b.refCount - 1 " +
+            "WHERE b.sha256 = :sha256 " +
+            "AND b.refCount > 0")
+    int release(String sha256, LocalDateTime now);
+
+    @Query("SELECT b " +
+            "FROM FileBlob b " +
+            "WHERE b.refCount = 0 " +
+            "AND b.orphanedAt < :before " +
+            "ORDER BY b.orphanedAt")
+    List<FileBlob> findGarbage(LocalDateTime before, Pageable pageable);
+
+    // 수집 직전에 다시 참조된 원본은 삭제하지 않음
+    @Modifying
+    @Query("DELETE FROM FileBlob b " +
+            "WHERE b.id = :id " +
+            "AND b.refCount = 0")
+    int deleteIfUnreferenced(Long id);
+
+}
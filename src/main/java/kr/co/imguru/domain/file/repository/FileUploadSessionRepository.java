@@ -0,0 +1,36 @@
+package kr.co.imguru.domain.file.repository;
+
+import kr.co.imguru.domain.file.entity.FileUploadSession;
+import kr.co.imguru.global.common.UploadStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FileUploadSessionRepository extends JpaRepository<FileUploadSession, Long> {
+
+    Optional<FileUploadSession> findByUploadId(String uploadId);
+
+    // 수신 위치가 expected 일 때만 전진 (동시 요청/재시도로 인한 중복 반영 방지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE FileUploadSession s " +
+            "SET s.receivedSize = :receivedSize " +
+            "WHERE s.id = :id " +
+            "AND s.receivedSize = :expected " +
+            "AND s.status = :status")
+    int advance(Long id, long expected, long receivedSize, UploadStatus status);
+
+    // 진행 중인 업로드가 점유할 수 있는 임시 디스크 용량
+    @Query("SELECT COALESCE(SUM(s.totalSize), 0) " +
+            "FROM FileUploadSession s " +
+            "WHERE s.status = :status")
+    long sumTotalSizeByStatus(UploadStatus status);
+
+    List<FileUploadSession> findTop100ByStatusAndExpiresAtBefore(UploadStatus status, LocalDateTime now);
+
+}
@@ -0,0 +1,11 @@
+package kr.co.imguru.domain.file.service;
+
+public interface FileBlobService {
+
+    LocalFileStore.StoredFile acquire(LocalFileStore.StagedFile stagedFile);
+
+    void release(String sha256);
+
+    int collectGarbage();
+
+}
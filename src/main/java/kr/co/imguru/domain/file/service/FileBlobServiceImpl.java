@@ -0,0 +1,157 @@
+package kr.co.imguru.domain.file.service;
+
+import jakarta.transaction.Transactional;
+import kr.co.imguru.domain.file.entity.FileBlob;
+import kr.co.imguru.domain.file.repository.FileBlobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 내용 주소 원본 참조 관리 / 가비지 컬렉션
+ * - 참조 증가(acquire)는 File 등록과 같은 트랜잭션에서 처리하므로 등록이 롤백되면 참조도 롤백되고,
+ *   이때 새로 배치한 원본 파일은 롤백 후 삭제한다.
+ * - 참조 증가 + 파일 배치, 행 삭제 + 파일 삭제를 원본(sha256)별 잠금 안에서 처리한다.
+ *   수집 중 같은 내용이 다시 업로드되면, 업로드 트랜잭션이 잡은 행 잠금 때문에 조건부 삭제가 대기 후 0 건이 되므로
+ *   참조 중인 원본이 삭제되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileBlobServiceImpl implements FileBlobService {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final FileBlobRepository fileBlobRepository;
+
+    private final LocalFileStore localFileStore;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Object[] locks = createLocks();
+
+    @Value("${file.blob.gc-grace-minutes:60}")
+    private long gcGraceMinutes;
+
+    @Value("${file.blob.gc-batch-size:100}")
+    private int gcBatchSize;
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public LocalFileStore.StoredFile acquire(LocalFileStore.StagedFile stagedFile) {
+        String sha256 = stagedFile.sha256();
+
+        synchronized (lockOf(sha256)) {
+            fileBlobRepository.acquire(sha256, localFileStore.blobName(sha256, stagedFile.extension()),
+                    stagedFile.extension(), stagedFile.size());
+
+            // 먼저 저장된 원본의 파일명(확장자)을 그대로 사용
+            FileBlob fileBlob = fileBlobRepository.findBySha256(sha256).orElseThrow();
+            String storedName = fileBlob.getStoredName();
+
+            boolean placing = !localFileStore.existsBlob(storedName);
+
+            LocalFileStore.StoredFile storedFile = localFileStore.place(stagedFile, storedName);
+
+            if (placing) {
+                deleteOnRollback(sha256, storedName);
+            }
+
+            return storedFile;
+        }
+    }
+
+    @Override
+    @Transactional
+    public void release(String sha256) {
+        if (fileBlobRepository.release(sha256, LocalDateTime.now()) == 0) {
+            log.warn("[FileBlobService] release ignored (no reference) : {}", sha256);
+        }
+    }
+
+    /**
+     * 참조가 0 이 된 뒤 유예 시간이 지난 원본 삭제
+     * 유예 시간 동안은 같은 내용이 다시 업로드되면 그대로 재사용된다.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${file.blob.gc-interval:600000}")
+    public int collectGarbage() {
+        List<FileBlob> garbage = fileBlobRepository.findGarbage(LocalDateTime.now().minusMinutes(gcGraceMinutes),
+                PageRequest.of(0, gcBatchSize));
+
+        int collected = 0;
+
+        for (FileBlob fileBlob : garbage) {
+            synchronized (lockOf(fileBlob.getSha256())) {
+                Integer deleted = transactionTemplate.execute(status -> fileBlobRepository.deleteIfUnreferenced(fileBlob.getId()));
+
+                if (deleted != null && deleted > 0) {
+                    localFileStore.deleteBlob(fileBlob.getStoredName());
+                    collected++;
+                }
+            }
+        }
+
+        if (collected > 0) {
+            log.info("[FileBlobService] collected {} unreferenced blobs", collected);
+        }
+
+        return collected;
+    }
+
+    /**
+     * 등록 트랜잭션이 롤백되면 이 트랜잭션에서 새로 배치한 원본 파일 삭제
+     * 같은 내용을 동시에 등록한 다른 트랜잭션이 있으면 원본 행 잠금으로 그 결과를 기다린 뒤, 원본 행이 없을 때만 삭제한다.
+     * (afterCompletion 에서는 기존 트랜잭션에 참여하지 않도록 REQUIRES_NEW 로 조회)
+     */
+    private void deleteOnRollback(String sha256, String storedName) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+
+                TransactionTemplate requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+                requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+                try {
+                    synchronized (lockOf(sha256)) {
+                        Boolean referenced = requiresNew.execute(tx -> fileBlobRepository.findForUpdateBySha256(sha256).isPresent());
+
+                        if (Boolean.FALSE.equals(referenced)) {
+                            localFileStore.deleteBlob(storedName);
+                            log.info("[FileBlobService] rolled back blob deleted : {}", storedName);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("[FileBlobService] rolled back blob cleanup failed : {}", storedName, e);
+                }
+            }
+        });
+    }
+
+    private Object lockOf(String sha256) {
+        return locks[Math.floorMod(sha256.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static Object[] createLocks() {
+        Object[] locks = new Object[LOCK_STRIPES];
+
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+}
@@ -0,0 +1,273 @@
+package kr.co.imguru.domain.file.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.co.imguru.global.common.FileType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 저장 파일 응답 처리
+ * - ETag(강한 검증자), If-None-Match / If-Modified-Since 조건부 요청 -> 304
+ * - 단일 Range / If-Range 요청 -> 206, 만족할 수 없는 범위 -> 416
+ * - Cache-Control 은 호출 측이 정함 (내용 주소 URL 만 immutable 장기 캐시, 그 외는 ETag 재검증 또는 저장 금지)
+ * - 허용 형식의 이미지만 inline, 그 외는 Content-Disposition: attachment (+ X-Content-Type-Options: nosniff)
+ * - 본문 전송은 Tomcat sendfile(커널 zero-copy) 을 우선 사용하고,
+ *   지원하지 않거나 작은 파일이면 FileChannel.transferTo 로 응답 스트림에 기록 (이 경우 고정 크기 버퍼를 거쳐 복사됨)
+ */
+@Slf4j
+@Component
+public class FileDownloadHandler {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String NOSNIFF_HEADER = "X-Content-Type-Options";
+
+    private static final String BYTES_UNIT = "bytes=";
+
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    // 내용(SHA-256) 주소 URL 전용 : 같은 URL 의 내용은 바뀌지 않음
+    public static final String CACHE_CONTROL_IMMUTABLE = "public, max-age=" + TimeUnit.DAYS.toSeconds(365) + ", immutable";
+
+    // 내용이 바뀔 수 있는 URL : 캐시하되 매번 ETag 로 재검증
+    public static final String CACHE_CONTROL_REVALIDATE = "no-cache";
+
+    // 캐시/중간 저장 금지 (관리자 진단 파일 등)
+    public static final String CACHE_CONTROL_NO_STORE = "no-store";
+
+    private final long sendfileThreshold;
+
+    public FileDownloadHandler(@Value("${file.storage.sendfile-threshold:49152}") long sendfileThreshold) {
+        this.sendfileThreshold = sendfileThreshold;
+    }
+
+    public void handle(Path path, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        handle(path, CACHE_CONTROL_REVALIDATE, request, response);
+    }
+
+    public void handle(Path path, String cacheControl, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long length = Files.size(path);
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        String eTag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(NOSNIFF_HEADER, "nosniff");
+
+        if (isNotModified(request, eTag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        // 허용 형식(FileType)의 이미지만 inline 으로 응답하고, 그 외(문서, 동영상, 알 수 없는 형식)는 첨부파일로 내려받게 함
+        Optional<FileType> fileType = FileType.ofExtension(extractExtension(path));
+        boolean inline = fileType.map(type -> type.getMediaType().startsWith("image/")).orElse(false);
+
+        response.setContentType(fileType.map(FileType::getMediaType).orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE));
+
+        if (!inline && !response.containsHeader(HttpHeaders.CONTENT_DISPOSITION)) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().build().toString());
+        }
+
+        long start = 0;
+        long end = length - 1;
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+
+        if (range != null && isRangeApplicable(request, eTag, lastModified)) {
+            long[] byteRange = parseRange(range, length);
+
+            if (byteRange == UNSATISFIABLE) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+
+            if (byteRange != null) {
+                start = byteRange[0];
+                end = byteRange[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (count >= sendfileThreshold && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 컨테이너가 응답 커밋 후 커널 sendfile 로 전송 (힙 복사 없음)
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        transfer(path, start, count, response);
+    }
+
+    private void transfer(Path path, long position, long count, HttpServletResponse response) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+
+            while (count > 0) {
+                long transferred = fileChannel.transferTo(position, count, target);
+
+                if (transferred <= 0) {
+                    break;
+                }
+
+                position += transferred;
+                count -= transferred;
+            }
+        }
+    }
+
+    /**
+     * If-None-Match 가 있으면 If-Modified-Since 는 무시 (RFC 9110 13.2.2)
+     */
+    private boolean isNotModified(HttpServletRequest request, String eTag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+
+        if (ifNoneMatch != null) {
+            return matchesAny(ifNoneMatch, eTag, true);
+        }
+
+        long ifModifiedSince = getDateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+
+        return ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * If-Range 는 강한 비교로 ETag 가 같거나, 날짜가 Last-Modified 와 같을 때만 Range 적용
+     */
+    private boolean isRangeApplicable(HttpServletRequest request, String eTag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+
+        if (ifRange == null) {
+            return true;
+        }
+
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return matchesAny(ifRange, eTag, false);
+        }
+
+        long ifRangeDate = getDateHeader(request, HttpHeaders.IF_RANGE);
+
+        return ifRangeDate >= 0 && lastModified / 1000 == ifRangeDate / 1000;
+    }
+
+    private boolean matchesAny(String header, String eTag, boolean weakComparison) {
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+
+            if (value.equals("*")) {
+                return true;
+            }
+
+            if (value.startsWith("W/")) {
+                if (!weakComparison) {
+                    continue;
+                }
+                value = value.substring(2);
+            }
+
+            if (value.equals(eTag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 단일 범위만 처리
+     * - 형식이 잘못되었거나 다중 범위면 null (Range 무시 -> 200 전체 응답)
+     * - 파일 범위를 벗어나면 UNSATISFIABLE (416)
+     */
+    private long[] parseRange(String range, long length) {
+        if (!range.startsWith(BYTES_UNIT) || range.indexOf(',') >= 0) {
+            return null;
+        }
+
+        String spec = range.substring(BYTES_UNIT.length()).trim();
+        int dash = spec.indexOf('-');
+
+        if (dash < 0) {
+            return null;
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+
+            if (first.isEmpty()) {
+                // bytes=-N : 마지막 N 바이트
+                long suffix = Long.parseLong(last);
+
+                if (suffix <= 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+
+                return new long[]{Math.max(0, length - suffix), length - 1};
+            }
+
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Long.parseLong(last);
+
+            if (start > end) {
+                return null;
+            }
+
+            if (start >= length) {
+                return UNSATISFIABLE;
+            }
+
+            return new long[]{start, Math.min(end, length - 1)};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String extractExtension(Path path) {
+        String fileName = path.getFileName().toString();
+        int index = fileName.lastIndexOf('.');
+
+        return index < 0 ? null : fileName.substring(index + 1);
+    }
+
+    private long getDateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (java.lang.IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+}
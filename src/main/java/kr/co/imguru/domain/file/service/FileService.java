@@ -0,0 +1,18 @@
+package kr.co.imguru.domain.file.service;
+
+import kr.co.imguru.domain.file.entity.File;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface FileService {
+
+    File registerStoredFile(String fileCategory, Long fileKey, String fileName, LocalFileStore.StoredFile storedFile);
+
+    void deleteFilesByFileKey(String fileCategory, Long fileKey);
+
+    Path getStoredFilePath(String fileCategory, String storedName);
+
+    Optional<Path> getVariantPath(String fileCategory, String storedName, String variant);
+
+}
@@ -0,0 +1,118 @@
+package kr.co.imguru.domain.file.service;
+
+import jakarta.transaction.Transactional;
+import kr.co.imguru.domain.file.entity.File;
+import kr.co.imguru.domain.file.repository.FileRepository;
+import kr.co.imguru.global.common.FileType;
+import kr.co.imguru.global.common.ImageVariant;
+import kr.co.imguru.global.exception.NotFoundException;
+import kr.co.imguru.global.model.ResponseStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileServiceImpl implements FileService {
+
+    private static final String MEMBER_CATEGORY = "member";
+
+    private final FileRepository fileRepository;
+
+    private final LocalFileStore localFileStore;
+
+    private final FileBlobService fileBlobService;
+
+    private final ImageVariantWorker imageVariantWorker;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 원본 참조(FileBlobService.acquire)를 얻은 뒤 같은 트랜잭션에서 호출
+     */
+    @Override
+    @Transactional
+    public File registerStoredFile(String fileCategory, Long fileKey, String fileName, LocalFileStore.StoredFile storedFile) {
+        // 회원 프로필 이미지는 1개만 유지
+        if (fileCategory.equals(MEMBER_CATEGORY)) {
+            Optional<File> memberFile = fileRepository.findOneFileByFileKey(fileCategory, fileKey);
+            memberFile.ifPresent(this::deleteFile);
+        }
+
+        boolean thumbnailable = FileType.ofExtension(storedFile.extension())
+                .map(FileType::isThumbnailable)
+                .orElse(false);
+
+        File file = File.builder()
+                .fileUrl(storedFile.url())
+                .fileCategory(fileCategory)
+                .fileKey(fileKey)
+                .fileName(fileName)
+                .fileExtension(storedFile.extension())
+                .storedName(storedFile.storedName())
+                .fileSize(storedFile.size())
+                .sha256(storedFile.sha256())
+                .thumbnailUrl(thumbnailable
+                        ? localFileStore.toVariantUrl(LocalFileStore.BLOB_CATEGORY, storedFile.storedName(), ImageVariant.THUMBNAIL)
+                        : null)
+                .build();
+
+        fileRepository.save(file);
+
+        // 커밋 후 썸네일/미리보기 비동기 생성
+        if (thumbnailable) {
+            eventPublisher.publishEvent(new FileStoredEvent(LocalFileStore.BLOB_CATEGORY, storedFile.storedName()));
+        }
+
+        return file;
+    }
+
+    @Override
+    public Path getStoredFilePath(String fileCategory, String storedName) {
+        return localFileStore.resolve(fileCategory, storedName);
+    }
+
+    /**
+     * 파생본 경로 조회
+     * 아직 생성되지 않았으면 생성을 다시 요청하고 empty 반환 (호출 측은 원본으로 대체)
+     */
+    @Override
+    public Optional<Path> getVariantPath(String fileCategory, String storedName, String variant) {
+        ImageVariant imageVariant = ImageVariant.ofPath(variant)
+                .orElseThrow(() -> new NotFoundException(ResponseStatus.FAIL_FILE_NOT_FOUND));
+
+        Path path = localFileStore.variantPath(fileCategory, storedName, imageVariant);
+
+        if (Files.isRegularFile(path)) {
+            return Optional.of(path);
+        }
+
+        localFileStore.resolve(fileCategory, storedName);
+        imageVariantWorker.request(fileCategory, storedName);
+
+        return Optional.empty();
+    }
+
+    @Override
+    @Transactional
+    public void deleteFilesByFileKey(String fileCategory, Long fileKey) {
+        fileRepository.findFileByFileKey(fileCategory, fileKey)
+                .forEach(this::deleteFile);
+    }
+
+    // 원본은 참조만 해제하고, 실제 삭제는 참조가 0 이 된 뒤 FileBlobService 가 처리
+    private void deleteFile(File file) {
+        fileRepository.delete(file);
+
+        if (file.getSha256() != null) {
+            fileBlobService.release(file.getSha256());
+        }
+    }
+
+}
@@ -0,0 +1,7 @@
+package kr.co.imguru.domain.file.service;
+
+/**
+ * 로컬 저장소에 파일이 등록된 트랜잭션이 커밋된 직후 파생본 생성을 요청하기 위한 이벤트
+ */
+public record FileStoredEvent(String fileCategory, String storedName) {
+}
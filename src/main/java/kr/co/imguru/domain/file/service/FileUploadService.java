@@ -0,0 +1,19 @@
+package kr.co.imguru.domain.file.service;
+
+import kr.co.imguru.domain.file.dto.FileUploadCreateDto;
+import kr.co.imguru.domain.file.dto.FileUploadSessionDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface FileUploadService {
+
+    FileUploadSessionDto createUpload(String email, FileUploadCreateDto createDto);
+
+    FileUploadSessionDto getUpload(String email, String uploadId);
+
+    FileUploadSessionDto appendChunk(String email, String uploadId, long offset, InputStream inputStream) throws IOException;
+
+    void abortUpload(String email, String uploadId);
+
+}
@@ -0,0 +1,515 @@
+package kr.co.imguru.domain.file.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.transaction.Transactional;
+import kr.co.imguru.domain.file.dto.FileUploadCreateDto;
+import kr.co.imguru.domain.file.dto.FileUploadSessionDto;
+import kr.co.imguru.domain.file.entity.File;
+import kr.co.imguru.domain.file.entity.FileFormat;
+import kr.co.imguru.domain.file.entity.FileUploadSession;
+import kr.co.imguru.domain.file.repository.FileUploadSessionRepository;
+import kr.co.imguru.domain.member.entity.Member;
+import kr.co.imguru.domain.member.repository.MemberRepository;
+import kr.co.imguru.domain.post.repository.PostRepository;
+import kr.co.imguru.domain.reply.repository.ReplyRepository;
+import kr.co.imguru.domain.review.repository.ReviewRepository;
+import kr.co.imguru.global.common.FileType;
+import kr.co.imguru.global.common.Role;
+import kr.co.imguru.global.common.UploadStatus;
+import kr.co.imguru.global.exception.ForbiddenException;
+import kr.co.imguru.global.exception.IllegalArgumentException;
+import kr.co.imguru.global.exception.NotFoundException;
+import kr.co.imguru.global.model.ResponseStatus;
+import kr.co.imguru.global.util.HexUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 분할(재개 가능) 업로드
+ * - 요청 본문을 고정 크기 버퍼로 읽어 임시 파일의 Upload-Offset 위치에 바로 기록 (MultipartFile 미사용)
+ * - 기록과 동시에 SHA-256 을 누적하고, 첫 바이트들로 확장자와 실제 형식이 일치하는지 확인
+ * - 모두 수신하고 해시가 일치할 때만 저장소로 이동 후 File 등록
+ *   (같은 내용이 이미 저장되어 있으면 이동 없이 참조만 추가. 해시 값만으로는 내용을 가졌는지 알 수 없으므로 전송은 생략하지 않음)
+ * - 완료 처리(등록 트랜잭션)가 실패하면 임시 파일이 남아 있는 한 같은 위치로 빈 본문을 다시 보내 재시도할 수 있고,
+ *   임시 파일이 이미 이동되어 재시도할 수 없으면 FAILED 로 종료
+ * - 동시 기록 요청 수와 진행 중 업로드의 총 크기를 제한해 힙/임시 디스크 사용량을 고정
+ * - 업로드 대상(fileCategory, fileKey)은 시작할 때와 등록 직전에 로그인 회원 소유인지 확인 (관리자는 제외)
+ *   (member 분류는 등록 시 기존 프로필 이미지를 지우므로 다른 회원의 fileKey 로 등록되면 안 됨)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileUploadServiceImpl implements FileUploadService {
+
+    private static final String PART_SUFFIX = ".part";
+
+    // 요청 스레드별 기록 버퍼 재사용
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[64 * 1024]);
+
+    private final FileUploadSessionRepository fileUploadSessionRepository;
+
+    private final FileService fileService;
+
+    private final FileBlobService fileBlobService;
+
+    private final LocalFileStore localFileStore;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final MemberRepository memberRepository;
+
+    private final PostRepository postRepository;
+
+    private final ReplyRepository replyRepository;
+
+    private final ReviewRepository reviewRepository;
+
+    // uploadId -> 기록 잠금, 누적 해시
+    private final Map<String, UploadState> states = new ConcurrentHashMap<>();
+
+    @Value("${file.upload.max-file-size:1073741824}")
+    private long maxFileSize;
+
+    @Value("${file.upload.max-temp-bytes:10737418240}")
+    private long maxTempBytes;
+
+    @Value("${file.upload.max-concurrent-chunks:16}")
+    private int maxConcurrentChunks;
+
+    @Value("${file.upload.expire-minutes:1440}")
+    private long expireMinutes;
+
+    private Semaphore chunkPermits;
+
+    @PostConstruct
+    void init() {
+        chunkPermits = new Semaphore(maxConcurrentChunks);
+    }
+
+    @Override
+    @Transactional
+    public FileUploadSessionDto createUpload(String email, FileUploadCreateDto createDto) {
+        Optional<Member> member = memberRepository.findByEmailAndIsDeleteFalse(email);
+
+        isMember(member);
+
+        localFileStore.validateCategory(createDto.getFileCategory());
+
+        isFileKeyOwner(member.get(), createDto.getFileCategory(), createDto.getFileKey());
+
+        String extension = localFileStore.extractExtension(createDto.getFileName());
+
+        isAllowedFileType(extension);
+
+        if (createDto.getTotalSize() <= 0 || createDto.getTotalSize() > maxFileSize) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_FILE_UPLOAD_SIZE_EXCEEDED);
+        }
+
+        if (fileUploadSessionRepository.sumTotalSizeByStatus(UploadStatus.UPLOADING) + createDto.getTotalSize() > maxTempBytes) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_FILE_UPLOAD_CAPACITY);
+        }
+
+        FileUploadSession session = FileUploadSession.builder()
+                .uploadId(UUID.randomUUID().toString().replace("-", ""))
+                .fileCategory(createDto.getFileCategory())
+                .fileKey(createDto.getFileKey())
+                .ownerMemberId(member.get().getId())
+                .fileName(createDto.getFileName())
+                .fileExtension(extension)
+                .totalSize(createDto.getTotalSize())
+                .sha256(createDto.getSha256().toLowerCase())
+                .expiresAt(LocalDateTime.now().plusMinutes(expireMinutes))
+                .build();
+
+        fileUploadSessionRepository.save(session);
+
+        return toDto(session, 0, null);
+    }
+
+    @Override
+    @Transactional
+    public FileUploadSessionDto getUpload(String email, String uploadId) {
+        Optional<Member> member = memberRepository.findByEmailAndIsDeleteFalse(email);
+
+        isMember(member);
+
+        Optional<FileUploadSession> session = fileUploadSessionRepository.findByUploadId(uploadId);
+
+        isUploadSession(session);
+        isUploadOwner(member.get(), session.get());
+
+        return toDto(session.get(), session.get().getReceivedSize(), null);
+    }
+
+    /**
+     * 분할 기록 (트랜잭션 밖에서 I/O 처리, 수신 위치 갱신만 짧은 트랜잭션으로 처리)
+     */
+    @Override
+    public FileUploadSessionDto appendChunk(String email, String uploadId, long offset, InputStream inputStream) throws IOException {
+        Optional<Member> member = memberRepository.findByEmailAndIsDeleteFalse(email);
+
+        isMember(member);
+
+        if (!chunkPermits.tryAcquire()) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_FILE_UPLOAD_BUSY);
+        }
+
+        try {
+            Optional<FileUploadSession> session = fileUploadSessionRepository.findByUploadId(uploadId);
+
+            isUploadSession(session);
+            isUploadOwner(member.get(), session.get());
+
+            UploadState state = states.computeIfAbsent(uploadId, key -> new UploadState());
+
+            if (!state.lock.tryLock()) {
+                throw new IllegalArgumentException(ResponseStatus.FAIL_FILE_UPLOAD_BUSY);
+            }
+
+            try {
+                return append(member.get(), uploadId, offset, inputStream, state);
+            } finally {
+                state.lock.unlock();
+            }
+        } finally {
+            chunkPermits.release();
+        }
+    }
+
+    @Override
+    @Transactional
+    public void abortUpload(String email, String uploadId) {
+        Optional<Member> member = memberRepository.findByEmailAndIsDeleteFalse(email);
+
+        isMember(member);
+
+        Optional<FileUploadSession> session = fileUploadSessionRepository.findByUploadId(uploadId);
+
+        isUploadSession(session);
+        isUploadOwner(member.get(), session.get());
+
+        if (session.get().getStatus() == UploadStatus.UPLOADING) {
+            session.get().abort();
+            discard(uploadId);
+        }
+    }
+
+    // 만료된 업로드 정리 (임시 파일 회수)
+    @Scheduled(fixedDelayString = "${file.upload.cleanup-interval:600000}")
+    public void cleanupExpiredUploads() {
+        for (FileUploadSession session : fileUploadSessionRepository.findTop100ByStatusAndExpiresAtBefore(UploadStatus.UPLOADING, LocalDateTime.now())) {
+            transactionTemplate.executeWithoutResult(status ->
+                    fileUploadSessionRepository.findById(session.getId()).ifPresent(FileUploadSession::abort));
+            discard(session.getUploadId());
+
+            log.info("[FileUploadService] expired upload discarded : {}", session.getUploadId());
+        }
+    }
+
+    private FileUploadSessionDto append(Member member, String uploadId, long offset, InputStream inputStream, UploadState state) throws IOException {
+        Optional<FileUploadSession> found = fileUploadSessionRepository.findByUploadId(uploadId);
+
+        isUploadSession(found);
+
+        FileUploadSession session = found.get();
+
+        if (session.getStatus() != UploadStatus.UPLOADING || session.isExpired(LocalDateTime.now())) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_FILE_UPLOAD_CLOSED);
+        }
+
+        if (offset != session.getReceivedSize()) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_FILE_UPLOAD_OFFSET_MISMATCH);
+        }
+
+        Path part = localFileStore.tempPath(uploadId + PART_SUFFIX);
+        long received;
+
+        try {
+            MessageDigest digest = state.digestAt(part, offset);
+
+            received = write(session, part, offset, inputStream, digest);
+
+            if (received != offset) {
+                Integer advanced = transactionTemplate.execute(status ->
+                        fileUploadSessionRepository.advance(session.getId(), offset, received, UploadStatus.UPLOADING));
+
+                if (advanced == null || advanced == 0) {
+                    throw new IllegalArgumentException(ResponseStatus.FAIL_FILE_UPLOAD_OFFSET_MISMATCH);
+                }
+            }
+
+            state.digestedSize = received;
+        } catch (IOException | RuntimeException e) {
+            // 일부만 반영된 해시는 다음 요청에서 임시 파일로 다시 계산
+            state.invalidate();
+            throw e;
+        }
+
+        if (received == session.getTotalSize()) {
+            return complete(member, session, part, state);
+        }
+
+        return toDto(session, received, null);
+    }
+
+    /**
+     * 요청 본문을 임시 파일 offset 위치부터 기록하고 기록 후 위치 반환
+     */
+    private long write(FileUploadSession session, Path part, long offset, InputStream inputStream, MessageDigest digest) throws IOException {
+        byte[] buffer = BUFFER.get();
+
+        try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ)) {
+            // 이전에 실패한 요청이 남긴 뒷부분 제거
+            channel.truncate(offset);
+
+            long position = offset;
+            int read;
+
+            while ((read = inputStream.read(buffer)) != -1) {
+                if (position + read > session.getTotalSize()) {
+                    throw new IllegalArgumentException(ResponseStatus.FAIL_FILE_UPLOAD_SIZE_EXCEEDED);
+                }
+
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    position += channel.write(chunk, position);
+                }
+
+                digest.update(buffer, 0, read);
+            }
+
+            if (offset < FileType.SNIFF_LENGTH && (position >= FileType.SNIFF_LENGTH || position == session.getTotalSize())) {
+                verifyFileType(session, channel);
+            }
+
+            return position;
+        }
+    }
+
+    private void verifyFileType(FileUploadSession session, FileChannel channel) throws IOException {
+        ByteBuffer head = ByteBuffer.allocate(FileType.SNIFF_LENGTH);
+
+        int read;
+        do {
+            read = channel.read(head, head.position());
+        } while (read > 0 && head.hasRemaining());
+
+        boolean matched = FileType.ofExtension(session.getFileExtension())
+                .map(fileType -> fileType.matchesSignature(head.array(), head.position()))
+                .orElse(false);
+
+        if (!matched) {
+            abort(session);
+            throw new IllegalArgumentException(ResponseStatus.FAIL_FILE_TYPE_MISMATCH);
+        }
+    }
+
+    private FileUploadSessionDto complete(Member member, FileUploadSession session, Path part, UploadState state) {
+        String actual = HexUtil.encodeLower(state.digest.digest());
+
+        if (!actual.equals(session.getSha256())) {
+            abort(session);
+            throw new IllegalArgumentException(ResponseStatus.FAIL_FILE_HASH_MISMATCH);
+        }
+
+        LocalFileStore.StagedFile stagedFile = new LocalFileStore.StagedFile(part, actual, session.getFileExtension(), session.getTotalSize());
+
+        File file;
+
+        try {
+            file = transactionTemplate.execute(status -> {
+                // 업로드 중 게시글 작성자 변경 / 삭제 등을 반영해 등록 직전에 다시 확인
+                isFileKeyOwner(member, session.getFileCategory(), session.getFileKey());
+
+                LocalFileStore.StoredFile storedFile = fileBlobService.acquire(stagedFile);
+
+                return register(session, storedFile);
+            });
+        } catch (ForbiddenException e) {
+            abort(session);
+            throw e;
+        } catch (RuntimeException e) {
+            // 해시는 이미 소진(reset)되었으므로 재시도 시 임시 파일로 다시 계산
+            state.invalidate();
+
+            if (Files.notExists(part)) {
+                fail(session);
+            }
+
+            log.warn("[FileUploadService] complete failed : {}", session.getUploadId(), e);
+            throw e;
+        }
+
+        // 같은 내용이 이미 있어 배치되지 않은 임시 파일 정리
+        states.remove(session.getUploadId());
+        localFileStore.deleteTemp(part);
+
+        return toDto(session, session.getTotalSize(), new FileFormat(file));
+    }
+
+    // 같은 트랜잭션에서 File 등록 + 세션 완료
+    private File register(FileUploadSession session, LocalFileStore.StoredFile storedFile) {
+        File registered = fileService.registerStoredFile(session.getFileCategory(), session.getFileKey(), session.getFileName(), storedFile);
+
+        fileUploadSessionRepository.findById(session.getId())
+                .ifPresent(uploadSession -> uploadSession.complete(registered.getId()));
+
+        return registered;
+    }
+
+    private void abort(FileUploadSession session) {
+        transactionTemplate.executeWithoutResult(status ->
+                fileUploadSessionRepository.findById(session.getId()).ifPresent(FileUploadSession::abort));
+        discard(session.getUploadId());
+    }
+
+    private void fail(FileUploadSession session) {
+        transactionTemplate.executeWithoutResult(status ->
+                fileUploadSessionRepository.findById(session.getId()).ifPresent(FileUploadSession::fail));
+        discard(session.getUploadId());
+    }
+
+    private void discard(String uploadId) {
+        states.remove(uploadId);
+        localFileStore.deleteTemp(localFileStore.tempPath(uploadId + PART_SUFFIX));
+    }
+
+    private FileUploadSessionDto toDto(FileUploadSession session, long offset, FileFormat file) {
+        return FileUploadSessionDto.builder()
+                .uploadId(session.getUploadId())
+                .status(file == null ? session.getStatus().name() : UploadStatus.COMPLETED.name())
+                .offset(offset)
+                .totalSize(session.getTotalSize())
+                .expiresAt(session.getExpiresAt())
+                .file(file)
+                .build();
+    }
+
+    // 업로드 대상의 작성자 id (member 분류는 fileKey 가 회원 id, 그 외 분류는 관리자만 업로드)
+    private Optional<Long> findFileKeyOwnerId(String fileCategory, Long fileKey) {
+        return switch (fileCategory) {
+            case "member" -> Optional.of(fileKey);
+            case "post" -> postRepository.findByIdAndIsDeleteFalse(fileKey).map(post -> post.getMember().getId());
+            case "reply" -> replyRepository.findByIdAndIsDeleteFalse(fileKey).map(reply -> reply.getMember().getId());
+            case "review" -> reviewRepository.findByIdAndIsDeleteFalse(fileKey).map(review -> review.getUser().getId());
+            default -> Optional.empty();
+        };
+    }
+
+    private boolean isAdmin(Member member) {
+        return member.getRole() == Role.ROLE_ADMIN;
+    }
+
+    private void isMember(Optional<Member> member) {
+        if (member.isEmpty()) {
+            throw new NotFoundException(ResponseStatus.FAIL_MEMBER_NOT_FOUND);
+        }
+    }
+
+    private void isFileKeyOwner(Member member, String fileCategory, Long fileKey) {
+        if (isAdmin(member)) {
+            return;
+        }
+
+        if (!findFileKeyOwnerId(fileCategory, fileKey).map(member.getId()::equals).orElse(false)) {
+            throw new ForbiddenException(ResponseStatus.FAIL_FILE_UPLOAD_OWNER_NOT_MATCH);
+        }
+    }
+
+    private void isUploadOwner(Member member, FileUploadSession session) {
+        if (!isAdmin(member) && !Objects.equals(member.getId(), session.getOwnerMemberId())) {
+            throw new ForbiddenException(ResponseStatus.FAIL_FILE_UPLOAD_OWNER_NOT_MATCH);
+        }
+    }
+
+    private void isUploadSession(Optional<FileUploadSession> session) {
+        if (session.isEmpty()) {
+            throw new NotFoundException(ResponseStatus.FAIL_FILE_UPLOAD_NOT_FOUND);
+        }
+    }
+
+    private void isAllowedFileType(String extension) {
+        if (FileType.ofExtension(extension).isEmpty()) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_FILE_TYPE_NOT_ALLOWED);
+        }
+    }
+
+    /**
+     * 업로드별 기록 잠금과 누적 해시
+     * 서버 재시작 등으로 해시 상태가 없거나 위치가 어긋나면 임시 파일을 고정 버퍼로 다시 읽어 복구한다.
+     */
+    private static class UploadState {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private MessageDigest digest;
+
+        private long digestedSize = -1;
+
+        private MessageDigest digestAt(Path part, long offset) throws IOException {
+            if (digest != null && digestedSize == offset) {
+                return digest;
+            }
+
+            digest = newDigest();
+
+            if (offset > 0) {
+                byte[] buffer = BUFFER.get();
+
+                try (InputStream in = Files.newInputStream(part)) {
+                    long remaining = offset;
+                    int read;
+
+                    while (remaining > 0 && (read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining))) != -1) {
+                        digest.update(buffer, 0, read);
+                        remaining -= read;
+                    }
+
+                    if (remaining > 0) {
+                        throw new IllegalArgumentException(ResponseStatus.FAIL_FILE_UPLOAD_OFFSET_MISMATCH);
+                    }
+                }
+            }
+
+            digestedSize = offset;
+            return digest;
+        }
+
+        private void invalidate() {
+            digest = null;
+            digestedSize = -1;
+        }
+
+        private static MessageDigest newDigest() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
+}
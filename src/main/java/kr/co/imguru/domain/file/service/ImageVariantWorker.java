@@ -0,0 +1,137 @@
+package kr.co.imguru.domain.file.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.imguru.global.common.ImageVariant;
+import kr.co.imguru.global.exception.NotFoundException;
+import kr.co.imguru.global.util.ImageUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 파생본(썸네일/미리보기) 생성 워커
+ * - 업로드 커밋 직후 이벤트로 생성하고, 파생본이 없는 상태로 조회되면 다시 요청된다.
+ * - 크기가 고정된 풀/큐를 사용하므로 업로드가 몰려도 요청 스레드와 힙 사용량에 영향을 주지 않는다. (큐가 가득 차면 건너뛰고 조회 시 재요청)
+ * - 생성된 파생본은 디스크({root}/.variants)에 캐시하며 원본과 같이 불변이다.
+ */
+@Slf4j
+@Component
+public class ImageVariantWorker {
+
+    private final LocalFileStore localFileStore;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final long maxPixels;
+
+    private final float jpegQuality;
+
+    public ImageVariantWorker(LocalFileStore localFileStore,
+                              @Value("${file.image.pool-size:2}") int poolSize,
+                              @Value("${file.image.queue-capacity:100}") int queueCapacity,
+                              @Value("${file.image.max-pixels:40000000}") long maxPixels,
+                              @Value("${file.image.jpeg-quality:0.82}") float jpegQuality) {
+        this.localFileStore = localFileStore;
+        this.maxPixels = maxPixels;
+        this.jpegQuality = jpegQuality;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFileStored(FileStoredEvent event) {
+        request(event.fileCategory(), event.storedName());
+    }
+
+    /**
+     * 파생본 생성 요청 (이미 처리 중이거나 큐가 가득 차면 false)
+     */
+    public boolean request(String fileCategory, String storedName) {
+        String key = fileCategory + "/" + storedName;
+
+        if (!inFlight.add(key)) {
+            return false;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(fileCategory, storedName);
+                } finally {
+                    inFlight.remove(key);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key);
+            log.warn("[ImageVariantWorker] queue full, skipped {}", key);
+            return false;
+        }
+    }
+
+    private void generate(String fileCategory, String storedName) {
+        try {
+            Path original = localFileStore.resolve(fileCategory, storedName);
+
+            BufferedImage source = ImageUtil.read(original, maxPixels);
+
+            if (source == null) {
+                log.warn("[ImageVariantWorker] unreadable or too large image : {}/{}", fileCategory, storedName);
+                return;
+            }
+
+            for (ImageVariant variant : ImageVariant.values()) {
+                Path target = localFileStore.variantPath(fileCategory, storedName, variant);
+
+                if (Files.exists(target)) {
+                    continue;
+                }
+
+                BufferedImage resized = ImageUtil.resize(source, variant.getWidth(), variant.getHeight(), variant.isCrop());
+
+                // 임시 파일에 기록 후 이동 (조회 중 부분 파일이 노출되지 않도록)
+                Path temp = localFileStore.tempPath(storedName + "." + variant.getPath());
+
+                try {
+                    Files.createDirectories(target.getParent());
+                    ImageUtil.writeJpeg(resized, temp, jpegQuality);
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    // 기록/이동 중 실패하면 .tmp 에 남지 않도록 (이동에 성공했으면 이미 없음)
+                    Files.deleteIfExists(temp);
+                }
+            }
+        } catch (NoSuchFileException | NotFoundException e) {
+            log.warn("[ImageVariantWorker] original deleted : {}/{}", fileCategory, storedName);
+        } catch (IOException | RuntimeException e) {
+            log.error("[ImageVariantWorker] generate failed : {}/{}", fileCategory, storedName, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,202 @@
+package kr.co.imguru.domain.file.service;
+
+import kr.co.imguru.global.common.ImageVariant;
+import kr.co.imguru.global.exception.IllegalArgumentException;
+import kr.co.imguru.global.exception.NotFoundException;
+import kr.co.imguru.global.model.ResponseStatus;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 디스크 파일 저장소
+ * - 원본은 내용(SHA-256) 주소로 {root}/blob/{sha256}.{확장자} 에 한 번만 저장 (참조 관리는 FileBlobService)
+ * - 한 번 저장된 파일은 덮어쓰지 않는다. (불변 -> 장기 캐시 가능)
+ * - 임시 파일에 기록한 뒤 원자적으로 이동하므로 다른 요청이 기록 중인 파일을 읽지 않는다.
+ */
+@Slf4j
+@Component
+public class LocalFileStore {
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,127}");
+
+    private static final Pattern EXTENSION_PATTERN = Pattern.compile("[a-z0-9]{1,10}");
+
+    // 내용 주소 원본 저장 분류 ({root}/blob/{sha256}.{확장자})
+    public static final String BLOB_CATEGORY = "blob";
+
+    private static final String TEMP_DIR = ".tmp";
+
+    private static final String VARIANT_DIR = ".variants";
+
+    private static final String VARIANT_EXTENSION = ".jpg";
+
+    @Getter
+    private final Path root;
+
+    private final String baseUrl;
+
+    public LocalFileStore(@Value("${file.storage.root:./upload}") String root,
+                          @Value("${file.storage.base-url:}") String baseUrl) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl;
+
+        try {
+            Files.createDirectories(this.root.resolve(TEMP_DIR));
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일 저장 경로를 생성할 수 없습니다. : " + this.root, e);
+        }
+
+        log.info("[LocalFileStore] root={}", this.root);
+    }
+
+    /**
+     * 임시 파일을 내용 주소 경로({root}/blob/{storedName})로 원자적 이동
+     * 같은 내용이 이미 저장되어 있으면 임시 파일만 삭제 (FileBlobService 가 원본별 잠금 안에서 호출)
+     */
+    public StoredFile place(StagedFile stagedFile, String storedName) {
+        Path target = blobPath(storedName);
+
+        try {
+            if (Files.exists(target)) {
+                deleteQuietly(stagedFile.temp());
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(stagedFile.temp(), target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            deleteQuietly(stagedFile.temp());
+            log.error("[LocalFileStore] place failed : {}", storedName, e);
+            throw new UncheckedIOException(e);
+        }
+
+        return new StoredFile(storedName, stagedFile.extension(), stagedFile.size(), toUrl(BLOB_CATEGORY, storedName), stagedFile.sha256());
+    }
+
+    public boolean existsBlob(String storedName) {
+        return Files.exists(blobPath(storedName));
+    }
+
+    public String blobName(String sha256, String extension) {
+        return extension == null ? sha256 : sha256 + "." + extension;
+    }
+
+    /**
+     * 기록 중인 파일의 임시 경로 (저장소와 같은 파일시스템이므로 commit 시 복사 없이 이동)
+     */
+    public Path tempPath(String name) {
+        isValidName(name);
+
+        return root.resolve(TEMP_DIR).resolve(name);
+    }
+
+    public void validateCategory(String fileCategory) {
+        isValidName(fileCategory);
+    }
+
+    /**
+     * 저장 파일 경로 조회 (경로 조작 방지를 위해 이름 형식과 root 하위 여부를 확인)
+     */
+    public Path resolve(String fileCategory, String storedName) {
+        isValidName(fileCategory);
+        isValidName(storedName);
+
+        Path path = root.resolve(fileCategory).resolve(storedName).normalize();
+
+        if (!path.startsWith(root) || !Files.isRegularFile(path)) {
+            throw new NotFoundException(ResponseStatus.FAIL_FILE_NOT_FOUND);
+        }
+
+        return path;
+    }
+
+    /**
+     * 이미지 파생본 경로 : {root}/.variants/{variant}/{fileCategory}/{storedName}.jpg
+     * 원본과 마찬가지로 불변이며, 파일이 없으면 아직 생성되지 않은 것
+     */
+    public Path variantPath(String fileCategory, String storedName, ImageVariant variant) {
+        isValidName(fileCategory);
+        isValidName(storedName);
+
+        return root.resolve(VARIANT_DIR).resolve(variant.getPath()).resolve(fileCategory).resolve(storedName + VARIANT_EXTENSION);
+    }
+
+    public void deleteBlob(String storedName) {
+        delete(BLOB_CATEGORY, storedName);
+    }
+
+    public void deleteTemp(Path temp) {
+        deleteQuietly(temp);
+    }
+
+    public void delete(String fileCategory, String storedName) {
+        try {
+            deleteQuietly(resolve(fileCategory, storedName));
+        } catch (NotFoundException e) {
+            log.warn("[LocalFileStore] already deleted : {}/{}", fileCategory, storedName);
+        }
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            deleteQuietly(variantPath(fileCategory, storedName, variant));
+        }
+    }
+
+    public String toUrl(String fileCategory, String storedName) {
+        return baseUrl + "/api/v1/file/view/" + fileCategory + "/" + storedName;
+    }
+
+    public String toVariantUrl(String fileCategory, String storedName, ImageVariant variant) {
+        return toUrl(fileCategory, storedName) + "/" + variant.getPath();
+    }
+
+    public String extractExtension(String originalFilename) {
+        if (originalFilename == null) {
+            return null;
+        }
+
+        int index = originalFilename.lastIndexOf('.');
+
+        if (index < 0 || index == originalFilename.length() - 1) {
+            return null;
+        }
+
+        String extension = originalFilename.substring(index + 1).toLowerCase(Locale.ROOT);
+
+        return EXTENSION_PATTERN.matcher(extension).matches() ? extension : null;
+    }
+
+    private Path blobPath(String storedName) {
+        return root.resolve(BLOB_CATEGORY).resolve(storedName);
+    }
+
+    private void isValidName(String name) {
+        if (name == null || !NAME_PATTERN.matcher(name).matches()) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_FILE_NAME_INVALID);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[LocalFileStore] delete failed : {}", path, e);
+        }
+    }
+
+    public record StagedFile(Path temp, String sha256, String extension, long size) {
+    }
+
+    public record StoredFile(String storedName, String extension, long size, String url, String sha256) {
+    }
+
+}
@@ -58,6 +58,13 @@ public class GuruInfoRestController {
         return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, guruInfoService.getAllGuruInfos());
     }
 
+    //Read Near - 로그인 회원 주소 기준, 해당 스킬의 활동 지역 고수 목록
+    @PostMapping("/guru/near")
+    public ResponseFormat<List<GuruInfoReadDto>> readNearGuruInfos(@AuthenticationPrincipal UserDetails userDetails,
+                                                                   @RequestParam String skill) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, guruInfoService.getNearGuruInfos(userDetails.getUsername(), skill));
+    }
+
     //Update
     @PostMapping("/guru/update")
     public ResponseFormat<GuruInfoReadDto> updateGuruInfo (@AuthenticationPrincipal UserDetails userDetails,
@@ -7,6 +7,7 @@ import kr.co.imguru.domain.member.entity.QMember;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -63,4 +64,42 @@ public class GuruInfoSearchRepository {
         return Optional.ofNullable(temp);
     }
 
+    // 삭제 여부와 무관하게 조회 (고수 지역 인덱스 갱신용)
+    public Optional<GuruInfo> findGuruInfoWithMemberById(Long guruInfoId) {
+        GuruInfo temp = queryFactory
+                .selectFrom(guruInfo)
+                .join(guruInfo.member, member)
+                .fetchJoin()
+                .where(
+                        guruInfo.id.eq(guruInfoId)
+                )
+                .fetchOne();
+
+        return Optional.ofNullable(temp);
+    }
+
+    public List<GuruInfo> findAllGuruInfosWithMember() {
+        return queryFactory
+                .selectFrom(guruInfo)
+                .join(guruInfo.member, member)
+                .fetchJoin()
+                .where(
+                        guruInfo.isDelete.eq(Boolean.FALSE),
+                        member.isDelete.eq(Boolean.FALSE)
+                )
+                .fetch();
+    }
+
+    public List<GuruInfo> findGuruInfosByIds(List<Long> guruInfoIds) {
+        return queryFactory
+                .selectFrom(guruInfo)
+                .join(guruInfo.member, member)
+                .fetchJoin()
+                .where(
+                        guruInfo.isDelete.eq(Boolean.FALSE),
+                        guruInfo.id.in(guruInfoIds)
+                )
+                .fetch();
+    }
+
 }
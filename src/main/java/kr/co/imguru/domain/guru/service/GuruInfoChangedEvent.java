@@ -0,0 +1,7 @@
+package kr.co.imguru.domain.guru.service;
+
+/**
+ * 고수 정보 / 고수 회원(스킬, 탈퇴) 변경 (트랜잭션 커밋 후 고수 지역 인덱스에 반영)
+ */
+public record GuruInfoChangedEvent(Long guruInfoId) {
+}
@@ -21,6 +21,8 @@ public interface GuruInfoService {
 
     List<GuruInfoReadDto> getAllGuruInfos();
 
+    List<GuruInfoReadDto> getNearGuruInfos(String email, String skillName);
+
     GuruInfoReadDto updateGuruInfo(String email, GuruInfoUpdateDto updateDto);
 
     void deleteGuruInfo(String memberNickname);
@@ -9,11 +9,15 @@ import kr.co.imguru.domain.guru.repository.GuruInfoRepository;
 import kr.co.imguru.domain.guru.repository.GuruInfoSearchRepository;
 import kr.co.imguru.domain.member.entity.Member;
 import kr.co.imguru.domain.member.repository.MemberRepository;
+import kr.co.imguru.domain.skill.entity.Skill;
+import kr.co.imguru.domain.skill.repository.SkillRepository;
 import kr.co.imguru.global.common.Role;
 import kr.co.imguru.global.exception.DuplicatedException;
 import kr.co.imguru.global.exception.NotFoundException;
 import kr.co.imguru.global.model.ResponseStatus;
+import kr.co.imguru.global.util.RegionUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -29,6 +33,12 @@ public class GuruInfoServiceImpl implements GuruInfoService {
 
     private final GuruInfoSearchRepository guruInfoSearchRepository;
 
+    private final SkillRepository skillRepository;
+
+    private final GuruRegionIndex guruRegionIndex;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
     @Transactional
     public void createGuruInfo(String email, GuruInfoCreateDto createDto) {
@@ -43,6 +53,8 @@ public class GuruInfoServiceImpl implements GuruInfoService {
         GuruInfo guruinfo = toEntity(createDto, member.get());
 
         guruRepository.save(guruinfo);
+
+        eventPublisher.publishEvent(new GuruInfoChangedEvent(guruinfo.getId()));
     }
 
     @Override
@@ -97,6 +109,33 @@ public class GuruInfoServiceImpl implements GuruInfoService {
                 .toList();
     }
 
+    /*
+    로그인 회원의 주소를 지역 키로 정규화한 뒤, 인메모리 지역 인덱스에서 해당 스킬의 고수 정보 id 를 조회
+    DB 는 조회된 id 들의 상세 정보를 가져올 때만 사용
+     */
+    @Override
+    @Transactional
+    public List<GuruInfoReadDto> getNearGuruInfos(String email, String skillName) {
+        Optional<Member> loginMember = memberRepository.findByEmailAndIsDeleteFalse(email);
+        isMember(loginMember);
+
+        Optional<Skill> skill = skillRepository.findByNameAndIsDeleteFalse(skillName);
+        isSkill(skill);
+
+        String regionKey = RegionUtil.normalizeMemberAddress(loginMember.get().getRoadAddress(), loginMember.get().getZoneCode());
+
+        List<Long> guruInfoIds = guruRegionIndex.findGuruInfoIds(regionKey, skill.get().getId());
+
+        if (guruInfoIds.isEmpty()) {
+            return List.of();
+        }
+
+        return guruInfoSearchRepository.findGuruInfosByIds(guruInfoIds)
+                .stream()
+                .map(this::toReadDto)
+                .toList();
+    }
+
     @Override
     @Transactional
     public GuruInfoReadDto updateGuruInfo(String email, GuruInfoUpdateDto updateDto) {
@@ -112,6 +151,8 @@ public class GuruInfoServiceImpl implements GuruInfoService {
 
         guruRepository.save(guruInfo.get());
 
+        eventPublisher.publishEvent(new GuruInfoChangedEvent(guruInfo.get().getId()));
+
         return toReadDto(guruInfo.get());
     }
 
@@ -130,6 +171,8 @@ public class GuruInfoServiceImpl implements GuruInfoService {
         guruRepository.delete(guruInfo.get());
 
         guruRepository.save(guruInfo.get());
+
+        eventPublisher.publishEvent(new GuruInfoChangedEvent(guruInfo.get().getId()));
     }
 
     private void isGuruMember(Optional<Member> member) {
@@ -142,6 +185,18 @@ public class GuruInfoServiceImpl implements GuruInfoService {
         }
     }
 
+    private void isMember(Optional<Member> member) {
+        if (member.isEmpty()) {
+            throw new NotFoundException(ResponseStatus.FAIL_MEMBER_NOT_FOUND);
+        }
+    }
+
+    private void isSkill(Optional<Skill> skill) {
+        if (skill.isEmpty()) {
+            throw new NotFoundException(ResponseStatus.FAIL_SKILL_NOT_FOUND);
+        }
+    }
+
     private void isGuruInfo(Optional<GuruInfo> guruInfo) {
         if (guruInfo.isEmpty()) {
             throw new NotFoundException(ResponseStatus.FAIL_GURU_INFO_NOT_FOUND);
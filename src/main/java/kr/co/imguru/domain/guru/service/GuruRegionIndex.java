@@ -0,0 +1,150 @@
+package kr.co.imguru.domain.guru.service;
+
+import kr.co.imguru.domain.guru.entity.GuruInfo;
+import kr.co.imguru.domain.guru.repository.GuruInfoSearchRepository;
+import kr.co.imguru.global.util.RegionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지역 키 -> 스킬 id -> 고수 정보 id 목록 인메모리 인덱스
+ * 조회는 lock 없이 처리하고, 변경은 정렬된 long[] 을 새로 만들어 교체(copy-on-write)한다.
+ * 변경은 GuruInfoChangedEvent 로 커밋된 뒤에만 반영 (롤백된 변경이 인덱스에 남지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuruRegionIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final GuruInfoSearchRepository guruInfoSearchRepository;
+
+    // regionKey -> (skillId -> 정렬된 guruInfoId 배열)
+    private final Map<String, Map<Long, long[]>> index = new ConcurrentHashMap<>();
+
+    // guruInfoId -> 색인된 지역 키, 스킬 id (변경/삭제 시 기존 항목 제거용)
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<GuruInfo> guruInfos = guruInfoSearchRepository.findAllGuruInfosWithMember();
+
+        synchronized (this) {
+            index.clear();
+            entries.clear();
+            guruInfos.forEach(this::put);
+        }
+
+        log.info("[GuruRegionIndex] indexed {} guruInfos into {} regions", entries.size(), index.size());
+    }
+
+    // 커밋된 상태를 다시 읽어 색인 (삭제되었거나 조회되지 않으면 제거)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChanged(GuruInfoChangedEvent event) {
+        guruInfoSearchRepository.findGuruInfoWithMemberById(event.guruInfoId())
+                .ifPresentOrElse(this::put, () -> remove(event.guruInfoId()));
+    }
+
+    public synchronized void put(GuruInfo guruInfo) {
+        remove(guruInfo.getId());
+
+        if (guruInfo.isDelete() || guruInfo.getMember().isDelete() || guruInfo.getMember().getSkill() == null) {
+            return;
+        }
+
+        Set<String> regionKeys = RegionUtil.normalizeWorkArea(guruInfo.getWorkArea());
+        Long skillId = guruInfo.getMember().getSkill().getId();
+
+        for (String regionKey : regionKeys) {
+            index.computeIfAbsent(regionKey, key -> new ConcurrentHashMap<>())
+                    .compute(skillId, (key, ids) -> insert(ids == null ? EMPTY : ids, guruInfo.getId()));
+        }
+
+        entries.put(guruInfo.getId(), new Entry(regionKeys, skillId));
+    }
+
+    public synchronized void remove(Long guruInfoId) {
+        Entry entry = entries.remove(guruInfoId);
+
+        if (entry == null) {
+            return;
+        }
+
+        for (String regionKey : entry.regionKeys()) {
+            Map<Long, long[]> skillIndex = index.get(regionKey);
+
+            if (skillIndex != null) {
+                skillIndex.computeIfPresent(entry.skillId(), (key, ids) -> {
+                    long[] removed = delete(ids, guruInfoId);
+                    return removed.length == 0 ? null : removed;
+                });
+            }
+        }
+    }
+
+    /**
+     * 회원 지역 키와 스킬 id 로 고수 정보 id 조회
+     * 시/군/구 -> 시/도 전체 -> 전국 순으로 포함되는 고수를 중복 없이 반환
+     */
+    public List<Long> findGuruInfoIds(String memberRegionKey, Long skillId) {
+        Set<Long> result = new LinkedHashSet<>();
+
+        for (String regionKey : RegionUtil.expandSearchKeys(memberRegionKey)) {
+            Map<Long, long[]> skillIndex = index.get(regionKey);
+
+            if (skillIndex == null) {
+                continue;
+            }
+
+            long[] ids = skillIndex.getOrDefault(skillId, EMPTY);
+            for (long id : ids) {
+                result.add(id);
+            }
+        }
+
+        return new ArrayList<>(result);
+    }
+
+    private static long[] insert(long[] ids, long id) {
+        int position = Arrays.binarySearch(ids, id);
+
+        if (position >= 0) {
+            return ids;
+        }
+
+        int insertAt = -position - 1;
+        long[] inserted = new long[ids.length + 1];
+        System.arraycopy(ids, 0, inserted, 0, insertAt);
+        inserted[insertAt] = id;
+        System.arraycopy(ids, insertAt, inserted, insertAt + 1, ids.length - insertAt);
+
+        return inserted;
+    }
+
+    private static long[] delete(long[] ids, long id) {
+        int position = Arrays.binarySearch(ids, id);
+
+        if (position < 0) {
+            return ids;
+        }
+
+        long[] deleted = new long[ids.length - 1];
+        System.arraycopy(ids, 0, deleted, 0, position);
+        System.arraycopy(ids, position + 1, deleted, position, ids.length - position - 1);
+
+        return deleted;
+    }
+
+    private record Entry(Set<String> regionKeys, Long skillId) {
+    }
+
+}
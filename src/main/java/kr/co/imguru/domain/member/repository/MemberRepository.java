@@ -3,8 +3,11 @@ package kr.co.imguru.domain.member.repository;
 import kr.co.imguru.domain.member.entity.Member;
 import kr.co.imguru.global.common.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,4 +33,15 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     List<Member> findAllByRole(Role role);
 
     List<Member> findAllBySkillId(Long skillId);
+
+    // 관리자 일괄 삭제/복구 (AdminBulkJob)
+    @Modifying
+    @Query("UPDATE Member m SET m.isDelete = true, m.modDate = :now " +
+            "WHERE m.id IN :ids AND m.isDelete = false")
+    int softDeleteAllByIdIn(List<Long> ids, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Member m SET m.isDelete = false, m.modDate = :now " +
+            "WHERE m.id IN :ids AND m.isDelete = true")
+    int restoreAllByIdIn(List<Long> ids, LocalDateTime now);
 }
@@ -1,9 +1,13 @@
 package kr.co.imguru.domain.member.service;
 
 import jakarta.transaction.Transactional;
+import kr.co.imguru.domain.admin.service.AdminMetricRecorder;
 import kr.co.imguru.domain.file.entity.File;
 import kr.co.imguru.domain.file.entity.FileFormat;
 import kr.co.imguru.domain.file.repository.FileRepository;
+import kr.co.imguru.domain.file.service.FileService;
+import kr.co.imguru.domain.guru.repository.GuruInfoSearchRepository;
+import kr.co.imguru.domain.guru.service.GuruInfoChangedEvent;
 import kr.co.imguru.domain.member.dto.MemberCreateDto;
 import kr.co.imguru.domain.member.dto.MemberLoginDto;
 import kr.co.imguru.domain.member.dto.MemberReadDto;
@@ -32,6 +36,7 @@ import kr.co.imguru.global.exception.NotFoundException;
 import kr.co.imguru.global.model.ResponseStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -59,10 +64,18 @@ public class MemberServiceImpl implements MemberService {
 
     private final FileRepository fileRepository;
 
+    private final FileService fileService;
+
+    private final GuruInfoSearchRepository guruInfoSearchRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     private final PasswordEncoder passwordEncoder;
 
     private final JwtProvider jwtProvider;
 
+    private final AdminMetricRecorder adminMetricRecorder;
+
     @Override
     @Transactional
     public void createMember(MemberCreateDto createDto) {
@@ -72,7 +85,9 @@ public class MemberServiceImpl implements MemberService {
         isNickname(createDto.getNickname());
         isConfirmPassword(createDto.getPassword(), createDto.getConfirmPassword());
 
-        memberRepository.save(toEntity(createDto));
+        Member member = memberRepository.save(toEntity(createDto));
+
+        adminMetricRecorder.memberJoined(member);
     }
 
     @Override
@@ -87,7 +102,9 @@ public class MemberServiceImpl implements MemberService {
         Optional<Skill> skill = skillRepository.findByNameAndIsDeleteFalse(createDto.getSkillName());
         isSkill(skill);
 
-        memberRepository.save(toGuru(createDto, skill.get()));
+        Member member = memberRepository.save(toGuru(createDto, skill.get()));
+
+        adminMetricRecorder.memberJoined(member);
     }
 
     @Override
@@ -152,10 +169,20 @@ public class MemberServiceImpl implements MemberService {
 
 //        isPassword(loginMember.get().getPassword(), updateDto.getPassword());
 
+        Skill beforeSkill = loginMember.get().getSkill();
+
         loginMember.get().changeMember(updateDto, passwordEncoder.encode(updateDto.getPassword()), skillRepository.findByNameAndIsDeleteFalse(updateDto.getSkillName()).get());
 
+        adminMetricRecorder.memberSkillChanged(beforeSkill, loginMember.get().getSkill());
+
         memberRepository.save(loginMember.get());
 
+        // 스킬이 바뀌면 고수 지역 인덱스 갱신 (커밋 후)
+        if (isSkillChanged(beforeSkill, loginMember.get().getSkill())) {
+            guruInfoSearchRepository.findGuruInfoByMemberId(loginMember.get().getId())
+                    .ifPresent(guruInfo -> eventPublisher.publishEvent(new GuruInfoChangedEvent(guruInfo.getId())));
+        }
+
         return toReadDto(loginMember.get());
     }
 
@@ -166,9 +193,17 @@ public class MemberServiceImpl implements MemberService {
 
         isMember(member);
 
+        /*프로필 이미지 삭제 (원본 참조 해제)*/
+        fileService.deleteFilesByFileKey("member", member.get().getId());
+
         member.get().changeDeleteAt();
 
         memberRepository.save(member.get());
+
+        adminMetricRecorder.memberLeft(member.get());
+
+        guruInfoSearchRepository.findGuruInfoByMemberId(member.get().getId())
+                .ifPresent(guruInfo -> eventPublisher.publishEvent(new GuruInfoChangedEvent(guruInfo.getId())));
     }
 
     @Override
@@ -312,7 +347,9 @@ public class MemberServiceImpl implements MemberService {
         Optional<Pay> pay = payRepository.findById(payId);
         isPay(pay);
 
-        Optional<Post> post = postRepository.findByIdAndIsDeleteFalse(Long.valueOf(pay.get().getMercntParam1()));
+        Long postId = pay.get().getPostId() != null ? pay.get().getPostId() : Long.valueOf(pay.get().getMercntParam1());
+
+        Optional<Post> post = postRepository.findByIdAndIsDeleteFalse(postId);
 
         Optional<Member> guru = memberRepository.findByIdAndIsDeleteFalse(post.get().getMember().getId());
         isMember(guru);
@@ -337,6 +374,13 @@ public class MemberServiceImpl implements MemberService {
         }
     }
 
+    private boolean isSkillChanged(Skill before, Skill after) {
+        Long beforeId = before == null ? null : before.getId();
+        Long afterId = after == null ? null : after.getId();
+
+        return !Objects.equals(beforeId, afterId);
+    }
+
     private void isMember(Optional<Member> member) {
         if (member.isEmpty()) {
             throw new NotFoundException(ResponseStatus.FAIL_MEMBER_NOT_FOUND);
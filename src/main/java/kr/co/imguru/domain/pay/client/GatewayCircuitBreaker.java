@@ -0,0 +1,75 @@
+package kr.co.imguru.domain.pay.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 결제 서버 호출용 서킷 브레이커
+ * CLOSED   : 정상 호출, 연속 실패가 failureThreshold 에 도달하면 OPEN
+ * OPEN     : openDurationMillis 동안 호출 차단 (즉시 실패)
+ * HALF_OPEN: 시험 호출 1건만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+@Slf4j
+public class GatewayCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+
+    private final long openDurationMillis;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private volatile long openedAt;
+
+    public GatewayCircuitBreaker(int failureThreshold, long openDurationMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDurationMillis;
+    }
+
+    public boolean tryAcquire() {
+        State current = state.get();
+
+        if (current == State.CLOSED) {
+            return true;
+        }
+
+        if (current == State.OPEN && System.currentTimeMillis() - openedAt >= openDurationMillis) {
+            // 차단 시간이 지나면 시험 호출 1건만 통과
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+
+        return false;
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            log.info("[GatewayCircuitBreaker] closed");
+        }
+    }
+
+    public void onFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+
+        if (state.get() == State.HALF_OPEN || failures >= failureThreshold) {
+            openedAt = System.currentTimeMillis();
+
+            if (state.getAndSet(State.OPEN) != State.OPEN) {
+                log.warn("[GatewayCircuitBreaker] opened after {} consecutive failures", failures);
+            }
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+}
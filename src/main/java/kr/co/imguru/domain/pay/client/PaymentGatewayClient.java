@@ -0,0 +1,151 @@
+package kr.co.imguru.domain.pay.client;
+
+import kr.co.imguru.global.exception.PaymentGatewayException;
+import kr.co.imguru.global.exception.PaymentGatewayResultUnknownException;
+import kr.co.imguru.global.model.ResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.ConnectException;
+
+/**
+ * 세틀뱅크 결제 서버 호출 클라이언트
+ * - 커넥션 풀/타임아웃이 설정된 RestTemplate 재사용 (PaymentGatewayConfig)
+ * - 서버에 요청이 전달되지 않은 연결 실패만 재시도 (승인/취소가 중복 처리되지 않도록)
+ *   연결 실패 / 서킷 오픈은 PaymentGatewayException, 전달 여부를 알 수 없으면 PaymentGatewayResultUnknownException
+ * - 연속 실패 시 서킷 브레이커로 호출 차단
+ */
+@Slf4j
+@Component
+public class PaymentGatewayClient {
+
+    private static final String APPROVE_PATH = "/APIPayApprov.do";
+
+    private static final String CANCEL_PATH = "/APIPayCancel.do";
+
+    private final RestTemplate restTemplate;
+
+    private final GatewayCircuitBreaker circuitBreaker;
+
+    private final String gatewayUrl;
+
+    private final String inquiryPath;
+
+    private final int maxAttempts;
+
+    private final long retryBackoffMillis;
+
+    public PaymentGatewayClient(@Qualifier("paymentGatewayRestTemplate") RestTemplate restTemplate,
+                                @Value("${pay.gateway.url}") String gatewayUrl,
+                                @Value("${pay.gateway.inquiry-path:/APIPayInquiry.do}") String inquiryPath,
+                                @Value("${pay.gateway.max-attempts:3}") int maxAttempts,
+                                @Value("${pay.gateway.retry-backoff:200}") long retryBackoffMillis,
+                                @Value("${pay.gateway.failure-threshold:5}") int failureThreshold,
+                                @Value("${pay.gateway.open-duration:30000}") long openDurationMillis) {
+        this.restTemplate = restTemplate;
+        this.gatewayUrl = gatewayUrl;
+        this.inquiryPath = inquiryPath;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.circuitBreaker = new GatewayCircuitBreaker(failureThreshold, openDurationMillis);
+    }
+
+    // 결제 승인 요청
+    public JSONObject approve(JSONObject reqParam) {
+        return post(APPROVE_PATH, reqParam);
+    }
+
+    // 결제 취소 요청
+    public JSONObject cancel(JSONObject reqParam) {
+        return post(CANCEL_PATH, reqParam);
+    }
+
+    // 거래 상태 조회 (대사)
+    public JSONObject inquire(JSONObject reqParam) {
+        return post(inquiryPath, reqParam);
+    }
+
+    public GatewayCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private JSONObject post(String path, JSONObject reqParam) {
+        if (!circuitBreaker.tryAcquire()) {
+            log.warn("[PaymentGatewayClient] circuit open, rejected {}", path);
+            throw new PaymentGatewayException(ResponseStatus.FAIL_PAY_GATEWAY_UNAVAILABLE);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.CONTENT_TYPE, "application/json;charset=UTF-8");
+        HttpEntity<String> entity = new HttpEntity<>(reqParam.toString(), headers);
+
+        // 결제 서버가 응답했는지 (4xx / 본문 파싱 실패도 서버는 정상), 어떤 경로로 끝나든 브레이커에 기록
+        boolean reachable = false;
+
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    ResponseEntity<String> response = restTemplate.exchange(gatewayUrl + path, HttpMethod.POST, entity, String.class);
+                    reachable = true;
+
+                    return new JSONObject(response.getBody());
+                } catch (HttpClientErrorException e) {
+                    reachable = true;
+                    log.error("[PaymentGatewayClient] {} rejected : {}", path, e.getMessage());
+                    throw e;
+                } catch (ResourceAccessException | HttpServerErrorException e) {
+                    if (attempt < maxAttempts && isConnectFailure(e)) {
+                        log.warn("[PaymentGatewayClient] {} connect failed (attempt {}/{}) : {}", path, attempt, maxAttempts, e.getMessage());
+                        sleep(retryBackoffMillis * attempt);
+                        continue;
+                    }
+
+                    log.error("[PaymentGatewayClient] {} failed : {}", path, e.getMessage());
+
+                    if (isConnectFailure(e)) {
+                        throw new PaymentGatewayException(ResponseStatus.FAIL_PAY_GATEWAY_UNAVAILABLE);
+                    }
+
+                    // 응답 시간 초과 / 5xx : 결제 서버에서 이미 처리되었을 수 있음
+                    throw new PaymentGatewayResultUnknownException(ResponseStatus.FAIL_PAY_GATEWAY_RESULT_UNKNOWN);
+                }
+            }
+        } finally {
+            // HALF_OPEN 시험 호출도 반드시 결과가 기록되어야 다음 호출이 허용된다.
+            if (reachable) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+        }
+    }
+
+    private boolean isConnectFailure(RestClientException e) {
+        Throwable cause = e.getCause();
+
+        return cause instanceof ConnectException || cause instanceof ConnectTimeoutException;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayException(ResponseStatus.FAIL_PAY_GATEWAY_UNAVAILABLE);
+        }
+    }
+
+}
@@ -7,12 +7,19 @@ import kr.co.imguru.domain.pay.dto.PayApprovDto;
 import kr.co.imguru.domain.pay.dto.PayCancelDto;
 import kr.co.imguru.domain.pay.dto.PayCreateDto;
 import kr.co.imguru.domain.pay.dto.PayReservDto;
+import kr.co.imguru.domain.pay.dto.PayRollupDto;
+import kr.co.imguru.domain.pay.dto.PaySliceDto;
+import kr.co.imguru.domain.pay.dto.PayStatusDto;
 import kr.co.imguru.domain.pay.entity.Pay;
 import kr.co.imguru.domain.pay.repository.PayRepository;
+import kr.co.imguru.domain.pay.service.PayProcessService;
+import kr.co.imguru.domain.pay.service.PayRollupService;
 import kr.co.imguru.domain.pay.service.PayService;
 import kr.co.imguru.domain.pay.dto.PostPayDto;
 import kr.co.imguru.domain.post.dto.PostReadDto;
+import kr.co.imguru.domain.post.repository.PostRepository;
 import kr.co.imguru.global.auth.CustomUserDetails;
+import kr.co.imguru.global.common.PayStatus;
 import kr.co.imguru.global.model.ResponseFormat;
 import kr.co.imguru.global.model.ResponseStatus;
 import kr.co.imguru.global.util.ChiperUtil;
@@ -21,19 +28,15 @@ import kr.co.imguru.global.util.SignatureUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.json.JSONObject;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.web.servlet.view.RedirectView;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +51,12 @@ public class PayRestController {
 
     private final PayService payService;
 
+    private final PayProcessService payProcessService;
+
+    private final PayRollupService payRollupService;
+
+    private final PostRepository postRepository;
+
     @PostMapping("/pay/post/{postId}")
     public ResponseFormat<PostPayDto> createPayByPost(@AuthenticationPrincipal UserDetails userDetails,
                                                       @PathVariable Long postId) {
@@ -64,6 +73,27 @@ public class PayRestController {
         return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, payService.getPaysByLoginMember(userDetails.getUsername()));
     }
 
+    @GetMapping("/pay/my")
+    public ResponseFormat<PaySliceDto> getMyPays(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                 @RequestParam(required = false) Long cursor,
+                                                 @RequestParam(defaultValue = "20") int size) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, payService.getMyPays(userDetails.getUsername(), cursor, size));
+    }
+
+    @GetMapping("/pay/myPost")
+    public ResponseFormat<PaySliceDto> getPaysForMyPosts(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                         @RequestParam(required = false) Long cursor,
+                                                         @RequestParam(defaultValue = "20") int size) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, payService.getPaysForMyPosts(userDetails.getUsername(), cursor, size));
+    }
+
+    @GetMapping("/pay/revenue/my")
+    public ResponseFormat<List<PayRollupDto>> getMyRevenue(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, payRollupService.getMyRevenue(userDetails.getUsername(), from, to));
+    }
+
     @PostMapping("/payReserv")
     public PayReservDto payReserv(@RequestBody PayCreateDto createDto) throws Exception {
 
@@ -106,8 +136,13 @@ public class PayRestController {
                 .viewType(viewType)
                 .build();
 
-        // 주문 정보 저장
+        // 주문 정보 저장 (판매자 id 는 판매자 기준 결제 내역 조회용으로 복사)
+        Long postId = toId(mercntParam1);
+
         Pay order = Pay.builder()
+                .buyerMemberId(toId(mercntParam2))
+                .postId(postId)
+                .sellerMemberId(postId == null ? null : postRepository.findMemberIdById(postId).orElse(null))
                 .ordNo(ordNo)
                 .mercntId(mercntId)
                 .trPrice(Long.parseLong(trPrice))
@@ -118,7 +153,7 @@ public class PayRestController {
                 .mercntParam1(mercntParam1)
                 .mercntParam2(mercntParam2)
                 .viewType(viewType)
-                .payStatus("O")
+                .payStatus(PayStatus.ORDERED)
                 .build();
 
         payRepository.save(order);
@@ -146,9 +181,8 @@ public class PayRestController {
         String viewType = pay.getViewType();
 
         if (resultCd.equals("0")) {
-            pay.setAuthNo(request.getParameter("authNo"));
-            pay.setPayStatus("A");
-            payRepository.save(pay);
+            // 인증 정보 저장 + 승인 요청 적재 (중복 콜백은 기존 요청을 그대로 사용)
+            payProcessService.acceptCallback(ordNo, authNo);
 
             PostPayDto postPayDto = PostPayDto.builder()
                     .resultCd(resultCd)
@@ -201,166 +235,36 @@ public class PayRestController {
     }
 
     @PostMapping("/payAction")
-    public PayApprovDto paymentAction(@RequestBody PostPayDto postPayDto) throws Exception {
-
-        String encrypt_key = "SETTLEBANKISGOODSETTLEBANKISGOOD";
-
-        String hdInfo = "IA_APPROV";
-        String apiVer = "3.0";
-        String mercntId = postPayDto.getMercntId();
-        String authNo = postPayDto.getAuthNo();
-        String reqDay = DateUtil.currentDateString();
-        String reqTime = DateUtil.currentTimeString();
-        String ordNo = postPayDto.getOrdNo();
-
-        String signature = SignatureUtil.sha256(mercntId + authNo + reqDay + reqTime + encrypt_key);
-
-        //요청 파라메터
-        JSONObject reqParam = new JSONObject();
-        reqParam.put("hdInfo", hdInfo);
-        reqParam.put("apiVer", apiVer);
-        reqParam.put("mercntId", mercntId);
-        reqParam.put("authNo", authNo);
-        reqParam.put("reqDay", reqDay);
-        reqParam.put("reqTime", reqTime);
-        reqParam.put("signature", signature);
-
-        log.info("request json : " + reqParam.toString());
-        System.out.println("----payAction Request Log-----");
-        System.out.println(reqParam.toString());
-
-        // 응답 파라메터
-        JSONObject responseJSON = null;
-
-        RestTemplate rt = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-        headers.add(HttpHeaders.CONTENT_TYPE, "application/json;charset=UTF-8");
-
-        ResponseEntity<String> payApprovResponse = rt.exchange(
-                "https://tbezauthapi.settlebank.co.kr/APIPayApprov.do",
-                HttpMethod.POST,
-                new HttpEntity<>(reqParam.toString(), headers),
-                String.class);
-        responseJSON = new JSONObject(payApprovResponse.getBody());
-
-        log.info(responseJSON.toString());
-        System.out.println("----payAction Response Log-----");
-        System.out.println(responseJSON.toString());
-
-        Pay pay = payRepository.findByOrdNo(ordNo).orElseThrow(Exception::new);
-        log.info(pay.toString());
-
-        PayApprovDto payApprovDto = null;
-
-        if ("0".equals(responseJSON.get("resultCd").toString())) {
-            // 성공시 후처리
-            pay.setPayResultCd("0");
-            pay.setTrNo(responseJSON.get("trNo").toString());
-            pay.setPayStatus("P");
-            payRepository.save(pay);
-
-            payApprovDto = PayApprovDto.builder()
-                    .resultCd(responseJSON.get("resultCd").toString())
-                    .trNo(responseJSON.get("trNo").toString())
-                    .build();
-        } else {
-            // 실패시 후처리
-            pay.setPayResultCd(responseJSON.get("errCd").toString());
-            pay.setPayResultMsg(responseJSON.get("resultMsg").toString());
-            payRepository.save(pay);
-
-            payApprovDto = PayApprovDto.builder()
-                    .resultCd(responseJSON.get("resultCd").toString())
-                    .errCd(String.valueOf(responseJSON.get("errCd")))
-                    .resultMsg(responseJSON.get("resultMsg").toString())
-                    .build();
-        }
-
-        return payApprovDto;
+    public PayApprovDto paymentAction(@RequestBody PostPayDto postPayDto) {
+        // 승인은 PayOutboxWorker 에서 비동기로 처리되며, 결과는 /pay/status/{ordNo} 로 조회
+        return payProcessService.requestApproval(postPayDto.getOrdNo(), postPayDto.getAuthNo());
     }
 
+    // 구매자 본인만 취소 가능, trNo 는 저장된 승인 거래번호와 같아야 함
     @PostMapping("/payCancel/{ordNo}/{trNo}")
-    public PayCancelDto payCancel(@PathVariable String ordNo,
-                                  @PathVariable String trNo) throws Exception {
-
-        String encrypt_key = "SETTLEBANKISGOODSETTLEBANKISGOOD";
+    public PayCancelDto payCancel(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                  @PathVariable String ordNo,
+                                  @PathVariable String trNo) {
+        return payProcessService.requestCancel(userDetails.getUsername(), ordNo, trNo);
+    }
 
-        Pay pay = payRepository.findByOrdNo(ordNo).orElseThrow(Exception::new);
+    // 구매자 본인만 조회 가능 (거래번호 / 결제 서버 응답 포함)
+    @GetMapping("/pay/status/{ordNo}")
+    public ResponseFormat<PayStatusDto> getPayStatus(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                     @PathVariable String ordNo) {
+        return ResponseFormat.successWithData(ResponseStatus.SUCCESS_OK, payProcessService.getPayStatus(userDetails.getUsername(), ordNo));
+    }
 
-        String hdInfo = "IA_CANCEL";
-        String apiVer = "3.0";
-        String mercntId = "M2266041";
-        String cancelOrdNo = "CANCEL_" + ordNo;
-        String oldTrNo = trNo;
-        String cancelPrice = String.valueOf(pay.getTrPrice());
-        String cancelPriceEnc = ChiperUtil.aesEncryptEcb(encrypt_key, cancelPrice);
-        String reqDay = DateUtil.currentDateString();
-        String reqTime = DateUtil.currentTimeString();
-
-        String signature = SignatureUtil.sha256(mercntId + oldTrNo + cancelOrdNo + cancelPrice + reqDay + reqTime + encrypt_key);
-
-        //요청 파라메터
-        JSONObject reqParam = new JSONObject();
-        reqParam.put("hdInfo", hdInfo);
-        reqParam.put("apiVer", apiVer);
-        reqParam.put("mercntId", mercntId);
-        reqParam.put("oldTrNo", oldTrNo);
-        reqParam.put("ordNo", cancelOrdNo);
-        reqParam.put("cancelPrice", cancelPriceEnc);
-        reqParam.put("reqDay", reqDay);
-        reqParam.put("reqTime", reqTime);
-        reqParam.put("signature", signature);
-
-        log.info("request json : " + reqParam.toString());
-        System.out.println("----payCancel Request Log-----");
-        System.out.println(reqParam.toString());
-
-        // 응답 파라메터
-        JSONObject responseJSON = null;
-
-        RestTemplate rt = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-        headers.add(HttpHeaders.CONTENT_TYPE, "application/json;charset=UTF-8");
-
-        ResponseEntity<String> payCancelResponse = rt.exchange(
-                "https://tbezauthapi.settlebank.co.kr/APIPayCancel.do",
-                HttpMethod.POST,
-                new HttpEntity<>(reqParam.toString(), headers),
-                String.class);
-        responseJSON = new JSONObject(payCancelResponse.getBody());
-
-        log.info(responseJSON.toString());
-
-        System.out.println("----payCancel Response Log-----");
-        System.out.println(responseJSON.toString());
-
-        PayCancelDto payCancelDto = null;
-
-        if ("0".equals(responseJSON.get("resultCd").toString())) {
-            pay.setCancelResultCd("0");
-            pay.setCancelOrdNo(cancelOrdNo);
-            pay.setCancelTrNo(responseJSON.get("trNo").toString());
-            pay.setPayStatus("C");
-            payRepository.save(pay);
-
-            payCancelDto = PayCancelDto.builder()
-                    .resultCd(responseJSON.get("resultCd").toString())
-                    .trNo(responseJSON.get("trNo").toString())
-                    .build();
-        } else {
-            pay.setCancelResultCd(responseJSON.get("errCd").toString());
-            pay.setCancelResultMsg(responseJSON.get("resultMsg").toString());
-            pay.setCancelOrdNo(cancelOrdNo);
-            payRepository.save(pay);
-
-            payCancelDto = PayCancelDto.builder()
-                    .resultCd(responseJSON.get("resultCd").toString())
-                    .errCd(String.valueOf(responseJSON.get("errCd")))
-                    .resultMsg(responseJSON.get("resultMsg").toString())
-                    .build();
+    // mercntParam1/2 에는 게시글 id / 구매자 회원 id 가 문자열로 전달됨
+    private Long toId(String mercntParam) {
+        if (mercntParam == null || mercntParam.isBlank()) {
+            return null;
         }
 
-        return payCancelDto;
+        try {
+            return Long.valueOf(mercntParam.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 }
-
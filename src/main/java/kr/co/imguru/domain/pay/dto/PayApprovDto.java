@@ -16,4 +16,6 @@ public class PayApprovDto {
 
     private String trNo;
 
+    private String processStatus;   // 비동기 처리 상태 (PENDING, PROCESSING, UNKNOWN, DONE, FAILED)
+
 }
@@ -0,0 +1,35 @@
+package kr.co.imguru.domain.pay.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PayReadDto {
+
+    private Long payId;
+
+    private Long buyerMemberId;
+
+    private Long postId;
+
+    private String ordNo;
+
+    private String productNm;
+
+    private Long trPrice;
+
+    private String trDay;
+
+    private String trTime;
+
+    private String trNo;
+
+    private String payStatus;
+
+    private LocalDateTime regDate;
+
+}
@@ -0,0 +1,39 @@
+package kr.co.imguru.domain.pay.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PayReconcileRunDto {
+
+    private Long runId;
+
+    private String status;
+
+    private LocalDateTime cutoff;
+
+    private String lastPayStatus;
+
+    private Long lastPayId;
+
+    private long scannedCount;
+
+    private long matchedCount;
+
+    private long correctedCount;
+
+    private long unresolvedCount;
+
+    private long failedCount;
+
+    private String message;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+}
@@ -0,0 +1,29 @@
+package kr.co.imguru.domain.pay.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PayRollupDto {
+
+    private String dimension;
+
+    private Long targetId;
+
+    private LocalDate statDate;
+
+    private long grossAmount;
+
+    private long grossCount;
+
+    private long cancelAmount;
+
+    private long cancelCount;
+
+    private long netAmount;
+
+}
@@ -0,0 +1,23 @@
+package kr.co.imguru.domain.pay.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PayRollupRebuildDto {
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private int days;
+
+    private int rows;               // 재집계로 생성된 집계 행 수
+
+    private long elapsedMillis;
+
+}
@@ -0,0 +1,19 @@
+package kr.co.imguru.domain.pay.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PaySliceDto {
+
+    private List<PayReadDto> pays;
+
+    private Long nextCursor;        // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+
+    private boolean hasNext;
+
+}
@@ -0,0 +1,27 @@
+package kr.co.imguru.domain.pay.dto;
+
+import lombok.*;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PayStatusDto {
+
+    private String ordNo;
+
+    private String payStatus;
+
+    private String approveStatus;   // 승인 요청 처리 상태
+
+    private String cancelStatus;    // 취소 요청 처리 상태
+
+    private String trNo;
+
+    private String cancelTrNo;
+
+    private String resultCd;
+
+    private String resultMsg;
+
+}
@@ -2,12 +2,20 @@ package kr.co.imguru.domain.pay.entity;
 
 import jakarta.persistence.*;
 import kr.co.imguru.global.common.BaseEntity;
+import kr.co.imguru.global.common.PayStatus;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
-@Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_pay_buyer_member_id", columnList = "buyer_member_id, pay_id"),
+        @Index(name = "idx_pay_post_id", columnList = "post_id, pay_id"),
+        @Index(name = "idx_pay_seller_member_id", columnList = "seller_member_id, pay_id"),
+        @Index(name = "idx_pay_tr_day", columnList = "tr_day"),
+        @Index(name = "idx_pay_status_id", columnList = "pay_status, pay_id")
+})
 public class Pay extends BaseEntity {
 
     @Id
@@ -15,6 +23,15 @@ public class Pay extends BaseEntity {
     @Column(name = "pay_id")
     private Long id;
 
+    @Column(name = "buyer_member_id")
+    private Long buyerMemberId;     // 구매자 회원 id (mercntParam2)
+
+    @Column(name = "post_id")
+    private Long postId;            // 결제 대상 게시글 id (mercntParam1)
+
+    @Column(name = "seller_member_id")
+    private Long sellerMemberId;    // 판매자(게시글 작성자) 회원 id, 주문 시점에 복사
+
 
 
     // 결제 인증
@@ -81,12 +98,22 @@ public class Pay extends BaseEntity {
 
 
 
+    // 상태 변경은 PayRepository 의 조건부 UPDATE (WHERE pay_status = ?) 로만 수행
+    @Convert(converter = PayStatusConverter.class)
     @Column(name = "pay_status")
-    private String payStatus; //    결제 상태 정보 -> O, A, P, C
+    private PayStatus payStatus; //    결제 상태 정보 -> O, A, P, R, C, E
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
 
 
     @Builder
-    public Pay(String mercntId,
+    public Pay(Long buyerMemberId,
+               Long postId,
+               Long sellerMemberId,
+               String mercntId,
                String ordNo,
                String productNm,
                Long trPrice,
@@ -104,7 +131,10 @@ public class Pay extends BaseEntity {
                String cancelResultCd,
                String cancelResultMsg,
                String cancelTrNo,
-               String payStatus) {
+               PayStatus payStatus) {
+        this.buyerMemberId = buyerMemberId;
+        this.postId = postId;
+        this.sellerMemberId = sellerMemberId;
         this.mercntId = mercntId;
         this.ordNo = ordNo;
         this.productNm = productNm;
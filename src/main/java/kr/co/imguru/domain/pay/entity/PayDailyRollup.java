@@ -0,0 +1,54 @@
+package kr.co.imguru.domain.pay.entity;
+
+import jakarta.persistence.*;
+import kr.co.imguru.global.common.RollupDimension;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 매출 집계 (고수/스킬/게시글 단위)
+ * 승인/취소 상태 전이 시 INSERT ... ON DUPLICATE KEY UPDATE 로 누적하며, 거래일(tr_day) 기준으로 집계한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "pay_daily_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_pay_daily_rollup", columnNames = {"rollup_dimension", "target_id", "stat_date"}),
+        indexes = @Index(name = "idx_pay_daily_rollup_date", columnList = "stat_date"))
+public class PayDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "pay_daily_rollup_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rollup_dimension", nullable = false)
+    private RollupDimension dimension;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;          // 고수(member) / 스킬 / 게시글 id
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "gross_amount", nullable = false)
+    private long grossAmount;       // 결제 금액 합계
+
+    @Column(name = "gross_count", nullable = false)
+    private long grossCount;        // 결제 건수
+
+    @Column(name = "cancel_amount", nullable = false)
+    private long cancelAmount;      // 취소 금액 합계
+
+    @Column(name = "cancel_count", nullable = false)
+    private long cancelCount;       // 취소 건수
+
+    public long getNetAmount() {
+        return grossAmount - cancelAmount;
+    }
+
+}
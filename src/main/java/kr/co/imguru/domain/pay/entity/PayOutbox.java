@@ -0,0 +1,129 @@
+package kr.co.imguru.domain.pay.entity;
+
+import jakarta.persistence.*;
+import kr.co.imguru.global.common.BaseEntity;
+import kr.co.imguru.global.common.PayOutboxStatus;
+import kr.co.imguru.global.common.PayOutboxType;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 승인/취소 요청 Outbox
+ * 주문번호 + 요청 유형당 한 건만 존재하며(멱등 키), 결제 서버 호출은 PayOutboxWorker 가 비동기로 처리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "pay_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_pay_outbox_ord_no_type", columnNames = {"ord_no", "outbox_type"}),
+        indexes = @Index(name = "idx_pay_outbox_status_next", columnList = "outbox_status, next_attempt_at"))
+public class PayOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "pay_outbox_id")
+    private Long id;
+
+    @Column(name = "ord_no", nullable = false)
+    private String ordNo;           // 주문번호
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outbox_type", nullable = false)
+    private PayOutboxType outboxType;
+
+    @Column(name = "mercnt_id")
+    private String mercntId;        // 가맹점 아이디
+
+    @Column(name = "auth_no")
+    private String authNo;          // 결제 인증 번호 (승인)
+
+    @Column(name = "old_tr_no")
+    private String oldTrNo;         // 원거래 번호 (취소)
+
+    @Column(name = "tr_price")
+    private Long trPrice;           // 거래 금액 (취소)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outbox_status", nullable = false)
+    private PayOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "result_cd")
+    private String resultCd;
+
+    @Column(name = "err_cd")
+    private String errCd;
+
+    @Column(name = "result_msg")
+    private String resultMsg;
+
+    @Column(name = "result_tr_no")
+    private String resultTrNo;
+
+    @Builder
+    public PayOutbox(String ordNo,
+                     PayOutboxType outboxType,
+                     String mercntId,
+                     String authNo,
+                     String oldTrNo,
+                     Long trPrice) {
+        this.ordNo = ordNo;
+        this.outboxType = outboxType;
+        this.mercntId = mercntId;
+        this.authNo = authNo;
+        this.oldTrNo = oldTrNo;
+        this.trPrice = trPrice;
+        this.status = PayOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void complete(String resultCd, String errCd, String resultMsg, String resultTrNo) {
+        this.status = PayOutboxStatus.DONE;
+        this.resultCd = resultCd;
+        this.errCd = errCd;
+        this.resultMsg = resultMsg;
+        this.resultTrNo = resultTrNo;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String resultMsg) {
+        this.status = PayOutboxStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.resultMsg = resultMsg;
+    }
+
+    public void markUnknown(LocalDateTime nextAttemptAt, String resultMsg) {
+        this.status = PayOutboxStatus.UNKNOWN;
+        this.nextAttemptAt = nextAttemptAt;
+        this.resultMsg = resultMsg;
+    }
+
+    public void reopen(String oldTrNo) {
+        this.oldTrNo = oldTrNo;
+        this.status = PayOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+        this.resultCd = null;
+        this.errCd = null;
+        this.resultMsg = null;
+        this.resultTrNo = null;
+    }
+
+    public void fail(String resultMsg) {
+        this.status = PayOutboxStatus.FAILED;
+        this.resultMsg = resultMsg;
+    }
+
+}
@@ -0,0 +1,102 @@
+package kr.co.imguru.domain.pay.entity;
+
+import jakarta.persistence.*;
+import kr.co.imguru.global.common.BaseEntity;
+import kr.co.imguru.global.common.PayReconcileResult;
+import kr.co.imguru.global.common.PayStatus;
+import kr.co.imguru.global.common.ReconcileRunStatus;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 대사(reconciliation) 실행 이력 + 체크포인트
+ * 대상 상태별로 차례로 조회하며, 청크 처리가 끝날 때마다 조회 중인 상태와 마지막 pay_id, 누적 건수를 저장한다.
+ * 중단된 실행은 lastPayStatus 의 lastPayId 이후부터 이어서 처리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "pay_reconcile_run")
+public class PayReconcileRun extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "pay_reconcile_run_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "run_status", nullable = false)
+    private ReconcileRunStatus status;
+
+    @Column(name = "cutoff", nullable = false)
+    private LocalDateTime cutoff;       // 이 시각 이전에 생성된 결제만 대상 (처리 중인 건 제외)
+
+    @Convert(converter = PayStatusConverter.class)
+    @Column(name = "last_pay_status")
+    private PayStatus lastPayStatus;    // 체크포인트 (조회 중인 상태)
+
+    @Column(name = "last_pay_id")
+    private Long lastPayId;             // 체크포인트 (해당 상태 안에서 마지막 pay_id)
+
+    @Column(name = "scanned_count", nullable = false)
+    private long scannedCount;
+
+    @Column(name = "matched_count", nullable = false)
+    private long matchedCount;
+
+    @Column(name = "corrected_count", nullable = false)
+    private long correctedCount;
+
+    @Column(name = "unresolved_count", nullable = false)
+    private long unresolvedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    @Column(name = "message")
+    private String message;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public PayReconcileRun(LocalDateTime cutoff) {
+        this.cutoff = cutoff;
+        this.status = ReconcileRunStatus.RUNNING;
+    }
+
+    public void resume() {
+        this.status = ReconcileRunStatus.RUNNING;
+        this.message = null;
+        this.finishedAt = null;
+    }
+
+    public void checkpoint(PayStatus lastPayStatus, Long lastPayId, long[] counts) {
+        this.lastPayStatus = lastPayStatus;
+        this.lastPayId = lastPayId;
+        this.matchedCount += counts[PayReconcileResult.MATCHED.ordinal()];
+        this.correctedCount += counts[PayReconcileResult.CORRECTED.ordinal()];
+        this.unresolvedCount += counts[PayReconcileResult.UNRESOLVED.ordinal()];
+        this.failedCount += counts[PayReconcileResult.FAILED.ordinal()];
+
+        for (long count : counts) {
+            this.scannedCount += count;
+        }
+    }
+
+    public void complete() {
+        this.status = ReconcileRunStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String message) {
+        this.status = ReconcileRunStatus.FAILED;
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+}
@@ -0,0 +1,21 @@
+package kr.co.imguru.domain.pay.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import kr.co.imguru.global.common.PayStatus;
+
+// 기존 pay_status 컬럼 값(O, A, P, R, C, E)을 그대로 사용하기 위한 변환기
+@Converter
+public class PayStatusConverter implements AttributeConverter<PayStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(PayStatus payStatus) {
+        return payStatus == null ? null : payStatus.getCode();
+    }
+
+    @Override
+    public PayStatus convertToEntityAttribute(String code) {
+        return code == null ? null : PayStatus.ofCode(code);
+    }
+
+}
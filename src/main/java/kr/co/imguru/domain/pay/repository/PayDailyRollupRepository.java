@@ -0,0 +1,77 @@
+package kr.co.imguru.domain.pay.repository;
+
+import kr.co.imguru.domain.pay.entity.PayDailyRollup;
+import kr.co.imguru.global.common.RollupDimension;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PayDailyRollupRepository extends JpaRepository<PayDailyRollup, Long> {
+
+    List<PayDailyRollup> findAllByDimensionAndTargetIdAndStatDateBetweenOrderByStatDate(RollupDimension dimension, Long targetId, LocalDate from, LocalDate to);
+
+    // 집계 행이 없으면 생성, 있으면 증감분만 누적 (행 단위 원자적 갱신)
+    @Modifying
+    @Query(value = "INSERT INTO pay_daily_rollup " +
+            "(rollup_dimension, target_id, stat_date, gross_amount, gross_count, cancel_amount, cancel_count) " +
+            "VALUES (:dimension, :targetId, :statDate, :grossAmount, :grossCount, :cancelAmount, :cancelCount) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "gross_amount = gross_amount + VALUES(gross_amount), " +
+            "gross_count = gross_count + VALUES(gross_count), " +
+            "cancel_amount = cancel_amount + VALUES(cancel_amount), " +
+            "cancel_count = cancel_count + VALUES(cancel_count)", nativeQuery = true)
+    int accumulate(String dimension, Long targetId, LocalDate statDate, long grossAmount, long grossCount, long cancelAmount, long cancelCount);
+
+    @Modifying
+    @Query("DELETE FROM PayDailyRollup r " +
+            "WHERE r.statDate = :statDate")
+    int deleteByStatDate(LocalDate statDate);
+
+    /*
+     * 하루치 재집계 (pay.tr_day 인덱스 범위 조회 후 그룹 집계)
+     * 결제 완료(P), 취소 요청(R), 취소(C) 건을 결제로, 취소(C) 건을 취소로 집계
+     */
+    @Modifying
+    @Query(value = "INSERT INTO pay_daily_rollup " +
+            "(rollup_dimension, target_id, stat_date, gross_amount, gross_count, cancel_amount, cancel_count) " +
+            "SELECT 'GURU', po.member_id, :statDate, " +
+            "SUM(p.tr_price), COUNT(*), " +
+            "SUM(CASE WHEN p.pay_status = 'C' THEN p.tr_price ELSE 0 END), SUM(CASE WHEN p.pay_status = 'C' THEN 1 ELSE 0 END) " +
+            "FROM pay p JOIN post po ON po.post_id = p.post_id " +
+            "WHERE p.tr_day = :trDay " +
+            "AND p.pay_status IN ('P', 'R', 'C') " +
+            "GROUP BY po.member_id", nativeQuery = true)
+    int rebuildGuru(LocalDate statDate, String trDay);
+
+    @Modifying
+    @Query(value = "INSERT INTO pay_daily_rollup " +
+            "(rollup_dimension, target_id, stat_date, gross_amount, gross_count, cancel_amount, cancel_count) " +
+            "SELECT 'SKILL', m.skill_id, :statDate, " +
+            "SUM(p.tr_price), COUNT(*), " +
+            "SUM(CASE WHEN p.pay_status = 'C' THEN p.tr_price ELSE 0 END), SUM(CASE WHEN p.pay_status = 'C' THEN 1 ELSE 0 END) " +
+            "FROM pay p JOIN post po ON po.post_id = p.post_id JOIN member m ON m.member_id = po.member_id " +
+            "WHERE p.tr_day = :trDay " +
+            "AND p.pay_status IN ('P', 'R', 'C') " +
+            "AND m.skill_id IS NOT NULL " +
+            "GROUP BY m.skill_id", nativeQuery = true)
+    int rebuildSkill(LocalDate statDate, String trDay);
+
+    @Modifying
+    @Query(value = "INSERT INTO pay_daily_rollup " +
+            "(rollup_dimension, target_id, stat_date, gross_amount, gross_count, cancel_amount, cancel_count) " +
+            "SELECT 'POST', p.post_id, :statDate, " +
+            "SUM(p.tr_price), COUNT(*), " +
+            "SUM(CASE WHEN p.pay_status = 'C' THEN p.tr_price ELSE 0 END), SUM(CASE WHEN p.pay_status = 'C' THEN 1 ELSE 0 END) " +
+            "FROM pay p " +
+            "WHERE p.tr_day = :trDay " +
+            "AND p.pay_status IN ('P', 'R', 'C') " +
+            "AND p.post_id IS NOT NULL " +
+            "GROUP BY p.post_id", nativeQuery = true)
+    int rebuildPost(LocalDate statDate, String trDay);
+
+}
@@ -0,0 +1,54 @@
+package kr.co.imguru.domain.pay.repository;
+
+import kr.co.imguru.domain.pay.entity.PayOutbox;
+import kr.co.imguru.global.common.PayOutboxStatus;
+import kr.co.imguru.global.common.PayOutboxType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PayOutboxRepository extends JpaRepository<PayOutbox, Long> {
+
+    Optional<PayOutbox> findByOrdNoAndOutboxType(String ordNo, PayOutboxType outboxType);
+
+    List<PayOutbox> findAllByOrdNo(String ordNo);
+
+    @Query("SELECT o.id " +
+            "FROM PayOutbox o " +
+            "WHERE o.status = :status " +
+            "AND o.nextAttemptAt <= :now " +
+            "ORDER BY o.id")
+    List<Long> findDueIds(PayOutboxStatus status, LocalDateTime now, Pageable pageable);
+
+    // 상태가 expected 인 경우에만 선점 (여러 워커/인스턴스가 같은 건을 중복 처리하지 않도록)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PayOutbox o " +
+            "SET o.status = :status, o.attempts = o.attempts + 1, o.claimedAt = :claimedAt " +
+            "WHERE o.id = :id " +
+            "AND o.status = :expected")
+    int claim(Long id, PayOutboxStatus expected, PayOutboxStatus status, LocalDateTime claimedAt);
+
+    // 결과 확인(거래 조회)용 선점 - 결제 서버에 요청을 보내지 않으므로 시도 횟수는 늘리지 않음
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PayOutbox o " +
+            "SET o.status = :status, o.claimedAt = :claimedAt " +
+            "WHERE o.id = :id " +
+            "AND o.status = :expected")
+    int claimForInquiry(Long id, PayOutboxStatus expected, PayOutboxStatus status, LocalDateTime claimedAt);
+
+    // 처리 중 서버가 종료되어 PROCESSING 으로 남은 건 복구 (결제 서버 호출 여부를 알 수 없으므로 결과 확인 대상으로)
+    @Modifying
+    @Query("UPDATE PayOutbox o " +
+            "SET o.status = :status " +
+            "WHERE o.status = :expected " +
+            "AND o.claimedAt < :before")
+    int release(PayOutboxStatus expected, PayOutboxStatus status, LocalDateTime before);
+
+}
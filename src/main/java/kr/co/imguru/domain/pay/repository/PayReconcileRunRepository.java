@@ -0,0 +1,16 @@
+package kr.co.imguru.domain.pay.repository;
+
+import kr.co.imguru.domain.pay.entity.PayReconcileRun;
+import kr.co.imguru.global.common.ReconcileRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PayReconcileRunRepository extends JpaRepository<PayReconcileRun, Long> {
+
+    Optional<PayReconcileRun> findTopByStatusInOrderByIdDesc(List<ReconcileRunStatus> statusList);
+
+}
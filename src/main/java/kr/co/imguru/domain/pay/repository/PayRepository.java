@@ -1,9 +1,14 @@
 package kr.co.imguru.domain.pay.repository;
 
 import kr.co.imguru.domain.pay.entity.Pay;
+import kr.co.imguru.global.common.PayStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +17,89 @@ public interface PayRepository extends JpaRepository<Pay, Long> {
 
     Optional<Pay> findByOrdNo(String ordNo);
 
-    List<Pay> findAllByPayStatusIn(List<String> statusList);
+    List<Pay> findAllByPayStatusIn(List<PayStatus> statusList);
+
+    /*
+     * 결제 상태 전이
+     * 현재 상태가 from 인 경우에만 변경하고 version 을 올린다. (0 을 반환하면 다른 요청이 먼저 상태를 바꾼 것)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pay p " +
+            "SET p.payStatus = :to, p.version = p.version + 1 " +
+            "WHERE p.ordNo = :ordNo " +
+            "AND p.payStatus = :from")
+    int updateStatus(String ordNo, PayStatus from, PayStatus to);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pay p " +
+            "SET p.payStatus = :to, p.authNo = :authNo, p.version = p.version + 1 " +
+            "WHERE p.ordNo = :ordNo " +
+            "AND p.payStatus = :from")
+    int updateAuthorized(String ordNo, String authNo, PayStatus from, PayStatus to);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pay p " +
+            "SET p.payStatus = :to, p.payResultCd = '0', p.trNo = :trNo, p.version = p.version + 1 " +
+            "WHERE p.ordNo = :ordNo " +
+            "AND p.payStatus = :from")
+    int updatePaid(String ordNo, String trNo, PayStatus from, PayStatus to);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pay p " +
+            "SET p.payResultCd = :errCd, p.payResultMsg = :resultMsg, p.version = p.version + 1 " +
+            "WHERE p.ordNo = :ordNo " +
+            "AND p.payStatus = :status")
+    int updateApprovalFailed(String ordNo, String errCd, String resultMsg, PayStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pay p " +
+            "SET p.payStatus = :to, p.cancelResultCd = '0', p.cancelOrdNo = :cancelOrdNo, p.cancelTrNo = :cancelTrNo, p.version = p.version + 1 " +
+            "WHERE p.ordNo = :ordNo " +
+            "AND p.payStatus = :from")
+    int updateCanceled(String ordNo, String cancelOrdNo, String cancelTrNo, PayStatus from, PayStatus to);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pay p " +
+            "SET p.payStatus = :to, p.cancelResultCd = :errCd, p.cancelResultMsg = :resultMsg, p.cancelOrdNo = :cancelOrdNo, p.version = p.version + 1 " +
+            "WHERE p.ordNo = :ordNo " +
+            "AND p.payStatus = :from")
+    int updateCancelFailed(String ordNo, String cancelOrdNo, String errCd, String resultMsg, PayStatus from, PayStatus to);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pay p " +
+            "SET p.payStatus = :to, p.version = p.version + 1 " +
+            "WHERE p.ordNo = :ordNo " +
+            "AND p.payStatus = :from " +
+            "AND p.regDate < :expiredBefore")
+    int updateExpired(String ordNo, LocalDateTime expiredBefore, PayStatus from, PayStatus to);
+
+    // buyer_member_id / post_id 백필 (mercnt_param 이 숫자인 건만, 배치 단위로 잠금 범위를 제한)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE pay " +
+            "SET buyer_member_id = CAST(mercnt_param2 AS UNSIGNED) " +
+            "WHERE buyer_member_id IS NULL " +
+            "AND mercnt_param2 REGEXP '^[0-9]+$' " +
+            "LIMIT :batchSize", nativeQuery = true)
+    int backfillBuyerMemberId(int batchSize);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE pay " +
+            "SET post_id = CAST(mercnt_param1 AS UNSIGNED) " +
+            "WHERE post_id IS NULL " +
+            "AND mercnt_param1 REGEXP '^[0-9]+$' " +
+            "LIMIT :batchSize", nativeQuery = true)
+    int backfillPostId(int batchSize);
+
+    // seller_member_id 백필 (post_id 가 채워진 건의 게시글 작성자, 게시글이 없는 건은 제외)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE pay " +
+            "SET seller_member_id = (SELECT p.member_id FROM post p WHERE p.post_id = pay.post_id) " +
+            "WHERE seller_member_id IS NULL " +
+            "AND EXISTS (SELECT 1 FROM post p WHERE p.post_id = pay.post_id AND p.member_id IS NOT NULL) " +
+            "LIMIT :batchSize", nativeQuery = true)
+    int backfillSellerMemberId(int batchSize);
 
 }
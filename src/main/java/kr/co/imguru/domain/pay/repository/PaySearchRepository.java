@@ -1,13 +1,14 @@
 package kr.co.imguru.domain.pay.repository;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import kr.co.imguru.domain.member.entity.QMember;
 import kr.co.imguru.domain.pay.entity.Pay;
 import kr.co.imguru.domain.pay.entity.QPay;
-import kr.co.imguru.domain.post.entity.Post;
+import kr.co.imguru.global.common.PayStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -16,19 +17,72 @@ public class PaySearchRepository {
 
     private final JPAQueryFactory queryFactory;
 
-    private final QMember member = QMember.member;
-
     private final QPay pay = QPay.pay;
 
     public List<Pay> findPaysByMemberId(Long memberId) {
         return queryFactory
                 .selectFrom(pay)
-                .join(member).on(pay.mercntParam2.eq(member.id.stringValue()))
-                .fetchJoin()
                 .where(
-                        pay.mercntParam2.eq(String.valueOf(memberId))
+                        pay.buyerMemberId.eq(memberId)
+                )
+                .fetch();
+    }
+
+    /**
+     * 구매자 기준 결제 내역 (idx_pay_buyer_member_id 범위 조회)
+     * cursorId 보다 작은 pay_id 를 최신순으로 size + 1 건 조회 (마지막 1건은 다음 페이지 존재 여부 판단용)
+     */
+    public List<Pay> findPaysByBuyerMemberId(Long memberId, Long cursorId, int size) {
+        return queryFactory
+                .selectFrom(pay)
+                .where(
+                        pay.buyerMemberId.eq(memberId),
+                        ltCursorId(cursorId)
+                )
+                .orderBy(pay.id.desc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    /**
+     * 판매자 기준 결제 내역 (내 게시글에 대한 결제, idx_pay_seller_member_id 범위 조회)
+     */
+    public List<Pay> findPaysBySellerMemberId(Long sellerMemberId, Long cursorId, int size) {
+        return queryFactory
+                .selectFrom(pay)
+                .where(
+                        pay.sellerMemberId.eq(sellerMemberId),
+                        ltCursorId(cursorId)
                 )
+                .orderBy(pay.id.desc())
+                .limit(size + 1)
                 .fetch();
     }
 
+    /**
+     * 대사 대상 (주문/인증/취소 요청 상태로 남은 결제) 중 한 상태를 pay_id 순으로 size 건씩 조회
+     * 이전 청크의 마지막 pay_id 이후부터 조회하므로 전체 건수와 무관하게 청크 크기만큼만 메모리를 사용한다.
+     * 상태를 하나씩 조회해야 (pay_status, pay_id) 인덱스 순서 그대로 읽으며, IN 조건으로 묶으면 정렬(filesort)이 필요하다.
+     */
+    public List<Pay> findReconcileTargets(PayStatus payStatus, Long lastPayId, LocalDateTime cutoff, int size) {
+        return queryFactory
+                .selectFrom(pay)
+                .where(
+                        pay.payStatus.eq(payStatus),
+                        gtLastPayId(lastPayId),
+                        pay.regDate.lt(cutoff)
+                )
+                .orderBy(pay.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    private BooleanExpression gtLastPayId(Long lastPayId) {
+        return lastPayId == null ? null : pay.id.gt(lastPayId);
+    }
+
+    private BooleanExpression ltCursorId(Long cursorId) {
+        return cursorId == null ? null : pay.id.lt(cursorId);
+    }
+
 }
@@ -0,0 +1,47 @@
+package kr.co.imguru.domain.pay.service;
+
+import kr.co.imguru.domain.pay.repository.PayRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * mercntParam1/2 문자열로만 저장된 기존 결제 건에 post_id / buyer_member_id 를 채우고,
+ * post_id 로 게시글 작성자를 찾아 seller_member_id 를 채운다.
+ * 이미 채워진 건은 건너뛰므로 기동할 때마다 실행해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PayForeignKeyBackfill {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final PayRepository payRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int buyerCount = 0;
+        int postCount = 0;
+        int sellerCount = 0;
+
+        for (int updated = BATCH_SIZE; updated == BATCH_SIZE; buyerCount += updated) {
+            updated = payRepository.backfillBuyerMemberId(BATCH_SIZE);
+        }
+
+        for (int updated = BATCH_SIZE; updated == BATCH_SIZE; postCount += updated) {
+            updated = payRepository.backfillPostId(BATCH_SIZE);
+        }
+
+        for (int updated = BATCH_SIZE; updated == BATCH_SIZE; sellerCount += updated) {
+            updated = payRepository.backfillSellerMemberId(BATCH_SIZE);
+        }
+
+        if (buyerCount + postCount + sellerCount > 0) {
+            log.info("[PayForeignKeyBackfill] buyer_member_id {} rows, post_id {} rows, seller_member_id {} rows", buyerCount, postCount, sellerCount);
+        }
+    }
+
+}
@@ -0,0 +1,7 @@
+package kr.co.imguru.domain.pay.service;
+
+/**
+ * Outbox 저장 트랜잭션이 커밋된 직후 워커에 바로 전달하기 위한 이벤트
+ */
+public record PayOutboxCreatedEvent(Long outboxId) {
+}
@@ -0,0 +1,203 @@
+package kr.co.imguru.domain.pay.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.imguru.domain.pay.client.PaymentGatewayClient;
+import kr.co.imguru.domain.pay.entity.PayOutbox;
+import kr.co.imguru.global.common.PayOutboxType;
+import kr.co.imguru.global.exception.PaymentGatewayException;
+import kr.co.imguru.global.exception.PaymentGatewayResultUnknownException;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 결제 Outbox 처리 워커
+ * - Outbox 커밋 직후 이벤트로 즉시 처리하고, 누락/재시도 건은 주기적으로 조회하여 처리
+ * - 크기가 고정된 풀/큐를 사용하므로 결제 서버 지연이 요청 스레드로 전파되지 않는다. (큐가 가득 차면 다음 주기로 미룸)
+ * - 결제 서버에 전달되지 않은 것이 확실한 실패(연결 실패, 서킷 오픈)만 재시도하고,
+ *   그 외(응답 시간 초과, 5xx, 결과 반영 실패 등)는 UNKNOWN 으로 두고 거래 조회로 결과를 확정한 뒤에만 재시도
+ * - 조회 주기는 전용 스케줄러 스레드에서 실행 (다른 @Scheduled 작업과 공유하는 기본 스케줄러를 점유하지 않도록)
+ */
+@Slf4j
+@Component
+public class PayOutboxWorker {
+
+    private final PayProcessService payProcessService;
+
+    private final PaymentGatewayClient paymentGatewayClient;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final int batchSize;
+
+    private final long stuckTimeoutMillis;
+
+    private final long pollIntervalMillis;
+
+    private final ThreadPoolTaskScheduler poller = new ThreadPoolTaskScheduler();
+
+    public PayOutboxWorker(PayProcessService payProcessService,
+                           PaymentGatewayClient paymentGatewayClient,
+                           @Value("${pay.worker.pool-size:8}") int poolSize,
+                           @Value("${pay.worker.queue-capacity:200}") int queueCapacity,
+                           @Value("${pay.worker.batch-size:100}") int batchSize,
+                           @Value("${pay.worker.stuck-timeout:60000}") long stuckTimeoutMillis,
+                           @Value("${pay.worker.poll-interval:1000}") long pollIntervalMillis) {
+        this.payProcessService = payProcessService;
+        this.paymentGatewayClient = paymentGatewayClient;
+        this.batchSize = batchSize;
+        this.stuckTimeoutMillis = stuckTimeoutMillis;
+        this.pollIntervalMillis = pollIntervalMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "pay-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOutboxCreated(PayOutboxCreatedEvent event) {
+        dispatch(event.outboxId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPolling() {
+        poller.setPoolSize(1);
+        poller.setThreadNamePrefix("pay-outbox-poller-");
+        poller.setDaemon(true);
+        poller.initialize();
+        poller.scheduleWithFixedDelay(this::poll, Duration.ofMillis(pollIntervalMillis));
+    }
+
+    public void poll() {
+        int released = payProcessService.releaseStuckOutboxes(LocalDateTime.now().minusNanos(stuckTimeoutMillis * 1_000_000));
+        if (released > 0) {
+            log.warn("[PayOutboxWorker] released {} stuck outboxes", released);
+        }
+
+        for (Long outboxId : payProcessService.getDueUnknownOutboxIds(batchSize)) {
+            if (!dispatch(outboxId, this::resolve)) {
+                return;
+            }
+        }
+
+        for (Long outboxId : payProcessService.getDueOutboxIds(batchSize)) {
+            if (!dispatch(outboxId, this::process)) {
+                return;
+            }
+        }
+    }
+
+    private boolean dispatch(Long outboxId) {
+        return dispatch(outboxId, this::process);
+    }
+
+    private boolean dispatch(Long outboxId, Consumer<Long> task) {
+        if (!inFlight.add(outboxId)) {
+            return true;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    task.accept(outboxId);
+                } finally {
+                    inFlight.remove(outboxId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(outboxId);
+            return false;
+        }
+    }
+
+    private void process(Long outboxId) {
+        PayOutbox outbox = payProcessService.claimOutbox(outboxId);
+
+        // 다른 워커가 이미 선점했거나 처리 완료된 건
+        if (outbox == null) {
+            return;
+        }
+
+        JSONObject response;
+
+        try {
+            JSONObject request = payProcessService.createGatewayRequest(outbox);
+
+            response = outbox.getOutboxType() == PayOutboxType.APPROVE
+                    ? paymentGatewayClient.approve(request)
+                    : paymentGatewayClient.cancel(request);
+        } catch (PaymentGatewayResultUnknownException e) {
+            markUnknown(outbox, e);
+            return;
+        } catch (PaymentGatewayException e) {
+            // 연결 실패 / 서킷 오픈 : 결제 서버에 전달되지 않았으므로 그대로 재시도
+            log.warn("[PayOutboxWorker] {} {} attempt {} not sent : {}", outbox.getOutboxType(), outbox.getOrdNo(), outbox.getAttempts(), e.getMessage());
+            payProcessService.retryOutbox(outboxId, e.getMessage());
+            return;
+        } catch (RuntimeException e) {
+            markUnknown(outbox, e);
+            return;
+        }
+
+        try {
+            payProcessService.completeOutbox(outboxId, response);
+        } catch (RuntimeException e) {
+            // 결제 서버 처리는 끝났고 반영만 실패 - 다시 요청하지 않고 조회 결과로 반영
+            markUnknown(outbox, e);
+        }
+    }
+
+    // 결과를 알 수 없는 요청 확정 (거래 조회)
+    private void resolve(Long outboxId) {
+        PayOutbox outbox = payProcessService.claimUnknownOutbox(outboxId);
+
+        if (outbox == null) {
+            return;
+        }
+
+        try {
+            JSONObject inquiry = paymentGatewayClient.inquire(payProcessService.createInquiryRequest(outbox.getOrdNo()));
+            payProcessService.resolveUnknownOutbox(outboxId, inquiry);
+        } catch (RuntimeException e) {
+            log.warn("[PayOutboxWorker] {} {} inquiry failed : {}", outbox.getOutboxType(), outbox.getOrdNo(), e.getMessage());
+            payProcessService.markOutboxUnknown(outboxId, e.getMessage());
+        }
+    }
+
+    private void markUnknown(PayOutbox outbox, RuntimeException e) {
+        log.warn("[PayOutboxWorker] {} {} attempt {} result unknown : {}", outbox.getOutboxType(), outbox.getOrdNo(), outbox.getAttempts(), e.getMessage());
+        payProcessService.markOutboxUnknown(outbox.getId(), e.getMessage());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        poller.shutdown();
+        executor.shutdown();
+
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package kr.co.imguru.domain.pay.service;
+
+import kr.co.imguru.domain.pay.dto.PayApprovDto;
+import kr.co.imguru.domain.pay.dto.PayCancelDto;
+import kr.co.imguru.domain.pay.dto.PayStatusDto;
+import kr.co.imguru.domain.pay.entity.Pay;
+import kr.co.imguru.domain.pay.entity.PayOutbox;
+import kr.co.imguru.global.common.PayReconcileResult;
+import org.json.JSONObject;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PayProcessService {
+
+    void acceptCallback(String ordNo, String authNo);
+
+    PayApprovDto requestApproval(String ordNo, String authNo);
+
+    PayCancelDto requestCancel(String email, String ordNo, String trNo);
+
+    PayStatusDto getPayStatus(String email, String ordNo);
+
+    // PayOutboxWorker
+    List<Long> getDueOutboxIds(int limit);
+
+    List<Long> getDueUnknownOutboxIds(int limit);
+
+    int releaseStuckOutboxes(LocalDateTime before);
+
+    PayOutbox claimOutbox(Long outboxId);
+
+    JSONObject createGatewayRequest(PayOutbox outbox);
+
+    void completeOutbox(Long outboxId, JSONObject response);
+
+    void retryOutbox(Long outboxId, String message);
+
+    void markOutboxUnknown(Long outboxId, String message);
+
+    PayOutbox claimUnknownOutbox(Long outboxId);
+
+    JSONObject createInquiryRequest(String ordNo);
+
+    void resolveUnknownOutbox(Long outboxId, JSONObject inquiry);
+
+    // PayReconcileJob
+    JSONObject createInquiryRequest(Pay pay);
+
+    PayReconcileResult reconcile(String ordNo, JSONObject inquiry);
+
+}
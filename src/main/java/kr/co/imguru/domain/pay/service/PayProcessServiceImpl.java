@@ -0,0 +1,578 @@
+package kr.co.imguru.domain.pay.service;
+
+import jakarta.transaction.Transactional;
+import kr.co.imguru.domain.member.entity.Member;
+import kr.co.imguru.domain.member.repository.MemberRepository;
+import kr.co.imguru.domain.pay.dto.PayApprovDto;
+import kr.co.imguru.domain.pay.dto.PayCancelDto;
+import kr.co.imguru.domain.pay.dto.PayStatusDto;
+import kr.co.imguru.domain.pay.entity.Pay;
+import kr.co.imguru.domain.pay.entity.PayOutbox;
+import kr.co.imguru.domain.pay.repository.PayOutboxRepository;
+import kr.co.imguru.domain.pay.repository.PayRepository;
+import kr.co.imguru.global.common.PayOutboxStatus;
+import kr.co.imguru.global.common.PayOutboxType;
+import kr.co.imguru.global.common.PayReconcileResult;
+import kr.co.imguru.global.common.PayStatus;
+import kr.co.imguru.global.exception.ForbiddenException;
+import kr.co.imguru.global.exception.IllegalArgumentException;
+import kr.co.imguru.global.exception.NotFoundException;
+import kr.co.imguru.global.model.ResponseStatus;
+import kr.co.imguru.global.util.ChiperUtil;
+import kr.co.imguru.global.util.DateUtil;
+import kr.co.imguru.global.util.SignatureUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntSupplier;
+
+import static kr.co.imguru.global.common.PayStatus.*;
+
+/**
+ * 결제 승인/취소 요청 처리
+ * 요청 스레드에서는 주문번호 단위로 Outbox 를 멱등하게 적재만 하고, 결제 서버 호출과 결과 반영은 PayOutboxWorker 에서 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PayProcessServiceImpl implements PayProcessService {
+
+    private static final String ENCRYPT_KEY = "SETTLEBANKISGOODSETTLEBANKISGOOD";
+
+    private final PayRepository payRepository;
+
+    private final PayOutboxRepository payOutboxRepository;
+
+    private final MemberRepository memberRepository;
+
+    private final PayRollupService payRollupService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${pay.worker.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${pay.worker.retry-backoff:2000}")
+    private long retryBackoffMillis;
+
+    @Value("${pay.reconcile.expire-hours:24}")
+    private long expireHours;
+
+    @Override
+    @Transactional
+    public void acceptCallback(String ordNo, String authNo) {
+        Optional<Pay> pay = payRepository.findByOrdNo(ordNo);
+        isPay(pay);
+
+        // 상태 전이에 성공한 요청만 승인 요청을 적재 (중복 콜백은 기존 요청을 확인만 함)
+        if (transition(ORDERED, AUTHORIZED, () -> payRepository.updateAuthorized(ordNo, authNo, ORDERED, AUTHORIZED))) {
+            enqueueApproval(pay.get(), authNo);
+            return;
+        }
+
+        findApproval(ordNo, authNo);
+    }
+
+    @Override
+    @Transactional
+    public PayApprovDto requestApproval(String ordNo, String authNo) {
+        Optional<Pay> pay = payRepository.findByOrdNo(ordNo);
+        isPay(pay);
+
+        Optional<PayOutbox> approval;
+
+        if (transition(ORDERED, AUTHORIZED, () -> payRepository.updateAuthorized(ordNo, authNo, ORDERED, AUTHORIZED))) {
+            approval = Optional.of(enqueueApproval(pay.get(), authNo));
+        } else {
+            approval = findApproval(ordNo, authNo);
+        }
+
+        // 동시에 들어온 다른 요청이 아직 커밋하지 않은 경우
+        if (approval.isEmpty()) {
+            return PayApprovDto.builder()
+                    .processStatus(String.valueOf(PayOutboxStatus.PENDING))
+                    .build();
+        }
+
+        return PayApprovDto.builder()
+                .resultCd(approval.get().getResultCd())
+                .errCd(approval.get().getErrCd())
+                .resultMsg(approval.get().getResultMsg())
+                .trNo(approval.get().getResultTrNo())
+                .processStatus(String.valueOf(approval.get().getStatus()))
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public PayCancelDto requestCancel(String email, String ordNo, String trNo) {
+        Optional<Member> loginMember = memberRepository.findByEmailAndIsDeleteFalse(email);
+        isMember(loginMember);
+
+        Optional<Pay> pay = payRepository.findByOrdNo(ordNo);
+        isPay(pay);
+        isBuyer(loginMember.get(), pay.get());
+
+        // 취소 대상은 저장된 승인 거래번호 - 요청 값은 일치 여부만 확인 (승인 전이면 아래 상태 전이에서 거절)
+        if (pay.get().getTrNo() != null && !pay.get().getTrNo().equals(trNo)) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_PAY_TR_NO_MISMATCH);
+        }
+
+        Optional<PayOutbox> cancel;
+
+        if (transition(PAID, CANCEL_REQUESTED, () -> payRepository.updateStatus(ordNo, PAID, CANCEL_REQUESTED))) {
+            cancel = Optional.of(enqueueCancel(pay.get()));
+        } else {
+            cancel = payOutboxRepository.findByOrdNoAndOutboxType(ordNo, PayOutboxType.CANCEL);
+
+            // 결제 완료 전이거나 취소 요청 이력이 없는 경우
+            if (cancel.isEmpty()) {
+                throw new IllegalArgumentException(ResponseStatus.FAIL_PAY_STATUS_CONFLICT);
+            }
+        }
+
+        return PayCancelDto.builder()
+                .resultCd(cancel.get().getResultCd())
+                .errCd(cancel.get().getErrCd())
+                .resultMsg(cancel.get().getResultMsg())
+                .trNo(cancel.get().getResultTrNo())
+                .processStatus(String.valueOf(cancel.get().getStatus()))
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public PayStatusDto getPayStatus(String email, String ordNo) {
+        Optional<Member> loginMember = memberRepository.findByEmailAndIsDeleteFalse(email);
+        isMember(loginMember);
+
+        Optional<Pay> pay = payRepository.findByOrdNo(ordNo);
+        isPay(pay);
+        isBuyer(loginMember.get(), pay.get());
+
+        PayStatusDto.PayStatusDtoBuilder builder = PayStatusDto.builder()
+                .ordNo(ordNo)
+                .payStatus(pay.get().getPayStatus().getCode())
+                .trNo(pay.get().getTrNo())
+                .cancelTrNo(pay.get().getCancelTrNo());
+
+        for (PayOutbox outbox : payOutboxRepository.findAllByOrdNo(ordNo)) {
+            if (outbox.getOutboxType() == PayOutboxType.APPROVE) {
+                builder.approveStatus(String.valueOf(outbox.getStatus()));
+            } else {
+                builder.cancelStatus(String.valueOf(outbox.getStatus()));
+            }
+            builder.resultCd(outbox.getResultCd()).resultMsg(outbox.getResultMsg());
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    @Transactional
+    public List<Long> getDueOutboxIds(int limit) {
+        return payOutboxRepository.findDueIds(PayOutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional
+    public List<Long> getDueUnknownOutboxIds(int limit) {
+        return payOutboxRepository.findDueIds(PayOutboxStatus.UNKNOWN, LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional
+    public int releaseStuckOutboxes(LocalDateTime before) {
+        return payOutboxRepository.release(PayOutboxStatus.PROCESSING, PayOutboxStatus.UNKNOWN, before);
+    }
+
+    @Override
+    @Transactional
+    public PayOutbox claimOutbox(Long outboxId) {
+        int claimed = payOutboxRepository.claim(outboxId, PayOutboxStatus.PENDING, PayOutboxStatus.PROCESSING, LocalDateTime.now());
+
+        if (claimed == 0) {
+            return null;
+        }
+
+        return payOutboxRepository.findById(outboxId).orElse(null);
+    }
+
+    @Override
+    public JSONObject createGatewayRequest(PayOutbox outbox) {
+        String reqDay = DateUtil.currentDateString();
+        String reqTime = DateUtil.currentTimeString();
+        String mercntId = outbox.getMercntId();
+
+        JSONObject reqParam = new JSONObject();
+        reqParam.put("apiVer", "3.0");
+        reqParam.put("mercntId", mercntId);
+        reqParam.put("reqDay", reqDay);
+        reqParam.put("reqTime", reqTime);
+
+        if (outbox.getOutboxType() == PayOutboxType.APPROVE) {
+            String authNo = outbox.getAuthNo();
+
+            reqParam.put("hdInfo", "IA_APPROV");
+            reqParam.put("authNo", authNo);
+            reqParam.put("signature", SignatureUtil.sha256(mercntId + authNo + reqDay + reqTime + ENCRYPT_KEY));
+        } else {
+            String oldTrNo = outbox.getOldTrNo();
+            String cancelOrdNo = cancelOrdNo(outbox.getOrdNo());
+            String cancelPrice = String.valueOf(outbox.getTrPrice());
+
+            reqParam.put("hdInfo", "IA_CANCEL");
+            reqParam.put("oldTrNo", oldTrNo);
+            reqParam.put("ordNo", cancelOrdNo);
+            reqParam.put("cancelPrice", ChiperUtil.aesEncryptEcb(ENCRYPT_KEY, cancelPrice));
+            reqParam.put("signature", SignatureUtil.sha256(mercntId + oldTrNo + cancelOrdNo + cancelPrice + reqDay + reqTime + ENCRYPT_KEY));
+        }
+
+        return reqParam;
+    }
+
+    @Override
+    @Transactional
+    public void completeOutbox(Long outboxId, JSONObject response) {
+        PayOutbox outbox = payOutboxRepository.findById(outboxId).orElseThrow();
+
+        String ordNo = outbox.getOrdNo();
+        String resultCd = response.optString("resultCd");
+        String errCd = response.optString("errCd", null);
+        String resultMsg = response.optString("resultMsg", null);
+        String trNo = response.optString("trNo", null);
+
+        outbox.complete(resultCd, errCd, resultMsg, trNo);
+
+        boolean applied;
+
+        if (outbox.getOutboxType() == PayOutboxType.APPROVE) {
+            if ("0".equals(resultCd)) {
+                applied = transition(AUTHORIZED, PAID, () -> payRepository.updatePaid(ordNo, trNo, AUTHORIZED, PAID));
+
+                // 전이에 성공한 경우에만 집계 (같은 트랜잭션이므로 정확히 한 번 반영)
+                if (applied) {
+                    payRollupService.applyApproved(ordNo);
+                }
+            } else {
+                applied = payRepository.updateApprovalFailed(ordNo, errCd, resultMsg, AUTHORIZED) > 0;
+            }
+        } else {
+            if ("0".equals(resultCd)) {
+                applied = transition(CANCEL_REQUESTED, CANCELED, () -> payRepository.updateCanceled(ordNo, cancelOrdNo(ordNo), trNo, CANCEL_REQUESTED, CANCELED));
+
+                if (applied) {
+                    payRollupService.applyCanceled(ordNo);
+                }
+            } else {
+                applied = transition(CANCEL_REQUESTED, PAID, () -> payRepository.updateCancelFailed(ordNo, cancelOrdNo(ordNo), errCd, resultMsg, CANCEL_REQUESTED, PAID));
+            }
+        }
+
+        if (!applied) {
+            log.warn("[PayProcess] {} {} result not applied, pay status already changed", outbox.getOutboxType(), ordNo);
+        }
+
+        log.info("[PayProcess] {} {} done : resultCd={}", outbox.getOutboxType(), ordNo, resultCd);
+    }
+
+    @Override
+    @Transactional
+    public void retryOutbox(Long outboxId, String message) {
+        PayOutbox outbox = payOutboxRepository.findById(outboxId).orElseThrow();
+
+        if (outbox.getAttempts() >= maxAttempts) {
+            outbox.fail(message);
+            log.error("[PayProcess] {} {} failed after {} attempts : {}", outbox.getOutboxType(), outbox.getOrdNo(), outbox.getAttempts(), message);
+
+            // 취소 요청이 최종 실패하면 결제 완료 상태로 되돌려 다시 취소할 수 있도록 함
+            if (outbox.getOutboxType() == PayOutboxType.CANCEL) {
+                String ordNo = outbox.getOrdNo();
+                transition(CANCEL_REQUESTED, PAID, () -> payRepository.updateCancelFailed(ordNo, cancelOrdNo(ordNo), null, message, CANCEL_REQUESTED, PAID));
+            }
+            return;
+        }
+
+        // 지수 백오프 (2s, 4s, 8s ...)
+        long backoff = retryBackoffMillis << Math.min(outbox.getAttempts() - 1, 10);
+        outbox.retryAt(LocalDateTime.now().plusNanos(backoff * 1_000_000), message);
+    }
+
+    /**
+     * 결제 서버 전달 여부를 알 수 없는 요청 - 재요청하지 않고 거래 조회로 결과를 확정할 때까지 보류
+     */
+    @Override
+    @Transactional
+    public void markOutboxUnknown(Long outboxId, String message) {
+        PayOutbox outbox = payOutboxRepository.findById(outboxId).orElseThrow();
+
+        outbox.markUnknown(LocalDateTime.now().plusNanos(unknownBackoffMillis(outbox) * 1_000_000), message);
+    }
+
+    @Override
+    @Transactional
+    public PayOutbox claimUnknownOutbox(Long outboxId) {
+        int claimed = payOutboxRepository.claimForInquiry(outboxId, PayOutboxStatus.UNKNOWN, PayOutboxStatus.PROCESSING, LocalDateTime.now());
+
+        if (claimed == 0) {
+            return null;
+        }
+
+        return payOutboxRepository.findById(outboxId).orElse(null);
+    }
+
+    @Override
+    @Transactional
+    public JSONObject createInquiryRequest(String ordNo) {
+        Optional<Pay> pay = payRepository.findByOrdNo(ordNo);
+        isPay(pay);
+
+        return createInquiryRequest(pay.get());
+    }
+
+    /**
+     * 거래 조회 결과로 결과를 알 수 없던 요청을 확정
+     * - 결제 서버에 반영됨 (승인 : APPROVED/CANCELED, 취소 : CANCELED) : 응답을 받은 것과 같이 처리
+     * - 반영되지 않음 : 요청이 전달되지 않은 것이므로 일반 재시도
+     * - 조회 실패 : 결과 확인 대기로 남겨 다음 주기에 다시 조회
+     */
+    @Override
+    @Transactional
+    public void resolveUnknownOutbox(Long outboxId, JSONObject inquiry) {
+        PayOutbox outbox = payOutboxRepository.findById(outboxId).orElseThrow();
+
+        if (!"0".equals(inquiry.optString("resultCd"))) {
+            markOutboxUnknown(outboxId, inquiry.optString("resultMsg", "inquiry failed"));
+            return;
+        }
+
+        String trStatus = inquiry.optString("trStatus", "NONE");
+        boolean approve = outbox.getOutboxType() == PayOutboxType.APPROVE;
+
+        if (approve ? !"NONE".equals(trStatus) : "CANCELED".equals(trStatus)) {
+            JSONObject response = new JSONObject();
+            response.put("resultCd", "0");
+            response.put("resultMsg", "resolved by inquiry");
+            response.put("trNo", approve ? inquiry.optString("trNo", null) : inquiry.optString("cancelTrNo", null));
+
+            completeOutbox(outboxId, response);
+            return;
+        }
+
+        retryOutbox(outboxId, "not applied at gateway (" + trStatus + ")");
+    }
+
+    @Override
+    public JSONObject createInquiryRequest(Pay pay) {
+        String reqDay = DateUtil.currentDateString();
+        String reqTime = DateUtil.currentTimeString();
+        String mercntId = pay.getMercntId();
+        String ordNo = pay.getOrdNo();
+
+        JSONObject reqParam = new JSONObject();
+        reqParam.put("hdInfo", "IA_INQUIRY");
+        reqParam.put("apiVer", "3.0");
+        reqParam.put("mercntId", mercntId);
+        reqParam.put("ordNo", ordNo);
+        reqParam.put("authNo", pay.getAuthNo() == null ? "" : pay.getAuthNo());
+        reqParam.put("reqDay", reqDay);
+        reqParam.put("reqTime", reqTime);
+        reqParam.put("signature", SignatureUtil.sha256(mercntId + ordNo + reqDay + reqTime + ENCRYPT_KEY));
+
+        return reqParam;
+    }
+
+    /**
+     * 결제 서버 거래 상태(trStatus : APPROVED, CANCELED, NONE)에 맞춰 상태를 보정
+     * 보정도 일반 처리와 같은 조건부 상태 전이/집계를 사용하며, 도중에 다른 요청이 상태를 바꾸면 UNRESOLVED 로 남겨 다음 실행에서 다시 확인한다.
+     */
+    @Override
+    @Transactional
+    public PayReconcileResult reconcile(String ordNo, JSONObject inquiry) {
+        Optional<Pay> pay = payRepository.findByOrdNo(ordNo);
+
+        if (pay.isEmpty() || !"0".equals(inquiry.optString("resultCd"))) {
+            return PayReconcileResult.UNRESOLVED;
+        }
+
+        String trStatus = inquiry.optString("trStatus", "NONE");
+        PayStatus current = pay.get().getPayStatus();
+        boolean corrected = false;
+
+        if ("APPROVED".equals(trStatus) || "CANCELED".equals(trStatus)) {
+            String authNo = inquiry.optString("authNo", pay.get().getAuthNo());
+            String trNo = inquiry.optString("trNo", null);
+
+            if (current == ORDERED) {
+                if (!transition(ORDERED, AUTHORIZED, () -> payRepository.updateAuthorized(ordNo, authNo, ORDERED, AUTHORIZED))) {
+                    return PayReconcileResult.UNRESOLVED;
+                }
+                current = AUTHORIZED;
+                corrected = true;
+            }
+
+            if (current == AUTHORIZED) {
+                if (!transition(AUTHORIZED, PAID, () -> payRepository.updatePaid(ordNo, trNo, AUTHORIZED, PAID))) {
+                    return PayReconcileResult.UNRESOLVED;
+                }
+                payRollupService.applyApproved(ordNo);
+                current = PAID;
+                corrected = true;
+            }
+        }
+
+        if ("CANCELED".equals(trStatus)) {
+            String cancelTrNo = inquiry.optString("cancelTrNo", null);
+
+            if (current == PAID) {
+                if (!transition(PAID, CANCEL_REQUESTED, () -> payRepository.updateStatus(ordNo, PAID, CANCEL_REQUESTED))) {
+                    return PayReconcileResult.UNRESOLVED;
+                }
+                current = CANCEL_REQUESTED;
+            }
+
+            if (current == CANCEL_REQUESTED) {
+                if (!transition(CANCEL_REQUESTED, CANCELED, () -> payRepository.updateCanceled(ordNo, cancelOrdNo(ordNo), cancelTrNo, CANCEL_REQUESTED, CANCELED))) {
+                    return PayReconcileResult.UNRESOLVED;
+                }
+                payRollupService.applyCanceled(ordNo);
+                corrected = true;
+            }
+        }
+
+        if ("APPROVED".equals(trStatus) && current == CANCEL_REQUESTED) {
+            // 취소 요청 처리가 끝났는데도 결제 서버에는 승인 상태로 남은 경우 결제 완료로 되돌림
+            if (isOutboxFinished(ordNo, PayOutboxType.CANCEL)) {
+                return transition(CANCEL_REQUESTED, PAID, () -> payRepository.updateCancelFailed(ordNo, cancelOrdNo(ordNo), null, "reconciled", CANCEL_REQUESTED, PAID))
+                        ? PayReconcileResult.CORRECTED
+                        : PayReconcileResult.UNRESOLVED;
+            }
+            return PayReconcileResult.MATCHED;
+        }
+
+        if ("NONE".equals(trStatus)) {
+            // 결제 서버에 거래가 없는 주문, 승인 요청이 최종 실패한 인증 건은 만료 시간이 지나면 EXPIRED 로 종료
+            // (만료 전이면 다음 실행에서 다시 확인, 승인 요청이 아직 진행 중인 인증 건은 그대로 둠)
+            if (current == ORDERED || (current == AUTHORIZED && isOutboxFinished(ordNo, PayOutboxType.APPROVE))) {
+                PayStatus from = current;
+                LocalDateTime expiredBefore = LocalDateTime.now().minusHours(expireHours);
+
+                if (pay.get().getRegDate().isBefore(expiredBefore)) {
+                    return transition(from, EXPIRED, () -> payRepository.updateExpired(ordNo, expiredBefore, from, EXPIRED))
+                            ? PayReconcileResult.CORRECTED
+                            : PayReconcileResult.UNRESOLVED;
+                }
+                return current == AUTHORIZED ? PayReconcileResult.UNRESOLVED : PayReconcileResult.MATCHED;
+            }
+
+            // 취소 요청 중인데 결제 서버에 거래가 없는 경우
+            if (current == CANCEL_REQUESTED) {
+                return PayReconcileResult.UNRESOLVED;
+            }
+        }
+
+        return corrected ? PayReconcileResult.CORRECTED : PayReconcileResult.MATCHED;
+    }
+
+    /**
+     * 결제 상태 전이
+     * 허용되지 않은 전이는 호출 자체가 잘못된 것이므로 예외, 다른 요청이 먼저 상태를 바꿔 조건부 UPDATE 가 0 건이면 false
+     */
+    private boolean transition(PayStatus from, PayStatus to, IntSupplier update) {
+        if (!from.canTransitionTo(to)) {
+            throw new IllegalStateException("Illegal pay status transition : " + from + " -> " + to);
+        }
+
+        return update.getAsInt() > 0;
+    }
+
+    // 승인 요청 조회 (이미 다른 인증번호로 요청된 경우 예외)
+    private Optional<PayOutbox> findApproval(String ordNo, String authNo) {
+        Optional<PayOutbox> approval = payOutboxRepository.findByOrdNoAndOutboxType(ordNo, PayOutboxType.APPROVE);
+
+        if (approval.isPresent() && authNo != null && !authNo.equals(approval.get().getAuthNo())) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_PAY_AUTH_NO_MISMATCH);
+        }
+
+        return approval;
+    }
+
+    private PayOutbox enqueueApproval(Pay pay, String authNo) {
+        return enqueue(PayOutbox.builder()
+                .ordNo(pay.getOrdNo())
+                .outboxType(PayOutboxType.APPROVE)
+                .mercntId(pay.getMercntId())
+                .authNo(authNo)
+                .build());
+    }
+
+    // 취소 실패 후 재요청이면 기존 취소 요청을 다시 대기 상태로 되돌림 (주문번호당 취소 요청은 한 건)
+    private PayOutbox enqueueCancel(Pay pay) {
+        String trNo = pay.getTrNo();
+        Optional<PayOutbox> cancel = payOutboxRepository.findByOrdNoAndOutboxType(pay.getOrdNo(), PayOutboxType.CANCEL);
+
+        if (cancel.isPresent()) {
+            cancel.get().reopen(trNo);
+            eventPublisher.publishEvent(new PayOutboxCreatedEvent(cancel.get().getId()));
+            return cancel.get();
+        }
+
+        return enqueue(PayOutbox.builder()
+                .ordNo(pay.getOrdNo())
+                .outboxType(PayOutboxType.CANCEL)
+                .mercntId(pay.getMercntId())
+                .oldTrNo(trNo)
+                .trPrice(pay.getTrPrice())
+                .build());
+    }
+
+    private PayOutbox enqueue(PayOutbox outbox) {
+        payOutboxRepository.save(outbox);
+
+        eventPublisher.publishEvent(new PayOutboxCreatedEvent(outbox.getId()));
+
+        return outbox;
+    }
+
+    // 결과 확인 재조회 간격 (retry-backoff 기준, 시도 횟수에 따라 늘리되 최대 64배)
+    private long unknownBackoffMillis(PayOutbox outbox) {
+        return retryBackoffMillis << Math.min(Math.max(outbox.getAttempts() - 1, 0), 6);
+    }
+
+    private boolean isOutboxFinished(String ordNo, PayOutboxType outboxType) {
+        return payOutboxRepository.findByOrdNoAndOutboxType(ordNo, outboxType)
+                .map(outbox -> outbox.getStatus() == PayOutboxStatus.DONE || outbox.getStatus() == PayOutboxStatus.FAILED)
+                .orElse(true);
+    }
+
+    private String cancelOrdNo(String ordNo) {
+        return "CANCEL_" + ordNo;
+    }
+
+    private void isMember(Optional<Member> member) {
+        if (member.isEmpty()) {
+            throw new NotFoundException(ResponseStatus.FAIL_MEMBER_NOT_FOUND);
+        }
+    }
+
+    private void isBuyer(Member member, Pay pay) {
+        if (!member.getId().equals(pay.getBuyerMemberId())) {
+            throw new ForbiddenException(ResponseStatus.FAIL_PAY_BUYER_NOT_MATCH);
+        }
+    }
+
+    private void isPay(Optional<Pay> pay) {
+        if (pay.isEmpty()) {
+            throw new NotFoundException(ResponseStatus.FAIL_PAY_NOT_FOUND);
+        }
+    }
+
+}
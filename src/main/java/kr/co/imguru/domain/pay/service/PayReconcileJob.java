@@ -0,0 +1,230 @@
+package kr.co.imguru.domain.pay.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.imguru.domain.pay.client.GatewayCircuitBreaker;
+import kr.co.imguru.domain.pay.client.PaymentGatewayClient;
+import kr.co.imguru.domain.pay.dto.PayReconcileRunDto;
+import kr.co.imguru.domain.pay.entity.Pay;
+import kr.co.imguru.domain.pay.entity.PayReconcileRun;
+import kr.co.imguru.domain.pay.repository.PayReconcileRunRepository;
+import kr.co.imguru.domain.pay.repository.PaySearchRepository;
+import kr.co.imguru.global.common.PayReconcileResult;
+import kr.co.imguru.global.common.PayStatus;
+import kr.co.imguru.global.common.ReconcileRunStatus;
+import kr.co.imguru.global.exception.IllegalArgumentException;
+import kr.co.imguru.global.exception.NotFoundException;
+import kr.co.imguru.global.exception.PaymentGatewayException;
+import kr.co.imguru.global.model.ResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 결제 대사(reconciliation) 작업
+ * - 주문/인증/취소 요청 상태로 남은 결제를 상태별로 차례로, pay_id 순 청크로 조회하여 결제 서버 거래 상태와 비교 후 보정
+ * - 결제 서버 조회는 pay.reconcile.concurrency 개의 스레드로 제한
+ * - 청크가 끝날 때마다 체크포인트를 저장하므로 중단되어도 이어서 실행할 수 있다.
+ *   (결제 서버 장애로 서킷이 열리면 해당 청크를 커밋하지 않고 중단)
+ */
+@Slf4j
+@Component
+public class PayReconcileJob {
+
+    private final PaySearchRepository paySearchRepository;
+
+    private final PayReconcileRunRepository payReconcileRunRepository;
+
+    private final PayProcessService payProcessService;
+
+    private final PaymentGatewayClient paymentGatewayClient;
+
+    private static final List<PayStatus> TARGET_STATUSES = List.of(PayStatus.ORDERED, PayStatus.AUTHORIZED, PayStatus.CANCEL_REQUESTED);
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "pay-reconcile"));
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final int chunkSize;
+
+    private final int concurrency;
+
+    private final long minAgeMinutes;
+
+    public PayReconcileJob(PaySearchRepository paySearchRepository,
+                           PayReconcileRunRepository payReconcileRunRepository,
+                           PayProcessService payProcessService,
+                           PaymentGatewayClient paymentGatewayClient,
+                           @Value("${pay.reconcile.chunk-size:500}") int chunkSize,
+                           @Value("${pay.reconcile.concurrency:4}") int concurrency,
+                           @Value("${pay.reconcile.min-age-minutes:10}") long minAgeMinutes) {
+        this.paySearchRepository = paySearchRepository;
+        this.payReconcileRunRepository = payReconcileRunRepository;
+        this.payProcessService = payProcessService;
+        this.paymentGatewayClient = paymentGatewayClient;
+        this.chunkSize = chunkSize;
+        this.concurrency = concurrency;
+        this.minAgeMinutes = minAgeMinutes;
+    }
+
+    @Scheduled(cron = "${pay.reconcile.cron:0 30 3 * * *}")
+    public void scheduledRun() {
+        if (running.get()) {
+            return;
+        }
+        start(true);
+    }
+
+    /**
+     * 대사 시작 (resume = true 이면 중단된 마지막 실행을 체크포인트부터 이어서 실행)
+     */
+    public PayReconcileRunDto start(boolean resume) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_PAY_RECONCILE_RUNNING);
+        }
+
+        try {
+            PayReconcileRun run = resume
+                    ? payReconcileRunRepository.findTopByStatusInOrderByIdDesc(List.of(ReconcileRunStatus.RUNNING, ReconcileRunStatus.FAILED))
+                    .orElseGet(this::newRun)
+                    : newRun();
+
+            run.resume();
+            PayReconcileRun saved = payReconcileRunRepository.save(run);
+
+            runner.execute(() -> execute(saved));
+
+            return toRunDto(saved);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    public PayReconcileRunDto getRun(Long runId) {
+        return payReconcileRunRepository.findById(runId)
+                .map(this::toRunDto)
+                .orElseThrow(() -> new NotFoundException(ResponseStatus.FAIL_PAY_RECONCILE_RUN_NOT_FOUND));
+    }
+
+    private PayReconcileRun newRun() {
+        return PayReconcileRun.builder()
+                .cutoff(LocalDateTime.now().minusMinutes(minAgeMinutes))
+                .build();
+    }
+
+    private void execute(PayReconcileRun run) {
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+
+        try {
+            // 체크포인트의 상태부터 이어서 조회 (이전 상태는 이미 끝난 것)
+            int from = run.getLastPayStatus() == null ? 0 : TARGET_STATUSES.indexOf(run.getLastPayStatus());
+
+            for (PayStatus payStatus : TARGET_STATUSES.subList(from, TARGET_STATUSES.size())) {
+                Long lastPayId = payStatus == run.getLastPayStatus() ? run.getLastPayId() : null;
+
+                while (true) {
+                    List<Pay> chunk = paySearchRepository.findReconcileTargets(payStatus, lastPayId, run.getCutoff(), chunkSize);
+
+                    if (chunk.isEmpty()) {
+                        break;
+                    }
+
+                    List<Future<PayReconcileResult>> futures = new ArrayList<>(chunk.size());
+                    for (Pay pay : chunk) {
+                        futures.add(workers.submit(() -> reconcile(pay)));
+                    }
+
+                    long[] counts = new long[PayReconcileResult.values().length];
+                    for (Future<PayReconcileResult> future : futures) {
+                        counts[future.get().ordinal()]++;
+                    }
+
+                    lastPayId = chunk.get(chunk.size() - 1).getId();
+                    run.checkpoint(payStatus, lastPayId, counts);
+                    run = payReconcileRunRepository.save(run);
+                }
+            }
+
+            run.complete();
+            run = payReconcileRunRepository.save(run);
+
+            log.info("[PayReconcile] run {} completed : scanned={}, matched={}, corrected={}, unresolved={}, failed={}",
+                    run.getId(), run.getScannedCount(), run.getMatchedCount(), run.getCorrectedCount(), run.getUnresolvedCount(), run.getFailedCount());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop(run, "interrupted");
+        } catch (ExecutionException e) {
+            stop(run, e.getCause().getMessage());
+        } catch (RuntimeException e) {
+            stop(run, e.getMessage());
+        } finally {
+            workers.shutdownNow();
+            running.set(false);
+        }
+    }
+
+    private PayReconcileResult reconcile(Pay pay) {
+        JSONObject inquiry;
+
+        try {
+            inquiry = paymentGatewayClient.inquire(payProcessService.createInquiryRequest(pay));
+        } catch (PaymentGatewayException e) {
+            // 결제 서버 장애 시 청크 전체를 중단하고 체크포인트부터 다시 실행
+            if (paymentGatewayClient.getCircuitState() == GatewayCircuitBreaker.State.OPEN) {
+                throw e;
+            }
+            return PayReconcileResult.FAILED;
+        }
+
+        try {
+            PayReconcileResult result = payProcessService.reconcile(pay.getOrdNo(), inquiry);
+
+            if (result != PayReconcileResult.MATCHED) {
+                log.info("[PayReconcile] {} {} -> {}", pay.getOrdNo(), pay.getPayStatus(), result);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            log.warn("[PayReconcile] {} failed : {}", pay.getOrdNo(), e.getMessage());
+            return PayReconcileResult.FAILED;
+        }
+    }
+
+    private void stop(PayReconcileRun run, String message) {
+        log.warn("[PayReconcile] run {} stopped at {} pay_id {} : {}", run.getId(), run.getLastPayStatus(), run.getLastPayId(), message);
+
+        run.fail(message);
+        payReconcileRunRepository.save(run);
+    }
+
+    private PayReconcileRunDto toRunDto(PayReconcileRun run) {
+        return PayReconcileRunDto.builder()
+                .runId(run.getId())
+                .status(String.valueOf(run.getStatus()))
+                .cutoff(run.getCutoff())
+                .lastPayStatus(run.getLastPayStatus() == null ? null : run.getLastPayStatus().getCode())
+                .lastPayId(run.getLastPayId())
+                .scannedCount(run.getScannedCount())
+                .matchedCount(run.getMatchedCount())
+                .correctedCount(run.getCorrectedCount())
+                .unresolvedCount(run.getUnresolvedCount())
+                .failedCount(run.getFailedCount())
+                .message(run.getMessage())
+                .startedAt(run.getRegDate())
+                .finishedAt(run.getFinishedAt())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+}
@@ -0,0 +1,22 @@
+package kr.co.imguru.domain.pay.service;
+
+import kr.co.imguru.domain.pay.dto.PayRollupDto;
+import kr.co.imguru.domain.pay.dto.PayRollupRebuildDto;
+import kr.co.imguru.global.common.RollupDimension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PayRollupService {
+
+    void applyApproved(String ordNo);
+
+    void applyCanceled(String ordNo);
+
+    List<PayRollupDto> getDailyRollups(RollupDimension dimension, Long targetId, LocalDate from, LocalDate to);
+
+    List<PayRollupDto> getMyRevenue(String email, LocalDate from, LocalDate to);
+
+    PayRollupRebuildDto rebuild(LocalDate from, LocalDate to);
+
+}
@@ -0,0 +1,208 @@
+package kr.co.imguru.domain.pay.service;
+
+import jakarta.transaction.Transactional;
+import kr.co.imguru.domain.admin.service.AdminMetricRecorder;
+import kr.co.imguru.domain.member.entity.Member;
+import kr.co.imguru.domain.member.repository.MemberRepository;
+import kr.co.imguru.domain.pay.dto.PayRollupDto;
+import kr.co.imguru.domain.pay.dto.PayRollupRebuildDto;
+import kr.co.imguru.domain.pay.entity.Pay;
+import kr.co.imguru.domain.pay.entity.PayDailyRollup;
+import kr.co.imguru.domain.pay.repository.PayDailyRollupRepository;
+import kr.co.imguru.domain.pay.repository.PayRepository;
+import kr.co.imguru.domain.post.entity.Post;
+import kr.co.imguru.domain.post.repository.PostRepository;
+import kr.co.imguru.global.common.RollupDimension;
+import kr.co.imguru.global.exception.IllegalArgumentException;
+import kr.co.imguru.global.exception.NotFoundException;
+import kr.co.imguru.global.model.ResponseStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PayRollupServiceImpl implements PayRollupService {
+
+    private static final long MAX_RANGE_DAYS = 366;
+
+    private final PayRepository payRepository;
+
+    private final PayDailyRollupRepository payDailyRollupRepository;
+
+    private final PostRepository postRepository;
+
+    private final MemberRepository memberRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AdminMetricRecorder adminMetricRecorder;
+
+    @Value("${pay.rollup.rebuild-parallelism:4}")
+    private int rebuildParallelism;
+
+    // 승인(A -> P) 전이와 같은 트랜잭션에서 호출
+    @Override
+    @Transactional
+    public void applyApproved(String ordNo) {
+        payRepository.findByOrdNo(ordNo)
+                .ifPresent(pay -> {
+                    accumulate(pay, pay.getTrPrice(), 1, 0, 0);
+                    adminMetricRecorder.payApproved(pay);
+                });
+    }
+
+    // 취소(R -> C) 전이와 같은 트랜잭션에서 호출
+    @Override
+    @Transactional
+    public void applyCanceled(String ordNo) {
+        payRepository.findByOrdNo(ordNo)
+                .ifPresent(pay -> {
+                    accumulate(pay, 0, 0, pay.getTrPrice(), 1);
+                    adminMetricRecorder.payCanceled(pay);
+                });
+    }
+
+    @Override
+    @Transactional
+    public List<PayRollupDto> getDailyRollups(RollupDimension dimension, Long targetId, LocalDate from, LocalDate to) {
+        isValidRange(from, to);
+
+        return payDailyRollupRepository.findAllByDimensionAndTargetIdAndStatDateBetweenOrderByStatDate(dimension, targetId, from, to)
+                .stream()
+                .map(this::toRollupDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public List<PayRollupDto> getMyRevenue(String email, LocalDate from, LocalDate to) {
+        Optional<Member> loginMember = memberRepository.findByEmailAndIsDeleteFalse(email);
+        isMember(loginMember);
+
+        return getDailyRollups(RollupDimension.GURU, loginMember.get().getId(), from, to);
+    }
+
+    /**
+     * 기간 재집계
+     * 하루 단위로 나누어 (삭제 + 고수/스킬/게시글 재집계) 를 각각의 트랜잭션으로 병렬 처리한다.
+     * 당일을 재집계하는 동안 들어온 승인/취소는 누락되거나 중복될 수 있으므로 지난 날짜에 사용한다.
+     */
+    @Override
+    public PayRollupRebuildDto rebuild(LocalDate from, LocalDate to) {
+        isValidRange(from, to);
+
+        long startedAt = System.currentTimeMillis();
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(rebuildParallelism, days)));
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        try {
+            for (LocalDate statDate = from; !statDate.isAfter(to); statDate = statDate.plusDays(1)) {
+                LocalDate day = statDate;
+                futures.add(executor.submit(() -> transactionTemplate.execute(status -> rebuildDay(day))));
+            }
+
+            int rows = 0;
+            for (Future<Integer> future : futures) {
+                rows += future.get();
+            }
+
+            long elapsedMillis = System.currentTimeMillis() - startedAt;
+            log.info("[PayRollup] rebuilt {} ~ {} ({} days, {} rows) in {} ms", from, to, days, rows, elapsedMillis);
+
+            return PayRollupRebuildDto.builder()
+                    .from(from)
+                    .to(to)
+                    .days(days)
+                    .rows(rows)
+                    .elapsedMillis(elapsedMillis)
+                    .build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("pay rollup rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("pay rollup rebuild failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int rebuildDay(LocalDate statDate) {
+        String trDay = statDate.format(DateTimeFormatter.BASIC_ISO_DATE);
+
+        payDailyRollupRepository.deleteByStatDate(statDate);
+
+        return payDailyRollupRepository.rebuildGuru(statDate, trDay)
+                + payDailyRollupRepository.rebuildSkill(statDate, trDay)
+                + payDailyRollupRepository.rebuildPost(statDate, trDay);
+    }
+
+    private void accumulate(Pay pay, long grossAmount, long grossCount, long cancelAmount, long cancelCount) {
+        if (pay.getPostId() == null) {
+            log.warn("[PayRollup] {} has no post_id, skipped", pay.getOrdNo());
+            return;
+        }
+
+        Optional<Post> post = postRepository.findById(pay.getPostId());
+
+        if (post.isEmpty()) {
+            log.warn("[PayRollup] {} post {} not found, skipped", pay.getOrdNo(), pay.getPostId());
+            return;
+        }
+
+        LocalDate statDate = pay.getTrDay() == null
+                ? LocalDate.now()
+                : LocalDate.parse(pay.getTrDay(), DateTimeFormatter.BASIC_ISO_DATE);
+
+        Member guru = post.get().getMember();
+
+        payDailyRollupRepository.accumulate(RollupDimension.POST.name(), post.get().getId(), statDate, grossAmount, grossCount, cancelAmount, cancelCount);
+        payDailyRollupRepository.accumulate(RollupDimension.GURU.name(), guru.getId(), statDate, grossAmount, grossCount, cancelAmount, cancelCount);
+
+        if (guru.getSkill() != null) {
+            payDailyRollupRepository.accumulate(RollupDimension.SKILL.name(), guru.getSkill().getId(), statDate, grossAmount, grossCount, cancelAmount, cancelCount);
+        }
+    }
+
+    private PayRollupDto toRollupDto(PayDailyRollup rollup) {
+        return PayRollupDto.builder()
+                .dimension(String.valueOf(rollup.getDimension()))
+                .targetId(rollup.getTargetId())
+                .statDate(rollup.getStatDate())
+                .grossAmount(rollup.getGrossAmount())
+                .grossCount(rollup.getGrossCount())
+                .cancelAmount(rollup.getCancelAmount())
+                .cancelCount(rollup.getCancelCount())
+                .netAmount(rollup.getNetAmount())
+                .build();
+    }
+
+    private void isValidRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException(ResponseStatus.FAIL_PAY_ROLLUP_RANGE_INVALID);
+        }
+    }
+
+    private void isMember(Optional<Member> member) {
+        if (member.isEmpty()) {
+            throw new NotFoundException(ResponseStatus.FAIL_MEMBER_NOT_FOUND);
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package kr.co.imguru.domain.pay.service;
 
+import kr.co.imguru.domain.pay.dto.PaySliceDto;
 import kr.co.imguru.domain.pay.dto.PostPayDto;
 import kr.co.imguru.domain.pay.entity.Pay;
 
@@ -13,4 +14,8 @@ public interface PayService {
 
     List<Pay> getPaysByLoginMember(String email);
 
+    PaySliceDto getMyPays(String email, Long cursorId, int size);
+
+    PaySliceDto getPaysForMyPosts(String email, Long cursorId, int size);
+
 }
@@ -3,12 +3,15 @@ package kr.co.imguru.domain.pay.service;
 import jakarta.transaction.Transactional;
 import kr.co.imguru.domain.member.entity.Member;
 import kr.co.imguru.domain.member.repository.MemberRepository;
+import kr.co.imguru.domain.pay.dto.PayReadDto;
+import kr.co.imguru.domain.pay.dto.PaySliceDto;
 import kr.co.imguru.domain.pay.entity.Pay;
 import kr.co.imguru.domain.pay.repository.PayRepository;
 import kr.co.imguru.domain.pay.dto.PostPayDto;
 import kr.co.imguru.domain.pay.repository.PaySearchRepository;
 import kr.co.imguru.domain.post.entity.Post;
 import kr.co.imguru.domain.post.repository.PostRepository;
+import kr.co.imguru.global.common.PayStatus;
 import kr.co.imguru.global.exception.NotFoundException;
 import kr.co.imguru.global.model.ResponseStatus;
 import kr.co.imguru.global.util.DateUtil;
@@ -23,6 +26,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class PayServiceImpl implements PayService {
 
+    private static final int MAX_SLICE_SIZE = 100;
+
     private final PayRepository payRepository;
 
     private final MemberRepository memberRepository;
@@ -78,7 +83,7 @@ public class PayServiceImpl implements PayService {
     @Override
     @Transactional
     public List<Pay> getAllSuccessPays() {
-        return payRepository.findAllByPayStatusIn(List.of("P", "C"));
+        return payRepository.findAllByPayStatusIn(List.of(PayStatus.PAID, PayStatus.CANCEL_REQUESTED, PayStatus.CANCELED));
     }
 
     @Override
@@ -91,6 +96,60 @@ public class PayServiceImpl implements PayService {
 
     }
 
+    @Override
+    @Transactional
+    public PaySliceDto getMyPays(String email, Long cursorId, int size) {
+        Optional<Member> loginMember = memberRepository.findByEmailAndIsDeleteFalse(email);
+        isMember(loginMember);
+
+        int sliceSize = toSliceSize(size);
+
+        return toSliceDto(paySearchRepository.findPaysByBuyerMemberId(loginMember.get().getId(), cursorId, sliceSize), sliceSize);
+    }
+
+    @Override
+    @Transactional
+    public PaySliceDto getPaysForMyPosts(String email, Long cursorId, int size) {
+        Optional<Member> loginMember = memberRepository.findByEmailAndIsDeleteFalse(email);
+        isMember(loginMember);
+
+        int sliceSize = toSliceSize(size);
+
+        return toSliceDto(paySearchRepository.findPaysBySellerMemberId(loginMember.get().getId(), cursorId, sliceSize), sliceSize);
+    }
+
+    private int toSliceSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+    }
+
+    // size + 1 건을 조회했으므로 초과분이 있으면 다음 페이지가 존재
+    private PaySliceDto toSliceDto(List<Pay> pays, int size) {
+        boolean hasNext = pays.size() > size;
+        List<Pay> content = hasNext ? pays.subList(0, size) : pays;
+
+        return PaySliceDto.builder()
+                .pays(content.stream().map(this::toReadDto).toList())
+                .nextCursor(hasNext ? content.get(content.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private PayReadDto toReadDto(Pay pay) {
+        return PayReadDto.builder()
+                .payId(pay.getId())
+                .buyerMemberId(pay.getBuyerMemberId())
+                .postId(pay.getPostId())
+                .ordNo(pay.getOrdNo())
+                .productNm(pay.getProductNm())
+                .trPrice(pay.getTrPrice())
+                .trDay(pay.getTrDay())
+                .trTime(pay.getTrTime())
+                .trNo(pay.getTrNo())
+                .payStatus(pay.getPayStatus().getCode())
+                .regDate(pay.getRegDate())
+                .build();
+    }
+
 
     private void isMember(Optional<Member> member) {
         if (member.isEmpty()) {
@@ -30,6 +30,8 @@ public class PostReadDto {
 
     private List<File> fileList;
 
+    private List<String> thumbnailUrlList;  // fileList 와 같은 순서의 목록 표시용 URL (썸네일이 없으면 원본 URL)
+
     private boolean isGuru;
 
     private String skillName;
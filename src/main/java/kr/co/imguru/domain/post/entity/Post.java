@@ -50,6 +50,12 @@ public class Post extends BaseEntity {
     @Column(name = "view_cnt")
     private Long viewCnt;
 
+    @Column(name = "report_cnt")
+    private Long reportCnt;             // 신고 수 (PostRepository.addReport 로만 증가)
+
+    @Column(name = "report_score")
+    private Long reportScore;           // 신고 분류 가중치 합계 (자동 숨김 기준)
+
     @Builder
     public Post(Member member,
                 PostCategory postCategory,
@@ -1,11 +1,14 @@
 package kr.co.imguru.domain.post.repository;
 
 import kr.co.imguru.domain.post.entity.Post;
+import kr.co.imguru.global.common.PostCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,9 +21,46 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     List<Post> findAllByIsGuruAndIsDeleteFalse(boolean isGuru);
 
+    @Query("SELECT p.member.id FROM Post p WHERE p.id = :postId")
+    Optional<Long> findMemberIdById(Long postId);
+
     @Query("SELECT COUNT(r) " +
             "FROM Reply r " +
             "WHERE r.post.id = :postId AND r.isDelete = false")
     int countRepliesByPostId(@Param("postId") Long postId);
-}
 
+    /*
+     * 관리자 일괄 처리 (id 목록 단위 set-based UPDATE, 이미 같은 상태인 행은 제외)
+     * 벌크 UPDATE 는 Auditing 이 적용되지 않으므로 mod_date 를 직접 갱신한다.
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.isDelete = true, p.modDate = :now " +
+            "WHERE p.id IN :ids AND p.isDelete = false")
+    int softDeleteAllByIdIn(List<Long> ids, LocalDateTime now);
+
+    // 복구는 관리자가 검토를 마친 것이므로 자동 숨김 점수도 초기화
+    @Modifying
+    @Query("UPDATE Post p SET p.isDelete = false, p.reportScore = 0, p.modDate = :now " +
+            "WHERE p.id IN :ids AND p.isDelete = true")
+    int restoreAllByIdIn(List<Long> ids, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.postCategory = :postCategory, p.modDate = :now " +
+            "WHERE p.id IN :ids AND p.postCategory <> :postCategory")
+    int changeCategoryAllByIdIn(List<Long> ids, PostCategory postCategory, LocalDateTime now);
+
+    /*
+     * 신고 누적 (ReportAutoHider)
+     * 행 잠금 안에서 증가시키므로 동시 신고에도 누락이 없고, 숨김은 점수가 기준 이상이고 아직 숨겨지지 않았을 때 한 번만 적용된다.
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.reportCnt = COALESCE(p.reportCnt, 0) + 1, " +
+            "p.reportScore = COALESCE(p.reportScore, 0) + :weight " +
+            "WHERE p.id = :postId")
+    int addReport(Long postId, long weight);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.isDelete = true, p.modDate = :now " +
+            "WHERE p.id = :postId AND p.isDelete = false AND p.reportScore >= :threshold")
+    int hideIfReportScoreReached(Long postId, long threshold, LocalDateTime now);
+}
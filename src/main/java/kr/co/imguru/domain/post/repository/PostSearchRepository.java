@@ -1,6 +1,7 @@
 package kr.co.imguru.domain.post.repository;
 
 import com.querydsl.core.QueryResults;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -108,16 +109,7 @@ public class PostSearchRepository {
         JPAQuery<Post> query = queryFactory
                 .selectFrom(post)
                 .leftJoin(post.member, member)
-                .where(
-                        post.isDelete.eq(Boolean.FALSE),
-//                        post.postCategory.eq(PostCategory.QNA)
-//                                .or(post.postCategory.eq(PostCategory.FREE))
-//                                .or(post.postCategory.eq(PostCategory.INFO)),
-                        postCategoryEq(postCategory),
-                        postSkillEq(skill),
-                        postIsGuru(role),
-                        postSearchText(searchType, searchText)
-                )
+                .where(searchConditions(postCategory, skill, role, searchType, searchText))
                 .orderBy(post.regDate.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize());
@@ -129,6 +121,22 @@ public class PostSearchRepository {
         return new PageImpl<>(results.getResults(), pageable, results.getTotal());
     }
 
+    /**
+     * 게시글 검색 조건 (값이 없는 조건은 null -> where 에서 제외)
+     */
+    public Predicate[] searchConditions(String postCategory, String skill, String role, String searchType, String searchText) {
+        return new Predicate[]{
+                post.isDelete.eq(Boolean.FALSE),
+//                post.postCategory.eq(PostCategory.QNA)
+//                        .or(post.postCategory.eq(PostCategory.FREE))
+//                        .or(post.postCategory.eq(PostCategory.INFO)),
+                postCategoryEq(postCategory),
+                postSkillEq(skill),
+                postIsGuru(role),
+                postSearchText(searchType, searchText)
+        };
+    }
+
     private BooleanExpression postCategoryEq(String category) {
         if (!StringUtils.hasText(category)) {
             return null;
@@ -1,9 +1,11 @@
 package kr.co.imguru.domain.post.service;
 
 import jakarta.transaction.Transactional;
+import kr.co.imguru.domain.admin.service.AdminMetricRecorder;
 import kr.co.imguru.domain.file.entity.File;
 import kr.co.imguru.domain.file.entity.FileFormat;
 import kr.co.imguru.domain.file.repository.FileRepository;
+import kr.co.imguru.domain.file.service.FileService;
 import kr.co.imguru.domain.like.entity.LikePost;
 import kr.co.imguru.domain.like.repository.LikePostRepository;
 import kr.co.imguru.domain.like.repository.LikePostSearchRepository;
@@ -49,6 +51,10 @@ public class PostServiceImpl implements PostService {
 
     private final FileRepository fileRepository;
 
+    private final FileService fileService;
+
+    private final AdminMetricRecorder adminMetricRecorder;
+
     private final PostSearchRepository postSearchRepository;
 
     private final LikePostSearchRepository likePostSearchRepository;
@@ -69,6 +75,8 @@ public class PostServiceImpl implements PostService {
 
         postRepository.save(post);
 
+        adminMetricRecorder.postCreated(post);
+
         return post.getId();
     }
 
@@ -143,8 +151,12 @@ public class PostServiceImpl implements PostService {
 
         isPostCategory(updateDto.getCategoryName());
 
+        PostCategory beforeCategory = post.get().getPostCategory();
+
         post.get().changePost(updateDto);
 
+        adminMetricRecorder.postCategoryChanged(beforeCategory, post.get().getPostCategory());
+
         postRepository.save(post.get());
 
         return toReadDto(post.get());
@@ -157,12 +169,14 @@ public class PostServiceImpl implements PostService {
 
         isPost(post);
 
-        /*해당 boardId를 가지고 있는 file 먼저 삭제*/
-        fileRepository.deleteFileByFileKey("post", postId);
+        /*해당 boardId를 가지고 있는 file 먼저 삭제 (원본 참조 해제)*/
+        fileService.deleteFilesByFileKey("post", postId);
 
         post.get().changeDeleteAt();
 
         postRepository.save(post.get());
+
+        adminMetricRecorder.postRemoved(post.get());
     }
 
 
@@ -400,6 +414,9 @@ public class PostServiceImpl implements PostService {
                 .title(post.getTitle())
                 .content(post.getContent())
                 .fileList(fileList)
+                .thumbnailUrlList(fileList.stream()
+                        .map(file -> file.getThumbnailUrl() != null ? file.getThumbnailUrl() : file.getFileUrl())
+                        .toList())
                 .price(post.getPrice())
                 .isGuru(post.isGuru())
                 .skillName(post.getMember().getSkill().getName())
@@ -37,6 +37,12 @@ public class Reply extends BaseEntity {
     @Column(name = "like_cnt")
     private Long likeCnt;
 
+    @Column(name = "report_cnt")
+    private Long reportCnt;
+
+    @Column(name = "report_score")
+    private Long reportScore;
+
     @Builder
     public Reply(Member member,
                  Post post,
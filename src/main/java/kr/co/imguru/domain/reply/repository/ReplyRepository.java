@@ -2,8 +2,11 @@ package kr.co.imguru.domain.reply.repository;
 
 import kr.co.imguru.domain.reply.entity.Reply;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +17,26 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
 
     List<Reply> findAllByIsDeleteFalse();
 
+    // 관리자 일괄 삭제/복구 (AdminBulkJob)
+    @Modifying
+    @Query("UPDATE Reply r SET r.isDelete = true, r.modDate = :now " +
+            "WHERE r.id IN :ids AND r.isDelete = false")
+    int softDeleteAllByIdIn(List<Long> ids, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Reply r SET r.isDelete = false, r.reportScore = 0, r.modDate = :now " +
+            "WHERE r.id IN :ids AND r.isDelete = true")
+    int restoreAllByIdIn(List<Long> ids, LocalDateTime now);
+
+    // 신고 누적 / 자동 숨김 (ReportAutoHider)
+    @Modifying
+    @Query("UPDATE Reply r SET r.reportCnt = COALESCE(r.reportCnt, 0) + 1, " +
+            "r.reportScore = COALESCE(r.reportScore, 0) + :weight " +
+            "WHERE r.id = :replyId")
+    int addReport(Long replyId, long weight);
+
+    @Modifying
+    @Query("UPDATE Reply r SET r.isDelete = true, r.modDate = :now " +
+            "WHERE r.id = :replyId AND r.isDelete = false AND r.reportScore >= :threshold")
+    int hideIfReportScoreReached(Long replyId, long threshold, LocalDateTime now);
 }
@@ -1,9 +1,11 @@
 package kr.co.imguru.domain.reply.service;
 
 import jakarta.transaction.Transactional;
+import kr.co.imguru.domain.admin.service.AdminMetricRecorder;
 import kr.co.imguru.domain.file.entity.File;
 import kr.co.imguru.domain.file.entity.FileFormat;
 import kr.co.imguru.domain.file.repository.FileRepository;
+import kr.co.imguru.domain.file.service.FileService;
 import kr.co.imguru.domain.like.entity.LikeReply;
 import kr.co.imguru.domain.like.repository.LikeReplyRepository;
 import kr.co.imguru.domain.like.repository.LikeReplySearchRepository;
@@ -40,12 +42,16 @@ public class ReplyServiceImpl implements ReplyService {
 
     private final FileRepository fileRepository;
 
+    private final FileService fileService;
+
     private final LikeReplyRepository likeReplyRepository;
 
     private final ReplySearchRepository replySearchRepository;
 
     private final LikeReplySearchRepository likeReplySearchRepository;
 
+    private final AdminMetricRecorder adminMetricRecorder;
+
     //Create
     @Override
     @Transactional
@@ -60,6 +66,8 @@ public class ReplyServiceImpl implements ReplyService {
 
         replyRepository.save(reply);
 
+        adminMetricRecorder.replyCreated();
+
         return reply.getId();
     }
 
@@ -201,10 +209,15 @@ public class ReplyServiceImpl implements ReplyService {
 
         isWriter(loginMember, reply);
 
+        /*해당 replyId를 가지고 있는 file 먼저 삭제 (원본 참조 해제)*/
+        fileService.deleteFilesByFileKey("reply", replyId);
+
         reply.get().changeDeleteAt();
 
         replyRepository.save(reply.get());
 
+        adminMetricRecorder.replyRemoved();
+
         return reply.get().getId();
     }
 
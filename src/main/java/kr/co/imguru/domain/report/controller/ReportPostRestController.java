@@ -4,9 +4,11 @@ import jakarta.validation.Valid;
 import kr.co.imguru.domain.report.dto.ReportPostCreateDto;
 import kr.co.imguru.domain.report.dto.ReportPostReadDto;
 import kr.co.imguru.domain.report.service.ReportPostService;
+import kr.co.imguru.global.auth.CustomUserDetails;
 import kr.co.imguru.global.model.ResponseFormat;
 import kr.co.imguru.global.model.ResponseStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -19,8 +21,9 @@ public class ReportPostRestController {
     private final ReportPostService reportPostService;
 
     @PostMapping("/reportPost")
-    public ResponseFormat<Void> createReportPost(@RequestBody @Valid ReportPostCreateDto createDto) {
-        reportPostService.createReportPost(createDto);
+    public ResponseFormat<Void> createReportPost(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                 @RequestBody @Valid ReportPostCreateDto createDto) {
+        reportPostService.createReportPost(userDetails.getUsername(), createDto);
         return ResponseFormat.success(ResponseStatus.SUCCESS_OK);
     }
 
@@ -4,9 +4,11 @@ import jakarta.validation.Valid;
 import kr.co.imguru.domain.report.dto.ReportReplyCreateDto;
 import kr.co.imguru.domain.report.dto.ReportReplyReadDto;
 import kr.co.imguru.domain.report.service.ReportReplyService;
+import kr.co.imguru.global.auth.CustomUserDetails;
 import kr.co.imguru.global.model.ResponseFormat;
 import kr.co.imguru.global.model.ResponseStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -19,8 +21,9 @@ public class ReportReplyRestController {
     private final ReportReplyService reportReplyService;
 
     @PostMapping("/reportReply")
-    public ResponseFormat<Void> createReportReply(@RequestBody @Valid ReportReplyCreateDto createDto) {
-        reportReplyService.createReportReply(createDto);
+    public ResponseFormat<Void> createReportReply(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                  @RequestBody @Valid ReportReplyCreateDto createDto) {
+        reportReplyService.createReportReply(userDetails.getUsername(), createDto);
         return ResponseFormat.success(ResponseStatus.SUCCESS_OK);
     }
 
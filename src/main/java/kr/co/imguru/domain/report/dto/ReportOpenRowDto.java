@@ -0,0 +1,11 @@
+package kr.co.imguru.domain.report.dto;
+
+import kr.co.imguru.global.common.ReportCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 미처리 신고 1건 (신고 처리 대기열 재구성용, 대상 id 와 신고자 id 만 조회)
+ */
+public record ReportOpenRowDto(Long targetId, Long memberId, ReportCategory reportCategory, LocalDateTime regDate, boolean targetDeleted) {
+}
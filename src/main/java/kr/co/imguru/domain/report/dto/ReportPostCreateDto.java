@@ -1,5 +1,6 @@
 package kr.co.imguru.domain.report.dto;
 
+import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,12 +12,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class ReportPostCreateDto {
 
-    private String memberNickname;
-
     private Long postId;
 
     private String categoryName;
 
+    @NotBlank
     private String description;
 
 }
@@ -14,6 +14,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "report_post",
+        uniqueConstraints = @UniqueConstraint(name = "uk_report_post_post_member", columnNames = {"post_id", "member_id"}))
 public class ReportPost extends BaseEntity {
 
     @Id
@@ -14,6 +14,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "report_reply",
+        uniqueConstraints = @UniqueConstraint(name = "uk_report_reply_reply_member", columnNames = {"reply_id", "member_id"}))
 public class ReportReply extends BaseEntity {
 
     @Id
@@ -2,10 +2,42 @@ package kr.co.imguru.domain.report.repository;
 
 import kr.co.imguru.domain.report.entity.ReportPost;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface ReportPostRepository extends JpaRepository<ReportPost, Long> {
 
+    /*
+     * 신고 저장 (게시글 + 회원 유니크 키, 이미 신고했으면 무시하고 0 반환)
+     * 중복 여부 확인과 저장을 한 번의 INSERT 로 처리하므로 동시 신고에도 중복 행이 생기지 않는다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO report_post " +
+            "(member_id, post_id, report_category, description, is_accept, is_delete, reg_date, mod_date) " +
+            "VALUES (:memberId, :postId, :reportCategory, :description, false, false, :now, :now)", nativeQuery = true)
+    int insertIgnore(Long memberId, Long postId, String reportCategory, String description, LocalDateTime now);
+
+    /*
+     * 관리자 일괄 처리 (id 목록 단위 set-based UPDATE / DELETE)
+     */
+    @Modifying
+    @Query("UPDATE ReportPost r SET r.isAccept = true, r.modDate = :now " +
+            "WHERE r.id IN :ids AND r.isAccept = false")
+    int acceptAllByIdIn(List<Long> ids, LocalDateTime now);
+
+    // 게시글 신고 일괄 처리 (신고 처리 대기열 항목 처리)
+    @Modifying
+    @Query("UPDATE ReportPost r SET r.isAccept = true, r.modDate = :now " +
+            "WHERE r.post.id = :postId AND r.isAccept = false AND r.isDelete = false")
+    int acceptAllByPostId(Long postId, LocalDateTime now);
 
+    @Modifying
+    @Query("DELETE FROM ReportPost r " +
+            "WHERE r.id IN :ids")
+    int deleteAllByIdIn(List<Long> ids);
 }
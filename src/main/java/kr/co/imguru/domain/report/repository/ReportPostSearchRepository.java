@@ -1,8 +1,10 @@
 package kr.co.imguru.domain.report.repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import kr.co.imguru.domain.member.entity.QMember;
 import kr.co.imguru.domain.post.entity.QPost;
+import kr.co.imguru.domain.report.dto.ReportOpenRowDto;
 import kr.co.imguru.domain.report.entity.QReportPost;
 import kr.co.imguru.domain.report.entity.ReportPost;
 import lombok.RequiredArgsConstructor;
@@ -57,19 +59,22 @@ public class ReportPostSearchRepository {
                 .fetch();
     }
 
-    public ReportPost existsByPostIdAndMemberNickname(Long postId, String memberNickname) {
+    // 미처리 신고 전체 (신고 처리 대기열 재구성)
+    public List<ReportOpenRowDto> findOpenReportRows() {
         return queryFactory
-                .selectFrom(reportPost)
-                .join(member).on(reportPost.member.id.eq(member.id))
-                .fetchJoin()
-                .join(post).on(reportPost.post.id.eq(post.id))
-                .fetchJoin()
+                .select(Projections.constructor(ReportOpenRowDto.class,
+                        post.id,
+                        reportPost.member.id,
+                        reportPost.reportCategory,
+                        reportPost.regDate,
+                        post.isDelete))
+                .from(reportPost)
+                .join(reportPost.post, post)
                 .where(
-                        reportPost.isDelete.eq(Boolean.FALSE),
-                        reportPost.member.nickname.eq(memberNickname),
-                        reportPost.post.id.eq(postId)
+                        reportPost.isAccept.isFalse(),
+                        reportPost.isDelete.isFalse()
                 )
-                .fetchOne();
+                .fetch();
     }
 
 }
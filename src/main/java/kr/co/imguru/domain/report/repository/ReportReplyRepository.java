@@ -2,9 +2,36 @@ package kr.co.imguru.domain.report.repository;
 
 import kr.co.imguru.domain.report.entity.ReportReply;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface ReportReplyRepository extends JpaRepository<ReportReply, Long> {
 
+    // 신고 저장 (댓글 + 회원 유니크 키, 중복이면 0 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO report_reply " +
+            "(member_id, reply_id, report_category, description, is_accept, is_delete, reg_date, mod_date) " +
+            "VALUES (:memberId, :replyId, :reportCategory, :description, false, false, :now, :now)", nativeQuery = true)
+    int insertIgnore(Long memberId, Long replyId, String reportCategory, String description, LocalDateTime now);
+
+    // 관리자 일괄 신고 처리/삭제 (AdminBulkJob)
+    @Modifying
+    @Query("UPDATE ReportReply r SET r.isAccept = true, r.modDate = :now " +
+            "WHERE r.id IN :ids AND r.isAccept = false")
+    int acceptAllByIdIn(List<Long> ids, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ReportReply r SET r.isAccept = true, r.modDate = :now " +
+            "WHERE r.reply.id = :replyId AND r.isAccept = false AND r.isDelete = false")
+    int acceptAllByReplyId(Long replyId, LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM ReportReply r " +
+            "WHERE r.id IN :ids")
+    int deleteAllByIdIn(List<Long> ids);
 }
@@ -1,8 +1,10 @@
 package kr.co.imguru.domain.report.repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import kr.co.imguru.domain.member.entity.QMember;
 import kr.co.imguru.domain.reply.entity.QReply;
+import kr.co.imguru.domain.report.dto.ReportOpenRowDto;
 import kr.co.imguru.domain.report.entity.QReportReply;
 import kr.co.imguru.domain.report.entity.ReportReply;
 import lombok.RequiredArgsConstructor;
@@ -57,18 +59,22 @@ public class ReportReplySearchRepository {
                 .fetch();
     }
 
-    public ReportReply existsByReplyIdAndMemberNickname(Long replyId, String memberNickname) {
+    // 미처리 신고 전체 (신고 처리 대기열 재구성)
+    public List<ReportOpenRowDto> findOpenReportRows() {
         return queryFactory
-                .selectFrom(reportReply)
-                .join(member).on(reportReply.member.id.eq(member.id))
-                .fetchJoin()
-                .join(reply).on(reportReply.reply.id.eq(reply.id))
-                .fetchJoin()
+                .select(Projections.constructor(ReportOpenRowDto.class,
+                        reply.id,
+                        reportReply.member.id,
+                        reportReply.reportCategory,
+                        reportReply.regDate,
+                        reply.isDelete))
+                .from(reportReply)
+                .join(reportReply.reply, reply)
                 .where(
-                        reportReply.isDelete.eq(Boolean.FALSE),
-                        reportReply.member.nickname.eq(memberNickname),
-                        reportReply.reply.id.eq(replyId)
+                        reportReply.isAccept.isFalse(),
+                        reportReply.isDelete.isFalse()
                 )
-                .fetchOne();
+                .fetch();
     }
+
 }
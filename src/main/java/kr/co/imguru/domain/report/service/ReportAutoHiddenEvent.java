@@ -0,0 +1,8 @@
+package kr.co.imguru.domain.report.service;
+
+/**
+ * 신고 누적으로 게시글/댓글이 자동 숨김 처리됨 (트랜잭션 커밋 후 캐시 제거)
+ * postId 는 숨김 대상이 게시글이면 해당 게시글, 댓글이면 null
+ */
+public record ReportAutoHiddenEvent(Long postId, Long replyId) {
+}
@@ -0,0 +1,115 @@
+package kr.co.imguru.domain.report.service;
+
+import kr.co.imguru.domain.admin.service.AdminMetricRecorder;
+import kr.co.imguru.domain.post.entity.Post;
+import kr.co.imguru.domain.post.repository.PostRepository;
+import kr.co.imguru.domain.reply.repository.ReplyRepository;
+import kr.co.imguru.global.common.ReportCategory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신고 누적 자동 숨김
+ * - 신고 1건마다 대상 행의 report_cnt / report_score(분류 가중치 합) 를 UPDATE 한 번으로 증가 (COUNT 조회 없음)
+ * - 점수가 기준(report.auto-hide.*-threshold) 이상이 되면 같은 행을 조건부 UPDATE 로 숨김 (is_delete = true)
+ *   조건에 is_delete = false 가 있으므로 동시에 신고가 들어와도 숨김과 지표 반영은 한 번만 일어난다.
+ * - 숨김이 커밋되면 게시글 조회수 캐시를 제거
+ * - 기본은 비활성 (report.auto-hide.enabled=true 일 때만 숨기고, 비활성이어도 점수는 누적)
+ * 호출하는 쪽 트랜잭션 안에서 실행되므로 신고 저장이 롤백되면 누적도 함께 롤백된다.
+ */
+@Slf4j
+@Component
+public class ReportAutoHider {
+
+    private final PostRepository postRepository;
+
+    private final ReplyRepository replyRepository;
+
+    private final AdminMetricRecorder adminMetricRecorder;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final boolean enabled;
+
+    private final long postThreshold;
+
+    private final long replyThreshold;
+
+    public ReportAutoHider(PostRepository postRepository,
+                           ReplyRepository replyRepository,
+                           AdminMetricRecorder adminMetricRecorder,
+                           ApplicationEventPublisher eventPublisher,
+                           RedisTemplate<String, Object> redisTemplate,
+                           @Value("${report.auto-hide.enabled:false}") boolean enabled,
+                           @Value("${report.auto-hide.post-threshold:10}") long postThreshold,
+                           @Value("${report.auto-hide.reply-threshold:6}") long replyThreshold) {
+        this.postRepository = postRepository;
+        this.replyRepository = replyRepository;
+        this.adminMetricRecorder = adminMetricRecorder;
+        this.eventPublisher = eventPublisher;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.postThreshold = postThreshold;
+        this.replyThreshold = replyThreshold;
+    }
+
+    /**
+     * 게시글 신고 누적 후 기준 이상이면 숨김 (이번 신고로 숨겨졌으면 true)
+     */
+    public boolean postReported(Post post, ReportCategory reportCategory) {
+        postRepository.addReport(post.getId(), reportCategory.getWeight());
+
+        if (!enabled || postRepository.hideIfReportScoreReached(post.getId(), postThreshold, LocalDateTime.now()) == 0) {
+            return false;
+        }
+
+        log.info("[ReportAutoHider] post {} hidden by reports", post.getId());
+
+        adminMetricRecorder.postRemoved(post);
+        eventPublisher.publishEvent(new ReportAutoHiddenEvent(post.getId(), null));
+
+        return true;
+    }
+
+    /**
+     * 댓글 신고 누적 후 기준 이상이면 숨김 (이번 신고로 숨겨졌으면 true)
+     */
+    public boolean replyReported(Long replyId, ReportCategory reportCategory) {
+        replyRepository.addReport(replyId, reportCategory.getWeight());
+
+        if (!enabled || replyRepository.hideIfReportScoreReached(replyId, replyThreshold, LocalDateTime.now()) == 0) {
+            return false;
+        }
+
+        log.info("[ReportAutoHider] reply {} hidden by reports", replyId);
+
+        adminMetricRecorder.replyRemoved();
+        eventPublisher.publishEvent(new ReportAutoHiddenEvent(null, replyId));
+
+        return true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onHidden(ReportAutoHiddenEvent event) {
+        if (event.postId() == null) {
+            return;
+        }
+
+        try {
+            redisTemplate.delete("postId::" + event.postId());
+        } catch (RedisConnectionFailureException e) {
+            log.warn("[ReportAutoHider] view cache eviction skipped : post {}", event.postId());
+        }
+    }
+
+}
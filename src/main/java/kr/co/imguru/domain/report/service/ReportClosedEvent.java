@@ -0,0 +1,11 @@
+package kr.co.imguru.domain.report.service;
+
+import kr.co.imguru.global.common.ReportCategory;
+import kr.co.imguru.global.common.ReportTarget;
+
+/**
+ * 신고 처리 완료/삭제 (트랜잭션 커밋 후 신고 처리 대기열에서 제외)
+ * memberId 가 null 이면 대상의 신고 전체를 처리한 것
+ */
+public record ReportClosedEvent(ReportTarget target, Long targetId, Long memberId, ReportCategory reportCategory) {
+}
@@ -0,0 +1,80 @@
+package kr.co.imguru.domain.report.service;
+
+import kr.co.imguru.global.common.ReportTarget;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근 신고가 들어온 대상별 신고 회원 id 집합 (정렬된 long[])
+ * - 이미 신고한 회원의 반복 신고는 DB 를 거치지 않고 거절한다.
+ * - 포함되지 않았다고 신고하지 않은 것은 아니므로, 이 경우는 INSERT IGNORE 결과(유니크 키)로 판단한다.
+ * - 대상 수는 max-targets 로 제한하고 가장 오래 사용하지 않은 대상부터 제외 (LRU)
+ */
+@Component
+public class ReportMembershipFilter {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Map<TargetKey, long[]> reporters;
+
+    public ReportMembershipFilter(@Value("${report.membership.max-targets:10000}") int maxTargets) {
+        this.reporters = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TargetKey, long[]> eldest) {
+                return size() > maxTargets;
+            }
+        };
+    }
+
+    public synchronized boolean contains(ReportTarget target, Long targetId, Long memberId) {
+        long[] memberIds = reporters.get(new TargetKey(target, targetId));
+
+        return memberIds != null && Arrays.binarySearch(memberIds, memberId) >= 0;
+    }
+
+    public synchronized void add(ReportTarget target, Long targetId, Long memberId) {
+        reporters.compute(new TargetKey(target, targetId), (key, memberIds) -> insert(memberIds == null ? EMPTY : memberIds, memberId));
+    }
+
+    public synchronized void clear() {
+        reporters.clear();
+    }
+
+    // 신고 저장이 커밋된 뒤에만 추가 (롤백된 신고로 재신고가 막히지 않도록)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOpened(ReportOpenedEvent event) {
+        add(event.target(), event.targetId(), event.memberId());
+    }
+
+    // 신고가 삭제되면 다시 신고할 수 있으므로 대상 전체를 제외
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onClosed(ReportClosedEvent event) {
+        reporters.remove(new TargetKey(event.target(), event.targetId()));
+    }
+
+    private static long[] insert(long[] ids, long id) {
+        int position = Arrays.binarySearch(ids, id);
+
+        if (position >= 0) {
+            return ids;
+        }
+
+        int insertAt = -position - 1;
+        long[] inserted = new long[ids.length + 1];
+        System.arraycopy(ids, 0, inserted, 0, insertAt);
+        inserted[insertAt] = id;
+        System.arraycopy(ids, insertAt, inserted, insertAt + 1, ids.length - insertAt);
+
+        return inserted;
+    }
+
+    private record TargetKey(ReportTarget target, Long targetId) {
+    }
+
+}
@@ -0,0 +1,12 @@
+package kr.co.imguru.domain.report.service;
+
+import kr.co.imguru.global.common.ReportCategory;
+import kr.co.imguru.global.common.ReportTarget;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신고 접수 (트랜잭션 커밋 후 신고 처리 대기열에 반영)
+ */
+public record ReportOpenedEvent(ReportTarget target, Long targetId, Long memberId, ReportCategory reportCategory, LocalDateTime reportedAt) {
+}
@@ -7,7 +7,7 @@ import java.util.List;
 
 public interface ReportPostService {
 
-    void createReportPost(ReportPostCreateDto createDto);
+    void createReportPost(String email, ReportPostCreateDto createDto);
 
     ReportPostReadDto getReportPost(Long reportPostId);
 
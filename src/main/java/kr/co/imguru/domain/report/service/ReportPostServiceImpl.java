@@ -1,6 +1,7 @@
 package kr.co.imguru.domain.report.service;
 
 import jakarta.transaction.Transactional;
+import kr.co.imguru.domain.admin.service.AdminMetricRecorder;
 import kr.co.imguru.domain.member.entity.Member;
 import kr.co.imguru.domain.member.repository.MemberRepository;
 import kr.co.imguru.domain.post.entity.Post;
@@ -11,13 +12,16 @@ import kr.co.imguru.domain.report.entity.ReportPost;
 import kr.co.imguru.domain.report.repository.ReportPostRepository;
 import kr.co.imguru.domain.report.repository.ReportPostSearchRepository;
 import kr.co.imguru.global.common.ReportCategory;
+import kr.co.imguru.global.common.ReportTarget;
 import kr.co.imguru.global.exception.DuplicatedException;
 import kr.co.imguru.global.exception.IllegalArgumentException;
 import kr.co.imguru.global.exception.NotFoundException;
 import kr.co.imguru.global.model.ResponseStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,10 +37,18 @@ public class ReportPostServiceImpl implements ReportPostService {
 
     private final ReportPostSearchRepository reportPostSearchRepository;
 
+    private final AdminMetricRecorder adminMetricRecorder;
+
+    private final ReportAutoHider reportAutoHider;
+
+    private final ReportMembershipFilter reportMembershipFilter;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
     @Transactional
-    public void createReportPost(ReportPostCreateDto createDto) {
-        Optional<Member> member = memberRepository.findByNicknameAndIsDeleteFalse(createDto.getMemberNickname());
+    public void createReportPost(String email, ReportPostCreateDto createDto) {
+        Optional<Member> member = memberRepository.findByEmailAndIsDeleteFalse(email);
         isMember(member);
 
         Optional<Post> post = postRepository.findByIdAndIsDeleteFalse(createDto.getPostId());
@@ -44,9 +56,23 @@ public class ReportPostServiceImpl implements ReportPostService {
 
         isReportCategory(createDto.getCategoryName());
 
-        isReportPostDuplicated(createDto.getPostId(), createDto.getMemberNickname());
+        ReportCategory reportCategory = ReportCategory.valueOf(createDto.getCategoryName());
+        Long postId = post.get().getId();
+        Long memberId = member.get().getId();
+
+        isReportPostDuplicated(postId, memberId);
+
+        LocalDateTime now = LocalDateTime.now();
+
+        if (reportPostRepository.insertIgnore(memberId, postId, reportCategory.name(), createDto.getDescription(), now) == 0) {
+            reportMembershipFilter.add(ReportTarget.POST, postId, memberId);
+            throw new DuplicatedException(ResponseStatus.FAIL_REPORT_DUPLICATED);
+        }
 
-        reportPostRepository.save(toEntity(createDto, member.get(), post.get()));
+        adminMetricRecorder.reportOpened(AdminMetricRecorder.REPORT_POST);
+        eventPublisher.publishEvent(new ReportOpenedEvent(ReportTarget.POST, postId, memberId, reportCategory, now));
+
+        reportAutoHider.postReported(post.get(), reportCategory);
     }
 
     @Override
@@ -112,24 +138,13 @@ public class ReportPostServiceImpl implements ReportPostService {
         }
     }
 
-    private void isReportPostDuplicated(Long postId, String memberNickname) {
-        Optional<ReportPost> reportPost = Optional.ofNullable(reportPostSearchRepository.existsByPostIdAndMemberNickname(postId, memberNickname));
-
-        if (reportPost.isPresent()) {
+    // 최근 신고한 회원이면 DB 조회 없이 거절 (확정 판단은 insertIgnore 의 유니크 키)
+    private void isReportPostDuplicated(Long postId, Long memberId) {
+        if (reportMembershipFilter.contains(ReportTarget.POST, postId, memberId)) {
             throw new DuplicatedException(ResponseStatus.FAIL_REPORT_DUPLICATED);
         }
     }
 
-    private ReportPost toEntity(ReportPostCreateDto dto, Member member, Post post) {
-        return ReportPost.builder()
-                .member(member)
-                .post(post)
-                .reportCategory(ReportCategory.valueOf(dto.getCategoryName()))
-                .description(dto.getDescription())
-                .isAccept(false)
-                .build();
-    }
-
     private ReportPostReadDto toReadDto(ReportPost reportPost) {
         return ReportPostReadDto.builder()
                 .reportPostId(reportPost.getId())
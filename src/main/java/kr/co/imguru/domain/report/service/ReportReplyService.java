@@ -7,7 +7,7 @@ import java.util.List;
 
 public interface ReportReplyService {
 
-    void createReportReply(ReportReplyCreateDto createDto);
+    void createReportReply(String email, ReportReplyCreateDto createDto);
 
     ReportReplyReadDto getReportReply(Long reportReplyId);
 
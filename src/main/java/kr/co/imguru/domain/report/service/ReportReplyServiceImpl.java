@@ -1,6 +1,7 @@
 package kr.co.imguru.domain.report.service;
 
 import jakarta.transaction.Transactional;
+import kr.co.imguru.domain.admin.service.AdminMetricRecorder;
 import kr.co.imguru.domain.member.entity.Member;
 import kr.co.imguru.domain.member.repository.MemberRepository;
 import kr.co.imguru.domain.reply.entity.Reply;
@@ -11,13 +12,16 @@ import kr.co.imguru.domain.report.entity.ReportReply;
 import kr.co.imguru.domain.report.repository.ReportReplyRepository;
 import kr.co.imguru.domain.report.repository.ReportReplySearchRepository;
 import kr.co.imguru.global.common.ReportCategory;
+import kr.co.imguru.global.common.ReportTarget;
 import kr.co.imguru.global.exception.DuplicatedException;
 import kr.co.imguru.global.exception.IllegalArgumentException;
 import kr.co.imguru.global.exception.NotFoundException;
 import kr.co.imguru.global.model.ResponseStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,10 +37,18 @@ public class ReportReplyServiceImpl implements ReportReplyService {
 
     private final ReportReplySearchRepository reportReplySearchRepository;
 
+    private final AdminMetricRecorder adminMetricRecorder;
+
+    private final ReportAutoHider reportAutoHider;
+
+    private final ReportMembershipFilter reportMembershipFilter;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
     @Transactional
-    public void createReportReply(ReportReplyCreateDto createDto) {
-        Optional<Member> member = memberRepository.findByNicknameAndIsDeleteFalse(createDto.getMemberNickname());
+    public void createReportReply(String email, ReportReplyCreateDto createDto) {
+        Optional<Member> member = memberRepository.findByEmailAndIsDeleteFalse(email);
         isMember(member);
 
         Optional<Reply> reply = replyRepository.findByIdAndIsDeleteFalse(createDto.getReplyId());
@@ -44,9 +56,23 @@ public class ReportReplyServiceImpl implements ReportReplyService {
 
         isReportCategory(createDto.getCategoryName());
 
-        isReportReplyDuplicated(createDto.getReplyId(), createDto.getMemberNickname());
+        ReportCategory reportCategory = ReportCategory.valueOf(createDto.getCategoryName());
+        Long replyId = reply.get().getId();
+        Long memberId = member.get().getId();
+
+        isReportReplyDuplicated(replyId, memberId);
+
+        LocalDateTime now = LocalDateTime.now();
+
+        if (reportReplyRepository.insertIgnore(memberId, replyId, reportCategory.name(), createDto.getDescription(), now) == 0) {
+            reportMembershipFilter.add(ReportTarget.REPLY, replyId, memberId);
+            throw new DuplicatedException(ResponseStatus.FAIL_REPORT_DUPLICATED);
+        }
 
-        reportReplyRepository.save(toEntity(createDto, member.get(), reply.get()));
+        adminMetricRecorder.reportOpened(AdminMetricRecorder.REPORT_REPLY);
+        eventPublisher.publishEvent(new ReportOpenedEvent(ReportTarget.REPLY, replyId, memberId, reportCategory, now));
+
+        reportAutoHider.replyReported(replyId, reportCategory);
     }
 
     @Override
@@ -112,24 +138,13 @@ public class ReportReplyServiceImpl implements ReportReplyService {
         }
     }
 
-    private void isReportReplyDuplicated(Long replyId, String memberNickname) {
-        Optional<ReportReply> reportReply = Optional.ofNullable(reportReplySearchRepository.existsByReplyIdAndMemberNickname(replyId, memberNickname));
-
-        if (reportReply.isPresent()) {
+    // 최근 신고한 회원이면 DB 조회 없이 거절 (확정 판단은 insertIgnore 의 유니크 키)
+    private void isReportReplyDuplicated(Long replyId, Long memberId) {
+        if (reportMembershipFilter.contains(ReportTarget.REPLY, replyId, memberId)) {
             throw new DuplicatedException(ResponseStatus.FAIL_REPORT_DUPLICATED);
         }
     }
 
-    private ReportReply toEntity(ReportReplyCreateDto dto, Member member, Reply reply) {
-        return ReportReply.builder()
-                .member(member)
-                .reply(reply)
-                .reportCategory(ReportCategory.valueOf(dto.getCategoryName()))
-                .description(dto.getDescription())
-                .isAccept(false)
-                .build();
-    }
-
     private ReportReplyReadDto toReadDto(ReportReply reportReply) {
         return ReportReplyReadDto.builder()
                 .reportReplyId(reportReply.getId())
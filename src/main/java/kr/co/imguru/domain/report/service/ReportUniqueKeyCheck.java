@@ -0,0 +1,66 @@
+package kr.co.imguru.domain.report.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 신고 중복 방지 유니크 키 확인 (기동 시 1회)
+ * - 중복 신고 거절은 INSERT IGNORE 가 (대상, 회원) 유니크 키에 걸리는 것에 의존한다.
+ * - ddl-auto update 는 이미 중복 행이 있으면 유니크 키 생성을 건너뛰고 기동하므로, 키가 없으면 기동을 실패시킨다.
+ * - 스키마 갱신 뒤에 확인하도록 entityManagerFactory 이후에 생성
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class ReportUniqueKeyCheck {
+
+    public static final String DEDUPE_SCRIPT = "src/main/resources/db/report-dedupe.sql";
+
+    private final DataSource dataSource;
+
+    @PostConstruct
+    public void check() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+
+            isUniqueKey(metaData, connection.getCatalog(), "report_post", Set.of("post_id", "member_id"));
+            isUniqueKey(metaData, connection.getCatalog(), "report_reply", Set.of("reply_id", "member_id"));
+        }
+
+        log.info("[ReportUniqueKeyCheck] report unique keys present");
+    }
+
+    private void isUniqueKey(DatabaseMetaData metaData, String catalog, String table, Set<String> columns) throws SQLException {
+        Map<String, Set<String>> uniqueIndexes = new HashMap<>();
+
+        try (ResultSet rs = metaData.getIndexInfo(catalog, null, table, true, false)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String columnName = rs.getString("COLUMN_NAME");
+
+                if (indexName != null && columnName != null) {
+                    uniqueIndexes.computeIfAbsent(indexName, name -> new HashSet<>()).add(columnName.toLowerCase());
+                }
+            }
+        }
+
+        if (!uniqueIndexes.containsValue(columns)) {
+            throw new IllegalStateException(table + " 에 " + columns + " 유니크 키가 없습니다. "
+                    + "중복 신고를 정리하고 키를 만드는 " + DEDUPE_SCRIPT + " 를 실행한 뒤 다시 기동하세요.");
+        }
+    }
+}
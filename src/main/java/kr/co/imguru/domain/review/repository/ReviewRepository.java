@@ -2,8 +2,11 @@ package kr.co.imguru.domain.review.repository;
 
 import kr.co.imguru.domain.review.entity.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +18,15 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findAllByIsDeleteFalse();
 
     Optional<Review> findByPay_IdAndIsDeleteFalse(Long payId);
+
+    // 관리자 일괄 삭제/복구 (AdminBulkJob)
+    @Modifying
+    @Query("UPDATE Review r SET r.isDelete = true, r.modDate = :now " +
+            "WHERE r.id IN :ids AND r.isDelete = false")
+    int softDeleteAllByIdIn(List<Long> ids, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Review r SET r.isDelete = false, r.modDate = :now " +
+            "WHERE r.id IN :ids AND r.isDelete = true")
+    int restoreAllByIdIn(List<Long> ids, LocalDateTime now);
 }
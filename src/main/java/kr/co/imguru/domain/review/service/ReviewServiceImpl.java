@@ -1,9 +1,11 @@
 package kr.co.imguru.domain.review.service;
 
 import jakarta.transaction.Transactional;
+import kr.co.imguru.domain.admin.service.AdminMetricRecorder;
 import kr.co.imguru.domain.file.entity.File;
 import kr.co.imguru.domain.file.entity.FileFormat;
 import kr.co.imguru.domain.file.repository.FileRepository;
+import kr.co.imguru.domain.file.service.FileService;
 import kr.co.imguru.domain.like.entity.LikeReview;
 import kr.co.imguru.domain.like.repository.LikeReviewRepository;
 import kr.co.imguru.domain.like.repository.LikeReviewSearchRepository;
@@ -53,10 +55,14 @@ public class ReviewServiceImpl implements ReviewService {
 
     private final FileRepository fileRepository;
 
+    private final FileService fileService;
+
     private final ReviewSearchRepository reviewSearchRepository;
 
     private final LikeReviewSearchRepository likeReviewSearchRepository;
 
+    private final AdminMetricRecorder adminMetricRecorder;
+
     @Override
     @Transactional
     public void createReview(String email, ReviewCreateDto createDto) {
@@ -72,6 +78,8 @@ public class ReviewServiceImpl implements ReviewService {
         isPay(pay);
 
         reviewRepository.save(toEntity(createDto, user.get(), guru.get(), pay.get()));
+
+        adminMetricRecorder.reviewCreated();
     }
 
 //    @Override
@@ -219,9 +227,14 @@ public class ReviewServiceImpl implements ReviewService {
 
         isReview(review);
 
+        /*해당 reviewId를 가지고 있는 file 먼저 삭제 (원본 참조 해제)*/
+        fileService.deleteFilesByFileKey("review", reviewId);
+
         review.get().changeDeleteAt();
 
         reviewRepository.save(review.get());
+
+        adminMetricRecorder.reviewRemoved();
     }
 
     @Override
@@ -5,14 +5,33 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StopWatch;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 메서드 응답 시간 기록
+ * - 모든 호출은 ServiceLatencyRecorder 히스토그램에만 기록 (호출마다 로그를 남기지 않음)
+ * - slow-threshold-ms 이상 걸린 호출만 WARN 로그
+ */
 @Slf4j
 @Aspect
 @Component
 public class MethodLoggingAspect {
 
+    private final ServiceLatencyRecorder serviceLatencyRecorder;
+
+    private final long slowThresholdNanos;
+
+    public MethodLoggingAspect(ServiceLatencyRecorder serviceLatencyRecorder,
+                               @Value("${monitoring.service-latency.slow-threshold-ms:500}") long slowThresholdMillis) {
+        this.serviceLatencyRecorder = serviceLatencyRecorder;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
     @Pointcut("execution(* kr.co.imguru.domain.member.service.MemberService.*(..))")
     private void memberService() {
 
@@ -59,28 +78,27 @@ public class MethodLoggingAspect {
     }
 
     @Around("memberService() || postService() || replyService() || guruService() || skillService() || reportPostService() || reportReplyService() || messageService() || reviewService()")
-    public Object logServiceTime(ProceedingJoinPoint joinPoint) throws Throwable {
-
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-
-        String methodName = joinPoint.getSignature().getName();
-
-        StopWatch stopWatch = new StopWatch();
-
-        stopWatch.start();
-
-        Object result = null;
+    public Object recordServiceTime(ProceedingJoinPoint joinPoint) throws Throwable {
+        long startedAt = System.nanoTime();
 
         try {
-            result = joinPoint.proceed();
-            stopWatch.stop();
-            log.info("[serviceTime] ClassName:{} - MethodName:{} : {}ms", className, methodName, stopWatch.getTotalTimeMillis());
+            return joinPoint.proceed();
         } catch (Throwable throwable) {
             // 예외 정보 로깅
-            log.error("[EXCEPTION] {}-{} : {}", className, methodName, throwable.getMessage(), throwable);
+            log.error("[EXCEPTION] {}-{} : {}", joinPoint.getTarget().getClass().getSimpleName(),
+                    joinPoint.getSignature().getName(), throwable.getMessage(), throwable);
             throw throwable;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+
+            serviceLatencyRecorder.record(method, elapsedNanos);
+
+            if (elapsedNanos >= slowThresholdNanos) {
+                log.warn("[slowService] {}.{} : {}ms", method.getDeclaringClass().getSimpleName(), method.getName(),
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            }
         }
-        return result;
     }
 
 }
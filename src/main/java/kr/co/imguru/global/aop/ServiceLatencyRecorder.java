@@ -0,0 +1,104 @@
+package kr.co.imguru.global.aop;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 메서드별 응답 시간 히스토그램 (HdrHistogram)
+ * - 기록은 메서드별 Recorder 에 lock 없이 추가 (wait-free)
+ * - 조회 시 그동안 기록된 구간 히스토그램을 누적 히스토그램에 합친 뒤 백분위를 계산
+ * - 값은 나노초로 기록하고 유효 숫자 3자리 정밀도로 보관 (오차 0.1% 이내)
+ */
+@Component
+public class ServiceLatencyRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Map<Method, MethodLatency> latencies = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime resetAt = LocalDateTime.now();
+
+    public void record(Method method, long elapsedNanos) {
+        MethodLatency latency = latencies.get(method);
+
+        if (latency == null) {
+            latency = latencies.computeIfAbsent(method, MethodLatency::new);
+        }
+
+        latency.recorder.recordValue(Math.max(0, elapsedNanos));
+    }
+
+    /**
+     * 마지막 초기화 이후 메서드별 백분위 (호출 수 내림차순)
+     */
+    public List<Snapshot> snapshot() {
+        List<Snapshot> snapshots = new ArrayList<>(latencies.size());
+
+        for (MethodLatency latency : latencies.values()) {
+            snapshots.add(latency.snapshot());
+        }
+
+        snapshots.sort(Comparator.comparingLong(Snapshot::count).reversed());
+
+        return snapshots;
+    }
+
+    public LocalDateTime getResetAt() {
+        return resetAt;
+    }
+
+    public void reset() {
+        latencies.values().forEach(MethodLatency::reset);
+        resetAt = LocalDateTime.now();
+    }
+
+    public record Snapshot(String name, long count, double meanMillis, double p50Millis, double p95Millis,
+                           double p99Millis, double maxMillis) {
+    }
+
+    private static class MethodLatency {
+
+        private final String name;
+
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+
+        private final Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+
+        private Histogram interval;
+
+        private MethodLatency(Method method) {
+            this.name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        }
+
+        private synchronized Snapshot snapshot() {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+
+            return new Snapshot(name, total.getTotalCount(), total.getMean() / NANOS_PER_MILLI,
+                    toMillis(total.getValueAtPercentile(50)), toMillis(total.getValueAtPercentile(95)),
+                    toMillis(total.getValueAtPercentile(99)), toMillis(total.getMaxValue()));
+        }
+
+        private synchronized void reset() {
+            interval = recorder.getIntervalHistogram(interval);
+            total.reset();
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / NANOS_PER_MILLI;
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package kr.co.imguru.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum AdminBulkAction {
+
+    SOFT_DELETE("삭제"),
+
+    RESTORE("복구"),
+
+    HARD_DELETE("영구 삭제"),
+
+    ACCEPT("신고 처리"),
+
+    CHANGE_CATEGORY("카테고리 변경");
+
+    private final String displayValue;
+
+}
@@ -0,0 +1,37 @@
+package kr.co.imguru.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 관리자 일괄 처리 대상
+ * 영구 삭제는 다른 테이블이 참조하지 않는 신고만 허용 (게시글/댓글/회원은 좋아요, 신고, 결제 등이 참조)
+ */
+@Getter
+@AllArgsConstructor
+public enum AdminBulkTarget {
+
+    MEMBER("회원", EnumSet.of(AdminBulkAction.SOFT_DELETE, AdminBulkAction.RESTORE)),
+
+    POST("게시글", EnumSet.of(AdminBulkAction.SOFT_DELETE, AdminBulkAction.RESTORE, AdminBulkAction.CHANGE_CATEGORY)),
+
+    REPLY("댓글", EnumSet.of(AdminBulkAction.SOFT_DELETE, AdminBulkAction.RESTORE)),
+
+    REVIEW("후기", EnumSet.of(AdminBulkAction.SOFT_DELETE, AdminBulkAction.RESTORE)),
+
+    REPORT_POST("게시글 신고", EnumSet.of(AdminBulkAction.ACCEPT, AdminBulkAction.HARD_DELETE)),
+
+    REPORT_REPLY("댓글 신고", EnumSet.of(AdminBulkAction.ACCEPT, AdminBulkAction.HARD_DELETE));
+
+    private final String displayValue;
+
+    private final Set<AdminBulkAction> actions;
+
+    public boolean supports(AdminBulkAction action) {
+        return actions.contains(action);
+    }
+
+}
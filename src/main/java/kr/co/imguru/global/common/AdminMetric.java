@@ -0,0 +1,42 @@
+package kr.co.imguru.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 관리자 대시보드 지표
+ * daily = true 면 stat_key 가 날짜(yyyyMMdd), 아니면 역할/스킬 id/카테고리 등 구분 값 (구분이 없으면 ALL)
+ */
+@Getter
+@AllArgsConstructor
+public enum AdminMetric {
+
+    MEMBER_ROLE("역할별 회원 수", false),
+
+    MEMBER_SKILL("스킬별 회원 수", false),
+
+    MEMBER_SIGNUP("일별 가입 수", true),
+
+    POST_CATEGORY("카테고리별 게시글 수", false),
+
+    REPLY("댓글 수", false),
+
+    REVIEW("후기 수", false),
+
+    REPORT_OPEN("미처리 신고 수", false),
+
+    PAY_APPROVED("일별 결제 건수", true),
+
+    PAY_APPROVED_AMOUNT("일별 결제 금액", true),
+
+    PAY_CANCELED("일별 취소 건수", true),
+
+    PAY_CANCELED_AMOUNT("일별 취소 금액", true);
+
+    public static final String ALL = "ALL";
+
+    private final String displayValue;
+
+    private final boolean daily;
+
+}
@@ -0,0 +1,26 @@
+package kr.co.imguru.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 관리자 목록 정렬 기준
+ * 집계 컬럼(조회수/좋아요) 정렬은 (값, id) 복합 키로 cursor 페이징한다.
+ */
+@Getter
+@AllArgsConstructor
+public enum AdminSort {
+
+    LATEST("최신순", false),
+
+    OLDEST("오래된순", false),
+
+    MOST_VIEWED("조회수순", true),
+
+    MOST_LIKED("좋아요순", true);
+
+    private final String displayValue;
+
+    private final boolean countSort;
+
+}
@@ -0,0 +1,73 @@
+package kr.co.imguru.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 업로드 허용 파일 형식
+ * 확장자와 파일 앞부분의 시그니처(매직 넘버)가 함께 일치해야 허용한다.
+ */
+@Getter
+@AllArgsConstructor
+public enum FileType {
+
+    JPEG("JPEG 이미지", List.of("jpg", "jpeg"), "image/jpeg", true, 0, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+
+    PNG("PNG 이미지", List.of("png"), "image/png", true, 0, new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A}),
+
+    GIF("GIF 이미지", List.of("gif"), "image/gif", true, 0, new byte[]{'G', 'I', 'F', '8'}),
+
+    WEBP("WEBP 이미지", List.of("webp"), "image/webp", false, 8, new byte[]{'W', 'E', 'B', 'P'}),
+
+    PDF("PDF 문서", List.of("pdf"), "application/pdf", false, 0, new byte[]{'%', 'P', 'D', 'F', '-'}),
+
+    MP4("MP4 동영상", List.of("mp4"), "video/mp4", false, 4, new byte[]{'f', 't', 'y', 'p'});
+
+    // 시그니처 판별에 필요한 앞부분 길이
+    public static final int SNIFF_LENGTH = 12;
+
+    private final String displayValue;
+
+    private final List<String> extensions;
+
+    private final String mediaType;
+
+    private final boolean thumbnailable;    // 썸네일 생성 가능 여부 (JDK ImageIO 로 읽을 수 있는 이미지)
+
+    private final int signatureOffset;
+
+    private final byte[] signature;
+
+    public static Optional<FileType> ofExtension(String extension) {
+        if (extension == null) {
+            return Optional.empty();
+        }
+
+        String lower = extension.toLowerCase(Locale.ROOT);
+
+        for (FileType fileType : values()) {
+            if (fileType.extensions.contains(lower)) {
+                return Optional.of(fileType);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public boolean matchesSignature(byte[] head, int length) {
+        if (length < signatureOffset + signature.length) {
+            return false;
+        }
+
+        for (int i = 0; i < signature.length; i++) {
+            if (head[signatureOffset + i] != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,39 @@
+package kr.co.imguru.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * 이미지 파생본 규격
+ * 목록/프로필에는 THUMBNAIL, 상세 화면에는 PREVIEW 를 사용하고 원본은 다운로드/확대 시에만 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public enum ImageVariant {
+
+    THUMBNAIL("thumb", "썸네일", 200, 200, true),
+
+    PREVIEW("preview", "미리보기", 960, 960, false);
+
+    private final String path;
+
+    private final String displayValue;
+
+    private final int width;
+
+    private final int height;
+
+    private final boolean crop;     // true = 비율 유지 후 가운데 잘라 고정 크기, false = 비율 유지하며 영역 안에 맞춤
+
+    public static Optional<ImageVariant> ofPath(String path) {
+        for (ImageVariant variant : values()) {
+            if (variant.path.equals(path)) {
+                return Optional.of(variant);
+            }
+        }
+        return Optional.empty();
+    }
+
+}
@@ -0,0 +1,21 @@
+package kr.co.imguru.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JFR 기록 설정 (JDK 기본 제공 .jfc)
+ */
+@Getter
+@AllArgsConstructor
+public enum JfrSettings {
+
+    DEFAULT("default", "상시 수집용, 부하 약 1%"),
+
+    PROFILE("profile", "짧은 분석용, 샘플 주기가 짧고 락 대기 기준이 낮음 (부하 약 2%)");
+
+    private final String configName;
+
+    private final String displayValue;
+
+}
@@ -0,0 +1,22 @@
+package kr.co.imguru.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum PayOutboxStatus {
+
+    PENDING("처리 대기"),
+
+    PROCESSING("처리 중"),
+
+    UNKNOWN("결과 확인 필요"),   // 요청이 결제 서버에 전달되었을 수 있음 - 거래 조회로 확정하기 전에는 재요청하지 않음
+
+    DONE("처리 완료"),
+
+    FAILED("처리 실패");
+
+    private final String displayValue;
+
+}
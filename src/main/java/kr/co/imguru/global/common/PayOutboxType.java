@@ -0,0 +1,16 @@
+package kr.co.imguru.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum PayOutboxType {
+
+    APPROVE("결제 승인"),
+
+    CANCEL("결제 취소");
+
+    private final String displayValue;
+
+}
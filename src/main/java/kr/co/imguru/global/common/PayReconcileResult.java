@@ -0,0 +1,20 @@
+package kr.co.imguru.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum PayReconcileResult {
+
+    MATCHED("상태 일치"),
+
+    CORRECTED("상태 보정"),
+
+    UNRESOLVED("수동 확인 필요"),
+
+    FAILED("조회 실패");
+
+    private final String displayValue;
+
+}
@@ -0,0 +1,58 @@
+package kr.co.imguru.global.common;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 결제 상태 (DB 에는 기존과 같이 한 글자 코드로 저장)
+ *
+ * ORDERED -> AUTHORIZED -> PAID -> CANCEL_REQUESTED -> CANCELED
+ *    |           |                       |
+ *    +-----------+-> EXPIRED             +-> PAID (취소 실패)
+ *
+ * EXPIRED : 결제 서버에 거래가 없는 채로 만료 시간이 지난 주문/인증 건 (대사 작업에서 전이)
+ */
+@Getter
+@AllArgsConstructor
+public enum PayStatus {
+
+    ORDERED("O", "주문 생성"),
+
+    AUTHORIZED("A", "결제 인증"),
+
+    PAID("P", "결제 완료"),
+
+    CANCEL_REQUESTED("R", "결제 취소 요청"),
+
+    CANCELED("C", "결제 취소"),
+
+    EXPIRED("E", "결제 만료");
+
+    @JsonValue
+    private final String code;
+
+    private final String displayValue;
+
+    public boolean canTransitionTo(PayStatus next) {
+        return switch (this) {
+            case ORDERED -> Set.of(AUTHORIZED, EXPIRED).contains(next);
+            case AUTHORIZED -> Set.of(PAID, EXPIRED).contains(next);
+            case PAID -> next == CANCEL_REQUESTED;
+            case CANCEL_REQUESTED -> Set.of(CANCELED, PAID).contains(next);
+            case CANCELED, EXPIRED -> false;
+        };
+    }
+
+    public static PayStatus ofCode(String code) {
+        for (PayStatus payStatus : values()) {
+            if (payStatus.code.equals(code)) {
+                return payStatus;
+            }
+        }
+        throw new java.lang.IllegalArgumentException("Unknown pay status code : " + code);
+    }
+
+}
@@ -0,0 +1,18 @@
+package kr.co.imguru.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ReconcileRunStatus {
+
+    RUNNING("진행 중"),
+
+    COMPLETED("완료"),
+
+    FAILED("중단");
+
+    private final String displayValue;
+
+}
@@ -0,0 +1,70 @@
+package kr.co.imguru.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 시/도 단위 지역 코드 (행정표준코드 앞 2자리)
+ * 우편번호(zoneCode) 앞 2자리 범위로도 시/도를 판별할 수 있도록 범위를 함께 보관
+ */
+@Getter
+@AllArgsConstructor
+public enum RegionCode {
+
+    NATIONWIDE("00", "전국", List.of("전국", "전지역", "전국가능"), -1, -1),
+
+    SEOUL("11", "서울", List.of("서울특별시", "서울시", "서울"), 1, 9),
+
+    BUSAN("26", "부산", List.of("부산광역시", "부산시", "부산"), 46, 49),
+
+    DAEGU("27", "대구", List.of("대구광역시", "대구시", "대구"), 41, 43),
+
+    INCHEON("28", "인천", List.of("인천광역시", "인천시", "인천"), 21, 23),
+
+    GWANGJU("29", "광주", List.of("광주광역시", "광주"), 61, 62),
+
+    DAEJEON("30", "대전", List.of("대전광역시", "대전시", "대전"), 34, 35),
+
+    ULSAN("31", "울산", List.of("울산광역시", "울산시", "울산"), 44, 45),
+
+    SEJONG("36", "세종", List.of("세종특별자치시", "세종시", "세종"), 30, 30),
+
+    GYEONGGI("41", "경기", List.of("경기도", "경기"), 10, 20),
+
+    GANGWON("42", "강원", List.of("강원특별자치도", "강원도", "강원"), 24, 26),
+
+    CHUNGBUK("43", "충북", List.of("충청북도", "충북"), 27, 29),
+
+    CHUNGNAM("44", "충남", List.of("충청남도", "충남"), 31, 33),
+
+    JEONBUK("45", "전북", List.of("전북특별자치도", "전라북도", "전북"), 54, 56),
+
+    JEONNAM("46", "전남", List.of("전라남도", "전남"), 57, 60),
+
+    GYEONGBUK("47", "경북", List.of("경상북도", "경북"), 36, 40),
+
+    GYEONGNAM("48", "경남", List.of("경상남도", "경남"), 50, 53),
+
+    JEJU("50", "제주", List.of("제주특별자치도", "제주도", "제주"), 63, 63);
+
+    private final String code;
+
+    private final String displayValue;
+
+    private final List<String> aliases;
+
+    private final int zonePrefixFrom;     // 우편번호 앞 2자리 시작
+
+    private final int zonePrefixTo;       // 우편번호 앞 2자리 끝
+
+    public boolean matches(String token) {
+        return aliases.contains(token);
+    }
+
+    public boolean containsZonePrefix(int prefix) {
+        return zonePrefixFrom <= prefix && prefix <= zonePrefixTo;
+    }
+
+}
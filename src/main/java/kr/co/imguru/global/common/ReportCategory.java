@@ -7,20 +7,22 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum ReportCategory {
 
-    ABUSE("욕설"),
+    ABUSE("욕설", 2),
 
-    DEFAMATION("명예훼손"),
+    DEFAMATION("명예훼손", 2),
 
-    PORNOGRAPHY("음란물"),
+    PORNOGRAPHY("음란물", 3),
 
-    ADVERTISEMENT("광고"),
+    ADVERTISEMENT("광고", 1),
 
-    INCONGRUITY("부적합"),
+    INCONGRUITY("부적합", 1),
 
-    SPAMMER("도배");
+    SPAMMER("도배", 1);
 
     String reportCategory;
 
+    int weight;     // 자동 숨김 점수 가중치 (신고 1건당 누적 점수)
+
 //    public static ReportCategory of(String reportCategory) {
 //        return Arrays.stream(ReportCategory.values())
 //                .filter(type -> type.toString().equalsIgnoreCase(reportCategory))
@@ -0,0 +1,16 @@
+package kr.co.imguru.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ReportTarget {
+
+    POST("게시글"),
+
+    REPLY("댓글");
+
+    private final String displayValue;
+
+}
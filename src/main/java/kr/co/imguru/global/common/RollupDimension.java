@@ -0,0 +1,18 @@
+package kr.co.imguru.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum RollupDimension {
+
+    GURU("고수별"),
+
+    SKILL("스킬별"),
+
+    POST("게시글별");
+
+    private final String displayValue;
+
+}
@@ -0,0 +1,20 @@
+package kr.co.imguru.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum UploadStatus {
+
+    UPLOADING("업로드 중"),
+
+    COMPLETED("업로드 완료"),
+
+    ABORTED("업로드 취소"),
+
+    FAILED("업로드 실패");
+
+    private final String displayValue;
+
+}
@@ -0,0 +1,74 @@
+package kr.co.imguru.global.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 서버(세틀뱅크) 호출용 RestTemplate 설정
+ * 요청마다 RestTemplate 을 새로 만들지 않고 커넥션 풀을 공유하며, 모든 구간에 타임아웃을 둔다.
+ */
+@Configuration
+public class PaymentGatewayConfig {
+
+    @Value("${pay.gateway.connect-timeout:3000}")
+    private long connectTimeout;
+
+    @Value("${pay.gateway.read-timeout:10000}")
+    private long readTimeout;
+
+    @Value("${pay.gateway.connection-request-timeout:1000}")
+    private long connectionRequestTimeout;
+
+    @Value("${pay.gateway.max-total:50}")
+    private int maxTotal;
+
+    @Value("${pay.gateway.max-per-route:20}")
+    private int maxPerRoute;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient paymentGatewayHttpClient() {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+                .setTimeToLive(TimeValue.ofMinutes(5))
+                .build();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeout))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .disableAutomaticRetries()      // 재시도는 PaymentGatewayClient 에서 연결 실패에 한해 처리
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(30, TimeUnit.SECONDS))
+                .build();
+    }
+
+    @Bean(name = "paymentGatewayRestTemplate")
+    public RestTemplate paymentGatewayRestTemplate(CloseableHttpClient paymentGatewayHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(paymentGatewayHttpClient));
+    }
+
+}
@@ -0,0 +1,44 @@
+package kr.co.imguru.global.config;
+
+import kr.co.imguru.global.query.QueryCountInspector;
+import kr.co.imguru.global.query.QueryStatsDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청 단위 SQL 통계 설정
+ * - Hibernate StatementInspector 로 실행 SQL 수 / SQL 별 반복 수
+ * - DataSource 를 감싸 DB 시간 / 행 수
+ * 모든 SQL / JDBC 호출에 비용이 더해지므로 monitoring.query-stats.enabled 가 true 일 때만 등록 (local 프로필 / 테스트)
+ */
+@Configuration
+@ConditionalOnProperty(name = "monitoring.query-stats.enabled", havingValue = "true")
+public class QueryStatsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+
+    // 다른 설정보다 먼저 등록되어야 하므로 static
+    @Bean
+    public static BeanPostProcessor queryStatsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryStatsDataSource)) {
+                    return new QueryStatsDataSource(dataSource);
+                }
+
+                return bean;
+            }
+        };
+    }
+
+}
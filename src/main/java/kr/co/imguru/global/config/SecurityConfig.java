@@ -51,6 +51,10 @@ public class SecurityConfig {
 //                .requestMatchers("/api/v1/review/**").hasAnyRole("USER", "GURU", "ADMIN", "MANAGER")
 //                .requestMatchers("/api/v1/report/**").hasAnyRole("USER", "GURU", "ADMIN", "MANAGER")
                 .requestMatchers("/api/v1/admin/**").hasAnyRole("ADMIN")
+                .requestMatchers("/api/v1/payCancel/**").authenticated()
+                .requestMatchers("/api/v1/pay/status/**").authenticated()
+                .requestMatchers("/api/v1/file/uploads/**").authenticated()
+                .requestMatchers("/api/v1/reportPost", "/api/v1/reportReply").authenticated()
 
                 .requestMatchers("/**").permitAll()
                 .anyRequest().authenticated();
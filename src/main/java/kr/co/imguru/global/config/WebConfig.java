@@ -1,18 +1,45 @@
 package kr.co.imguru.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 로컬 저장소(file.storage.root) 파일은 FileRestController 로만 내려준다. (nosniff / attachment / Range 처리)
+ * /upload/** 는 이전에 올린 파일이 남아 있는 별도 디렉토리(file.legacy.root)가 설정된 경우에만 연결
+ */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
     private String resourcePath = "/upload/**";     // view에서 접근할 경로
-    private String savePath = "file:///C:/imguru_img/"; // 실제 파일 저장 경로(win)
+
+    @Value("${file.legacy.root:}")
+    private String legacyRoot;                      // 이전 업로드 파일 경로 (비어 있으면 연결하지 않음)
+
+    @Value("${file.storage.root:./upload}")
+    private String storageRoot;
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        if (legacyRoot == null || legacyRoot.isBlank()) {
+            return;
+        }
+
+        Path legacy = Paths.get(legacyRoot).toAbsolutePath().normalize();
+        Path storage = Paths.get(storageRoot).toAbsolutePath().normalize();
+
+        // 저장소 안의 원본 / .variants / .tmp 가 정적 경로로 노출되지 않도록
+        if (legacy.startsWith(storage) || storage.startsWith(legacy)) {
+            throw new IllegalStateException("file.legacy.root 는 file.storage.root 와 겹치지 않는 디렉토리여야 합니다.");
+        }
+
+        String savePath = legacy.toUri().toString();
+
         registry.addResourceHandler(resourcePath)
-                .addResourceLocations(savePath);
+                .addResourceLocations(savePath.endsWith("/") ? savePath : savePath + "/");
     }
 }
@@ -0,0 +1,18 @@
+package kr.co.imguru.global.exception;
+
+
+import kr.co.imguru.global.model.ResponseStatus;
+
+/**
+ * 결제 서버 호출이 실패하거나 차단(서킷 오픈)되었을 때 사용하는 예외
+ */
+public class PaymentGatewayException extends BusinessLogicException {
+
+    public PaymentGatewayException(ResponseStatus responseStatus) {
+        super(responseStatus);
+    }
+
+    public PaymentGatewayException(String message) {
+        super(message);
+    }
+}
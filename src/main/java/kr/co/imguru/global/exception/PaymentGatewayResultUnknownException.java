@@ -0,0 +1,15 @@
+package kr.co.imguru.global.exception;
+
+
+import kr.co.imguru.global.model.ResponseStatus;
+
+/**
+ * 결제 서버에 요청이 전달되었을 수 있으나 응답을 받지 못한 경우 (응답 시간 초과, 5xx)
+ * 결제 서버에서 이미 승인/취소되었을 수 있으므로 같은 요청을 다시 보내지 않고 거래 조회로 결과를 확정해야 한다.
+ */
+public class PaymentGatewayResultUnknownException extends PaymentGatewayException {
+
+    public PaymentGatewayResultUnknownException(ResponseStatus responseStatus) {
+        super(responseStatus);
+    }
+}
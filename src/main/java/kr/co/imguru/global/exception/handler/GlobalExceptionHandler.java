@@ -4,6 +4,7 @@ package kr.co.imguru.global.exception.handler;
 import kr.co.imguru.global.exception.DuplicatedException;
 import kr.co.imguru.global.exception.IllegalArgumentException;
 import kr.co.imguru.global.exception.NotFoundException;
+import kr.co.imguru.global.exception.PaymentGatewayException;
 import kr.co.imguru.global.exception.UnauthorizedException;
 import kr.co.imguru.global.model.ResponseErrorFormat;
 import kr.co.imguru.global.model.ResponseStatus;
@@ -43,6 +44,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseErrorFormat);
     }
 
+    @ExceptionHandler(PaymentGatewayException.class)
+    protected ResponseEntity<ResponseErrorFormat> handlePaymentGatewayException(PaymentGatewayException e) {
+        log.warn("-------HandlePaymentGatewayException-------", e);
+
+        ResponseErrorFormat responseErrorFormat = ResponseErrorFormat.builder()
+                .message(e.getMessage())
+                .statusCode(ResponseStatus.FAIL_PAY_GATEWAY_UNAVAILABLE.getStatusCode())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(responseErrorFormat);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     protected ResponseEntity<ResponseErrorFormat> handleRuntimeException(RuntimeException e) {
         log.warn("-------HandleRuntimeException-------", e);
@@ -69,6 +69,43 @@ public enum ResponseStatus {
     FAIL_SKILL_OUT_OF_BOUND("클라이언트가 요청한 스킬의 갯수가 초과되었습니다.", HttpStatus.BAD_REQUEST),
 
     FAIL_PAY_NOT_FOUND("클라이언트가 요청한 결제정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    FAIL_PAY_AUTH_NO_MISMATCH("요청한 인증번호가 기존 결제 승인 요청과 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
+    FAIL_PAY_STATUS_CONFLICT("현재 결제 상태에서는 요청한 처리를 할 수 없습니다.", HttpStatus.BAD_REQUEST),
+    FAIL_PAY_BUYER_NOT_MATCH("해당 결제의 구매자만이 취소할 수 있습니다.", HttpStatus.BAD_REQUEST),
+    FAIL_PAY_TR_NO_MISMATCH("요청한 거래번호가 결제 거래번호와 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
+    FAIL_PAY_ROLLUP_RANGE_INVALID("조회/재집계 기간이 올바르지 않습니다. (시작일 <= 종료일, 최대 366일)", HttpStatus.BAD_REQUEST),
+    FAIL_PAY_RECONCILE_RUNNING("결제 대사 작업이 이미 실행 중입니다.", HttpStatus.BAD_REQUEST),
+    FAIL_PAY_RECONCILE_RUN_NOT_FOUND("클라이언트가 요청한 결제 대사 이력을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    FAIL_PAY_GATEWAY_UNAVAILABLE("결제 서버와 통신할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    FAIL_PAY_GATEWAY_RESULT_UNKNOWN("결제 서버의 처리 결과를 확인하지 못했습니다. 잠시 후 결제 상태를 조회해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+
+    // File
+    FAIL_FILE_NOT_FOUND("클라이언트가 요청한 파일을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    FAIL_FILE_NAME_INVALID("파일 분류 또는 파일명 형식이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    FAIL_FILE_TYPE_NOT_ALLOWED("업로드할 수 없는 파일 형식입니다.", HttpStatus.BAD_REQUEST),
+    FAIL_FILE_TYPE_MISMATCH("파일 내용이 확장자와 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
+    FAIL_FILE_HASH_MISMATCH("업로드한 파일의 해시가 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
+    FAIL_FILE_UPLOAD_NOT_FOUND("클라이언트가 요청한 업로드 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    FAIL_FILE_UPLOAD_CLOSED("완료, 취소, 실패 또는 만료된 업로드입니다.", HttpStatus.BAD_REQUEST),
+    FAIL_FILE_UPLOAD_OFFSET_MISMATCH("업로드 위치(Upload-Offset)가 서버에 수신된 위치와 다릅니다.", HttpStatus.BAD_REQUEST),
+    FAIL_FILE_UPLOAD_SIZE_EXCEEDED("업로드 파일 크기가 허용 범위를 벗어났습니다.", HttpStatus.BAD_REQUEST),
+    FAIL_FILE_UPLOAD_CAPACITY("진행 중인 업로드가 많아 지금은 업로드할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.BAD_REQUEST),
+    FAIL_FILE_UPLOAD_BUSY("같은 업로드에 대한 요청이 처리 중이거나 서버가 혼잡합니다. 잠시 후 다시 시도해주세요.", HttpStatus.BAD_REQUEST),
+    FAIL_FILE_UPLOAD_OWNER_NOT_MATCH("본인이 작성한 대상에만 파일을 업로드할 수 있습니다.", HttpStatus.FORBIDDEN),
+
+    // Admin
+    FAIL_ADMIN_SORT_NOT_SUPPORTED("요청한 목록에서 지원하지 않는 정렬 기준입니다.", HttpStatus.BAD_REQUEST),
+    FAIL_ADMIN_CURSOR_INVALID("cursor 값이 올바르지 않습니다. 이전 응답의 nextCursor 를 그대로 전달해주세요.", HttpStatus.BAD_REQUEST),
+    FAIL_ADMIN_BULK_ACTION_NOT_SUPPORTED("요청한 대상에 적용할 수 없는 일괄 처리입니다.", HttpStatus.BAD_REQUEST),
+    FAIL_ADMIN_BULK_TARGET_EMPTY("일괄 처리할 id 목록 또는 조건을 하나 이상 입력해주세요.", HttpStatus.BAD_REQUEST),
+    FAIL_ADMIN_BULK_TOO_MANY_IDS("한 번에 일괄 처리할 수 있는 id 개수를 초과했습니다.", HttpStatus.BAD_REQUEST),
+    FAIL_ADMIN_BULK_RUNNING("일괄 처리 작업이 이미 실행 중입니다.", HttpStatus.BAD_REQUEST),
+    FAIL_ADMIN_BULK_RUN_NOT_FOUND("클라이언트가 요청한 일괄 처리 이력을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    FAIL_ADMIN_JFR_RUNNING("JFR 기록이 이미 실행 중입니다.", HttpStatus.BAD_REQUEST),
+    FAIL_ADMIN_JFR_NOT_RUNNING("실행 중인 JFR 기록이 없습니다.", HttpStatus.BAD_REQUEST),
+    FAIL_ADMIN_JFR_NOT_FINISHED("JFR 기록이 아직 끝나지 않았습니다. 종료 후 다시 요청해주세요.", HttpStatus.BAD_REQUEST),
+    FAIL_ADMIN_JFR_DURATION_INVALID("JFR 기록 시간이 허용 범위를 벗어났습니다. (1초 ~ monitoring.jfr.max-duration-seconds)", HttpStatus.BAD_REQUEST),
+    FAIL_ADMIN_JFR_RECORDING_NOT_FOUND("클라이언트가 요청한 JFR 기록을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
 
     // Login Failed Status
     FAIL_LOGIN_NOT_SUCCESS("로그인이 되지 않았습니다. 재시도 해주세요.", HttpStatus.BAD_REQUEST),
@@ -0,0 +1,22 @@
+package kr.co.imguru.global.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 JDBC Statement 를 준비할 때마다 호출 (JPQL, QueryDSL, native query 모두 포함)
+ * SQL 은 바꾸지 않고 현재 요청의 실행 수만 센다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryStats stats = QueryStatsHolder.current();
+
+        if (stats != null) {
+            stats.statement(sql);
+        }
+
+        return sql;
+    }
+
+}
@@ -0,0 +1,76 @@
+package kr.co.imguru.global.query;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나에서 실행된 SQL 통계 (요청 스레드에서만 갱신하므로 동기화하지 않음)
+ * - statements : Hibernate 가 준비한 SQL 수 (QueryCountInspector)
+ * - rows / dbNanos : JDBC 에서 읽은 행 + 변경된 행 수, execute 호출 시간 합 (QueryStatsDataSource)
+ * - 같은 SQL 문자열이 몇 번 실행됐는지 함께 세어 N+1 의심 여부를 판단한다.
+ */
+public class QueryStats {
+
+    private int statements;
+
+    private long rows;
+
+    private long dbNanos;
+
+    // SQL 문자열별 실행 수 (Hibernate 는 같은 쿼리에 같은 SQL 을 만들므로 문자열 자체를 형태로 사용)
+    private final Map<String, Integer> shapes = new HashMap<>();
+
+    void statement(String sql) {
+        statements++;
+        shapes.merge(sql, 1, Integer::sum);
+    }
+
+    void executed(long elapsedNanos) {
+        dbNanos += elapsedNanos;
+    }
+
+    void rows(long count) {
+        rows += count;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public double getDbMillis() {
+        return dbNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    /**
+     * 가장 많이 반복된 SQL (실행된 SQL 이 없으면 null)
+     */
+    public Repeated mostRepeated() {
+        Repeated repeated = null;
+
+        for (Map.Entry<String, Integer> entry : shapes.entrySet()) {
+            if (repeated == null || entry.getValue() > repeated.count()) {
+                repeated = new Repeated(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return repeated;
+    }
+
+    // X-Query-Stats 응답 헤더 값
+    public String toHeader() {
+        return String.format("statements=%d;rows=%d;dbMs=%.2f", statements, rows, getDbMillis());
+    }
+
+    public record Repeated(String sql, int count) {
+    }
+
+}
@@ -0,0 +1,155 @@
+package kr.co.imguru.global.query;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DB 시간 / 행 수 측정용 DataSource
+ * - Connection -> Statement -> ResultSet 을 JDK Proxy 로 감싸 execute* 호출 시간과 읽은 행(next), 변경된 행 수를 센다.
+ * - 수집 중이 아닌 스레드에서는 원래 객체를 그대로 호출한다. (System.nanoTime 도 호출하지 않음)
+ * - 실행 SQL 수는 QueryCountInspector 가 세므로 여기서는 세지 않는다.
+ */
+public class QueryStatsDataSource extends DelegatingDataSource {
+
+    public QueryStatsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, obtainTargetDataSource().getConnection(), new ConnectionHandler());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, obtainTargetDataSource().getConnection(username, password), new ConnectionHandler());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T wrap(Class<T> type, T target, TargetHandler handler) {
+        if (target == null) {
+            return null;
+        }
+
+        handler.target = target;
+
+        return (T) Proxy.newProxyInstance(QueryStatsDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private abstract static class TargetHandler implements InvocationHandler {
+
+        Object target;
+
+        // equals / hashCode 는 proxy 기준 (Hibernate 가 Statement, ResultSet 을 Map 에 보관)
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> args.length == 1 && proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> handle(method, args);
+            };
+        }
+
+        abstract Object handle(Method method, Object[] args) throws Throwable;
+
+        Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    // createStatement / prepareStatement / prepareCall 결과를 감싼다.
+    private static class ConnectionHandler extends TargetHandler {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(method, args);
+
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return wrap((Class<Object>) method.getReturnType(), result, new StatementHandler());
+            }
+
+            return result;
+        }
+    }
+
+    private static class StatementHandler extends TargetHandler {
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.equals("getResultSet")) {
+                return wrapResultSet(invokeTarget(method, args));
+            }
+
+            QueryStats stats = QueryStatsHolder.current();
+
+            if (stats == null || !name.startsWith("execute")) {
+                return invokeTarget(method, args);
+            }
+
+            long startedAt = System.nanoTime();
+
+            try {
+                Object result = invokeTarget(method, args);
+                countUpdated(stats, result);
+
+                return name.equals("executeQuery") ? wrapResultSet(result) : result;
+            } finally {
+                stats.executed(System.nanoTime() - startedAt);
+            }
+        }
+
+        private Object wrapResultSet(Object resultSet) {
+            return wrap(ResultSet.class, (ResultSet) resultSet, new ResultSetHandler());
+        }
+
+        // executeUpdate / executeLargeUpdate / executeBatch 의 변경 행 수 (execute 의 boolean 결과는 제외)
+        private void countUpdated(QueryStats stats, Object result) {
+            if (result instanceof Integer count && count > 0) {
+                stats.rows(count);
+            } else if (result instanceof Long count && count > 0) {
+                stats.rows(count);
+            } else if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    if (count > 0) {
+                        stats.rows(count);
+                    }
+                }
+            }
+        }
+    }
+
+    private static class ResultSetHandler extends TargetHandler {
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(method, args);
+
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                QueryStats stats = QueryStatsHolder.current();
+
+                if (stats != null) {
+                    stats.rows(1);
+                }
+            }
+
+            return result;
+        }
+    }
+
+}
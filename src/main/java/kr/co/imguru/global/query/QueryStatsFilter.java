@@ -0,0 +1,84 @@
+package kr.co.imguru.global.query;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 단위 SQL 통계 수집
+ * - 보안 필터(JWT 토큰 조회)까지 포함하도록 가장 먼저 실행
+ * - 같은 SQL 이 n-plus-one-threshold 번 이상 실행된 요청은 N+1 의심으로 WARN 로그
+ * - 요청이 끝나면 API 패턴별로 QueryStatsRecorder 에 누적 (매핑되지 않은 요청은 제외)
+ * - QueryStatsConfig 와 함께 monitoring.query-stats.enabled 가 true 일 때만 등록
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "monitoring.query-stats.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    private static final int MAX_LOG_SQL_LENGTH = 300;
+
+    private final QueryStatsRecorder queryStatsRecorder;
+
+    private final int nPlusOneThreshold;
+
+    public QueryStatsFilter(QueryStatsRecorder queryStatsRecorder,
+                            @Value("${monitoring.query-stats.n-plus-one-threshold:10}") int nPlusOneThreshold) {
+        this.queryStatsRecorder = queryStatsRecorder;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // 테스트 등에서 이미 수집 중이면 그쪽 통계에 그대로 합산
+        boolean started = QueryStatsHolder.start();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (started) {
+                QueryStats stats = QueryStatsHolder.current();
+                QueryStatsHolder.clear();
+
+                record(request, stats);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern == null ? request.getRequestURI() : pattern);
+
+        QueryStats.Repeated repeated = stats.mostRepeated();
+        QueryStats.Repeated nPlusOne = repeated != null && repeated.count() >= nPlusOneThreshold ? repeated : null;
+
+        if (nPlusOne != null) {
+            log.warn("[nPlusOne] {} : {} statements, same sql x{} : {}", endpoint, stats.getStatements(),
+                    nPlusOne.count(), abbreviate(nPlusOne.sql()));
+        }
+
+        if (pattern != null) {
+            queryStatsRecorder.record(endpoint, stats, nPlusOne);
+        }
+    }
+
+    private String abbreviate(String sql) {
+        String oneLine = sql.replaceAll("\\s+", " ").trim();
+
+        return oneLine.length() <= MAX_LOG_SQL_LENGTH ? oneLine : oneLine.substring(0, MAX_LOG_SQL_LENGTH) + "...";
+    }
+
+}
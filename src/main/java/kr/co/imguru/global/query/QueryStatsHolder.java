@@ -0,0 +1,33 @@
+package kr.co.imguru.global.query;
+
+/**
+ * 현재 스레드의 SQL 통계
+ * 요청 필터(또는 테스트)가 start 한 구간에서만 수집하고, 그 밖의 SQL (스케줄러, 이벤트 스레드 등)은 세지 않는다.
+ */
+public class QueryStatsHolder {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 수집 시작
+     * 이미 수집 중이면 기존 통계를 그대로 사용하고 false 반환 (시작한 쪽에서만 clear)
+     */
+    public static boolean start() {
+        if (CURRENT.get() != null) {
+            return false;
+        }
+
+        CURRENT.set(new QueryStats());
+
+        return true;
+    }
+
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+}
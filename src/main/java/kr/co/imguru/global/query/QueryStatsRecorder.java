@@ -0,0 +1,104 @@
+package kr.co.imguru.global.query;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API (HTTP 메서드 + URL 패턴) 별 SQL 통계 누적
+ * 요청이 끝날 때 QueryStatsFilter 가 한 번 기록하며, 값은 lock 없는 LongAdder 에 더한다.
+ * monitoring.query-stats.enabled 가 false 면 QueryStatsFilter 가 없으므로 항상 비어 있다.
+ */
+@Component
+public class QueryStatsRecorder {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime resetAt = LocalDateTime.now();
+
+    public void record(String endpoint, QueryStats stats, QueryStats.Repeated nPlusOne) {
+        EndpointStats endpointStats = endpoints.get(endpoint);
+
+        if (endpointStats == null) {
+            endpointStats = endpoints.computeIfAbsent(endpoint, key -> new EndpointStats());
+        }
+
+        endpointStats.requests.increment();
+        endpointStats.statements.add(stats.getStatements());
+        endpointStats.maxStatements.accumulate(stats.getStatements());
+        endpointStats.rows.add(stats.getRows());
+        endpointStats.dbNanos.add(stats.getDbNanos());
+
+        if (nPlusOne != null) {
+            endpointStats.nPlusOne.increment();
+            endpointStats.repeatedSql = nPlusOne.sql();
+        }
+    }
+
+    /**
+     * 마지막 초기화 이후 API 별 요청당 평균 (전체 실행 SQL 수 내림차순)
+     */
+    public List<Snapshot> snapshot() {
+        List<Snapshot> snapshots = new ArrayList<>(endpoints.size());
+
+        endpoints.forEach((endpoint, stats) -> {
+            long requests = stats.requests.sum();
+
+            if (requests == 0) {
+                return;
+            }
+
+            snapshots.add(new Snapshot(endpoint, requests, stats.statements.sum(),
+                    (double) stats.statements.sum() / requests, stats.maxStatements.get(),
+                    (double) stats.rows.sum() / requests, stats.dbNanos.sum() / NANOS_PER_MILLI / requests,
+                    stats.nPlusOne.sum(), stats.repeatedSql));
+        });
+
+        snapshots.sort(Comparator.comparingLong(Snapshot::totalStatements).reversed());
+
+        return snapshots;
+    }
+
+    public LocalDateTime getResetAt() {
+        return resetAt;
+    }
+
+    public void reset() {
+        endpoints.clear();
+        resetAt = LocalDateTime.now();
+    }
+
+    public record Snapshot(String endpoint, long requests, long totalStatements, double avgStatements,
+                           long maxStatements, double avgRows, double avgDbMillis, long nPlusOneCount,
+                           String repeatedSql) {
+    }
+
+    private static class EndpointStats {
+
+        private final LongAdder requests = new LongAdder();
+
+        private final LongAdder statements = new LongAdder();
+
+        private final LongAccumulator maxStatements = new LongAccumulator(Long::max, 0);
+
+        private final LongAdder rows = new LongAdder();
+
+        private final LongAdder dbNanos = new LongAdder();
+
+        private final LongAdder nPlusOne = new LongAdder();
+
+        // 마지막으로 N+1 의심된 SQL
+        private volatile String repeatedSql;
+    }
+
+}
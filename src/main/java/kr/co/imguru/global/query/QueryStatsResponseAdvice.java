@@ -0,0 +1,42 @@
+package kr.co.imguru.global.query;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * X-Query-Stats 응답 헤더 (statements=..;rows=..;dbMs=..)
+ * 본문을 쓰기 직전에 헤더를 넣어야 하므로 필터가 아닌 ResponseBodyAdvice 에서 설정한다.
+ * open-in-view 를 사용하지 않으므로 이 시점 이후에는 지연 로딩 SQL 이 실행되지 않는다.
+ * 내부 쿼리 구조가 드러나므로 monitoring.query-stats.enabled 가 true 인 환경(local 프로필 / 테스트)에서만 응답에 포함한다.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "monitoring.query-stats.enabled", havingValue = "true")
+public class QueryStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-Query-Stats";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryStats stats = QueryStatsHolder.current();
+
+        if (stats != null) {
+            response.getHeaders().set(HEADER, stats.toHeader());
+        }
+
+        return body;
+    }
+
+}
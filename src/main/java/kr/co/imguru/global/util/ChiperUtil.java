@@ -5,9 +5,8 @@ import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
-import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 /**
@@ -20,6 +19,12 @@ import java.security.NoSuchAlgorithmException;
  * @Version : 1.0
  */
 public class ChiperUtil {
+
+	// Cipher 는 thread-safe 하지 않으므로 스레드마다 (key, mode) 별로 초기화된 인스턴스를 재사용
+	// ECB 는 IV 가 없어 doFinal 이후 같은 key 로 바로 재사용할 수 있다.
+	private static final ThreadLocal<CipherHolder> ENCRYPT_CIPHER = ThreadLocal.withInitial(() -> new CipherHolder(Cipher.ENCRYPT_MODE));
+
+	private static final ThreadLocal<CipherHolder> DECRYPT_CIPHER = ThreadLocal.withInitial(() -> new CipherHolder(Cipher.DECRYPT_MODE));
 	
 	/**
 	 * <pre>
@@ -34,21 +39,7 @@ public class ChiperUtil {
 	 * @return SHA-256 으로 인코딩한 문자열
 	 */
 	public static String sha256(String str){
-		StringBuffer sb = new StringBuffer();
-		try {
-			  MessageDigest sh = MessageDigest.getInstance("SHA-256");
-
-			  byte[] toDigest = sh.digest(str.getBytes());
-			  for(int i =0; i<toDigest.length; i++){
-				  int c = toDigest[i] & 0xff;
-				  if (c <= 15)
-				        sb.append("0");
-				  sb.append(Integer.toHexString(c));
-			  }
-		} catch (NoSuchAlgorithmException e) {
-			System.out.println(e);
-        }
-		return sb.toString();
+		return SignatureUtil.sha256(str);
 	}
 	
 	/**
@@ -63,23 +54,17 @@ public class ChiperUtil {
 	 * @return
 	 */
 	public static String aesEncryptEcb(String key, String plainText) {
-		Cipher cipher;
-		byte[] keys;
-		byte[] encryptes;
 		String returnMessage = null;
 		
 		try {
-			keys = key.getBytes("UTF-8");
-			
-			SecretKeySpec skeySpec = new SecretKeySpec(keys ,"AES");
-			cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-			cipher.init(Cipher.ENCRYPT_MODE, skeySpec);
+			Cipher cipher = ENCRYPT_CIPHER.get().cipher(key);
 			
-			encryptes = cipher.doFinal(plainText.getBytes("UTF-8"));
+			byte[] encryptes = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
 			
 			returnMessage = toHexString(encryptes);
-		} catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException | UnsupportedEncodingException |
+		} catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException |
 				 IllegalBlockSizeException | BadPaddingException e) {
+			ENCRYPT_CIPHER.remove();
 			e.printStackTrace();
 		}
 		
@@ -98,22 +83,17 @@ public class ChiperUtil {
 	 * @return
 	 */
 	public static String aesDecryptEcb(String key, String chiperText) {
-		Cipher cipher;
-		byte[] keys;
-		byte[] decryptes;
 		String returnMessage = null; 
 		
 		try {
-			keys = key.getBytes("UTF-8");
-			SecretKeySpec skeySpec = new SecretKeySpec(keys ,"AES");
-			cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-			cipher.init(Cipher.DECRYPT_MODE, skeySpec );
+			Cipher cipher = DECRYPT_CIPHER.get().cipher(key);
 			
-			decryptes = hexToByteArray(chiperText);
-			returnMessage = new String(cipher.doFinal(decryptes), "UTF-8");
+			byte[] decryptes = hexToByteArray(chiperText);
+			returnMessage = new String(cipher.doFinal(decryptes), StandardCharsets.UTF_8);
 			
-		} catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException |UnsupportedEncodingException |
+		} catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException |
 				 IllegalBlockSizeException | BadPaddingException e) {
+			DECRYPT_CIPHER.remove();
 			// TODO Auto-generated catch block
 			e.printStackTrace();
 		}
@@ -122,26 +102,42 @@ public class ChiperUtil {
 	}
 	
   public static String toHexString(byte[] bytesArray) {
-        StringBuffer sb = new StringBuffer();
-        
         if (bytesArray == null || bytesArray.length == 0)
         	throw new RuntimeException("toHexString target bytes array is empty");
  
-        for (int i = 0; i < bytesArray.length; i++) {
-            sb.append(String.format("%02X", bytesArray[i]));
-        }
- 
-        return sb.toString();
+        return HexUtil.encodeUpper(bytesArray);
     }
   
   public static byte[] hexToByteArray(String hexStr) {
-	  byte[] b = new byte[hexStr.length() / 2];
-	  
-	  for(int i = 0 ; i < b.length; i++){
-		  b[i] = (byte)Integer.parseInt(hexStr.substring(2*i, 2*i+2),16);
-	  }
-	  
-	  return b;
+	  return HexUtil.decode(hexStr);
   }
+
+	private static class CipherHolder {
+
+		private final int mode;
+
+		private Cipher cipher;
+
+		private String key;
+
+		private CipherHolder(int mode) {
+			this.mode = mode;
+		}
+
+		private Cipher cipher(String key) throws NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException {
+			if (cipher == null) {
+				cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+			}
+
+			if (!key.equals(this.key)) {
+				// 초기화 실패 시 이전 key 로 재사용되지 않도록 먼저 비움
+				this.key = null;
+				cipher.init(mode, new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES"));
+				this.key = key;
+			}
+
+			return cipher;
+		}
+	}
 	
 }
@@ -0,0 +1,66 @@
+package kr.co.imguru.global.util;
+
+import java.util.Arrays;
+
+/**
+ * 테이블 기반 hex 인코딩/디코딩 유틸
+ * String.format("%02X") / Integer.toHexString 처럼 바이트마다 문자열을 만들지 않고 char[] 하나만 할당한다.
+ */
+public class HexUtil {
+
+    private static final char[] UPPER = "0123456789ABCDEF".toCharArray();
+
+    private static final char[] LOWER = "0123456789abcdef".toCharArray();
+
+    private static final byte[] DECODE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            DECODE[UPPER[i]] = (byte) i;
+            DECODE[LOWER[i]] = (byte) i;
+        }
+    }
+
+    public static String encodeUpper(byte[] bytes) {
+        return encode(bytes, UPPER);
+    }
+
+    public static String encodeLower(byte[] bytes) {
+        return encode(bytes, LOWER);
+    }
+
+    public static byte[] decode(String hex) {
+        int length = hex.length() / 2;
+        byte[] bytes = new byte[length];
+
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) ((digit(hex.charAt(2 * i)) << 4) | digit(hex.charAt(2 * i + 1)));
+        }
+
+        return bytes;
+    }
+
+    private static String encode(byte[] bytes, char[] table) {
+        char[] chars = new char[bytes.length * 2];
+
+        for (int i = 0; i < bytes.length; i++) {
+            int value = bytes[i] & 0xff;
+            chars[2 * i] = table[value >>> 4];
+            chars[2 * i + 1] = table[value & 0x0f];
+        }
+
+        return new String(chars);
+    }
+
+    private static int digit(char c) {
+        int value = c < 128 ? DECODE[c] : -1;
+
+        if (value < 0) {
+            throw new NumberFormatException("invalid hex character : " + c);
+        }
+
+        return value;
+    }
+
+}
@@ -0,0 +1,139 @@
+package kr.co.imguru.global.util;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * 이미지 축소 / JPEG 인코딩 유틸 (JDK ImageIO, Java2D 만 사용)
+ */
+public class ImageUtil {
+
+    /**
+     * 이미지 읽기
+     * 헤더의 가로/세로만 먼저 읽어 maxPixels 를 넘는 이미지(압축 폭탄 등)는 디코딩하지 않는다.
+     * 읽을 수 없거나 너무 크면 null 반환
+     */
+    public static BufferedImage read(Path path, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            if (input == null) {
+                return null;
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+
+            try {
+                reader.setInput(input, true, true);
+
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    return null;
+                }
+
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 지정 크기로 축소 (확대하지 않음)
+     * crop = true 면 짧은 변 기준으로 맞춘 뒤 가운데를 잘라 width x height 로 만든다.
+     * 큰 비율 축소는 절반씩 여러 번 줄여 계단 현상을 줄인다.
+     */
+    public static BufferedImage resize(BufferedImage source, int width, int height, boolean crop) {
+        int sourceWidth = source.getWidth();
+        int sourceHeight = source.getHeight();
+
+        double scale = crop
+                ? Math.max((double) width / sourceWidth, (double) height / sourceHeight)
+                : Math.min((double) width / sourceWidth, (double) height / sourceHeight);
+        scale = Math.min(scale, 1.0);
+
+        int scaledWidth = Math.max(1, (int) Math.round(sourceWidth * scale));
+        int scaledHeight = Math.max(1, (int) Math.round(sourceHeight * scale));
+
+        BufferedImage current = toRgb(source);
+
+        while (current.getWidth() / 2 >= scaledWidth && current.getHeight() / 2 >= scaledHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+
+        current = draw(current, scaledWidth, scaledHeight);
+
+        if (!crop || (scaledWidth <= width && scaledHeight <= height)) {
+            return current;
+        }
+
+        int cropWidth = Math.min(width, scaledWidth);
+        int cropHeight = Math.min(height, scaledHeight);
+
+        return current.getSubimage((scaledWidth - cropWidth) / 2, (scaledHeight - cropHeight) / 2, cropWidth, cropHeight);
+    }
+
+    public static void writeJpeg(BufferedImage image, Path target, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    // 투명 배경(PNG/GIF)은 흰색으로 채운 RGB 이미지로 변환 (JPEG 은 알파 채널 미지원)
+    private static BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, source.getWidth(), source.getHeight());
+            graphics.drawImage(source, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return rgb;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return target;
+    }
+
+}
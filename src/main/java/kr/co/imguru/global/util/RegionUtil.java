@@ -0,0 +1,149 @@
+package kr.co.imguru.global.util;
+
+import kr.co.imguru.global.common.RegionCode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 지역 문자열 정규화 유틸
+ * 자유 입력된 활동 지역(workArea)과 회원 주소(roadAddress, zoneCode)를
+ * "시/도 코드" 또는 "시/도 코드-시/군/구" 형태의 지역 키로 변환한다.
+ *
+ * ex) "서울 강남구, 경기도 성남시 분당구" -> ["11-강남구", "41-성남시"]
+ *     "서울 전체"                         -> ["11"]
+ *     "전국"                              -> ["00"]
+ */
+public class RegionUtil {
+
+    private static final String AREA_DELIMITER = "[,/·|\\n]";
+
+    private static final String KEY_DELIMITER = "-";
+
+    /**
+     * 활동 지역 문자열을 지역 키 목록으로 변환 (해석할 수 없는 항목은 제외)
+     */
+    public static Set<String> normalizeWorkArea(String workArea) {
+        Set<String> keys = new LinkedHashSet<>();
+
+        if (workArea == null || workArea.isBlank()) {
+            return keys;
+        }
+
+        for (String area : workArea.split(AREA_DELIMITER)) {
+            String key = normalizeAddress(area);
+
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+
+        return keys;
+    }
+
+    /**
+     * 주소 한 건을 지역 키로 변환
+     * 시/도를 찾지 못하면 null 반환
+     */
+    public static String normalizeAddress(String address) {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+
+        String[] tokens = address.trim().split("\\s+");
+
+        RegionCode sido = findSido(tokens[0]);
+
+        if (sido == null) {
+            return null;
+        }
+
+        if (sido == RegionCode.NATIONWIDE || tokens.length < 2) {
+            return sido.getCode();
+        }
+
+        String sigungu = tokens[1];
+
+        if (!isSigungu(sigungu)) {
+            return sido.getCode();
+        }
+
+        return sido.getCode() + KEY_DELIMITER + sigungu;
+    }
+
+    /**
+     * 회원 주소를 지역 키로 변환
+     * 도로명 주소로 시/도를 판별하지 못하면 우편번호 앞 2자리로 시/도만 판별
+     */
+    public static String normalizeMemberAddress(String roadAddress, String zoneCode) {
+        String key = normalizeAddress(roadAddress);
+
+        if (key != null) {
+            return key;
+        }
+
+        RegionCode sido = findSidoByZoneCode(zoneCode);
+
+        return sido == null ? null : sido.getCode();
+    }
+
+    /**
+     * 지역 키를 포함 관계에 따라 조회 대상 키 목록으로 확장
+     * ex) "11-강남구" -> ["11-강남구", "11", "00"]
+     */
+    public static List<String> expandSearchKeys(String regionKey) {
+        List<String> keys = new ArrayList<>();
+
+        if (regionKey != null) {
+            keys.add(regionKey);
+
+            int index = regionKey.indexOf(KEY_DELIMITER);
+            if (index > 0) {
+                keys.add(regionKey.substring(0, index));
+            }
+        }
+
+        if (!keys.contains(RegionCode.NATIONWIDE.getCode())) {
+            keys.add(RegionCode.NATIONWIDE.getCode());
+        }
+
+        return keys;
+    }
+
+    private static RegionCode findSido(String token) {
+        for (RegionCode regionCode : RegionCode.values()) {
+            if (regionCode.matches(token)) {
+                return regionCode;
+            }
+        }
+        return null;
+    }
+
+    private static RegionCode findSidoByZoneCode(String zoneCode) {
+        if (zoneCode == null || zoneCode.length() != 5) {
+            return null;
+        }
+
+        int prefix;
+        try {
+            prefix = Integer.parseInt(zoneCode.substring(0, 2));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        for (RegionCode regionCode : RegionCode.values()) {
+            if (regionCode.containsZonePrefix(prefix)) {
+                return regionCode;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isSigungu(String token) {
+        return token.length() >= 2
+                && (token.endsWith("시") || token.endsWith("군") || token.endsWith("구"));
+    }
+
+}
@@ -1,8 +1,19 @@
 package kr.co.imguru.global.util;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 public class SignatureUtil {
+
+	// MessageDigest 는 thread-safe 하지 않으므로 스레드마다 하나씩 재사용 (digest() 호출 시 자동 reset)
+	private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
 	/**
 	 * <pre>
 	 * 문자열 인코딩 (SHA-256)
@@ -16,21 +27,9 @@ public class SignatureUtil {
 	 * @return SHA-256 으로 인코딩한 문자열
 	 */
 	public static String sha256(String str){
-		StringBuffer sb = new StringBuffer();
-		try {
-			  MessageDigest sh = MessageDigest.getInstance("SHA-256");
+		byte[] toDigest = SHA256.get().digest(str.getBytes(StandardCharsets.UTF_8));
 
-			  byte[] toDigest = sh.digest(str.getBytes());
-			  for(int i =0; i<toDigest.length; i++){
-				  int c = toDigest[i] & 0xff;
-				  if (c <= 15)
-				        sb.append("0");
-				  sb.append(Integer.toHexString(c));
-			  }
-		} catch (NoSuchAlgorithmException e) {
-			System.out.println(e);
-        }
-		return sb.toString();
+		return HexUtil.encodeLower(toDigest);
 	}
 	
 }
@@ -0,0 +1,69 @@
+-- 중복 신고 정리 + 신고 유니크 키 생성 (MariaDB, 1회 실행)
+-- - ddl-auto update 는 중복 행이 있으면 유니크 키를 만들지 못하고 넘어가므로, 기동이 ReportUniqueKeyCheck 에서 실패하면 실행한다.
+-- - (대상, 회원) 별로 가장 먼저 접수된 신고(가장 작은 id)만 남기고, 지운 신고만큼 report_cnt / report_score 를 되돌린다.
+-- - 점수 가중치는 ReportCategory.weight 와 같아야 한다.
+-- - 실행 중 새 중복이 생기지 않도록 점검 시간에 실행
+
+START TRANSACTION;
+
+-- 게시글 신고
+CREATE TEMPORARY TABLE report_post_dup AS
+SELECT r.report_post_id, r.post_id, r.report_category
+FROM report_post r
+JOIN (SELECT post_id, member_id, MIN(report_post_id) AS keep_id
+      FROM report_post
+      GROUP BY post_id, member_id
+      HAVING COUNT(*) > 1) k
+  ON r.post_id = k.post_id AND r.member_id = k.member_id AND r.report_post_id <> k.keep_id;
+
+UPDATE post p
+JOIN (SELECT post_id,
+             COUNT(*) AS cnt,
+             SUM(CASE report_category
+                     WHEN 'PORNOGRAPHY' THEN 3
+                     WHEN 'ABUSE' THEN 2
+                     WHEN 'DEFAMATION' THEN 2
+                     ELSE 1 END) AS score
+      FROM report_post_dup
+      GROUP BY post_id) d ON p.post_id = d.post_id
+SET p.report_cnt = GREATEST(COALESCE(p.report_cnt, 0) - d.cnt, 0),
+    p.report_score = GREATEST(COALESCE(p.report_score, 0) - d.score, 0);
+
+DELETE r FROM report_post r
+JOIN report_post_dup d ON r.report_post_id = d.report_post_id;
+
+DROP TEMPORARY TABLE report_post_dup;
+
+-- 댓글 신고
+CREATE TEMPORARY TABLE report_reply_dup AS
+SELECT r.report_reply_id, r.reply_id, r.report_category
+FROM report_reply r
+JOIN (SELECT reply_id, member_id, MIN(report_reply_id) AS keep_id
+      FROM report_reply
+      GROUP BY reply_id, member_id
+      HAVING COUNT(*) > 1) k
+  ON r.reply_id = k.reply_id AND r.member_id = k.member_id AND r.report_reply_id <> k.keep_id;
+
+UPDATE reply rp
+JOIN (SELECT reply_id,
+             COUNT(*) AS cnt,
+             SUM(CASE report_category
+                     WHEN 'PORNOGRAPHY' THEN 3
+                     WHEN 'ABUSE' THEN 2
+                     WHEN 'DEFAMATION' THEN 2
+                     ELSE 1 END) AS score
+      FROM report_reply_dup
+      GROUP BY reply_id) d ON rp.reply_id = d.reply_id
+SET rp.report_cnt = GREATEST(COALESCE(rp.report_cnt, 0) - d.cnt, 0),
+    rp.report_score = GREATEST(COALESCE(rp.report_score, 0) - d.score, 0);
+
+DELETE r FROM report_reply r
+JOIN report_reply_dup d ON r.report_reply_id = d.report_reply_id;
+
+DROP TEMPORARY TABLE report_reply_dup;
+
+COMMIT;
+
+-- ALTER TABLE 은 암묵적으로 커밋되므로 정리 후 따로 실행 (ReportPost / ReportReply 의 @UniqueConstraint 와 같은 이름)
+ALTER TABLE report_post ADD UNIQUE INDEX IF NOT EXISTS uk_report_post_post_member (post_id, member_id);
+ALTER TABLE report_reply ADD UNIQUE INDEX IF NOT EXISTS uk_report_reply_reply_member (reply_id, member_id);
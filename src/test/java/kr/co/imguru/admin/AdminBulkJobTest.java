@@ -0,0 +1,158 @@
+package kr.co.imguru.admin;
+
+import kr.co.imguru.domain.admin.dto.AdminBulkDto;
+import kr.co.imguru.domain.admin.entity.AdminBulkRun;
+import kr.co.imguru.domain.admin.repository.AdminBulkRunRepository;
+import kr.co.imguru.domain.admin.repository.AdminSearchRepository;
+import kr.co.imguru.domain.admin.service.AdminBulkJob;
+import kr.co.imguru.domain.admin.service.AdminMetricStore;
+import kr.co.imguru.domain.admin.service.ReportModerationQueue;
+import kr.co.imguru.domain.guru.service.GuruRegionIndex;
+import kr.co.imguru.domain.member.repository.MemberRepository;
+import kr.co.imguru.domain.post.repository.PostRepository;
+import kr.co.imguru.domain.reply.repository.ReplyRepository;
+import kr.co.imguru.domain.report.repository.ReportPostRepository;
+import kr.co.imguru.domain.report.repository.ReportReplyRepository;
+import kr.co.imguru.domain.report.service.ReportMembershipFilter;
+import kr.co.imguru.domain.review.repository.ReviewRepository;
+import kr.co.imguru.global.common.AdminBulkAction;
+import kr.co.imguru.global.common.AdminBulkTarget;
+import kr.co.imguru.global.common.PostCategory;
+import kr.co.imguru.global.common.ReconcileRunStatus;
+import kr.co.imguru.global.exception.IllegalArgumentException;
+import kr.co.imguru.global.model.ResponseStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 관리자 일괄 처리 (DB 없이 확인, 청크 크기 2)
+ * - 조건으로 요청하면 청크마다 마지막 id 이후로 이어 처리하고 진행 상황이 기록되는지
+ * - id 로 요청하면 중복을 제거한 해당 항목만 처리되는지
+ * - 대상이 지원하지 않는 동작, 조건 없는 전체 요청은 시작 전에 거절되는지
+ */
+public class AdminBulkJobTest {
+
+    private AdminSearchRepository adminSearchRepository;
+
+    private AdminBulkRunRepository adminBulkRunRepository;
+
+    private PostRepository postRepository;
+
+    private ReportModerationQueue reportModerationQueue;
+
+    private AdminBulkJob adminBulkJob;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        adminSearchRepository = mock(AdminSearchRepository.class);
+        adminBulkRunRepository = mock(AdminBulkRunRepository.class);
+        postRepository = mock(PostRepository.class);
+        reportModerationQueue = mock(ReportModerationQueue.class);
+
+        when(adminBulkRunRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        adminBulkJob = new AdminBulkJob(adminSearchRepository, adminBulkRunRepository, mock(MemberRepository.class), postRepository,
+                mock(ReplyRepository.class), mock(ReviewRepository.class), mock(ReportPostRepository.class), mock(ReportReplyRepository.class),
+                mock(AdminMetricStore.class), mock(GuruRegionIndex.class), reportModerationQueue, mock(ReportMembershipFilter.class),
+                mock(RedisTemplate.class), new TransactionTemplate(transactionManager), 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adminBulkJob.shutdown();
+    }
+
+    @Test
+    void conditionBulkContinuesAfterLastIdOfEachChunk() {
+        when(adminSearchRepository.findBulkTargetIds(eq(AdminBulkTarget.POST), any(), isNull(), eq(2))).thenReturn(List.of(1L, 2L));
+        when(adminSearchRepository.findBulkTargetIds(eq(AdminBulkTarget.POST), any(), eq(2L), eq(2))).thenReturn(List.of(3L, 4L));
+        when(adminSearchRepository.findBulkTargetIds(eq(AdminBulkTarget.POST), any(), eq(4L), eq(2))).thenReturn(List.of(5L));
+        when(adminSearchRepository.findBulkTargetIds(eq(AdminBulkTarget.POST), any(), eq(5L), eq(2))).thenReturn(List.of());
+        when(postRepository.softDeleteAllByIdIn(anyList(), any())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        adminBulkJob.start(AdminBulkTarget.POST, AdminBulkDto.builder()
+                .action(AdminBulkAction.SOFT_DELETE)
+                .keyword("bulk")
+                .build());
+
+        AdminBulkRun run = awaitRun();
+
+        assertThat(run.getStatus()).isEqualTo(ReconcileRunStatus.COMPLETED);
+        assertThat(run.getProcessedCount()).isEqualTo(5);
+        assertThat(run.getAffectedCount()).isEqualTo(5);
+        assertThat(run.getLastId()).isEqualTo(5L);
+    }
+
+    @Test
+    void idBulkChangesOnlyGivenIds() {
+        when(postRepository.changeCategoryAllByIdIn(anyList(), any(), any())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        adminBulkJob.start(AdminBulkTarget.POST, AdminBulkDto.builder()
+                .action(AdminBulkAction.CHANGE_CATEGORY)
+                .changeCategory(PostCategory.QNA)
+                .ids(List.of(3L, 1L, 3L, 2L))
+                .build());
+
+        AdminBulkRun run = awaitRun();
+
+        assertThat(run.getTotalCount()).isEqualTo(3);
+        assertThat(run.getAffectedCount()).isEqualTo(3);
+        verify(postRepository).changeCategoryAllByIdIn(eq(List.of(1L, 2L)), eq(PostCategory.QNA), any());
+        verify(postRepository).changeCategoryAllByIdIn(eq(List.of(3L)), eq(PostCategory.QNA), any());
+        verify(adminSearchRepository, never()).findBulkTargetIds(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void invalidRequestsAreRejectedBeforeStart() {
+        assertThatThrownBy(() -> adminBulkJob.start(AdminBulkTarget.REPORT_POST, AdminBulkDto.builder()
+                .action(AdminBulkAction.SOFT_DELETE)
+                .ids(List.of(1L))
+                .build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ResponseStatus.FAIL_ADMIN_BULK_ACTION_NOT_SUPPORTED.getMessage());
+
+        assertThatThrownBy(() -> adminBulkJob.start(AdminBulkTarget.POST, AdminBulkDto.builder()
+                .action(AdminBulkAction.SOFT_DELETE)
+                .build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ResponseStatus.FAIL_ADMIN_BULK_TARGET_EMPTY.getMessage());
+
+        verify(adminBulkRunRepository, never()).save(any());
+    }
+
+    // 작업이 끝나면 신고 처리 대기열을 다시 만드므로 그때까지 대기
+    private AdminBulkRun awaitRun() {
+        verify(reportModerationQueue, timeout(5000)).rebuild();
+
+        ArgumentCaptor<AdminBulkRun> saved = ArgumentCaptor.forClass(AdminBulkRun.class);
+        verify(adminBulkRunRepository, atLeastOnce()).save(saved.capture());
+
+        return saved.getValue();
+    }
+
+}
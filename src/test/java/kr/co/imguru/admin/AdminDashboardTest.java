@@ -0,0 +1,104 @@
+package kr.co.imguru.admin;
+
+import kr.co.imguru.domain.admin.entity.AdminStat;
+import kr.co.imguru.domain.admin.repository.AdminStatRepository;
+import kr.co.imguru.domain.admin.service.AdminMetricEvent;
+import kr.co.imguru.domain.admin.service.AdminMetricStore;
+import kr.co.imguru.global.common.AdminMetric;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대시보드 지표 (DB 없이 확인)
+ * - 쓰기 경로의 증감이 DB 누적 전에 바로 대시보드에 반영되고, flush 때 합산된 증감분만 한 번 누적되는지
+ * - 누적에 실패한 증감분은 다음 flush 에서 다시 누적되는지
+ * - 재계산하면 남은 증감분을 먼저 누적한 뒤 원본 테이블 기준 값으로 바뀌는지
+ */
+public class AdminDashboardTest {
+
+    private static final String SKILL_KEY = "7";
+
+    private AdminStatRepository adminStatRepository;
+
+    private AdminMetricStore adminMetricStore;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        adminStatRepository = mock(AdminStatRepository.class);
+        adminMetricStore = new AdminMetricStore(adminStatRepository, new TransactionTemplate(transactionManager), 3, 30);
+    }
+
+    @Test
+    void recordedChangesAreVisibleBeforeFlush() {
+        adminMetricStore.onMetric(new AdminMetricEvent(AdminMetric.MEMBER_SKILL, SKILL_KEY, 1));
+        adminMetricStore.onMetric(new AdminMetricEvent(AdminMetric.MEMBER_SKILL, SKILL_KEY, 1));
+        adminMetricStore.onMetric(new AdminMetricEvent(AdminMetric.MEMBER_SKILL, SKILL_KEY, -1));
+
+        assertThat(skillCount()).isEqualTo(1);
+
+        adminMetricStore.flush();
+        adminMetricStore.flush();
+
+        verify(adminStatRepository, times(1)).accumulate(AdminMetric.MEMBER_SKILL.name(), SKILL_KEY, 1);
+        assertThat(skillCount()).isEqualTo(1);
+    }
+
+    @Test
+    void failedFlushKeepsDeltasForNextFlush() {
+        adminMetricStore.onMetric(new AdminMetricEvent(AdminMetric.MEMBER_SKILL, SKILL_KEY, 2));
+        when(adminStatRepository.accumulate(anyString(), anyString(), anyLong()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(1);
+
+        adminMetricStore.flush();
+        adminMetricStore.flush();
+
+        verify(adminStatRepository, times(2)).accumulate(AdminMetric.MEMBER_SKILL.name(), SKILL_KEY, 2);
+    }
+
+    @Test
+    void recomputeFlushesThenReloadsFromTable() {
+        adminMetricStore.onMetric(new AdminMetricEvent(AdminMetric.MEMBER_SKILL, SKILL_KEY, 1));
+
+        // 이벤트 없이 바뀐 데이터까지 재계산된 값
+        AdminStat stat = mock(AdminStat.class);
+        when(stat.getMetric()).thenReturn(AdminMetric.MEMBER_SKILL);
+        when(stat.getStatKey()).thenReturn(SKILL_KEY);
+        when(stat.getStatValue()).thenReturn(5L);
+        when(adminStatRepository.findAll()).thenReturn(List.of(stat));
+
+        adminMetricStore.recompute();
+
+        var order = inOrder(adminStatRepository);
+        order.verify(adminStatRepository).accumulate(AdminMetric.MEMBER_SKILL.name(), SKILL_KEY, 1);
+        order.verify(adminStatRepository).recomputeMemberSkill();
+
+        // 이미 누적된 증감분은 다시 더하지 않음
+        assertThat(skillCount()).isEqualTo(5);
+    }
+
+    private long skillCount() {
+        return adminMetricStore.snapshot().getMetrics()
+                .get(AdminMetric.MEMBER_SKILL)
+                .getOrDefault(SKILL_KEY, 0L);
+    }
+
+}
@@ -0,0 +1,106 @@
+package kr.co.imguru.admin;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.co.imguru.domain.admin.dto.AdminPostSummaryDto;
+import kr.co.imguru.domain.admin.dto.AdminSearchDto;
+import kr.co.imguru.domain.admin.dto.AdminSliceDto;
+import kr.co.imguru.domain.admin.repository.AdminSearchRepository;
+import kr.co.imguru.domain.admin.service.AdminServiceImpl;
+import kr.co.imguru.global.common.AdminSort;
+import kr.co.imguru.global.exception.IllegalArgumentException;
+import kr.co.imguru.global.model.ResponseStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 관리자 목록 cursor 페이징 (DB 없이 확인)
+ * - size + 1 건이 조회되면 마지막 항목의 (집계 값, id) 로 다음 cursor 를 만드는지
+ * - 형식이 잘못된 cursor 나 목록에 없는 정렬 기준은 조회 전에 거절되는지
+ */
+@ExtendWith(MockitoExtension.class)
+public class AdminSearchTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Mock
+    AdminSearchRepository adminSearchRepository;
+
+    @InjectMocks
+    AdminServiceImpl adminService;
+
+    @Test
+    void countSortCursorContinuesFromLastValueAndId() {
+        AdminSearchDto condition = condition(AdminSort.MOST_VIEWED, null);
+        when(adminSearchRepository.searchPosts(condition, PAGE_SIZE)).thenReturn(List.of(post(5L, 9L), post(4L, 5L), post(2L, 5L)));
+
+        AdminSliceDto<AdminPostSummaryDto> slice = adminService.searchPosts(condition);
+
+        assertThat(slice.getContent()).extracting(AdminPostSummaryDto::getPostId).containsExactly(5L, 4L);
+        assertThat(slice.isHasNext()).isTrue();
+        // 같은 조회수(5) 인 2번 게시글은 다음 페이지에서 id 로 이어짐
+        assertThat(slice.getNextCursor()).isEqualTo("5_4");
+    }
+
+    @Test
+    void lastSliceHasNoCursor() {
+        AdminSearchDto condition = condition(AdminSort.LATEST, "3");
+        when(adminSearchRepository.searchPosts(condition, PAGE_SIZE)).thenReturn(List.of(post(2L, 0L), post(1L, 0L)));
+
+        AdminSliceDto<AdminPostSummaryDto> slice = adminService.searchPosts(condition);
+
+        assertThat(slice.isHasNext()).isFalse();
+        assertThat(slice.getNextCursor()).isNull();
+    }
+
+    @Test
+    void malformedCursorAndUnsupportedSortAreRejected() {
+        JPAQueryFactory queryFactory = mock(JPAQueryFactory.class);
+        JPAQuery<?> query = mock(JPAQuery.class, RETURNS_SELF);
+        when(queryFactory.select(any(Expression.class))).thenAnswer(invocation -> query);
+
+        AdminSearchRepository repository = new AdminSearchRepository(queryFactory);
+
+        assertThatThrownBy(() -> repository.searchPosts(condition(AdminSort.MOST_VIEWED, "not-a-cursor"), PAGE_SIZE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ResponseStatus.FAIL_ADMIN_CURSOR_INVALID.getMessage());
+        // 집계 정렬 cursor 에 id 만 전달
+        assertThatThrownBy(() -> repository.searchPosts(condition(AdminSort.MOST_VIEWED, "12"), PAGE_SIZE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ResponseStatus.FAIL_ADMIN_CURSOR_INVALID.getMessage());
+        // 댓글 목록에는 조회수가 없음
+        assertThatThrownBy(() -> repository.searchReplies(condition(AdminSort.MOST_VIEWED, null), PAGE_SIZE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ResponseStatus.FAIL_ADMIN_SORT_NOT_SUPPORTED.getMessage());
+    }
+
+    private static AdminPostSummaryDto post(Long postId, Long viewCnt) {
+        return AdminPostSummaryDto.builder()
+                .postId(postId)
+                .viewCnt(viewCnt)
+                .likeCnt(0L)
+                .build();
+    }
+
+    private static AdminSearchDto condition(AdminSort sort, String cursor) {
+        return AdminSearchDto.builder()
+                .sort(sort)
+                .cursor(cursor)
+                .size(PAGE_SIZE)
+                .build();
+    }
+
+}
@@ -0,0 +1,117 @@
+package kr.co.imguru.admin;
+
+import kr.co.imguru.domain.admin.dto.AdminModerationItemDto;
+import kr.co.imguru.domain.admin.service.ReportModerationQueue;
+import kr.co.imguru.domain.report.repository.ReportPostSearchRepository;
+import kr.co.imguru.domain.report.repository.ReportReplySearchRepository;
+import kr.co.imguru.domain.report.service.ReportClosedEvent;
+import kr.co.imguru.domain.report.service.ReportOpenedEvent;
+import kr.co.imguru.global.common.ReportCategory;
+import kr.co.imguru.global.common.ReportTarget;
+import kr.co.imguru.global.exception.IllegalArgumentException;
+import kr.co.imguru.global.model.ResponseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 신고 처리 대기열 정렬/갱신 (DB 없이 이벤트만으로 확인)
+ * - 점수 내림차순, 점수가 같으면 먼저 신고된 대상이 앞에 오는지
+ * - 신고 접수/처리 이벤트가 해당 대상의 순서만 바꾸는지
+ * - cursor 로 이어 조회하면 빠지거나 겹치는 항목이 없고, 형식이 잘못된 cursor 는 거절되는지
+ */
+public class ReportModerationQueueTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private ReportModerationQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new ReportModerationQueue(mock(ReportPostSearchRepository.class), mock(ReportReplySearchRepository.class));
+    }
+
+    @Test
+    void higherScoreFirstThenEarlierReport() {
+        queue.onOpened(opened(ReportTarget.POST, 1L, 10L, ReportCategory.ADVERTISEMENT, 0));
+        queue.onOpened(opened(ReportTarget.REPLY, 2L, 10L, ReportCategory.PORNOGRAPHY, 1));
+        queue.onOpened(opened(ReportTarget.POST, 3L, 11L, ReportCategory.PORNOGRAPHY, 2));
+
+        assertThat(targets(queue.page(null, 10))).containsExactly("REPLY_2", "POST_3", "POST_1");
+
+        // 1번 게시글이 추가 신고로 점수 4 가 되어 맨 앞으로
+        queue.onOpened(opened(ReportTarget.POST, 1L, 12L, ReportCategory.PORNOGRAPHY, 3));
+
+        AdminModerationItemDto first = queue.peek();
+
+        assertThat(first.getTargetId()).isEqualTo(1L);
+        assertThat(first.getScore()).isEqualTo(4);
+        assertThat(first.getReportCount()).isEqualTo(2);
+        assertThat(first.getReporterCount()).isEqualTo(2);
+        assertThat(first.getFirstReportedAt()).isEqualTo(BASE);
+        assertThat(first.getLastReportedAt()).isEqualTo(BASE.plusMinutes(3));
+    }
+
+    @Test
+    void closedReportsLowerOrRemoveTarget() {
+        queue.onOpened(opened(ReportTarget.POST, 1L, 10L, ReportCategory.PORNOGRAPHY, 0));
+        queue.onOpened(opened(ReportTarget.POST, 1L, 11L, ReportCategory.ABUSE, 1));
+        queue.onOpened(opened(ReportTarget.POST, 2L, 10L, ReportCategory.PORNOGRAPHY, 2));
+
+        // 신고 1건 처리 : 점수 5 -> 2
+        queue.onClosed(new ReportClosedEvent(ReportTarget.POST, 1L, 10L, ReportCategory.PORNOGRAPHY));
+
+        assertThat(targets(queue.page(null, 10))).containsExactly("POST_2", "POST_1");
+
+        // 대상 전체 처리
+        queue.onClosed(new ReportClosedEvent(ReportTarget.POST, 2L, null, null));
+
+        assertThat(targets(queue.page(null, 10))).containsExactly("POST_1");
+        assertThat(queue.size()).isEqualTo(1);
+    }
+
+    @Test
+    void cursorPagesCoverEveryTargetOnce() {
+        for (long id = 1; id <= 7; id++) {
+            queue.onOpened(opened(ReportTarget.POST, id, 10L, id % 2 == 0 ? ReportCategory.ABUSE : ReportCategory.SPAMMER, (int) id));
+        }
+
+        List<String> all = new ArrayList<>();
+        String cursor = null;
+
+        while (true) {
+            List<AdminModerationItemDto> page = queue.page(cursor, 3);
+
+            // 다음 페이지 여부 판단용으로 한 건 더 반환
+            List<AdminModerationItemDto> content = page.subList(0, Math.min(3, page.size()));
+            all.addAll(targets(content));
+
+            if (page.size() <= 3) {
+                break;
+            }
+            cursor = ReportModerationQueue.toCursor(content.get(content.size() - 1));
+        }
+
+        assertThat(all).containsExactly("POST_2", "POST_4", "POST_6", "POST_1", "POST_3", "POST_5", "POST_7");
+
+        assertThatThrownBy(() -> queue.page("broken", 3))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ResponseStatus.FAIL_ADMIN_CURSOR_INVALID.getMessage());
+    }
+
+    private static ReportOpenedEvent opened(ReportTarget target, Long targetId, Long memberId, ReportCategory category, int minutes) {
+        return new ReportOpenedEvent(target, targetId, memberId, category, BASE.plusMinutes(minutes));
+    }
+
+    private static List<String> targets(List<AdminModerationItemDto> items) {
+        return items.stream().map(item -> item.getTarget() + "_" + item.getTargetId()).toList();
+    }
+
+}
@@ -0,0 +1,384 @@
+package kr.co.imguru.dummy;
+
+import kr.co.imguru.global.common.Gender;
+import kr.co.imguru.global.common.PostCategory;
+import kr.co.imguru.global.common.Role;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 성능 테스트용 대량 데이터 생성 (회원 / 도사 정보 / 게시글 / 댓글 / 게시글 좋아요 / 메시지)
+ * - 서비스 / JPA 를 거치지 않고 JDBC batch 로 직접 insert, 테이블 안에서는 batch 단위로 병렬 실행 (FK 순서대로 테이블별 진행)
+ * - 모든 값은 (seed, 행 번호) 로만 정해지므로 스레드 수 / batch 크기와 무관하게 같은 데이터가 만들어진다.
+ *   id 는 실행 시점의 테이블 최대 id 다음부터 부여 (빈 DB 에서 같은 설정으로 만들면 id 까지 동일)
+ * - 분포
+ *   · 게시글 작성자, 댓글 작성자, 메시지 발신/수신자 : 회원 멱법칙 (활동 회원 편중)
+ *   · 게시글별 댓글 수 / 좋아요 수 : 게시글 멱법칙 (인기 게시글 편중), like_cnt / view_cnt 도 이에 맞춘다.
+ *   · 좋아요는 게시글마다 서로 다른 회원 (게시글당 최대 회원 수)
+ * - ROLE_GURU 회원마다 도사 정보 1건 (활동 지역은 회원 주소의 시/도 + 시/군/구)
+ * - 비밀번호는 모두 같은 값 (BulkDataGeneratorTest.PASSWORD)
+ */
+public class BulkDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkDataGenerator.class);
+
+    private static final String USER_SKILL = "이용자";
+
+    private static final int GURU_SKILLS = 10;
+
+    private static final long MAX_REPLY_DELAY_SECONDS = 7L * 24 * 60 * 60;
+
+    // 분포 / 행별 난수 구분용 stream 번호
+    private static final long MEMBER = 1, POST = 2, REPLY = 3, LIKE = 4, MESSAGE = 5, GURU = 6,
+            AUTHOR = 11, REPLIER = 12, SENDER = 13, RECEIVER = 14, LIKER = 15;
+
+    private static final String MEMBER_SQL = "INSERT INTO member (member_id, email, password, name, nickname, telephone, job, " +
+            "zone_code, road_address, detail_address, birth_date, member_gender, member_role, skill_id, reg_date, mod_date, is_delete) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String GURU_INFO_SQL = "INSERT INTO guru_info (guru_id, member_id, intro, company_name, position, career_at, " +
+            "contact_time, work_area, description, reg_date, mod_date, is_delete) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String POST_SQL = "INSERT INTO post (post_id, member_id, post_category, title, content, is_guru, price, " +
+            "like_cnt, view_cnt, report_cnt, report_score, reg_date, mod_date, is_delete) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?, 0)";
+
+    private static final String REPLY_SQL = "INSERT INTO reply (reply_id, member_id, post_id, content, like_cnt, report_cnt, report_score, " +
+            "reg_date, mod_date, is_delete) VALUES (?, ?, ?, ?, 0, 0, 0, ?, ?, 0)";
+
+    private static final String LIKE_SQL = "INSERT INTO like_post (like_post_id, member_id, post_id, reg_date, mod_date, is_delete) " +
+            "VALUES (?, ?, ?, ?, ?, 0)";
+
+    private static final String MESSAGE_SQL = "INSERT INTO message (message_id, sender, receiver, content, del_by_sender, del_by_receiver, " +
+            "reg_date, mod_date, is_delete) VALUES (?, ?, ?, ?, 0, 0, ?, ?, 0)";
+
+    private static final String[][] ADDRESSES = {
+            {"06236", "서울특별시 강남구 테헤란로 152"},
+            {"04524", "서울특별시 중구 세종대로 110"},
+            {"13529", "경기도 성남시 분당구 판교역로 166"},
+            {"16514", "경기도 수원시 팔달구 효원로 241"},
+            {"48058", "부산광역시 해운대구 센텀중앙로 79"},
+            {"41911", "대구광역시 중구 공평로 88"},
+            {"21554", "인천광역시 남동구 정각로 29"},
+            {"61945", "광주광역시 서구 내방로 111"},
+            {"35242", "대전광역시 서구 둔산로 100"},
+            {"63122", "제주특별자치도 제주시 문연로 6"}
+    };
+
+    private static final String[] POSITIONS = {"사원", "대리", "과장", "차장", "부장", "대표"};
+
+    private static final String[] CONTACT_TIMES = {"평일 09:00 ~ 18:00", "평일 저녁", "주말", "상시"};
+
+    private static final String[] TITLES = {"질문 있습니다", "도와주세요", "정보 공유합니다", "후기 남깁니다", "추천 부탁드려요", "견적 문의"};
+
+    private static final String[] SENTENCES = {
+            "지연 로딩과 fetch join 차이가 궁금합니다.",
+            "인테리어 견적이 적당한지 봐주실 수 있을까요?",
+            "번역 작업 일정은 보통 얼마나 걸리나요?",
+            "계약서 검토를 받고 싶습니다.",
+            "좋은 정보 감사합니다.",
+            "저도 같은 문제가 있었는데 이렇게 해결했어요.",
+            "자세한 설명 부탁드립니다.",
+            "다음 주에 시간 괜찮으신가요?"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final BulkDataSettings settings;
+
+    private final String passwordHash;
+
+    private final LocalDateTime baseTime;
+
+    private final long rangeSeconds;
+
+    public BulkDataGenerator(JdbcTemplate jdbcTemplate, BulkDataSettings settings, String passwordHash) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = settings;
+        this.passwordHash = passwordHash;
+        this.baseTime = settings.baseDate().atStartOfDay();
+        this.rangeSeconds = Math.max(1L, settings.days() * 24L * 60 * 60);
+    }
+
+    public void generate() {
+        long startedAt = System.currentTimeMillis();
+        int members = settings.members();
+        int posts = settings.posts();
+
+        long memberBase = nextId("member", "member_id");
+        long postBase = nextId("post", "post_id");
+        long replyBase = nextId("reply", "reply_id");
+        long guruBase = nextId("guru_info", "guru_id");
+        long likeBase = nextId("like_post", "like_post_id");
+        long messageBase = nextId("message", "message_id");
+
+        long userSkillId = skillId(USER_SKILL);
+        long[] guruSkillIds = new long[GURU_SKILLS];
+        for (int i = 0; i < GURU_SKILLS; i++) {
+            guruSkillIds[i] = skillId("perf-skill-" + i);
+        }
+
+        // 회원별 도사 여부 (게시글 is_guru / price, 도사 정보에 사용)와 주소
+        boolean[] gurus = new boolean[members];
+        byte[] addresses = new byte[members];
+        int guruCount = 0;
+        for (int i = 0; i < members; i++) {
+            SplittableRandom random = rowRandom(MEMBER, i);
+            gurus[i] = random.nextDouble() < settings.guruRatio();
+            addresses[i] = (byte) random.nextInt(ADDRESSES.length);
+            guruCount += gurus[i] ? 1 : 0;
+        }
+
+        // 도사 정보 행 번호 -> 회원 번호
+        int[] guruMembers = new int[guruCount];
+        for (int i = 0, n = 0; i < members; i++) {
+            if (gurus[i]) {
+                guruMembers[n++] = i;
+            }
+        }
+
+        PowerLaw authors = new PowerLaw(members, settings.skew(), mix(AUTHOR, 0));
+        PowerLaw repliers = new PowerLaw(members, settings.skew(), mix(REPLIER, 0));
+        PowerLaw senders = new PowerLaw(members, settings.skew(), mix(SENDER, 0));
+        PowerLaw receivers = new PowerLaw(members, settings.skew(), mix(RECEIVER, 0));
+
+        int[] replyCounts = new PowerLaw(posts, settings.skew(), mix(REPLY, 0)).allot(settings.replies(), Integer.MAX_VALUE);
+        int[] likeCounts = new PowerLaw(posts, settings.skew(), mix(LIKE, 0)).allot(settings.likes(), members);
+        long[] replyOffsets = prefixSum(replyCounts);
+        long[] likeOffsets = prefixSum(likeCounts);
+        int likerStride = PowerLaw.coprimeStride(members, new SplittableRandom(mix(LIKER, 0)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.threads());
+
+        try {
+            insert(executor, "member", MEMBER_SQL, members, (index, random) -> {
+                long id = memberBase + index;
+                String[] address = ADDRESSES[addresses[(int) index]];
+                boolean guru = gurus[(int) index];
+
+                return new Object[]{id, "perf" + id + "@imguru.test", passwordHash, "성능" + id, "perf" + id,
+                        String.format("010%08d", id % 100_000_000L), guru ? "프리랜서" : "회사원", address[0], address[1],
+                        (index % 20 + 1) + "층", LocalDate.of(1960 + random.nextInt(45), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                        random.nextBoolean() ? Gender.MALE.name() : Gender.FEMALE.name(),
+                        guru ? Role.ROLE_GURU.name() : Role.ROLE_USER.name(),
+                        guru ? guruSkillIds[random.nextInt(GURU_SKILLS)] : userSkillId,
+                        timestamp(MEMBER, index), timestamp(MEMBER, index)};
+            });
+
+            insert(executor, "guru_info", GURU_INFO_SQL, guruMembers.length, (index, random) -> {
+                int member = guruMembers[(int) index];
+                String[] address = ADDRESSES[addresses[member]].split(" ");
+                int years = 1 + random.nextInt(20);
+
+                return new Object[]{guruBase + index, memberBase + member, sentences(random, 2), "perf company " + (member % 100),
+                        POSITIONS[random.nextInt(POSITIONS.length)], "경력 " + years + "년", CONTACT_TIMES[random.nextInt(CONTACT_TIMES.length)],
+                        address[0] + " " + address[1], sentences(random, 3), timestamp(GURU, index), timestamp(GURU, index)};
+            });
+
+            PostCategory[] categories = PostCategory.values();
+
+            insert(executor, "post", POST_SQL, posts, (index, random) -> {
+                int author = authors.sample(random);
+                boolean guru = gurus[author];
+                int replies = replyCounts[(int) index];
+                int likes = likeCounts[(int) index];
+
+                return new Object[]{postBase + index, memberBase + author, categories[random.nextInt(categories.length)].name(),
+                        TITLES[random.nextInt(TITLES.length)] + " " + index, sentences(random, 3 + random.nextInt(8)), guru,
+                        guru ? String.valueOf((1 + random.nextInt(50)) * 10_000) : null,
+                        (long) likes, likes * 10L + replies * 3L + random.nextInt(50),
+                        timestamp(POST, index), timestamp(POST, index)};
+            });
+
+            insert(executor, "reply", REPLY_SQL, replyOffsets[posts], (index, random) -> {
+                int post = ownerOf(replyOffsets, index);
+                Timestamp regDate = after(timestamp(POST, post), random);
+
+                return new Object[]{replyBase + index, memberBase + repliers.sample(random), postBase + post,
+                        sentences(random, 1 + random.nextInt(2)), regDate, regDate};
+            });
+
+            insert(executor, "like_post", LIKE_SQL, likeOffsets[posts], (index, random) -> {
+                int post = ownerOf(likeOffsets, index);
+                long nth = index - likeOffsets[post];
+                // 게시글마다 시작 회원만 다르게 하고 같은 보폭으로 걸어가므로 한 게시글 안에서 회원이 겹치지 않음
+                long start = Math.floorMod(mix(LIKER, post), (long) members);
+                Timestamp regDate = after(timestamp(POST, post), random);
+
+                return new Object[]{likeBase + index, memberBase + (start + nth * likerStride) % members, postBase + post,
+                        regDate, regDate};
+            });
+
+            insert(executor, "message", MESSAGE_SQL, settings.messages(), (index, random) -> {
+                int sender = senders.sample(random);
+                int receiver = receivers.sample(random);
+
+                if (receiver == sender) {
+                    receiver = (receiver + 1) % members;
+                }
+
+                return new Object[]{messageBase + index, memberBase + sender, memberBase + receiver,
+                        sentences(random, 1), timestamp(MESSAGE, index), timestamp(MESSAGE, index)};
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("[BulkDataGenerator] members={}, gurus={}, posts={}, replies={}, likes={}, messages={} in {} ms (seed={})",
+                members, guruMembers.length, posts, replyOffsets[posts], likeOffsets[posts], settings.messages(),
+                System.currentTimeMillis() - startedAt, settings.seed());
+    }
+
+    /**
+     * 0 ~ total-1 행을 batch-size 단위로 나눠 병렬 insert (batch 하나 = JDBC batch 한 번)
+     * 행 값은 (stream, 행 번호) 로 만든 난수로만 정해진다.
+     */
+    private void insert(ExecutorService executor, String table, String sql, long total, RowMapper mapper) {
+        long startedAt = System.currentTimeMillis();
+        long stream = table.hashCode();
+        int batchSize = settings.batchSize();
+        AtomicLong inserted = new AtomicLong();
+        long logEvery = Math.max(total / 10, batchSize);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (long from = 0; from < total; from += batchSize) {
+            long start = from;
+            long end = Math.min(total, from + batchSize);
+
+            futures.add(executor.submit(() -> {
+                List<Object[]> rows = new ArrayList<>((int) (end - start));
+
+                for (long index = start; index < end; index++) {
+                    rows.add(mapper.row(index, rowRandom(stream, index)));
+                }
+
+                jdbcTemplate.batchUpdate(sql, rows);
+
+                long done = inserted.addAndGet(rows.size());
+                if (done / logEvery != (done - rows.size()) / logEvery) {
+                    log.info("[BulkDataGenerator] {} {}/{}", table, done, total);
+                }
+            }));
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(table + " insert interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException(table + " insert failed", e.getCause());
+        }
+
+        log.info("[BulkDataGenerator] {} {} rows in {} ms", table, total, System.currentTimeMillis() - startedAt);
+    }
+
+    private long nextId(String table, String idColumn) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+
+        return max == null ? 1 : max + 1;
+    }
+
+    // 스킬 조회, 없으면 생성
+    private long skillId(String name) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT skill_id FROM skill WHERE name = ? AND is_delete = 0", Long.class, name);
+
+        if (!ids.isEmpty()) {
+            return ids.get(0);
+        }
+
+        Timestamp now = Timestamp.valueOf(baseTime);
+        jdbcTemplate.update("INSERT INTO skill (name, reg_date, mod_date, is_delete) VALUES (?, ?, ?, 0)", name, now, now);
+
+        return jdbcTemplate.queryForObject("SELECT MAX(skill_id) FROM skill WHERE name = ?", Long.class, name);
+    }
+
+    // 기준일 이전 days 일 안의 작성 시각 (행 번호로 고정)
+    private Timestamp timestamp(long stream, long index) {
+        return Timestamp.valueOf(baseTime.minusSeconds(Math.floorMod(mix(stream, index), rangeSeconds)));
+    }
+
+    // 게시글 작성 이후 최대 7일 (기준일을 넘지 않음)
+    private Timestamp after(Timestamp postDate, SplittableRandom random) {
+        LocalDateTime time = postDate.toLocalDateTime().plusSeconds(random.nextLong(MAX_REPLY_DELAY_SECONDS));
+
+        return Timestamp.valueOf(time.isAfter(baseTime) ? baseTime : time);
+    }
+
+    private static String sentences(SplittableRandom random, int count) {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(SENTENCES[random.nextInt(SENTENCES.length)]);
+        }
+
+        return builder.toString();
+    }
+
+    private static long[] prefixSum(int[] counts) {
+        long[] offsets = new long[counts.length + 1];
+
+        for (int i = 0; i < counts.length; i++) {
+            offsets[i + 1] = offsets[i] + counts[i];
+        }
+
+        return offsets;
+    }
+
+    // 전체 행 번호 -> 소속 게시글 (offsets[post] <= index < offsets[post + 1])
+    private static int ownerOf(long[] offsets, long index) {
+        int low = 0;
+        int high = offsets.length - 2;
+
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+
+            if (offsets[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return low;
+    }
+
+    private SplittableRandom rowRandom(long stream, long index) {
+        return new SplittableRandom(mix(stream, index));
+    }
+
+    // SplitMix64 (seed, stream, 행 번호 -> 64bit 값)
+    private long mix(long stream, long index) {
+        long z = settings.seed() + stream * 0x9E3779B97F4A7C15L + index * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+        return z ^ (z >>> 31);
+    }
+
+    @FunctionalInterface
+    private interface RowMapper {
+
+        Object[] row(long index, SplittableRandom random);
+    }
+
+}
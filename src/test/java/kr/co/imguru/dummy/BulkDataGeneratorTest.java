@@ -0,0 +1,51 @@
+package kr.co.imguru.dummy;
+
+import kr.co.imguru.domain.admin.service.AdminMetricStore;
+import kr.co.imguru.domain.guru.service.GuruRegionIndex;
+import kr.co.imguru.support.LocalOnlyContextInitializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * 성능 테스트용 대량 데이터 생성 (일반 test 에서는 제외, ./gradlew generateData 로 실행)
+ * 규모 / 분포 / seed 설정은 BulkDataSettings 참고
+ * local 프로필(generateData 기본값) + 로컬 DB(H2, localhost) 에서만 기동 (LocalOnlyContextInitializer)
+ *
+ * ./gradlew generateData -Ddatagen.members=50000 -Ddatagen.posts=500000 -Ddatagen.seed=7
+ */
+@Tag("datagen")
+@SpringBootTest
+@ContextConfiguration(initializers = LocalOnlyContextInitializer.class)
+public class BulkDataGeneratorTest {
+
+    // 생성된 회원 공통 비밀번호 (로그인 : perf{memberId}@imguru.test)
+    static final String PASSWORD = "perf-password";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @Autowired
+    AdminMetricStore adminMetricStore;
+
+    @Autowired
+    GuruRegionIndex guruRegionIndex;
+
+    @Test
+    void generate() {
+        new BulkDataGenerator(jdbcTemplate, BulkDataSettings.fromSystemProperties(), passwordEncoder.encode(PASSWORD))
+                .generate();
+
+        // JDBC 로 직접 넣었으므로 메모리 집계 / 색인은 다시 계산
+        adminMetricStore.recompute();
+        guruRegionIndex.rebuild();
+    }
+
+}
@@ -0,0 +1,42 @@
+package kr.co.imguru.dummy;
+
+import java.time.LocalDate;
+
+/**
+ * 대량 데이터 생성 설정 (시스템 프로퍼티 datagen.*)
+ *
+ * <pre>
+ * datagen.members        회원 수 (기본 10,000)
+ * datagen.guru-ratio     도사 비율 (기본 0.1)
+ * datagen.posts          게시글 수 (기본 100,000)
+ * datagen.replies        댓글 수 (기본 1,000,000)
+ * datagen.likes          게시글 좋아요 수 (기본 1,000,000, 게시글당 최대 회원 수)
+ * datagen.messages       메시지 수 (기본 200,000)
+ * datagen.skew           멱법칙 지수 (기본 1.1, 클수록 인기 게시글 / 활동 회원에 몰림)
+ * datagen.seed           난수 seed (기본 42, 같은 seed + 같은 설정 = 같은 데이터)
+ * datagen.days           작성일 분포 기간 (기본 365, base-date 이전 일수)
+ * datagen.base-date      작성일 기준일 (기본 2024-01-01, 실행 시각과 무관하게 고정)
+ * datagen.threads        병렬 insert 스레드 수 (기본 CPU 수)
+ * datagen.batch-size     JDBC batch 크기 (기본 1,000)
+ * </pre>
+ */
+public record BulkDataSettings(int members, double guruRatio, int posts, long replies, long likes, long messages,
+                               double skew, long seed, int days, LocalDate baseDate, int threads, int batchSize) {
+
+    public static BulkDataSettings fromSystemProperties() {
+        return new BulkDataSettings(
+                Integer.getInteger("datagen.members", 10_000),
+                Double.parseDouble(System.getProperty("datagen.guru-ratio", "0.1")),
+                Integer.getInteger("datagen.posts", 100_000),
+                Long.getLong("datagen.replies", 1_000_000L),
+                Long.getLong("datagen.likes", 1_000_000L),
+                Long.getLong("datagen.messages", 200_000L),
+                Double.parseDouble(System.getProperty("datagen.skew", "1.1")),
+                Long.getLong("datagen.seed", 42L),
+                Integer.getInteger("datagen.days", 365),
+                LocalDate.parse(System.getProperty("datagen.base-date", "2024-01-01")),
+                Integer.getInteger("datagen.threads", Runtime.getRuntime().availableProcessors()),
+                Integer.getInteger("datagen.batch-size", 1_000));
+    }
+
+}
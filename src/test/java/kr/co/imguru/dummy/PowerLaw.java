@@ -0,0 +1,108 @@
+package kr.co.imguru.dummy;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 멱법칙(Zipf) 분포 - 순위 r 의 가중치 1 / (r + 1)^skew
+ * 순위는 index 에 그대로 대응시키지 않고 stride 순열로 섞어, 인기 항목이 id 앞쪽에 몰리지 않게 한다.
+ */
+public class PowerLaw {
+
+    private final int size;
+
+    private final int stride;
+
+    private final int offset;
+
+    // 순위별 누적 확률
+    private final double[] cdf;
+
+    public PowerLaw(int size, double skew, long seed) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive : " + size);
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+
+        this.size = size;
+        this.stride = coprimeStride(size, random);
+        this.offset = random.nextInt(size);
+        this.cdf = new double[size];
+
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += weight(rank, skew);
+            cdf[rank] = sum;
+        }
+
+        for (int rank = 0; rank < size; rank++) {
+            cdf[rank] /= sum;
+        }
+    }
+
+    /**
+     * 분포에 따라 index(0 ~ size-1) 하나 선택
+     */
+    public int sample(SplittableRandom random) {
+        int rank = Arrays.binarySearch(cdf, random.nextDouble());
+
+        return toIndex(rank < 0 ? Math.min(-rank - 1, size - 1) : rank);
+    }
+
+    /**
+     * 전체 total 개를 분포 비율대로 index 별로 나눈 개수 (index 당 최대 cap)
+     * 나머지는 상위 순위부터 하나씩 더하므로 cap 에 걸리지 않으면 합계는 정확히 total
+     */
+    public int[] allot(long total, int cap) {
+        int[] counts = new int[size];
+        long allotted = 0;
+        double previous = 0;
+
+        for (int rank = 0; rank < size; rank++) {
+            int count = (int) Math.min(cap, (long) (total * (cdf[rank] - previous)));
+            counts[toIndex(rank)] = count;
+            allotted += count;
+            previous = cdf[rank];
+        }
+
+        for (int rank = 0; rank < size && allotted < total; rank++) {
+            int index = toIndex(rank);
+
+            if (counts[index] < cap) {
+                counts[index]++;
+                allotted++;
+            }
+        }
+
+        return counts;
+    }
+
+    private int toIndex(int rank) {
+        return (int) ((offset + (long) rank * stride) % size);
+    }
+
+    private static double weight(int rank, double skew) {
+        return 1.0 / Math.pow(rank + 1, skew);
+    }
+
+    // size 와 서로소인 보폭 (순열이 되도록)
+    static int coprimeStride(int size, SplittableRandom random) {
+        if (size == 1) {
+            return 1;
+        }
+
+        while (true) {
+            int candidate = 1 + random.nextInt(size - 1);
+
+            if (gcd(candidate, size) == 1) {
+                return candidate;
+            }
+        }
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+}
@@ -0,0 +1,122 @@
+package kr.co.imguru.file;
+
+import kr.co.imguru.domain.file.entity.FileBlob;
+import kr.co.imguru.domain.file.repository.FileBlobRepository;
+import kr.co.imguru.domain.file.service.FileBlobServiceImpl;
+import kr.co.imguru.domain.file.service.LocalFileStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 내용 주소 원본 파일 정리 (DB 없이 임시 디렉터리로 확인)
+ * - 등록 트랜잭션이 롤백되면 새로 배치한 원본 파일이 남지 않는지
+ * - 수집 시 조건부 삭제된(참조 0 이 유지된) 원본 파일만 지우는지
+ */
+public class FileBlobServiceTest {
+
+    private static final String SHA256 = "a".repeat(64);
+
+    @TempDir
+    Path root;
+
+    private FileBlobRepository fileBlobRepository;
+
+    private LocalFileStore localFileStore;
+
+    private FileBlobServiceImpl fileBlobService;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        fileBlobRepository = mock(FileBlobRepository.class);
+        localFileStore = new LocalFileStore(root.toString(), "");
+        fileBlobService = new FileBlobServiceImpl(fileBlobRepository, localFileStore, new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(fileBlobService, "gcBatchSize", 100);
+    }
+
+    @Test
+    void rolledBackAcquireRemovesPlacedBlob() throws Exception {
+        String storedName = localFileStore.blobName(SHA256, "png");
+        FileBlob fileBlob = fileBlob(1L, storedName);
+        when(fileBlobRepository.findBySha256(SHA256)).thenReturn(Optional.of(fileBlob));
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            fileBlobService.acquire(stage());
+
+            assertThat(localFileStore.existsBlob(storedName)).isTrue();
+
+            // 롤백되어 원본 행이 남지 않은 경우
+            when(fileBlobRepository.findForUpdateBySha256(SHA256)).thenReturn(Optional.empty());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(localFileStore.existsBlob(storedName)).isFalse();
+    }
+
+    @Test
+    void garbageIsDeletedOnlyWhenStillUnreferenced() throws Exception {
+        String collected = "b".repeat(64) + ".png";
+        String reacquired = "c".repeat(64) + ".png";
+        place(collected);
+        place(reacquired);
+
+        when(fileBlobRepository.findGarbage(any(), any())).thenReturn(List.of(fileBlob(1L, collected), fileBlob(2L, reacquired)));
+        when(fileBlobRepository.deleteIfUnreferenced(1L)).thenReturn(1);
+        // 수집 직전에 같은 내용이 다시 업로드되어 조건부 삭제가 0 건
+        when(fileBlobRepository.deleteIfUnreferenced(2L)).thenReturn(0);
+
+        assertThat(fileBlobService.collectGarbage()).isEqualTo(1);
+        assertThat(localFileStore.existsBlob(collected)).isFalse();
+        assertThat(localFileStore.existsBlob(reacquired)).isTrue();
+    }
+
+    private LocalFileStore.StagedFile stage() throws Exception {
+        byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+        Path temp = localFileStore.tempPath(SHA256 + ".part");
+        Files.write(temp, content);
+
+        return new LocalFileStore.StagedFile(temp, SHA256, "png", content.length);
+    }
+
+    private void place(String storedName) throws Exception {
+        Path blob = root.resolve(LocalFileStore.BLOB_CATEGORY).resolve(storedName);
+
+        Files.createDirectories(blob.getParent());
+        Files.write(blob, new byte[]{1});
+    }
+
+    private static FileBlob fileBlob(Long id, String storedName) {
+        FileBlob fileBlob = mock(FileBlob.class);
+        when(fileBlob.getId()).thenReturn(id);
+        when(fileBlob.getSha256()).thenReturn(storedName.substring(0, 64));
+        when(fileBlob.getStoredName()).thenReturn(storedName);
+
+        return fileBlob;
+    }
+
+}
@@ -0,0 +1,201 @@
+package kr.co.imguru.file;
+
+import kr.co.imguru.domain.file.dto.FileUploadCreateDto;
+import kr.co.imguru.domain.file.dto.FileUploadSessionDto;
+import kr.co.imguru.domain.file.entity.FileUploadSession;
+import kr.co.imguru.domain.file.repository.FileUploadSessionRepository;
+import kr.co.imguru.domain.file.service.FileBlobService;
+import kr.co.imguru.domain.file.service.FileService;
+import kr.co.imguru.domain.file.service.FileUploadServiceImpl;
+import kr.co.imguru.domain.file.service.LocalFileStore;
+import kr.co.imguru.domain.member.entity.Member;
+import kr.co.imguru.domain.member.repository.MemberRepository;
+import kr.co.imguru.domain.post.entity.Post;
+import kr.co.imguru.domain.post.repository.PostRepository;
+import kr.co.imguru.domain.reply.repository.ReplyRepository;
+import kr.co.imguru.domain.review.repository.ReviewRepository;
+import kr.co.imguru.global.common.Role;
+import kr.co.imguru.global.common.UploadStatus;
+import kr.co.imguru.global.exception.ForbiddenException;
+import kr.co.imguru.global.exception.IllegalArgumentException;
+import kr.co.imguru.global.model.ResponseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 분할 업로드 (DB 없이 임시 디렉터리로 확인)
+ * - 다른 회원의 대상(fileKey)이나 다른 회원이 시작한 업로드에는 기록할 수 없는지
+ * - 위치가 어긋난 요청과 확장자와 다른 내용은 거절되는지
+ */
+public class FileUploadServiceTest {
+
+    private static final String UPLOAD_ID = "upload1";
+
+    @TempDir
+    Path root;
+
+    private FileUploadSessionRepository fileUploadSessionRepository;
+
+    private MemberRepository memberRepository;
+
+    private PostRepository postRepository;
+
+    private LocalFileStore localFileStore;
+
+    private FileUploadServiceImpl fileUploadService;
+
+    private Member user;
+
+    private Member other;
+
+    @BeforeEach
+    void setUp() {
+        fileUploadSessionRepository = mock(FileUploadSessionRepository.class);
+        memberRepository = mock(MemberRepository.class);
+        postRepository = mock(PostRepository.class);
+        localFileStore = new LocalFileStore(root.toString(), "");
+
+        fileUploadService = new FileUploadServiceImpl(fileUploadSessionRepository, mock(FileService.class), mock(FileBlobService.class),
+                localFileStore, mock(TransactionTemplate.class), memberRepository, postRepository,
+                mock(ReplyRepository.class), mock(ReviewRepository.class));
+
+        ReflectionTestUtils.setField(fileUploadService, "maxFileSize", 1024L);
+        ReflectionTestUtils.setField(fileUploadService, "maxTempBytes", 4096L);
+        ReflectionTestUtils.setField(fileUploadService, "expireMinutes", 60L);
+        ReflectionTestUtils.setField(fileUploadService, "chunkPermits", new Semaphore(1));
+
+        user = member(1L, Role.ROLE_USER);
+        other = member(2L, Role.ROLE_USER);
+    }
+
+    @Test
+    void createUploadRecordsOwner() {
+        FileUploadSessionDto created = fileUploadService.createUpload(user.getEmail(), createDto("member", user.getId()));
+
+        assertThat(created.getStatus()).isEqualTo(UploadStatus.UPLOADING.name());
+        assertThat(created.getOffset()).isZero();
+
+        ArgumentCaptor<FileUploadSession> saved = ArgumentCaptor.forClass(FileUploadSession.class);
+        verify(fileUploadSessionRepository).save(saved.capture());
+
+        assertThat(saved.getValue().getOwnerMemberId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    void uploadToOtherMembersTargetIsRejected() {
+        Post post = Post.builder().member(other).build();
+        when(postRepository.findByIdAndIsDeleteFalse(10L)).thenReturn(Optional.of(post));
+
+        // 다른 회원의 프로필 이미지 / 게시글
+        assertThatThrownBy(() -> fileUploadService.createUpload(user.getEmail(), createDto("member", other.getId())))
+                .isInstanceOf(ForbiddenException.class)
+                .hasMessage(ResponseStatus.FAIL_FILE_UPLOAD_OWNER_NOT_MATCH.getMessage());
+        assertThatThrownBy(() -> fileUploadService.createUpload(user.getEmail(), createDto("post", 10L)))
+                .isInstanceOf(ForbiddenException.class);
+
+        verify(fileUploadSessionRepository, never()).save(any());
+
+        // 관리자는 작성자와 관계없이 업로드
+        Member admin = member(3L, Role.ROLE_ADMIN);
+        fileUploadService.createUpload(admin.getEmail(), createDto("post", 10L));
+
+        verify(fileUploadSessionRepository).save(any());
+    }
+
+    @Test
+    void appendToOtherMembersUploadIsRejected() {
+        session(other.getId(), 8);
+
+        assertThatThrownBy(() -> fileUploadService.appendChunk(user.getEmail(), UPLOAD_ID, 0, stream("12345678")))
+                .isInstanceOf(ForbiddenException.class);
+        assertThatThrownBy(() -> fileUploadService.abortUpload(user.getEmail(), UPLOAD_ID))
+                .isInstanceOf(ForbiddenException.class);
+
+        assertThat(Files.exists(localFileStore.tempPath(UPLOAD_ID + ".part"))).isFalse();
+    }
+
+    @Test
+    void offsetNotMatchingReceivedSizeIsRejected() {
+        session(user.getId(), 8);
+
+        assertThatThrownBy(() -> fileUploadService.appendChunk(user.getEmail(), UPLOAD_ID, 4, stream("5678")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ResponseStatus.FAIL_FILE_UPLOAD_OFFSET_MISMATCH.getMessage());
+    }
+
+    @Test
+    void contentNotMatchingExtensionIsRejected() {
+        String content = "this is not a png image";
+        session(user.getId(), content.length());
+
+        assertThatThrownBy(() -> fileUploadService.appendChunk(user.getEmail(), UPLOAD_ID, 0, stream(content)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ResponseStatus.FAIL_FILE_TYPE_MISMATCH.getMessage());
+
+        // 기록한 임시 파일은 바로 정리
+        assertThat(Files.exists(localFileStore.tempPath(UPLOAD_ID + ".part"))).isFalse();
+    }
+
+    private void session(Long ownerMemberId, long totalSize) {
+        FileUploadSession session = FileUploadSession.builder()
+                .uploadId(UPLOAD_ID)
+                .fileCategory("member")
+                .fileKey(ownerMemberId)
+                .ownerMemberId(ownerMemberId)
+                .fileName("avatar.png")
+                .fileExtension("png")
+                .totalSize(totalSize)
+                .sha256("0".repeat(64))
+                .expiresAt(LocalDateTime.now().plusMinutes(60))
+                .build();
+
+        assertThat(session.getStatus()).isEqualTo(UploadStatus.UPLOADING);
+        when(fileUploadSessionRepository.findByUploadId(UPLOAD_ID)).thenReturn(Optional.of(session));
+    }
+
+    private Member member(Long id, Role role) {
+        Member member = Member.builder()
+                .email("member" + id + "@imguru.test")
+                .role(role)
+                .build();
+        ReflectionTestUtils.setField(member, "id", id);
+
+        when(memberRepository.findByEmailAndIsDeleteFalse(member.getEmail())).thenReturn(Optional.of(member));
+        return member;
+    }
+
+    private static FileUploadCreateDto createDto(String fileCategory, Long fileKey) {
+        return FileUploadCreateDto.builder()
+                .fileCategory(fileCategory)
+                .fileKey(fileKey)
+                .fileName("avatar.png")
+                .totalSize(8)
+                .sha256("0".repeat(64))
+                .build();
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,117 @@
+package kr.co.imguru.file;
+
+import kr.co.imguru.domain.file.service.ImageVariantWorker;
+import kr.co.imguru.domain.file.service.LocalFileStore;
+import kr.co.imguru.global.common.ImageVariant;
+import kr.co.imguru.global.util.ImageUtil;
+import kr.co.imguru.support.TestImages;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이미지 파생본 (DB 없이 임시 디렉터리로 확인)
+ * - 썸네일은 가운데를 잘라 고정 크기, 미리보기는 비율을 유지하며 확대하지 않는지
+ * - 파생본 생성 후 / 생성 중 실패 후 .tmp 에 임시 파일이 남지 않는지
+ */
+public class ImageVariantTest {
+
+    private static final String STORED_NAME = "original.png";
+
+    @TempDir
+    Path root;
+
+    @Test
+    void thumbnailIsCroppedAndPreviewKeepsRatio() {
+        BufferedImage thumbnail = ImageUtil.resize(new BufferedImage(1200, 600, BufferedImage.TYPE_INT_ARGB), 200, 200, true);
+        BufferedImage large = ImageUtil.resize(new BufferedImage(1920, 1080, BufferedImage.TYPE_INT_RGB), 960, 960, false);
+        BufferedImage small = ImageUtil.resize(new BufferedImage(320, 240, BufferedImage.TYPE_INT_RGB), 960, 960, false);
+
+        assertThat(thumbnail.getWidth()).isEqualTo(200);
+        assertThat(thumbnail.getHeight()).isEqualTo(200);
+        assertThat(large.getWidth()).isEqualTo(960);
+        assertThat(large.getHeight()).isEqualTo(540);
+        // 작은 이미지는 확대하지 않음
+        assertThat(small.getWidth()).isEqualTo(320);
+        assertThat(small.getHeight()).isEqualTo(240);
+    }
+
+    @Test
+    void imageOverPixelLimitIsNotDecoded() throws Exception {
+        Path original = original();
+
+        assertThat(ImageUtil.read(original, 400L * 300 - 1)).isNull();
+        assertThat(ImageUtil.read(original, 400L * 300)).isNotNull();
+    }
+
+    @Test
+    void variantsAreGeneratedWithoutLeavingTempFiles() throws Exception {
+        LocalFileStore localFileStore = new LocalFileStore(root.toString(), "");
+        original();
+
+        generate(localFileStore);
+
+        BufferedImage thumbnail = ImageIO.read(localFileStore.variantPath(LocalFileStore.BLOB_CATEGORY, STORED_NAME, ImageVariant.THUMBNAIL).toFile());
+        BufferedImage preview = ImageIO.read(localFileStore.variantPath(LocalFileStore.BLOB_CATEGORY, STORED_NAME, ImageVariant.PREVIEW).toFile());
+
+        assertThat(thumbnail.getWidth()).isEqualTo(200);
+        assertThat(preview.getWidth()).isEqualTo(400);
+        assertThat(preview.getHeight()).isEqualTo(300);
+
+        try (var temps = Files.list(root.resolve(".tmp"))) {
+            assertThat(temps).isEmpty();
+        }
+    }
+
+    @Test
+    void failedMoveDeletesTempFile() throws Exception {
+        Path original = original();
+        Path target = root.resolve("variant.jpg");
+        Path temp = root.resolve("variant.tmp");
+
+        LocalFileStore localFileStore = mock(LocalFileStore.class);
+        when(localFileStore.resolve(LocalFileStore.BLOB_CATEGORY, STORED_NAME)).thenReturn(original);
+        when(localFileStore.variantPath(LocalFileStore.BLOB_CATEGORY, STORED_NAME, ImageVariant.THUMBNAIL)).thenReturn(target);
+        when(localFileStore.variantPath(LocalFileStore.BLOB_CATEGORY, STORED_NAME, ImageVariant.PREVIEW)).thenReturn(target);
+        // 임시 파일 기록 전에 대상 위치를 비어 있지 않은 디렉터리로 만들어 이동이 실패하도록
+        when(localFileStore.tempPath(anyString())).thenAnswer(invocation -> {
+            Files.createDirectories(target);
+            Files.createFile(target.resolve("occupied"));
+            return temp;
+        });
+
+        generate(localFileStore);
+
+        assertThat(temp).doesNotExist();
+    }
+
+    private Path original() throws Exception {
+        Path original = root.resolve(LocalFileStore.BLOB_CATEGORY).resolve(STORED_NAME);
+
+        Files.createDirectories(original.getParent());
+        Files.write(original, TestImages.png());
+        return original;
+    }
+
+    // 풀을 거치지 않고 호출 스레드에서 바로 생성
+    private static void generate(LocalFileStore localFileStore) {
+        ImageVariantWorker worker = new ImageVariantWorker(localFileStore, 1, 1, 40_000_000L, 0.82f);
+
+        try {
+            ReflectionTestUtils.invokeMethod(worker, "generate", LocalFileStore.BLOB_CATEGORY, STORED_NAME);
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+package kr.co.imguru.guru;
+
+import kr.co.imguru.domain.guru.entity.GuruInfo;
+import kr.co.imguru.domain.guru.repository.GuruInfoSearchRepository;
+import kr.co.imguru.domain.guru.service.GuruInfoChangedEvent;
+import kr.co.imguru.domain.guru.service.GuruRegionIndex;
+import kr.co.imguru.domain.member.entity.Member;
+import kr.co.imguru.domain.skill.entity.Skill;
+import kr.co.imguru.global.common.Role;
+import kr.co.imguru.global.util.RegionUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 활동 지역 / 회원 주소 정규화와 지역 인덱스 조회 (DB 없이 확인)
+ * - 시/군/구 -> 시/도 전체 -> 전국 순으로 고수가 조회되는지
+ * - 커밋 후 변경 이벤트로 스킬 변경 / 삭제가 반영되는지
+ */
+public class GuruRegionIndexTest {
+
+    private GuruInfoSearchRepository guruInfoSearchRepository;
+
+    private GuruRegionIndex index;
+
+    private Skill design;
+
+    private Skill translation;
+
+    @BeforeEach
+    void setUp() {
+        guruInfoSearchRepository = mock(GuruInfoSearchRepository.class);
+        index = new GuruRegionIndex(guruInfoSearchRepository);
+        design = skill(1L, "디자인");
+        translation = skill(2L, "번역");
+    }
+
+    @Test
+    void normalizeWorkAreaAndMemberAddress() {
+        assertThat(RegionUtil.normalizeWorkArea("서울 강남구, 경기도 성남시 분당구")).containsExactly("11-강남구", "41-성남시");
+        assertThat(RegionUtil.normalizeWorkArea("서울 전체 / 전국")).containsExactly("11", "00");
+        assertThat(RegionUtil.normalizeWorkArea("어디든 가능")).isEmpty();
+
+        assertThat(RegionUtil.normalizeMemberAddress("서울특별시 강남구 테헤란로 152", "06236")).isEqualTo("11-강남구");
+        // 도로명 주소로 판별하지 못하면 우편번호로 시/도만
+        assertThat(RegionUtil.normalizeMemberAddress("테헤란로 152", "06236")).isEqualTo("11");
+
+        assertThat(RegionUtil.expandSearchKeys("11-강남구")).containsExactly("11-강남구", "11", "00");
+    }
+
+    @Test
+    void findFromDistrictThenCityThenNationwide() {
+        when(guruInfoSearchRepository.findAllGuruInfosWithMember()).thenReturn(List.of(
+                guruInfo(10L, "서울 강남구", design),
+                guruInfo(11L, "서울 전체", design),
+                guruInfo(12L, "전국", design),
+                guruInfo(13L, "서울 서초구", design),
+                guruInfo(14L, "서울 강남구", translation)));
+
+        index.rebuild();
+
+        assertThat(index.findGuruInfoIds("11-강남구", 1L)).containsExactly(10L, 11L, 12L);
+        assertThat(index.findGuruInfoIds("41-성남시", 1L)).containsExactly(12L);
+        assertThat(index.findGuruInfoIds("11-강남구", 2L)).containsExactly(14L);
+    }
+
+    @Test
+    void changedEventReindexesSkillAndRemovesDeleted() {
+        GuruInfo guruInfo = guruInfo(10L, "서울 강남구", design);
+        when(guruInfoSearchRepository.findAllGuruInfosWithMember()).thenReturn(List.of(guruInfo));
+        index.rebuild();
+
+        // 회원 스킬 변경 후 커밋
+        ReflectionTestUtils.setField(guruInfo.getMember(), "skill", translation);
+        when(guruInfoSearchRepository.findGuruInfoWithMemberById(10L)).thenReturn(Optional.of(guruInfo));
+        index.onChanged(new GuruInfoChangedEvent(10L));
+
+        assertThat(index.findGuruInfoIds("11-강남구", 1L)).isEmpty();
+        assertThat(index.findGuruInfoIds("11-강남구", 2L)).containsExactly(10L);
+
+        // 고수 정보 삭제 후 커밋
+        when(guruInfoSearchRepository.findGuruInfoWithMemberById(10L)).thenReturn(Optional.empty());
+        index.onChanged(new GuruInfoChangedEvent(10L));
+
+        assertThat(index.findGuruInfoIds("11-강남구", 2L)).isEmpty();
+    }
+
+    private static Skill skill(Long id, String name) {
+        Skill skill = Skill.builder().name(name).build();
+        ReflectionTestUtils.setField(skill, "id", id);
+
+        return skill;
+    }
+
+    private static GuruInfo guruInfo(Long id, String workArea, Skill skill) {
+        Member member = Member.builder()
+                .nickname("guru" + id)
+                .role(Role.ROLE_GURU)
+                .skill(skill)
+                .build();
+
+        GuruInfo guruInfo = GuruInfo.builder()
+                .member(member)
+                .workArea(workArea)
+                .build();
+        ReflectionTestUtils.setField(guruInfo, "id", id);
+
+        return guruInfo;
+    }
+
+}
@@ -0,0 +1,241 @@
+package kr.co.imguru.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import kr.co.imguru.domain.skill.dto.SkillCreateDto;
+import kr.co.imguru.domain.skill.repository.SkillRepository;
+import kr.co.imguru.domain.skill.service.SkillService;
+import kr.co.imguru.pay.PaymentGatewayStubServer;
+import kr.co.imguru.support.LocalOnlyContextInitializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * REST API 시나리오 부하 테스트 (일반 test 에서는 제외, ./gradlew loadTest 로 실행)
+ * - local 프로필 + 로컬 DB(H2, localhost) 에서만 기동 (LocalOnlyContextInitializer, 그 외에는 기동 전에 실패)
+ * - 애플리케이션을 임의 포트로 기동하고, 결제 서버는 PaymentGatewayStubServer 로 대체
+ * - 가상 사용자마다 회원 가입 / 로그인 / 게시글 작성으로 데이터를 준비한 뒤 가중치에 따라 시나리오를 반복 실행
+ * - 예열 구간은 버리고 측정 구간의 API 별 처리량 / p50 / p95 / p99 를 build/loadtest/report.json 에 저장
+ * - 기준 결과(loadtest.baseline)가 있으면 비교해 회귀가 있으면 실패
+ *
+ * ./gradlew loadTest -Dloadtest.users=50 -Dloadtest.duration-seconds=120
+ * ./gradlew loadTest -Dloadtest.update-baseline=true   (이번 결과를 기준으로 저장)
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("local")
+@ContextConfiguration(initializers = LocalOnlyContextInitializer.class)
+public class LoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+
+    private static final String USER_SKILL = "이용자";
+
+    private static final int POSTS_PER_USER = 2;
+
+    private static final PaymentGatewayStubServer GATEWAY = new PaymentGatewayStubServer(0, 20, 0.0);
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    SkillService skillService;
+
+    @Autowired
+    SkillRepository skillRepository;
+
+    @DynamicPropertySource
+    static void gatewayProperties(DynamicPropertyRegistry registry) throws IOException {
+        GATEWAY.start();
+        registry.add("pay.gateway.url", () -> "http://localhost:" + GATEWAY.getPort());
+    }
+
+    @AfterAll
+    static void stopGateway() {
+        GATEWAY.stop();
+    }
+
+    @Test
+    void run() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadTestMetrics metrics = new LoadTestMetrics();
+        LoadTestClient client = new LoadTestClient("http://localhost:" + port, metrics);
+
+        List<VirtualUser> users = prepareUsers(settings, client);
+        Scenario.Fixture fixture = prepareFixture(users, client);
+
+        log.info("[LoadTest] users={}, posts={}, scenarios={}", users.size(), fixture.postIds().size(), settings.weights());
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(users.size());
+
+        for (VirtualUser user : users) {
+            executor.submit(() -> loop(user, client, fixture, settings, running));
+        }
+
+        // 예열 구간 기록은 버리고 측정 시작
+        TimeUnit.SECONDS.sleep(settings.warmupSeconds());
+        metrics.reset();
+        long measureStartedAt = System.nanoTime();
+
+        TimeUnit.SECONDS.sleep(settings.durationSeconds());
+        running.set(false);
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        double elapsedSeconds = (System.nanoTime() - measureStartedAt) / 1_000_000_000.0;
+        List<LoadTestReport.EndpointResult> endpoints = metrics.results(elapsedSeconds);
+        double throughput = endpoints.stream().mapToLong(LoadTestReport.EndpointResult::count).sum() / elapsedSeconds;
+
+        Map<String, Integer> scenarios = new LinkedHashMap<>();
+        settings.weights().forEach((scenario, weight) -> scenarios.put(scenario.name(), weight));
+
+        LoadTestReport report = new LoadTestReport(LocalDateTime.now().toString(), settings.users(),
+                settings.durationSeconds(), scenarios, throughput, endpoints);
+        report.write(settings.report());
+
+        log.info("[LoadTest] report={}\n{}", settings.report().toAbsolutePath(), report.toTable());
+
+        compareWithBaseline(report, settings);
+    }
+
+    private void loop(VirtualUser user, LoadTestClient client, Scenario.Fixture fixture, LoadTestSettings settings,
+                      AtomicBoolean running) {
+        List<Scenario> scenarios = new ArrayList<>(settings.weights().keySet());
+        int totalWeight = settings.weights().values().stream().mapToInt(Integer::intValue).sum();
+
+        while (running.get()) {
+            try {
+                pick(scenarios, settings.weights(), totalWeight, user.getRandom()).run(user, client, fixture);
+
+                if (settings.thinkTimeMillis() > 0) {
+                    Thread.sleep(settings.thinkTimeMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("[LoadTest] scenario failed", e);
+            }
+        }
+    }
+
+    private Scenario pick(List<Scenario> scenarios, Map<Scenario, Integer> weights, int totalWeight, Random random) {
+        int value = random.nextInt(totalWeight);
+
+        for (Scenario scenario : scenarios) {
+            value -= weights.get(scenario);
+
+            if (value < 0) {
+                return scenario;
+            }
+        }
+
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    // 가상 사용자별 회원 가입 + 로그인 (실행마다 새 계정)
+    private List<VirtualUser> prepareUsers(LoadTestSettings settings, LoadTestClient client) {
+        if (skillRepository.findByNameAndIsDeleteFalse(USER_SKILL).isEmpty()) {
+            skillService.createSkill(SkillCreateDto.builder().name(USER_SKILL).build());
+        }
+
+        String runId = Long.toString(System.currentTimeMillis() % 100_000_000L, 36);
+        List<VirtualUser> users = new ArrayList<>();
+
+        for (int i = 0; i < settings.users(); i++) {
+            String email = "load-" + runId + "-" + i + "@imguru.test";
+            String nickname = "lt" + runId + i;
+            String password = "load-test-" + runId;
+
+            Map<String, Object> join = new HashMap<>();
+            join.put("email", email);
+            join.put("password", password);
+            join.put("confirmPassword", password);
+            join.put("name", "부하테스트");
+            join.put("nickname", nickname);
+            join.put("telephone", String.format("019%08d", (System.nanoTime() + i) % 100_000_000L));
+            join.put("birthDate", LocalDate.of(1990, 1, 1).toString());
+            join.put("gender", "MALE");
+
+            client.post("setup /join/member", "/api/v1/join/member", null, join);
+
+            JsonNode login = client.post("setup /login", "/api/v1/login", null, Map.of("email", email, "password", password));
+            JsonNode member = login.path("data");
+
+            if (member.isMissingNode()) {
+                throw new IllegalStateException("부하 테스트 회원 로그인 실패 : " + email);
+            }
+
+            users.add(new VirtualUser(i, email, nickname, member.path("memberId").asLong(),
+                    member.path("token").path("accessToken").asText(), settings.seed()));
+        }
+
+        return users;
+    }
+
+    private Scenario.Fixture prepareFixture(List<VirtualUser> users, LoadTestClient client) {
+        List<Long> postIds = new ArrayList<>();
+
+        for (VirtualUser user : users) {
+            for (int i = 0; i < POSTS_PER_USER; i++) {
+                JsonNode created = client.post("setup /post", "/api/v1/post", user.getToken(), Map.of(
+                        "memberNickname", user.getNickname(),
+                        "categoryName", "QNA",
+                        "title", "부하 테스트 질문 게시글 " + i,
+                        "content", "스프링 JPA 질문입니다. 부하 테스트용 게시글입니다.",
+                        "price", "10000"));
+
+                if (created.path("data").isNumber()) {
+                    postIds.add(created.path("data").asLong());
+                }
+            }
+        }
+
+        if (postIds.isEmpty()) {
+            throw new IllegalStateException("부하 테스트 게시글 생성 실패");
+        }
+
+        return new Scenario.Fixture(List.copyOf(postIds), users.stream().map(VirtualUser::getNickname).toList());
+    }
+
+    private void compareWithBaseline(LoadTestReport report, LoadTestSettings settings) throws IOException {
+        if (settings.updateBaseline()) {
+            report.write(settings.baseline());
+            log.info("[LoadTest] baseline updated : {}", settings.baseline().toAbsolutePath());
+            return;
+        }
+
+        if (!Files.exists(settings.baseline())) {
+            log.info("[LoadTest] no baseline at {}, comparison skipped", settings.baseline().toAbsolutePath());
+            return;
+        }
+
+        List<String> regressions = report.regressionsAgainst(LoadTestReport.read(settings.baseline()), settings.tolerance());
+
+        if (!regressions.isEmpty()) {
+            throw new AssertionError("부하 테스트 회귀 (허용 오차 " + settings.tolerance() * 100 + "%)\n"
+                    + String.join("\n", regressions));
+        }
+    }
+
+}
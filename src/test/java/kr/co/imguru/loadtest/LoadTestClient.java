@@ -0,0 +1,111 @@
+package kr.co.imguru.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * REST API 호출 + 응답 시간 기록
+ * - endpoint 는 집계 이름 (예: GET /api/v1/post/{postId}), path 는 실제 호출 경로
+ * - 2xx / 3xx 는 성공, 그 외 상태 코드와 연결 오류는 실패로 기록
+ * - 리다이렉트는 따라가지 않는다. (결제 콜백은 프론트 주소로 302 응답)
+ */
+public class LoadTestClient {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+
+    private final LoadTestMetrics metrics;
+
+    public LoadTestClient(String baseUrl, LoadTestMetrics metrics) {
+        this.baseUrl = baseUrl;
+        this.metrics = metrics;
+    }
+
+    public JsonNode get(String endpoint, String path, String token) {
+        return send(endpoint, request(path, token).GET());
+    }
+
+    public JsonNode post(String endpoint, String path, String token, Object body) {
+        try {
+            String json = body == null ? "" : objectMapper.writeValueAsString(body);
+
+            return send(endpoint, request(path, token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public JsonNode postForm(String endpoint, String path, Map<String, String> form) {
+        String body = form.entrySet()
+                .stream()
+                .map(entry -> entry.getKey() + "=" + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+
+        return send(endpoint, request(path, null)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+
+        return builder;
+    }
+
+    /**
+     * 응답 본문 JSON (실패하거나 본문이 JSON 이 아니면 MissingNode)
+     */
+    private JsonNode send(String endpoint, HttpRequest.Builder builder) {
+        long startedAt = System.nanoTime();
+        HttpResponse<byte[]> response = null;
+
+        try {
+            response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            // 연결 오류는 실패로 기록
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 응답 파싱 시간은 제외
+        boolean success = response != null && response.statusCode() < 400;
+        metrics.record(endpoint, System.nanoTime() - startedAt, success);
+
+        if (!success || response.body().length == 0 || response.body()[0] != '{') {
+            return MissingNode.getInstance();
+        }
+
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            return MissingNode.getInstance();
+        }
+    }
+
+}
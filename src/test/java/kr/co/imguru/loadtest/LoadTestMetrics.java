@@ -0,0 +1,79 @@
+package kr.co.imguru.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API 별 응답 시간 히스토그램 / 오류 수
+ * 가상 사용자 스레드가 동시에 기록하므로 HdrHistogram Recorder 에 lock 없이 기록한다.
+ */
+public class LoadTestMetrics {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long elapsedNanos, boolean success) {
+        EndpointMetrics metrics = endpoints.computeIfAbsent(endpoint, key -> new EndpointMetrics());
+
+        metrics.recorder.recordValue(Math.max(0, elapsedNanos));
+
+        if (!success) {
+            metrics.errors.increment();
+        }
+    }
+
+    // 예열 구간 기록 폐기
+    public void reset() {
+        endpoints.values().forEach(EndpointMetrics::reset);
+    }
+
+    /**
+     * 측정 시간 동안의 API 별 결과 (요청 수 내림차순)
+     */
+    public List<LoadTestReport.EndpointResult> results(double elapsedSeconds) {
+        List<LoadTestReport.EndpointResult> results = new ArrayList<>();
+
+        endpoints.forEach((endpoint, metrics) -> {
+            Histogram histogram = metrics.recorder.getIntervalHistogram();
+            long count = histogram.getTotalCount();
+
+            if (count == 0) {
+                return;
+            }
+
+            results.add(new LoadTestReport.EndpointResult(endpoint, count, metrics.errors.sum(), count / elapsedSeconds,
+                    toMillis(histogram.getValueAtPercentile(50)), toMillis(histogram.getValueAtPercentile(95)),
+                    toMillis(histogram.getValueAtPercentile(99)), toMillis(histogram.getMaxValue())));
+        });
+
+        results.sort(Comparator.comparingLong(LoadTestReport.EndpointResult::count).reversed());
+
+        return results;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    private static class EndpointMetrics {
+
+        private final Recorder recorder = new Recorder(3);
+
+        private final LongAdder errors = new LongAdder();
+
+        private void reset() {
+            recorder.reset();
+            errors.reset();
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package kr.co.imguru.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트 결과 (JSON 으로 저장 / 기준 결과와 비교)
+ * 시간 단위는 ms, 처리량은 초당 요청 수
+ */
+public record LoadTestReport(String createdAt, int users, int durationSeconds, Map<String, Integer> scenarios,
+                             double throughput, List<EndpointResult> endpoints) {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    // 오류율은 비율 대신 절대 차이로 비교 (기준 0% 에서도 의미가 있도록)
+    private static final double ERROR_RATE_MARGIN = 0.01;
+
+    public static LoadTestReport read(Path path) throws IOException {
+        return OBJECT_MAPPER.readValue(path.toFile(), LoadTestReport.class);
+    }
+
+    public void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        OBJECT_MAPPER.writeValue(path.toFile(), this);
+    }
+
+    /**
+     * 기준 결과 대비 회귀 목록 (기준에만 있거나 이번에만 있는 API 는 비교하지 않음)
+     * - p95 / p99 가 (1 + tolerance) 배를 넘거나
+     * - 처리량이 (1 - tolerance) 배 미만이거나
+     * - 오류율이 1%p 넘게 늘어난 경우
+     */
+    public List<String> regressionsAgainst(LoadTestReport baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+
+        if (throughput < baseline.throughput() * (1 - tolerance)) {
+            regressions.add(String.format("total throughput %.1f -> %.1f req/s", baseline.throughput(), throughput));
+        }
+
+        Map<String, EndpointResult> current = endpoints.stream()
+                .collect(Collectors.toMap(EndpointResult::endpoint, Function.identity()));
+
+        for (EndpointResult before : baseline.endpoints()) {
+            EndpointResult after = current.get(before.endpoint());
+
+            if (after == null) {
+                continue;
+            }
+
+            if (after.p95() > before.p95() * (1 + tolerance)) {
+                regressions.add(String.format("%s p95 %.1f -> %.1f ms", before.endpoint(), before.p95(), after.p95()));
+            }
+
+            if (after.p99() > before.p99() * (1 + tolerance)) {
+                regressions.add(String.format("%s p99 %.1f -> %.1f ms", before.endpoint(), before.p99(), after.p99()));
+            }
+
+            if (after.throughput() < before.throughput() * (1 - tolerance)) {
+                regressions.add(String.format("%s throughput %.1f -> %.1f req/s", before.endpoint(), before.throughput(), after.throughput()));
+            }
+
+            if (after.errorRate() > before.errorRate() + ERROR_RATE_MARGIN) {
+                regressions.add(String.format("%s error rate %.2f%% -> %.2f%%", before.endpoint(),
+                        before.errorRate() * 100, after.errorRate() * 100));
+            }
+        }
+
+        return regressions;
+    }
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder(String.format("%-40s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+
+        for (EndpointResult result : endpoints) {
+            table.append(String.format("%-40s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", result.endpoint(), result.count(),
+                    result.errors(), result.throughput(), result.p50(), result.p95(), result.p99(), result.max()));
+        }
+
+        table.append(String.format("total %.1f req/s (users=%d, duration=%ds)", throughput, users, durationSeconds));
+
+        return table.toString();
+    }
+
+    public record EndpointResult(String endpoint, long count, long errors, double throughput,
+                                 double p50, double p95, double p99, double max) {
+
+        public double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package kr.co.imguru.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.*)
+ *
+ * <pre>
+ * loadtest.users            가상 사용자 수 (기본 20)
+ * loadtest.warmup-seconds   측정 전 예열 시간 (기본 10)
+ * loadtest.duration-seconds 측정 시간 (기본 60)
+ * loadtest.think-time-ms    시나리오 사이 대기 시간 (기본 0)
+ * loadtest.scenarios        시나리오:가중치 목록 (기본 browse:30,search:20,view:25,like:5,reply:10,message:5,pay:5)
+ * loadtest.seed             가상 사용자 난수 seed (기본 42)
+ * loadtest.baseline         기준 결과 파일 (기본 src/test/resources/loadtest/baseline.json)
+ * loadtest.tolerance        기준 대비 허용 오차 비율 (기본 0.2 = 20%)
+ * loadtest.update-baseline  true 면 이번 결과를 기준 결과로 저장
+ * loadtest.report           결과 파일 (기본 build/loadtest/report.json)
+ * </pre>
+ */
+public record LoadTestSettings(int users, int warmupSeconds, int durationSeconds, long thinkTimeMillis,
+                               Map<Scenario, Integer> weights, long seed, Path baseline, double tolerance,
+                               boolean updateBaseline, Path report) {
+
+    private static final String DEFAULT_SCENARIOS = "browse:30,search:20,view:25,like:5,reply:10,message:5,pay:5";
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.users", 20),
+                Integer.getInteger("loadtest.warmup-seconds", 10),
+                Integer.getInteger("loadtest.duration-seconds", 60),
+                Long.getLong("loadtest.think-time-ms", 0L),
+                parseWeights(System.getProperty("loadtest.scenarios", DEFAULT_SCENARIOS)),
+                Long.getLong("loadtest.seed", 42L),
+                Paths.get(System.getProperty("loadtest.baseline", "src/test/resources/loadtest/baseline.json")),
+                Double.parseDouble(System.getProperty("loadtest.tolerance", "0.2")),
+                Boolean.getBoolean("loadtest.update-baseline"),
+                Paths.get(System.getProperty("loadtest.report", "build/loadtest/report.json")));
+    }
+
+    private static Map<Scenario, Integer> parseWeights(String value) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.scenarios 형식 오류 : " + entry);
+            }
+
+            int weight = Integer.parseInt(pair[1].trim());
+
+            if (weight > 0) {
+                weights.put(Scenario.of(pair[0].trim()), weight);
+            }
+        }
+
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("실행할 시나리오가 없습니다. : " + value);
+        }
+
+        return weights;
+    }
+
+}
@@ -0,0 +1,155 @@
+package kr.co.imguru.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가상 사용자 시나리오 스크립트 (한 번 실행 = 사용자 행동 한 묶음)
+ * 가중치는 loadtest.scenarios 로 조절한다. (LoadTestSettings)
+ */
+public enum Scenario {
+
+    // 게시글 목록 페이지 넘기기 + 도사 게시글
+    BROWSE("browse") {
+        @Override
+        void run(VirtualUser user, LoadTestClient client, Fixture fixture) {
+            client.get("GET /api/v1/posts", "/api/v1/posts?page=" + user.getRandom().nextInt(5) + "&size=10", null);
+            client.get("GET /api/v1/post/guru", "/api/v1/post/guru", null);
+        }
+    },
+
+    // 분류 + 제목/작성자 검색
+    SEARCH("search") {
+        @Override
+        void run(VirtualUser user, LoadTestClient client, Fixture fixture) {
+            String keyword = user.pick(SEARCH_KEYWORDS);
+
+            client.get("GET /api/v1/posts?search", "/api/v1/posts?page=0&size=10&postCategory=QNA&searchType=all&searchText=" + keyword, null);
+        }
+    },
+
+    // 게시글 상세 + 댓글
+    VIEW_POST("view") {
+        @Override
+        void run(VirtualUser user, LoadTestClient client, Fixture fixture) {
+            Long postId = user.pick(fixture.postIds());
+
+            client.get("GET /api/v1/post/{postId}", "/api/v1/post/" + postId, null);
+            client.get("GET /api/v1/reply/post/{postId}", "/api/v1/reply/post/" + postId, null);
+        }
+    },
+
+    LIKE("like") {
+        @Override
+        void run(VirtualUser user, LoadTestClient client, Fixture fixture) {
+            Long postId = user.nextLikePostId(fixture.postIds());
+
+            client.post("POST /api/v1/post/like/{postId}", "/api/v1/post/like/" + postId, user.getToken(), null);
+        }
+    },
+
+    // 댓글 작성 후 댓글 목록 다시 조회
+    REPLY("reply") {
+        @Override
+        void run(VirtualUser user, LoadTestClient client, Fixture fixture) {
+            Long postId = user.pick(fixture.postIds());
+
+            client.post("POST /api/v1/reply/{postId}", "/api/v1/reply/" + postId, user.getToken(), Map.of(
+                    "memberNickname", user.getNickname(),
+                    "postId", postId,
+                    "content", "부하 테스트 댓글입니다."));
+            client.get("GET /api/v1/reply/post/{postId}", "/api/v1/reply/post/" + postId, null);
+        }
+    },
+
+    // 다른 사용자에게 메시지 전송 후 대화 목록 조회
+    MESSAGE("message") {
+        @Override
+        void run(VirtualUser user, LoadTestClient client, Fixture fixture) {
+            String receiver = user.pick(fixture.nicknames());
+
+            client.post("POST /api/v1/message", "/api/v1/message", user.getToken(), Map.of(
+                    "senderNickname", user.getNickname(),
+                    "receiverNickname", receiver,
+                    "content", "부하 테스트 메시지입니다."));
+            client.post("POST /api/v1/message/list", "/api/v1/message/list", user.getToken(), null);
+        }
+    },
+
+    // 주문 정보 -> 결제 예약 -> 인증 콜백 -> 승인 요청 -> 상태 조회 (결제 서버는 PaymentGatewayStubServer)
+    PAY("pay") {
+        @Override
+        void run(VirtualUser user, LoadTestClient client, Fixture fixture) {
+            Long postId = user.pick(fixture.postIds());
+            String ordNo = user.nextKey("LOAD");
+            String authNo = user.nextKey("AUTH");
+
+            JsonNode order = client.post("POST /api/v1/pay/post/{postId}", "/api/v1/pay/post/" + postId, user.getToken(), null);
+            JsonNode reserv = client.post("POST /api/v1/payReserv", "/api/v1/payReserv", null, Map.of(
+                    "mercntId", MERCNT_ID,
+                    "ordNo", ordNo,
+                    "trPricePlain", PRICE,
+                    "productNm", order.path("data").path("productNm").asText("load-test"),
+                    "mercntParam1", String.valueOf(postId),
+                    "mercntParam2", String.valueOf(user.getMemberId()),
+                    "viewType", "popup",
+                    "email", user.getEmail()));
+
+            if (reserv.isMissingNode()) {
+                return;
+            }
+
+            Map<String, String> callback = new LinkedHashMap<>();
+            callback.put("resultCd", "0");
+            callback.put("resultMsg", "OK");
+            callback.put("mercntId", MERCNT_ID);
+            callback.put("ordNo", ordNo);
+            callback.put("authNo", authNo);
+            callback.put("trPrice", PRICE);
+            callback.put("discntPrice", "0");
+            callback.put("payPrice", PRICE);
+            callback.put("trDay", reserv.path("trDay").asText());
+            callback.put("trTime", reserv.path("trTime").asText());
+            callback.put("mercntParam1", String.valueOf(postId));
+            callback.put("mercntParam2", String.valueOf(user.getMemberId()));
+
+            client.postForm("POST /api/v1/pay/callback", "/api/v1/pay/callback", callback);
+            client.post("POST /api/v1/payAction", "/api/v1/payAction", null, Map.of("ordNo", ordNo, "authNo", authNo));
+            client.get("GET /api/v1/pay/status/{ordNo}", "/api/v1/pay/status/" + ordNo, user.getToken());
+        }
+    };
+
+    private static final List<String> SEARCH_KEYWORDS = List.of("질문", "스프링", "JPA", "게시글", "도사");
+
+    private static final String MERCNT_ID = "M2266041";
+
+    private static final String PRICE = "10000";
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    abstract void run(VirtualUser user, LoadTestClient client, Fixture fixture);
+
+    public static Scenario of(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equalsIgnoreCase(key) || scenario.name().equalsIgnoreCase(key)) {
+                return scenario;
+            }
+        }
+
+        throw new IllegalArgumentException("알 수 없는 시나리오 : " + key);
+    }
+
+    /**
+     * 시나리오가 공유하는 준비 데이터 (준비 이후 읽기 전용)
+     */
+    public record Fixture(List<Long> postIds, List<String> nicknames) {
+    }
+
+}
@@ -0,0 +1,71 @@
+package kr.co.imguru.loadtest;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 가상 사용자 (스레드 하나가 한 명을 전담하므로 상태는 동기화하지 않음)
+ */
+public class VirtualUser {
+
+    private final int index;
+
+    private final String email;
+
+    private final String nickname;
+
+    private final Long memberId;
+
+    private final String token;
+
+    private final Random random;
+
+    // 좋아요는 같은 게시글에 한 번만 가능하므로 게시글을 순서대로 사용
+    private int likeCursor;
+
+    private long sequence;
+
+    public VirtualUser(int index, String email, String nickname, Long memberId, String token, long seed) {
+        this.index = index;
+        this.email = email;
+        this.nickname = nickname;
+        this.memberId = memberId;
+        this.token = token;
+        this.random = new Random(seed + index);
+        this.likeCursor = index;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public Random getRandom() {
+        return random;
+    }
+
+    public <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    public Long nextLikePostId(List<Long> postIds) {
+        return postIds.get(likeCursor++ % postIds.size());
+    }
+
+    // 주문번호 등 가상 사용자별로 겹치지 않는 값
+    public String nextKey(String prefix) {
+        return prefix + "-" + index + "-" + (++sequence) + "-" + System.currentTimeMillis();
+    }
+
+}
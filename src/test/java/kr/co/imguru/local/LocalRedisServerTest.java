@@ -0,0 +1,154 @@
+package kr.co.imguru.local;
+
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.ScoredValue;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import kr.co.imguru.global.local.LocalRedisServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * local 프로필 Redis 대용 서버를 실제 클라이언트(Lettuce)로 확인
+ */
+public class LocalRedisServerTest {
+
+    private static LocalRedisServer server;
+
+    private static RedisClient client;
+
+    private static StatefulRedisConnection<String, String> connection;
+
+    private RedisCommands<String, String> redis;
+
+    @BeforeAll
+    static void start() throws IOException {
+        server = new LocalRedisServer(0);
+        server.start();
+
+        client = RedisClient.create("redis://localhost:" + server.getPort());
+        connection = client.connect();
+    }
+
+    @AfterAll
+    static void stop() {
+        connection.close();
+        client.shutdown();
+        server.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redis = connection.sync();
+        redis.flushdb();
+    }
+
+    @Test
+    void hashAndCounter() {
+        redis.hset("postId::1", "views", "10");
+        assertEquals(11L, redis.hincrby("postId::1", "views", 1));
+        assertEquals(Map.of("views", "11"), redis.hgetall("postId::1"));
+
+        assertEquals(1L, redis.incr("counter"));
+        assertEquals(6L, redis.incrby("counter", 5));
+
+        assertEquals(1L, redis.hdel("postId::1", "views"));
+        assertEquals(0L, redis.exists("postId::1"));
+    }
+
+    @Test
+    void scanVisitsEveryKeyWhileDeleting() {
+        for (int i = 0; i < 100; i++) {
+            redis.set("postId::" + i, "v");
+        }
+        redis.set("other", "v");
+
+        Set<String> seen = new HashSet<>();
+        ScanCursor cursor = ScanCursor.INITIAL;
+
+        do {
+            KeyScanCursor<String> page = redis.scan(cursor, ScanArgs.Builder.matches("postId::*").limit(7));
+            seen.addAll(page.getKeys());
+            page.getKeys().forEach(redis::del);
+            cursor = page;
+        } while (!cursor.isFinished());
+
+        assertEquals(100, seen.size());
+        assertEquals(List.of("other"), redis.keys("*"));
+    }
+
+    @Test
+    void sortedSet() {
+        redis.zadd("rank", ScoredValue.just(3, "c"), ScoredValue.just(1, "a"), ScoredValue.just(2, "b"));
+        assertEquals(2.5, redis.zincrby("rank", 1.5, "a"));
+
+        assertEquals(List.of("b", "a", "c"), redis.zrange("rank", 0, -1));
+        assertEquals(List.of("c", "a"), redis.zrevrange("rank", 0, 1));
+        assertEquals(0L, redis.zrank("rank", "b"));
+        assertEquals(3L, redis.zcard("rank"));
+    }
+
+    @Test
+    void ttlAndExpiredEvent() throws InterruptedException {
+        BlockingQueue<String> expired = new LinkedBlockingQueue<>();
+        StatefulRedisPubSubConnection<String, String> pubSub = client.connectPubSub();
+        pubSub.addListener(new RedisPubSubAdapter<>() {
+            @Override
+            public void message(String pattern, String channel, String message) {
+                expired.add(message);
+            }
+        });
+        pubSub.sync().psubscribe("__keyevent@*__:expired");
+
+        try {
+            redis.setex("token", 100, "v");
+            long ttl = redis.ttl("token");
+            assertTrue(ttl > 90 && ttl <= 100);
+
+            redis.psetex("short", 100, "v");
+            assertEquals("short", expired.poll(5, TimeUnit.SECONDS));
+            assertNull(redis.get("short"));
+        } finally {
+            pubSub.close();
+        }
+    }
+
+    @Test
+    void publishSubscribe() throws InterruptedException {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        StatefulRedisPubSubConnection<String, String> pubSub = client.connectPubSub();
+        pubSub.addListener(new RedisPubSubAdapter<>() {
+            @Override
+            public void message(String channel, String message) {
+                received.add(channel + ":" + message);
+            }
+        });
+        pubSub.sync().subscribe("news");
+
+        try {
+            assertEquals(1L, redis.publish("news", "hello"));
+            assertEquals("news:hello", received.poll(5, TimeUnit.SECONDS));
+        } finally {
+            pubSub.close();
+        }
+    }
+
+}
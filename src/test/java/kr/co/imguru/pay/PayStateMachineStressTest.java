@@ -0,0 +1,246 @@
+package kr.co.imguru.pay;
+
+import kr.co.imguru.domain.member.entity.Member;
+import kr.co.imguru.domain.member.repository.MemberRepository;
+import kr.co.imguru.domain.pay.client.PaymentGatewayClient;
+import kr.co.imguru.domain.pay.entity.Pay;
+import kr.co.imguru.domain.pay.entity.PayOutbox;
+import kr.co.imguru.domain.pay.repository.PayOutboxRepository;
+import kr.co.imguru.domain.pay.repository.PayRepository;
+import kr.co.imguru.domain.pay.service.PayProcessService;
+import kr.co.imguru.global.common.PayOutboxType;
+import kr.co.imguru.global.common.PayReconcileResult;
+import kr.co.imguru.global.common.PayStatus;
+import kr.co.imguru.global.common.Role;
+import kr.co.imguru.global.exception.ForbiddenException;
+import kr.co.imguru.global.exception.IllegalArgumentException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 콜백/승인/취소 요청이 동시에 들어와도
+ * - 승인/취소 요청은 주문번호당 한 건만 적재되고 결제 서버도 한 번씩만 호출되며
+ * - 상태는 O -> A -> P -> R -> C 순서로만 바뀌고, 각 전이는 정확히 한 번 적용(version 4) 되는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+public class PayStateMachineStressTest {
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    PayProcessService payProcessService;
+
+    @Autowired
+    PayRepository payRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    PayOutboxRepository payOutboxRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @MockBean
+    PaymentGatewayClient paymentGatewayClient;
+
+    private String ordNo;
+
+    private Member buyer;
+
+    @BeforeEach
+    void setUp() {
+        ordNo = "STRESS-" + System.nanoTime();
+
+        buyer = memberRepository.save(Member.builder()
+                .email(ordNo.toLowerCase() + "@imguru.test")
+                .password("stress")
+                .name("stress")
+                .nickname(ordNo)
+                .telephone("010-0000-0000")
+                .job("stress")
+                .role(Role.ROLE_USER)
+                .build());
+
+        payRepository.save(Pay.builder()
+                .buyerMemberId(buyer.getId())
+                .ordNo(ordNo)
+                .mercntId("M2266041")
+                .trPrice(35000L)
+                .productNm("stress")
+                .payStatus(PayStatus.ORDERED)
+                .build());
+
+        when(paymentGatewayClient.approve(any())).thenReturn(new JSONObject().put("resultCd", "0").put("trNo", "TR-APPROVE"));
+        when(paymentGatewayClient.cancel(any())).thenReturn(new JSONObject().put("resultCd", "0").put("trNo", "TR-CANCEL"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        payOutboxRepository.deleteAll(payOutboxRepository.findAllByOrdNo(ordNo));
+        payRepository.findByOrdNo(ordNo).ifPresent(payRepository::delete);
+        memberRepository.delete(buyer);
+    }
+
+    @Test
+    void concurrentCallbackApproveAndCancel() throws Exception {
+        // 콜백과 승인 요청이 동시에 들어옴
+        List<Throwable> approveErrors = runConcurrently(i -> {
+            if (i % 2 == 0) {
+                payProcessService.acceptCallback(ordNo, "AUTH-1");
+            } else {
+                payProcessService.requestApproval(ordNo, "AUTH-1");
+            }
+        });
+
+        assertThat(approveErrors).isEmpty();
+        awaitStatus(PayStatus.PAID);
+
+        // 취소 요청이 동시에 들어옴 (전이에 실패한 요청은 기존 요청을 반환하거나 상태 충돌로 실패)
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Throwable> cancelErrors = runConcurrently(i -> {
+            try {
+                payProcessService.requestCancel(buyer.getEmail(), ordNo, "TR-APPROVE");
+            } catch (IllegalArgumentException e) {
+                conflicts.incrementAndGet();
+            }
+        });
+
+        assertThat(cancelErrors).isEmpty();
+        assertThat(conflicts.get()).isLessThan(THREADS);
+        awaitStatus(PayStatus.CANCELED);
+
+        List<PayOutbox> outboxes = payOutboxRepository.findAllByOrdNo(ordNo);
+        assertThat(outboxes).extracting(PayOutbox::getOutboxType)
+                .containsExactlyInAnyOrder(PayOutboxType.APPROVE, PayOutboxType.CANCEL);
+
+        verify(paymentGatewayClient, times(1)).approve(any());
+        verify(paymentGatewayClient, times(1)).cancel(any());
+
+        Pay pay = payRepository.findByOrdNo(ordNo).orElseThrow();
+        assertThat(pay.getAuthNo()).isEqualTo("AUTH-1");
+        assertThat(pay.getTrNo()).isEqualTo("TR-APPROVE");
+        assertThat(pay.getCancelTrNo()).isEqualTo("TR-CANCEL");
+        assertThat(pay.getVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    void cancelRequiresBuyerAndStoredTrNo() throws Exception {
+        payProcessService.requestApproval(ordNo, "AUTH-1");
+        awaitStatus(PayStatus.PAID);
+
+        Member other = memberRepository.save(Member.builder()
+                .email("other-" + ordNo.toLowerCase() + "@imguru.test")
+                .password("stress")
+                .name("other")
+                .nickname("other-" + ordNo)
+                .telephone("010-0000-0000")
+                .job("stress")
+                .role(Role.ROLE_USER)
+                .build());
+
+        try {
+            assertThatThrownBy(() -> payProcessService.requestCancel(other.getEmail(), ordNo, "TR-APPROVE"))
+                    .isInstanceOf(ForbiddenException.class);
+            assertThatThrownBy(() -> payProcessService.requestCancel(buyer.getEmail(), ordNo, "TR-OTHER"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        } finally {
+            memberRepository.delete(other);
+        }
+
+        assertThat(payRepository.findByOrdNo(ordNo).orElseThrow().getPayStatus()).isEqualTo(PayStatus.PAID);
+        verify(paymentGatewayClient, never()).cancel(any());
+    }
+
+    @Test
+    void staleTransitionIsRejectedWithoutLocking() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        assertThat(transactionTemplate.execute(status -> payRepository.updateStatus(ordNo, PayStatus.PAID, PayStatus.CANCEL_REQUESTED))).isZero();
+        assertThat(transactionTemplate.execute(status -> payRepository.updateAuthorized(ordNo, "AUTH-1", PayStatus.ORDERED, PayStatus.AUTHORIZED))).isOne();
+        assertThat(transactionTemplate.execute(status -> payRepository.updateAuthorized(ordNo, "AUTH-2", PayStatus.ORDERED, PayStatus.AUTHORIZED))).isZero();
+
+        assertThat(payRepository.findByOrdNo(ordNo).orElseThrow().getAuthNo()).isEqualTo("AUTH-1");
+        assertThat(PayStatus.CANCELED.canTransitionTo(PayStatus.PAID)).isFalse();
+        assertThat(PayStatus.ORDERED.canTransitionTo(PayStatus.PAID)).isFalse();
+    }
+
+    @Test
+    void orderWithoutGatewayTransactionExpiresOnlyAfterTtl() {
+        JSONObject none = new JSONObject().put("resultCd", "0").put("trStatus", "NONE");
+
+        // 만료 시간(기본 24시간) 전이면 주문 상태 유지
+        assertThat(payProcessService.reconcile(ordNo, none)).isEqualTo(PayReconcileResult.MATCHED);
+        assertThat(payRepository.findByOrdNo(ordNo).orElseThrow().getPayStatus()).isEqualTo(PayStatus.ORDERED);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        LocalDateTime expiredBefore = LocalDateTime.now().plusMinutes(1);
+
+        assertThat(transactionTemplate.execute(status -> payRepository.updateExpired(ordNo, LocalDateTime.now().minusHours(1), PayStatus.ORDERED, PayStatus.EXPIRED))).isZero();
+        assertThat(transactionTemplate.execute(status -> payRepository.updateExpired(ordNo, expiredBefore, PayStatus.ORDERED, PayStatus.EXPIRED))).isOne();
+
+        // 만료된 주문은 늦게 도착한 콜백으로도 인증 상태가 되지 않음
+        assertThat(transactionTemplate.execute(status -> payRepository.updateAuthorized(ordNo, "AUTH-LATE", PayStatus.ORDERED, PayStatus.AUTHORIZED))).isZero();
+        assertThat(payRepository.findByOrdNo(ordNo).orElseThrow().getPayStatus()).isEqualTo(PayStatus.EXPIRED);
+        assertThat(PayStatus.PAID.canTransitionTo(PayStatus.EXPIRED)).isFalse();
+    }
+
+    private List<Throwable> runConcurrently(Consumer<Integer> task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            int index = i;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    task.accept(index);
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        return errors;
+    }
+
+    private void awaitStatus(PayStatus expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+
+        while (System.currentTimeMillis() < deadline) {
+            if (payRepository.findByOrdNo(ordNo).orElseThrow().getPayStatus() == expected) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+
+        assertThat(payRepository.findByOrdNo(ordNo).orElseThrow().getPayStatus()).isEqualTo(expected);
+    }
+
+}
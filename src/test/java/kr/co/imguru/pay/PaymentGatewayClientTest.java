@@ -0,0 +1,78 @@
+package kr.co.imguru.pay;
+
+import kr.co.imguru.domain.pay.client.GatewayCircuitBreaker;
+import kr.co.imguru.domain.pay.client.PaymentGatewayClient;
+import kr.co.imguru.global.exception.PaymentGatewayException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+/**
+ * 서킷 브레이커 결과 기록 - 어떤 응답으로 끝나든 HALF_OPEN 시험 호출 뒤 상태가 정해지는지 확인
+ * (failure-threshold 1, open-duration 0 : 실패 한 번에 OPEN, 다음 호출이 바로 시험 호출)
+ */
+public class PaymentGatewayClientTest {
+
+    private static final String URL = "http://gateway.test";
+
+    private MockRestServiceServer server;
+
+    private PaymentGatewayClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        client = new PaymentGatewayClient(restTemplate, URL, "/APIPayInquiry.do", 1, 0, 1, 0);
+    }
+
+    @Test
+    void clientErrorDuringTrialCallClosesCircuit() {
+        openCircuit();
+
+        server.expect(once(), requestTo(URL + "/APIPayApprov.do")).andRespond(withBadRequest());
+
+        assertThatThrownBy(() -> client.approve(new JSONObject()))
+                .isInstanceOf(HttpClientErrorException.class);
+        assertThat(client.getCircuitState()).isEqualTo(GatewayCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void unparsableBodyDuringTrialCallClosesCircuit() {
+        openCircuit();
+
+        server.expect(once(), requestTo(URL + "/APIPayApprov.do")).andRespond(withSuccess("not-json", MediaType.TEXT_PLAIN));
+
+        assertThatThrownBy(() -> client.approve(new JSONObject())).isInstanceOf(RuntimeException.class);
+        assertThat(client.getCircuitState()).isEqualTo(GatewayCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void serverErrorDuringTrialCallReopensCircuit() {
+        openCircuit();
+
+        server.expect(once(), requestTo(URL + "/APIPayApprov.do")).andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+
+        assertThatThrownBy(() -> client.approve(new JSONObject())).isInstanceOf(PaymentGatewayException.class);
+        assertThat(client.getCircuitState()).isEqualTo(GatewayCircuitBreaker.State.OPEN);
+    }
+
+    private void openCircuit() {
+        server.expect(once(), requestTo(URL + "/APIPayApprov.do")).andRespond(withServerError());
+
+        assertThatThrownBy(() -> client.approve(new JSONObject())).isInstanceOf(PaymentGatewayException.class);
+        assertThat(client.getCircuitState()).isEqualTo(GatewayCircuitBreaker.State.OPEN);
+    }
+
+}
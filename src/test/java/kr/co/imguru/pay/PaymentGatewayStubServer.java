@@ -0,0 +1,195 @@
+package kr.co.imguru.pay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 오프라인 부하 테스트용 세틀뱅크 결제 서버 스텁
+ * - /APIPayApprov.do : authNo 별로 동일한 trNo 를 반환 (멱등)
+ * - /APIPayCancel.do : oldTrNo 별로 동일한 취소 trNo 를 반환 (멱등)
+ * - /APIPayInquiry.do : authNo 기준 거래 상태 (APPROVED, CANCELED, NONE) 조회
+ * - 응답 지연(latencyMillis)과 5xx 실패 비율(failureRatio)을 조절할 수 있다.
+ *
+ * 실행 : java PaymentGatewayStubServer [port] [latencyMillis] [failureRatio]
+ * 애플리케이션은 pay.gateway.url=http://localhost:{port} 로 기동한다.
+ */
+public class PaymentGatewayStubServer {
+
+    private final int port;
+
+    private final long latencyMillis;
+
+    private final double failureRatio;
+
+    private final Map<String, String> approvedTrNos = new ConcurrentHashMap<>();
+
+    private final Map<String, String> canceledTrNos = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private HttpServer server;
+
+    private ExecutorService executor;
+
+    public PaymentGatewayStubServer(int port, long latencyMillis, double failureRatio) {
+        this.port = port;
+        this.latencyMillis = latencyMillis;
+        this.failureRatio = failureRatio;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 18080;
+        long latencyMillis = args.length > 1 ? Long.parseLong(args[1]) : 50;
+        double failureRatio = args.length > 2 ? Double.parseDouble(args[2]) : 0.0;
+
+        PaymentGatewayStubServer stubServer = new PaymentGatewayStubServer(port, latencyMillis, failureRatio);
+        stubServer.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(stubServer::stop));
+        System.out.println("PaymentGatewayStubServer started : http://localhost:" + stubServer.getPort());
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+
+        server.createContext("/APIPayApprov.do", exchange -> handle(exchange, this::approve));
+        server.createContext("/APIPayCancel.do", exchange -> handle(exchange, this::cancel));
+        server.createContext("/APIPayInquiry.do", exchange -> handle(exchange, this::inquire));
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public int getPort() {
+        return server == null ? port : server.getAddress().getPort();
+    }
+
+    public long getApprovedCount() {
+        return approvedTrNos.size();
+    }
+
+    public long getCanceledCount() {
+        return canceledTrNos.size();
+    }
+
+    private JSONObject approve(JSONObject request) {
+        String authNo = request.optString("authNo");
+
+        if (authNo.isEmpty()) {
+            return fail("ST01", "authNo 누락");
+        }
+
+        String trNo = approvedTrNos.computeIfAbsent(authNo, key -> nextTrNo("A"));
+
+        return success(trNo);
+    }
+
+    private JSONObject cancel(JSONObject request) {
+        String oldTrNo = request.optString("oldTrNo");
+
+        if (!approvedTrNos.containsValue(oldTrNo)) {
+            return fail("ST02", "원거래 없음");
+        }
+
+        String trNo = canceledTrNos.computeIfAbsent(oldTrNo, key -> nextTrNo("C"));
+
+        return success(trNo);
+    }
+
+    private JSONObject inquire(JSONObject request) {
+        String authNo = request.optString("authNo");
+        String trNo = authNo.isEmpty() ? null : approvedTrNos.get(authNo);
+
+        if (trNo == null) {
+            return new JSONObject()
+                    .put("resultCd", "0")
+                    .put("trStatus", "NONE");
+        }
+
+        String cancelTrNo = canceledTrNos.get(trNo);
+
+        return new JSONObject()
+                .put("resultCd", "0")
+                .put("trStatus", cancelTrNo == null ? "APPROVED" : "CANCELED")
+                .put("authNo", authNo)
+                .put("trNo", trNo)
+                .put("cancelTrNo", cancelTrNo == null ? JSONObject.NULL : cancelTrNo);
+    }
+
+    private void handle(HttpExchange exchange, Function<JSONObject, JSONObject> handler) throws IOException {
+        try (exchange) {
+            JSONObject request;
+            try (InputStream body = exchange.getRequestBody()) {
+                request = new JSONObject(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            }
+
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+
+            if (failureRatio > 0 && ThreadLocalRandom.current().nextDouble() < failureRatio) {
+                write(exchange, 503, "{}");
+                return;
+            }
+
+            write(exchange, 200, handler.apply(request).toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            write(exchange, 500, "{}");
+        }
+    }
+
+    private void write(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private String nextTrNo(String prefix) {
+        return String.format("STUB%s%012d", prefix, sequence.incrementAndGet());
+    }
+
+    private JSONObject success(String trNo) {
+        return new JSONObject()
+                .put("resultCd", "0")
+                .put("resultMsg", "정상처리")
+                .put("trNo", trNo);
+    }
+
+    private JSONObject fail(String errCd, String resultMsg) {
+        return new JSONObject()
+                .put("resultCd", "1")
+                .put("errCd", errCd)
+                .put("resultMsg", resultMsg);
+    }
+
+}
@@ -0,0 +1,94 @@
+package kr.co.imguru.post;
+
+import kr.co.imguru.domain.member.repository.MemberRepository;
+import kr.co.imguru.domain.post.entity.Post;
+import kr.co.imguru.domain.post.repository.PostRepository;
+import kr.co.imguru.domain.skill.repository.SkillRepository;
+import kr.co.imguru.global.common.Role;
+import kr.co.imguru.global.query.QueryStatsResponseAdvice;
+import kr.co.imguru.support.QueryCountAssertions;
+import kr.co.imguru.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시글 조회 API 의 요청당 SQL 수 상한
+ * 게시글마다 작성자와 스킬이 다른 목록을 직접 만들어, 연관 조회가 모두 따로 실행되는 경우를 기준으로 한다.
+ * 지연 로딩 / 연관 조회가 늘어나 상한을 넘으면 실패한다. (N+1 을 줄이면 상한도 낮출 것)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("local")
+public class PostQueryCountTest {
+
+    private static final int PAGE_SIZE = 5;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    SkillRepository skillRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    PostRepository postRepository;
+
+    private TestFixtures fixtures;
+
+    private List<Post> posts;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures("QUERY-COUNT", skillRepository, memberRepository, postRepository);
+
+        posts = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            posts.add(fixtures.post(fixtures.member(fixtures.skill(), Role.ROLE_USER), "post " + i));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCountAssertions.clear();
+        fixtures.clear();
+    }
+
+    @Test
+    void readPost() throws Exception {
+        QueryCountAssertions.start();
+
+        mockMvc.perform(get("/api/v1/post/{postId}", posts.get(0).getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(QueryStatsResponseAdvice.HEADER));
+
+        // 게시글, 조회수 캐시 적재(첫 조회), 첨부 파일, 작성자 이미지, 작성자, 작성자 스킬, 댓글 수
+        QueryCountAssertions.assertMaxQueries(7);
+    }
+
+    @Test
+    void readPagedPosts() throws Exception {
+        QueryCountAssertions.start();
+
+        mockMvc.perform(get("/api/v1/posts").param("page", "0").param("size", String.valueOf(PAGE_SIZE)))
+                .andExpect(status().isOk());
+
+        // 목록 + count, 게시글마다 작성자 / 작성자 스킬 / 댓글 수 (현재 N+1 기준선)
+        QueryCountAssertions.assertMaxQueries(2 + 3 * PAGE_SIZE);
+    }
+
+}
@@ -0,0 +1,65 @@
+package kr.co.imguru.post;
+
+import kr.co.imguru.domain.member.repository.MemberRepository;
+import kr.co.imguru.domain.post.entity.Post;
+import kr.co.imguru.domain.post.repository.PostRepository;
+import kr.co.imguru.domain.skill.repository.SkillRepository;
+import kr.co.imguru.global.common.Role;
+import kr.co.imguru.global.query.QueryStatsResponseAdvice;
+import kr.co.imguru.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 운영 기본값(monitoring.query-stats.enabled=false)에서는 X-Query-Stats 헤더가 응답에 포함되지 않는지 확인
+ */
+@SpringBootTest(properties = "monitoring.query-stats.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("local")
+public class PostQueryStatsHeaderTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    SkillRepository skillRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    PostRepository postRepository;
+
+    private TestFixtures fixtures;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures("QUERY-HEADER", skillRepository, memberRepository, postRepository);
+        post = fixtures.post(fixtures.member(fixtures.skill(), Role.ROLE_USER), "header");
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.clear();
+    }
+
+    @Test
+    void headerIsNotSentWhenDisabled() throws Exception {
+        mockMvc.perform(get("/api/v1/post/{postId}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(QueryStatsResponseAdvice.HEADER));
+    }
+
+}
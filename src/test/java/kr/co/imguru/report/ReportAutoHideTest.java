@@ -0,0 +1,131 @@
+package kr.co.imguru.report;
+
+import kr.co.imguru.domain.admin.service.AdminMetricRecorder;
+import kr.co.imguru.domain.member.entity.Member;
+import kr.co.imguru.domain.member.repository.MemberRepository;
+import kr.co.imguru.domain.post.entity.Post;
+import kr.co.imguru.domain.post.repository.PostRepository;
+import kr.co.imguru.domain.reply.repository.ReplyRepository;
+import kr.co.imguru.domain.report.dto.ReportPostCreateDto;
+import kr.co.imguru.domain.report.repository.ReportPostRepository;
+import kr.co.imguru.domain.report.repository.ReportPostSearchRepository;
+import kr.co.imguru.domain.report.service.ReportAutoHiddenEvent;
+import kr.co.imguru.domain.report.service.ReportAutoHider;
+import kr.co.imguru.domain.report.service.ReportMembershipFilter;
+import kr.co.imguru.domain.report.service.ReportPostServiceImpl;
+import kr.co.imguru.global.common.ReportCategory;
+import kr.co.imguru.global.exception.NotFoundException;
+import kr.co.imguru.global.model.ResponseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 신고 누적 자동 숨김 (DB 없이 확인, 게시글 기준 10점)
+ * - 비활성(기본)이면 점수만 누적하고 숨기지 않는지
+ * - 활성이면 기준에 닿은 신고에서 한 번만 숨기고 지표/이벤트를 반영하는지
+ * - 신고자는 요청 본문이 아니라 로그인 회원으로 정해지는지
+ */
+public class ReportAutoHideTest {
+
+    private static final String EMAIL = "reporter@imguru.test";
+
+    private PostRepository postRepository;
+
+    private AdminMetricRecorder adminMetricRecorder;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        adminMetricRecorder = mock(AdminMetricRecorder.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        post = Post.builder().build();
+        ReflectionTestUtils.setField(post, "id", 10L);
+    }
+
+    @Test
+    void disabledHiderOnlyAccumulatesScore() {
+        ReportAutoHider reportAutoHider = reportAutoHider(false);
+
+        assertThat(reportAutoHider.postReported(post, ReportCategory.PORNOGRAPHY)).isFalse();
+
+        verify(postRepository).addReport(10L, ReportCategory.PORNOGRAPHY.getWeight());
+        verify(postRepository, never()).hideIfReportScoreReached(anyLong(), anyLong(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void enabledHiderHidesOnceWhenScoreReachesThreshold() {
+        ReportAutoHider reportAutoHider = reportAutoHider(true);
+
+        // 조건부 UPDATE : 기준에 닿은 신고에서만 1 건, 이미 숨겨졌으면 0 건
+        when(postRepository.hideIfReportScoreReached(eq(10L), eq(10L), any())).thenReturn(1, 0);
+
+        assertThat(reportAutoHider.postReported(post, ReportCategory.ADVERTISEMENT)).isTrue();
+        assertThat(reportAutoHider.postReported(post, ReportCategory.ADVERTISEMENT)).isFalse();
+
+        verify(adminMetricRecorder, times(1)).postRemoved(post);
+        verify(eventPublisher, times(1)).publishEvent(new ReportAutoHiddenEvent(10L, null));
+    }
+
+    @Test
+    void reporterIsTheLoggedInMember() {
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        ReportPostRepository reportPostRepository = mock(ReportPostRepository.class);
+
+        Member reporter = Member.builder().email(EMAIL).build();
+        ReflectionTestUtils.setField(reporter, "id", 7L);
+
+        when(memberRepository.findByEmailAndIsDeleteFalse(EMAIL)).thenReturn(Optional.of(reporter));
+        when(postRepository.findByIdAndIsDeleteFalse(10L)).thenReturn(Optional.of(post));
+        when(reportPostRepository.insertIgnore(anyLong(), anyLong(), anyString(), anyString(), any())).thenReturn(1);
+
+        ReportPostServiceImpl reportPostService = new ReportPostServiceImpl(reportPostRepository, memberRepository, postRepository,
+                mock(ReportPostSearchRepository.class), adminMetricRecorder, reportAutoHider(false), mock(ReportMembershipFilter.class),
+                eventPublisher);
+
+        reportPostService.createReportPost(EMAIL, createDto());
+
+        verify(reportPostRepository).insertIgnore(eq(7L), eq(10L), eq(ReportCategory.ABUSE.name()), eq("report"), any());
+
+        // 탈퇴했거나 없는 회원
+        assertThatThrownBy(() -> reportPostService.createReportPost("unknown@imguru.test", createDto()))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage(ResponseStatus.FAIL_MEMBER_NOT_FOUND.getMessage());
+    }
+
+    private ReportAutoHider reportAutoHider(boolean enabled) {
+        return new ReportAutoHider(postRepository, mock(ReplyRepository.class), adminMetricRecorder, eventPublisher,
+                mock(RedisTemplate.class), enabled, 10, 6);
+    }
+
+    private static ReportPostCreateDto createDto() {
+        return ReportPostCreateDto.builder()
+                .postId(10L)
+                .categoryName(ReportCategory.ABUSE.name())
+                .description("report")
+                .build();
+    }
+
+}
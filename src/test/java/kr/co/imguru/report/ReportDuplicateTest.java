@@ -0,0 +1,138 @@
+package kr.co.imguru.report;
+
+import kr.co.imguru.domain.admin.service.AdminMetricRecorder;
+import kr.co.imguru.domain.member.entity.Member;
+import kr.co.imguru.domain.member.repository.MemberRepository;
+import kr.co.imguru.domain.post.entity.Post;
+import kr.co.imguru.domain.post.repository.PostRepository;
+import kr.co.imguru.domain.report.dto.ReportPostCreateDto;
+import kr.co.imguru.domain.report.repository.ReportPostRepository;
+import kr.co.imguru.domain.report.repository.ReportPostSearchRepository;
+import kr.co.imguru.domain.report.service.ReportAutoHider;
+import kr.co.imguru.domain.report.service.ReportMembershipFilter;
+import kr.co.imguru.domain.report.service.ReportPostServiceImpl;
+import kr.co.imguru.domain.report.service.ReportUniqueKeyCheck;
+import kr.co.imguru.global.common.ReportCategory;
+import kr.co.imguru.global.common.ReportTarget;
+import kr.co.imguru.global.exception.DuplicatedException;
+import kr.co.imguru.global.model.ResponseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 중복 신고 (DB 없이 확인)
+ * - 같은 회원이 같은 게시글을 다시 신고하면 메모리 필터에서 INSERT 전에 거절되는지
+ * - 필터가 비어 있어도(재시작) 유니크 키로 무시된 INSERT 는 거절되고, 점수는 누적되지 않고 필터가 다시 채워지는지
+ * - 유니크 키가 없는 스키마에서는 기동이 실패하는지
+ */
+public class ReportDuplicateTest {
+
+    private static final String EMAIL = "reporter@imguru.test";
+
+    private ReportPostRepository reportPostRepository;
+
+    private ReportAutoHider reportAutoHider;
+
+    private ReportMembershipFilter reportMembershipFilter;
+
+    private ReportPostServiceImpl reportPostService;
+
+    @BeforeEach
+    void setUp() {
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        PostRepository postRepository = mock(PostRepository.class);
+
+        Member reporter = Member.builder().email(EMAIL).build();
+        ReflectionTestUtils.setField(reporter, "id", 7L);
+        Post post = Post.builder().build();
+        ReflectionTestUtils.setField(post, "id", 10L);
+
+        when(memberRepository.findByEmailAndIsDeleteFalse(EMAIL)).thenReturn(Optional.of(reporter));
+        when(postRepository.findByIdAndIsDeleteFalse(10L)).thenReturn(Optional.of(post));
+
+        reportPostRepository = mock(ReportPostRepository.class);
+        reportAutoHider = mock(ReportAutoHider.class);
+        reportMembershipFilter = new ReportMembershipFilter(100);
+        reportPostService = new ReportPostServiceImpl(reportPostRepository, memberRepository, postRepository,
+                mock(ReportPostSearchRepository.class), mock(AdminMetricRecorder.class), reportAutoHider, reportMembershipFilter,
+                mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void reportInFilterIsRejectedBeforeInsert() {
+        reportMembershipFilter.add(ReportTarget.POST, 10L, 7L);
+
+        assertThatThrownBy(this::report)
+                .isInstanceOf(DuplicatedException.class)
+                .hasMessage(ResponseStatus.FAIL_REPORT_DUPLICATED.getMessage());
+
+        verify(reportPostRepository, never()).insertIgnore(anyLong(), anyLong(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void ignoredInsertIsRejectedAndRefillsFilter() {
+        // 재시작 등으로 필터가 비어 있고, 이미 저장된 신고가 유니크 키에 걸린 경우
+        when(reportPostRepository.insertIgnore(eq(7L), eq(10L), anyString(), anyString(), any())).thenReturn(0);
+
+        assertThatThrownBy(this::report)
+                .isInstanceOf(DuplicatedException.class)
+                .hasMessage(ResponseStatus.FAIL_REPORT_DUPLICATED.getMessage());
+
+        assertThat(reportMembershipFilter.contains(ReportTarget.POST, 10L, 7L)).isTrue();
+        verify(reportAutoHider, never()).postReported(any(), any());
+    }
+
+    @Test
+    void missingUniqueKeyFailsStartup() throws Exception {
+        ResultSet reportPostIndexes = mock(ResultSet.class);
+        when(reportPostIndexes.next()).thenReturn(true, true, false);
+        when(reportPostIndexes.getString("INDEX_NAME")).thenReturn("uk_report_post_post_member");
+        when(reportPostIndexes.getString("COLUMN_NAME")).thenReturn("post_id", "member_id");
+
+        // 중복 행 때문에 ddl-auto update 가 키를 만들지 못한 테이블
+        ResultSet reportReplyIndexes = mock(ResultSet.class);
+        when(reportReplyIndexes.next()).thenReturn(false);
+
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getIndexInfo(any(), any(), eq("report_post"), eq(true), eq(false))).thenReturn(reportPostIndexes);
+        when(metaData.getIndexInfo(any(), any(), eq("report_reply"), eq(true), eq(false))).thenReturn(reportReplyIndexes);
+
+        Connection connection = mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        assertThatThrownBy(() -> new ReportUniqueKeyCheck(dataSource).check())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("report_reply")
+                .hasMessageContaining(ReportUniqueKeyCheck.DEDUPE_SCRIPT);
+    }
+
+    private void report() {
+        reportPostService.createReportPost(EMAIL, ReportPostCreateDto.builder()
+                .postId(10L)
+                .categoryName(ReportCategory.ABUSE.name())
+                .description("duplicate")
+                .build());
+    }
+
+}
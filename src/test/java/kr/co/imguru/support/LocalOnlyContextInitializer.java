@@ -0,0 +1,47 @@
+package kr.co.imguru.support;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * local 프로필 + 로컬 DB 에서만 컨텍스트를 기동 (부하 테스트 / 대량 데이터 생성용)
+ * 설정 파일과 환경 변수가 모두 반영된 뒤, DataSource 가 만들어지기 전(ddl-auto 실행 전)에 확인하고
+ * 조건에 맞지 않으면 기동을 중단한다.
+ *
+ * <pre>
+ * &#64;SpringBootTest
+ * &#64;ActiveProfiles("local")
+ * &#64;ContextConfiguration(initializers = LocalOnlyContextInitializer.class)
+ * </pre>
+ */
+public class LocalOnlyContextInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    private static final String LOCAL_PROFILE = "local";
+
+    // H2 또는 같은 장비의 MariaDB / MySQL
+    private static final Pattern LOCAL_URL = Pattern.compile("jdbc:(h2:.*|(mariadb|mysql)://(localhost|127\\.0\\.0\\.1)([:/?].*)?)");
+
+    @Override
+    public void initialize(ConfigurableApplicationContext applicationContext) {
+        ConfigurableEnvironment environment = applicationContext.getEnvironment();
+
+        if (!Arrays.asList(environment.getActiveProfiles()).contains(LOCAL_PROFILE)) {
+            throw new IllegalStateException("local 프로필에서만 실행할 수 있습니다. (active profiles : "
+                    + Arrays.toString(environment.getActiveProfiles()) + ")");
+        }
+
+        // 운영 접속 정보가 로그에 남지 않도록 URL 은 출력하지 않음
+        if (!isLocal(environment.getProperty("spring.datasource.url"))) {
+            throw new IllegalStateException("로컬 DB(H2, localhost)에서만 실행할 수 있습니다. spring.datasource.url 을 확인하세요.");
+        }
+    }
+
+    public static boolean isLocal(String url) {
+        return url != null && LOCAL_URL.matcher(url).matches();
+    }
+
+}
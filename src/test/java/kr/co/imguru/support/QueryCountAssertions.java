@@ -0,0 +1,48 @@
+package kr.co.imguru.support;
+
+import kr.co.imguru.global.query.QueryStats;
+import kr.co.imguru.global.query.QueryStatsHolder;
+
+/**
+ * 테스트용 SQL 실행 수 검증
+ * start() 이후 같은 스레드에서 실행된 SQL 을 센다. (MockMvc 요청도 테스트 스레드에서 처리되므로 함께 집계)
+ *
+ * <pre>
+ * QueryCountAssertions.start();
+ * mockMvc.perform(get("/api/v1/post/all"));
+ * QueryCountAssertions.assertMaxQueries(3);
+ * </pre>
+ */
+public class QueryCountAssertions {
+
+    public static void start() {
+        QueryStatsHolder.clear();
+        QueryStatsHolder.start();
+    }
+
+    public static QueryStats current() {
+        QueryStats stats = QueryStatsHolder.current();
+
+        if (stats == null) {
+            throw new IllegalStateException("QueryCountAssertions.start() 를 먼저 호출해야 합니다.");
+        }
+
+        return stats;
+    }
+
+    public static void assertMaxQueries(int max) {
+        QueryStats stats = current();
+
+        if (stats.getStatements() > max) {
+            QueryStats.Repeated repeated = stats.mostRepeated();
+
+            throw new AssertionError(String.format("expected at most %d statements but was %d (%s)%nmost repeated x%d : %s",
+                    max, stats.getStatements(), stats.toHeader(), repeated.count(), repeated.sql()));
+        }
+    }
+
+    public static void clear() {
+        QueryStatsHolder.clear();
+    }
+
+}
@@ -0,0 +1,111 @@
+package kr.co.imguru.support;
+
+import kr.co.imguru.domain.member.entity.Member;
+import kr.co.imguru.domain.member.repository.MemberRepository;
+import kr.co.imguru.domain.post.entity.Post;
+import kr.co.imguru.domain.post.repository.PostRepository;
+import kr.co.imguru.domain.skill.entity.Skill;
+import kr.co.imguru.domain.skill.repository.SkillRepository;
+import kr.co.imguru.global.common.PostCategory;
+import kr.co.imguru.global.common.Role;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 테스트별 스킬/회원/게시글 생성과 정리
+ * 이름/닉네임/제목에 테스트마다 다른 prefix 를 붙여 다른 데이터와 섞이지 않게 하고,
+ * clear() 는 만든 순서의 역순으로 삭제한다. (참조하는 행을 나중에 등록하면 먼저 삭제됨)
+ *
+ * <pre>
+ * fixtures = new TestFixtures("ADMIN", skillRepository, memberRepository, postRepository);
+ * Post post = fixtures.post(fixtures.member(null, Role.ROLE_USER), "title");
+ * fixtures.clear();
+ * </pre>
+ */
+public class TestFixtures {
+
+    private final String prefix;
+
+    private final SkillRepository skillRepository;
+
+    private final MemberRepository memberRepository;
+
+    private final PostRepository postRepository;
+
+    private final Deque<Runnable> cleanups = new ArrayDeque<>();
+
+    private int sequence;
+
+    public TestFixtures(String prefix, SkillRepository skillRepository, MemberRepository memberRepository, PostRepository postRepository) {
+        this.prefix = prefix + "-" + System.nanoTime();
+        this.skillRepository = skillRepository;
+        this.memberRepository = memberRepository;
+        this.postRepository = postRepository;
+    }
+
+    // 검색어로 쓸 수 있는 테스트별 고유 문자열
+    public String prefix() {
+        return prefix;
+    }
+
+    public Skill skill() {
+        Skill skill = skillRepository.save(Skill.builder().name(nextName()).build());
+
+        cleanup(() -> skillRepository.deleteById(skill.getId()));
+        return skill;
+    }
+
+    public Member member(Skill skill, Role role) {
+        String nickname = nextName();
+
+        Member member = memberRepository.save(Member.builder()
+                .email(nickname.toLowerCase() + "@imguru.test")
+                .password("fixture")
+                .name("fixture")
+                .nickname(nickname)
+                .telephone("010-0000-0000")
+                .job("fixture")
+                .role(role)
+                .skill(skill)
+                .build());
+
+        cleanup(() -> memberRepository.deleteById(member.getId()));
+        return member;
+    }
+
+    public Post post(Member member, String title) {
+        return post(member, title, 0L);
+    }
+
+    public Post post(Member member, String title, long viewCnt) {
+        Post post = postRepository.save(Post.builder()
+                .member(member)
+                .postCategory(PostCategory.FREE)
+                .title(prefix + " " + title)
+                .content("fixture")
+                .isGuru(false)
+                .likeCnt(0L)
+                .viewCnt(viewCnt)
+                .build());
+
+        cleanup(() -> postRepository.deleteById(post.getId()));
+        return post;
+    }
+
+    // 생성한 행을 참조하는 데이터 정리 등록 (먼저 등록된 행보다 먼저 실행)
+    public void cleanup(Runnable cleanup) {
+        cleanups.push(cleanup);
+    }
+
+    public void clear() {
+        while (!cleanups.isEmpty()) {
+            cleanups.pop().run();
+        }
+    }
+
+    private String nextName() {
+        return prefix + "-" + (++sequence);
+    }
+
+}
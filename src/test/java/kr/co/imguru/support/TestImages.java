@@ -0,0 +1,43 @@
+package kr.co.imguru.support;
+
+import kr.co.imguru.global.util.HexUtil;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 파일 테스트용 이미지 / 해시
+ */
+public final class TestImages {
+
+    private TestImages() {
+    }
+
+    // 실행마다 내용이 다른 PNG (이전 실행의 원본과 겹치지 않도록)
+    public static byte[] png() throws IOException {
+        BufferedImage image = new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < 64; i++) {
+            image.setRGB(random.nextInt(400), random.nextInt(300), random.nextInt(0xFFFFFF));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    public static String sha256(byte[] content) {
+        try {
+            return HexUtil.encodeLower(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}